@@ -30,4 +30,9 @@ public class AirbyteMessageGenericDeserializer<T> implements AirbyteMessageDeser
     return Jsons.tryDeserializeExact(json, typeClass);
   }
 
+  @Override
+  public Optional<T> deserializeExact(final byte[] json, final int offset, final int length) {
+    return Jsons.tryDeserializeExact(json, offset, length, typeClass);
+  }
+
 }
@@ -4,6 +4,9 @@
 
 package io.airbyte.commons.server.converters;
 
+import com.google.common.base.Charsets;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
 import io.airbyte.api.model.generated.ActorDefinitionBreakingChange;
 import io.airbyte.api.model.generated.ActorDefinitionResourceRequirements;
 import io.airbyte.api.model.generated.AttemptSyncConfig;
@@ -15,6 +18,7 @@ import io.airbyte.api.model.generated.ConnectionScheduleDataCron;
 import io.airbyte.api.model.generated.ConnectionState;
 import io.airbyte.api.model.generated.ConnectionStateType;
 import io.airbyte.api.model.generated.ConnectionStatus;
+import io.airbyte.api.model.generated.ConnectionSummaryRead;
 import io.airbyte.api.model.generated.Geography;
 import io.airbyte.api.model.generated.JobType;
 import io.airbyte.api.model.generated.JobTypeResourceLimit;
@@ -26,6 +30,7 @@ import io.airbyte.api.model.generated.SupportLevel;
 import io.airbyte.api.model.generated.SupportState;
 import io.airbyte.commons.converters.StateConverter;
 import io.airbyte.commons.enums.Enums;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.server.handlers.helpers.CatalogConverter;
 import io.airbyte.config.BasicSchedule;
 import io.airbyte.config.Schedule;
@@ -44,6 +49,8 @@ import java.util.stream.Collectors;
 @SuppressWarnings("LineLength")
 public class ApiPojoConverters {
 
+  private static final HashFunction CATALOG_HASH_FUNCTION = Hashing.md5();
+
   public static io.airbyte.config.ActorDefinitionResourceRequirements actorDefResourceReqsToInternal(final ActorDefinitionResourceRequirements actorDefResourceReqs) {
     if (actorDefResourceReqs == null) {
       return null;
@@ -174,6 +181,26 @@ public class ApiPojoConverters {
     return connectionRead;
   }
 
+  /**
+   * Convert a standard sync to its summary, which carries a hash of the catalog instead of the
+   * catalog itself.
+   */
+  public static ConnectionSummaryRead internalToConnectionSummaryRead(final StandardSync standardSync) {
+    final String catalogHash = CATALOG_HASH_FUNCTION.hashBytes(
+        Jsons.serialize(CatalogConverter.toApi(standardSync.getCatalog(), standardSync.getFieldSelectionData())).getBytes(Charsets.UTF_8))
+        .toString();
+    return new ConnectionSummaryRead()
+        .connectionId(standardSync.getConnectionId())
+        .sourceId(standardSync.getSourceId())
+        .destinationId(standardSync.getDestinationId())
+        .status(toApiStatus(standardSync.getStatus()))
+        .scheduleType(toApiConnectionScheduleType(standardSync))
+        .scheduleData(toApiConnectionScheduleData(standardSync))
+        .schedule(toLegacyConnectionSchedule(standardSync))
+        .breakingChange(standardSync.getBreakingChange())
+        .catalogHash(catalogHash);
+  }
+
   public static JobType toApiJobType(final io.airbyte.config.JobTypeResourceLimit.JobType jobType) {
     return Enums.convertTo(jobType, JobType.class);
   }
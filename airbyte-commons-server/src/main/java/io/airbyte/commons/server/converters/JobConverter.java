@@ -23,6 +23,7 @@ import io.airbyte.api.model.generated.JobOptionalRead;
 import io.airbyte.api.model.generated.JobRead;
 import io.airbyte.api.model.generated.JobStatus;
 import io.airbyte.api.model.generated.JobWithAttemptsRead;
+import io.airbyte.api.model.generated.LogPageRead;
 import io.airbyte.api.model.generated.LogRead;
 import io.airbyte.api.model.generated.ResetConfig;
 import io.airbyte.api.model.generated.SourceDefinitionRead;
@@ -43,6 +44,7 @@ import io.airbyte.config.StreamSyncStats;
 import io.airbyte.config.SyncStats;
 import io.airbyte.config.helpers.LogClientSingleton;
 import io.airbyte.config.helpers.LogConfigs;
+import io.airbyte.config.helpers.LogPage;
 import io.airbyte.persistence.job.models.Attempt;
 import io.airbyte.persistence.job.models.AttemptNormalizationStatus;
 import io.airbyte.persistence.job.models.Job;
@@ -240,6 +242,19 @@ public class JobConverter {
     }
   }
 
+  public LogPageRead getLogPageRead(final Path logPath, final @Nullable Long offset, final int limit) {
+    try {
+      final LogPage page = LogClientSingleton.getInstance().getJobLogPage(workerEnvironment, logConfigs, logPath, offset, limit);
+      return new LogPageRead()
+          .logLines(page.lines())
+          .offset(page.offset())
+          .nextOffset(page.nextOffset())
+          .totalLines(page.totalLines());
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   public static FailureReason getFailureReason(final @Nullable io.airbyte.config.FailureReason failureReason) {
     if (failureReason == null) {
       return null;
@@ -5,9 +5,11 @@
 package io.airbyte.commons.server.handlers;
 
 import io.airbyte.api.model.generated.AttemptInfoRead;
+import io.airbyte.api.model.generated.AttemptLogsPageRequestBody;
 import io.airbyte.api.model.generated.AttemptStats;
 import io.airbyte.api.model.generated.CreateNewAttemptNumberResponse;
 import io.airbyte.api.model.generated.InternalOperationResult;
+import io.airbyte.api.model.generated.LogPageRead;
 import io.airbyte.api.model.generated.SaveAttemptSyncConfigRequestBody;
 import io.airbyte.api.model.generated.SaveStatsRequestBody;
 import io.airbyte.api.model.generated.SetWorkflowInAttemptRequestBody;
@@ -17,6 +19,7 @@ import io.airbyte.commons.server.converters.JobConverter;
 import io.airbyte.commons.server.errors.BadRequestException;
 import io.airbyte.commons.server.errors.IdNotFoundKnownException;
 import io.airbyte.commons.server.errors.UnprocessableContentException;
+import io.airbyte.commons.server.handlers.helpers.AttemptStatsBuffer;
 import io.airbyte.commons.server.handlers.helpers.JobCreationAndStatusUpdateHelper;
 import io.airbyte.commons.temporal.TemporalUtils;
 import io.airbyte.config.AttemptFailureSummary;
@@ -27,6 +30,7 @@ import io.airbyte.config.SyncStats;
 import io.airbyte.config.helpers.LogClientSingleton;
 import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.persistence.job.JobPersistence;
+import io.airbyte.persistence.job.models.Attempt;
 import io.airbyte.persistence.job.models.Job;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
@@ -49,15 +53,18 @@ public class AttemptHandler {
 
   private final JobConverter jobConverter;
   private final JobCreationAndStatusUpdateHelper jobCreationAndStatusUpdateHelper;
+  private final AttemptStatsBuffer attemptStatsBuffer;
   private final Path workspaceRoot;
 
   public AttemptHandler(final JobPersistence jobPersistence,
                         final JobConverter jobConverter,
                         final JobCreationAndStatusUpdateHelper jobCreationAndStatusUpdateHelper,
+                        final AttemptStatsBuffer attemptStatsBuffer,
                         @Named("workspaceRoot") final Path workspaceRoot) {
     this.jobPersistence = jobPersistence;
     this.jobConverter = jobConverter;
     this.jobCreationAndStatusUpdateHelper = jobCreationAndStatusUpdateHelper;
+    this.attemptStatsBuffer = attemptStatsBuffer;
     this.workspaceRoot = workspaceRoot;
   }
 
@@ -91,6 +98,22 @@ public class AttemptHandler {
     return read.get();
   }
 
+  public LogPageRead getAttemptLogsPage(final AttemptLogsPageRequestBody requestBody) throws IOException {
+    final int limit = requestBody.getLimit() == null ? LogClientSingleton.DEFAULT_PAGE_SIZE : requestBody.getLimit();
+    if (limit < 1) {
+      throw new BadRequestException(String.format("The limit of a log page must be at least 1, got %d.", limit));
+    }
+
+    final long jobId = requestBody.getJobId();
+    final int attemptNo = requestBody.getAttemptNumber();
+    final Attempt attempt = jobPersistence.getAttemptForJob(jobId, attemptNo)
+        .orElseThrow(() -> new IdNotFoundKnownException(
+            String.format("Could not find attempt for job_id: %d and attempt no: %d", jobId, attemptNo),
+            String.format("%d_%d", jobId, attemptNo)));
+
+    return jobConverter.getLogPageRead(attempt.getLogPath(), requestBody.getOffset(), limit);
+  }
+
   public AttemptStats getAttemptCombinedStats(final long jobId, final int attemptNo) throws IOException {
     final SyncStats stats = jobPersistence.getAttemptCombinedStats(jobId, attemptNo);
 
@@ -136,11 +159,14 @@ public class AttemptHandler {
                   .withEstimatedRecords(s.getStats().getEstimatedRecords())))
           .collect(Collectors.toList());
 
-      jobPersistence.writeStats(requestBody.getJobId(), requestBody.getAttemptNumber(),
-          stats.getEstimatedRecords(), stats.getEstimatedBytes(),
-          stats.getRecordsEmitted(), stats.getBytesEmitted(),
-          stats.getRecordsCommitted(), stats.getBytesCommitted(),
-          streamStats);
+      final var combinedStats = new SyncStats()
+          .withEstimatedRecords(stats.getEstimatedRecords())
+          .withEstimatedBytes(stats.getEstimatedBytes())
+          .withRecordsEmitted(stats.getRecordsEmitted())
+          .withBytesEmitted(stats.getBytesEmitted())
+          .withRecordsCommitted(stats.getRecordsCommitted())
+          .withBytesCommitted(stats.getBytesCommitted());
+      attemptStatsBuffer.save(requestBody.getJobId(), requestBody.getAttemptNumber(), new JobPersistence.AttemptStats(combinedStats, streamStats));
 
     } catch (final IOException ioe) {
       LOGGER.error("IOException when setting temporal workflow in attempt;", ioe);
@@ -185,6 +211,7 @@ public class AttemptHandler {
 
     jobCreationAndStatusUpdateHelper.traceFailures(failureSummary);
 
+    attemptStatsBuffer.flush(jobId, attemptNumber);
     jobPersistence.failAttempt(jobId, attemptNumber);
     jobPersistence.writeAttemptFailureSummary(jobId, attemptNumber, failureSummary);
 
@@ -13,6 +13,7 @@ import io.airbyte.api.model.generated.JobSuccessWithAttemptNumberRequest;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.server.JobStatus;
 import io.airbyte.commons.server.errors.BadRequestException;
+import io.airbyte.commons.server.handlers.helpers.AttemptStatsBuffer;
 import io.airbyte.commons.server.handlers.helpers.JobCreationAndStatusUpdateHelper;
 import io.airbyte.config.AttemptFailureSummary;
 import io.airbyte.config.AttemptSyncConfig;
@@ -48,15 +49,18 @@ public class JobsHandler {
   private final JobCreationAndStatusUpdateHelper jobCreationAndStatusUpdateHelper;
   private final JobNotifier jobNotifier;
   private final JobErrorReporter jobErrorReporter;
+  private final AttemptStatsBuffer attemptStatsBuffer;
 
   public JobsHandler(final JobPersistence jobPersistence,
                      final JobCreationAndStatusUpdateHelper jobCreationAndStatusUpdateHelper,
                      final JobNotifier jobNotifier,
-                     final JobErrorReporter jobErrorReporter) {
+                     final JobErrorReporter jobErrorReporter,
+                     final AttemptStatsBuffer attemptStatsBuffer) {
     this.jobPersistence = jobPersistence;
     this.jobCreationAndStatusUpdateHelper = jobCreationAndStatusUpdateHelper;
     this.jobNotifier = jobNotifier;
     this.jobErrorReporter = jobErrorReporter;
+    this.attemptStatsBuffer = attemptStatsBuffer;
   }
 
   /**
@@ -135,6 +139,7 @@ public class JobsHandler {
       final long jobId = input.getJobId();
       final int attemptNumber = input.getAttemptNumber();
 
+      attemptStatsBuffer.flush(jobId, attemptNumber);
       if (input.getStandardSyncOutput() != null) {
         final JobOutput jobOutput = new JobOutput().withSync(Jsons.convertValue(input.getStandardSyncOutput(), StandardSyncOutput.class));
         jobPersistence.writeOutput(jobId, attemptNumber, jobOutput);
@@ -213,6 +218,7 @@ public class JobsHandler {
 
     try {
       // fail attempt
+      attemptStatsBuffer.flush(jobId, attemptNumber);
       jobPersistence.failAttempt(jobId, attemptNumber);
       jobPersistence.writeAttemptFailureSummary(jobId, attemptNumber, failureSummary);
       // persist cancellation
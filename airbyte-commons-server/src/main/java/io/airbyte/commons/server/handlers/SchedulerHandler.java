@@ -49,6 +49,7 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.server.converters.ConfigurationUpdate;
 import io.airbyte.commons.server.converters.JobConverter;
 import io.airbyte.commons.server.errors.ValueConflictKnownException;
+import io.airbyte.commons.server.handlers.helpers.AttemptStatsBuffer;
 import io.airbyte.commons.server.handlers.helpers.AutoPropagateSchemaChangeHelper;
 import io.airbyte.commons.server.handlers.helpers.AutoPropagateSchemaChangeHelper.UpdateSchemaResult;
 import io.airbyte.commons.server.handlers.helpers.CatalogConverter;
@@ -177,6 +178,7 @@ public class SchedulerHandler {
                           final SyncJobFactory jobFactory,
                           final JobNotifier jobNotifier,
                           final JobTracker jobTracker,
+                          final AttemptStatsBuffer attemptStatsBuffer,
                           final ConnectorDefinitionSpecificationHandler connectorDefinitionSpecificationHandler,
                           final WorkspaceService workspaceService,
                           final SecretPersistenceConfigService secretPersistenceConfigService) {
@@ -204,7 +206,8 @@ public class SchedulerHandler {
         jobPersistence,
         configRepository,
         jobNotifier,
-        jobTracker);
+        jobTracker,
+        attemptStatsBuffer);
   }
 
   public CheckConnectionRead checkSourceConnectionFromSourceId(final SourceIdRequestBody sourceIdRequestBody)
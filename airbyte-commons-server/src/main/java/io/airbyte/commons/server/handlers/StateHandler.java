@@ -7,6 +7,7 @@ package io.airbyte.commons.server.handlers;
 import io.airbyte.api.model.generated.ConnectionIdRequestBody;
 import io.airbyte.api.model.generated.ConnectionState;
 import io.airbyte.api.model.generated.ConnectionStateCreateOrUpdate;
+import io.airbyte.api.model.generated.InternalOperationResult;
 import io.airbyte.commons.converters.StateConverter;
 import io.airbyte.commons.server.errors.SyncIsRunningException;
 import io.airbyte.config.StateWrapper;
@@ -46,6 +47,13 @@ public class StateHandler {
     return StateConverter.toApi(connectionId, newInternalState.orElse(null));
   }
 
+  public InternalOperationResult applyStateDelta(final ConnectionStateCreateOrUpdate connectionStateCreateOrUpdate) throws IOException {
+    final StateWrapper convertedDelta = StateConverter.toInternal(connectionStateCreateOrUpdate.getConnectionState());
+    // Stream states missing from the delta are kept, and the changes are written in a single transaction.
+    statePersistence.updateOrCreateState(connectionStateCreateOrUpdate.getConnectionId(), convertedDelta);
+    return new InternalOperationResult().succeeded(true);
+  }
+
   public ConnectionState createOrUpdateStateSafe(final ConnectionStateCreateOrUpdate connectionStateCreateOrUpdate) throws IOException {
     if (jobHistoryHandler.getLatestRunningSyncJob(connectionStateCreateOrUpdate.getConnectionId()).isPresent()) {
       throw new SyncIsRunningException("State cannot be updated while a sync is running for this connection.");
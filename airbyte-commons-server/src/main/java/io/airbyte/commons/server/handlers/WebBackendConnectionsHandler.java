@@ -63,6 +63,7 @@ import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.config.persistence.ConfigRepository.StandardSyncQuery;
+import io.airbyte.data.services.shared.StandardSyncSummary;
 import io.airbyte.persistence.job.models.JobStatusSummary;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.validation.json.JsonValidationException;
@@ -151,10 +152,11 @@ public class WebBackendConnectionsHandler {
         // passing 'false' so that deleted connections are not included
         false);
 
-    final List<StandardSync> standardSyncs = configRepositoryDoNotUse.listWorkspaceStandardSyncs(query);
-    final List<UUID> sourceIds = standardSyncs.stream().map(StandardSync::getSourceId).toList();
-    final List<UUID> destinationIds = standardSyncs.stream().map(StandardSync::getDestinationId).toList();
-    final List<UUID> connectionIds = standardSyncs.stream().map(StandardSync::getConnectionId).toList();
+    // The list does not show the catalogs, which are the bulk of the connections, so only their summaries are read.
+    final List<StandardSyncSummary> standardSyncs = configRepositoryDoNotUse.listWorkspaceStandardSyncSummaries(query);
+    final List<UUID> sourceIds = standardSyncs.stream().map(StandardSyncSummary::sourceId).toList();
+    final List<UUID> destinationIds = standardSyncs.stream().map(StandardSyncSummary::destinationId).toList();
+    final List<UUID> connectionIds = standardSyncs.stream().map(StandardSyncSummary::connectionId).toList();
 
     // Fetching all the related objects we need for the final output
     final Map<UUID, SourceSnippetRead> sourceReadById = getSourceSnippetReadById(sourceIds);
@@ -168,7 +170,7 @@ public class WebBackendConnectionsHandler {
 
     final List<WebBackendConnectionListItem> connectionItems = Lists.newArrayList();
 
-    for (final StandardSync standardSync : standardSyncs) {
+    for (final StandardSyncSummary standardSync : standardSyncs) {
       connectionItems.add(
           buildWebBackendConnectionListItem(
               standardSync,
@@ -176,7 +178,7 @@ public class WebBackendConnectionsHandler {
               destinationReadById,
               latestJobByConnectionId,
               runningJobByConnectionId,
-              Optional.ofNullable(newestFetchEventsByActorId.get(standardSync.getSourceId()))));
+              Optional.ofNullable(newestFetchEventsByActorId.get(standardSync.sourceId()))));
     }
 
     return new WebBackendConnectionReadList().connections(connectionItems);
@@ -236,28 +238,28 @@ public class WebBackendConnectionsHandler {
   }
 
   private static WebBackendConnectionListItem buildWebBackendConnectionListItem(
-                                                                                final StandardSync standardSync,
+                                                                                final StandardSyncSummary standardSync,
                                                                                 final Map<UUID, SourceSnippetRead> sourceReadById,
                                                                                 final Map<UUID, DestinationSnippetRead> destinationReadById,
                                                                                 final Map<UUID, JobStatusSummary> latestJobByConnectionId,
                                                                                 final Map<UUID, JobRead> runningJobByConnectionId,
                                                                                 final Optional<ActorCatalogFetchEvent> latestFetchEvent) {
 
-    final SourceSnippetRead source = sourceReadById.get(standardSync.getSourceId());
-    final DestinationSnippetRead destination = destinationReadById.get(standardSync.getDestinationId());
-    final Optional<JobStatusSummary> latestSyncJob = Optional.ofNullable(latestJobByConnectionId.get(standardSync.getConnectionId()));
-    final Optional<JobRead> latestRunningSyncJob = Optional.ofNullable(runningJobByConnectionId.get(standardSync.getConnectionId()));
-    final ConnectionRead connectionRead = ApiPojoConverters.internalToConnectionRead(standardSync);
-    final Optional<UUID> currentCatalogId = connectionRead == null ? Optional.empty() : Optional.ofNullable(connectionRead.getSourceCatalogId());
+    final SourceSnippetRead source = sourceReadById.get(standardSync.sourceId());
+    final DestinationSnippetRead destination = destinationReadById.get(standardSync.destinationId());
+    final Optional<JobStatusSummary> latestSyncJob = Optional.ofNullable(latestJobByConnectionId.get(standardSync.connectionId()));
+    final Optional<JobRead> latestRunningSyncJob = Optional.ofNullable(runningJobByConnectionId.get(standardSync.connectionId()));
+    final Optional<UUID> currentCatalogId = Optional.ofNullable(standardSync.sourceCatalogId());
 
-    final SchemaChange schemaChange = getSchemaChange(connectionRead, currentCatalogId, latestFetchEvent);
+    final SchemaChange schemaChange = getSchemaChange(standardSync.breakingChange(), currentCatalogId, latestFetchEvent);
 
+    final StandardSync schedule = standardSync.scheduleOnly();
     final WebBackendConnectionListItem listItem = new WebBackendConnectionListItem()
-        .connectionId(standardSync.getConnectionId())
-        .status(ApiPojoConverters.toApiStatus(standardSync.getStatus()))
-        .name(standardSync.getName())
-        .scheduleType(ApiPojoConverters.toApiConnectionScheduleType(standardSync))
-        .scheduleData(ApiPojoConverters.toApiConnectionScheduleData(standardSync))
+        .connectionId(standardSync.connectionId())
+        .status(ApiPojoConverters.toApiStatus(standardSync.status()))
+        .name(standardSync.name())
+        .scheduleType(ApiPojoConverters.toApiConnectionScheduleType(schedule))
+        .scheduleData(ApiPojoConverters.toApiConnectionScheduleData(schedule))
         .source(source)
         .destination(destination)
         .isSyncing(latestRunningSyncJob.isPresent())
@@ -284,11 +286,21 @@ public class WebBackendConnectionsHandler {
                                       final ConnectionRead connectionRead,
                                       final Optional<UUID> currentSourceCatalogId,
                                       final Optional<ActorCatalogFetchEvent> mostRecentFetchEvent) {
-    if (connectionRead == null || currentSourceCatalogId.isEmpty()) {
+    if (connectionRead == null) {
       return SchemaChange.NO_CHANGE;
     }
 
-    if (connectionRead.getBreakingChange() != null && connectionRead.getBreakingChange()) {
+    return getSchemaChange(connectionRead.getBreakingChange(), currentSourceCatalogId, mostRecentFetchEvent);
+  }
+
+  private static SchemaChange getSchemaChange(final Boolean breakingChange,
+                                              final Optional<UUID> currentSourceCatalogId,
+                                              final Optional<ActorCatalogFetchEvent> mostRecentFetchEvent) {
+    if (currentSourceCatalogId.isEmpty()) {
+      return SchemaChange.NO_CHANGE;
+    }
+
+    if (breakingChange != null && breakingChange) {
       return SchemaChange.BREAKING;
     }
 
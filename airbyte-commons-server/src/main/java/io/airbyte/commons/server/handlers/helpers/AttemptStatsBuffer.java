@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers.helpers;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.config.SyncStats;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import io.airbyte.persistence.job.JobPersistence;
+import io.airbyte.persistence.job.JobPersistence.AttemptStats;
+import io.airbyte.persistence.job.JobPersistence.JobAttemptPair;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Buffers the stats that running syncs periodically save, and writes them to the database in
+ * batches.
+ * <p>
+ * Every running sync saves its stats once per flush period, so writing each of them in its own
+ * transaction results in a steady stream of small transactions. The buffer only keeps the latest
+ * stats of each attempt and writes all of them in a single transaction once per flush interval,
+ * which bounds how stale the stats read from the database can be. The stats of an attempt must be
+ * flushed with {@link #flush(long, int)} before the attempt reaches a terminal status, since the
+ * stats of attempts that are not running anymore are not written. Every transition of an attempt to
+ * a terminal status (success, failure, cancellation, failing non-terminal jobs) flushes it.
+ * <p>
+ * The buffer is held in the memory of each server replica, and a terminal transition only flushes
+ * the buffer of the replica that handles it. With several server replicas behind a load balancer,
+ * the last stats of an attempt can be buffered on another replica and are then dropped once the
+ * attempt is terminal. Only enable the buffer on deployments that run a single server replica, or
+ * that route the stats and the status updates of an attempt to the same replica.
+ * <p>
+ * When the buffer is disabled, stats are written as soon as they are saved.
+ */
+@Singleton
+public class AttemptStatsBuffer {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AttemptStatsBuffer.class);
+
+  private final JobPersistence jobPersistence;
+  private final boolean enabled;
+  private final int maxPendingAttempts;
+  private final MetricClient metricClient;
+  private final LongSupplier currentTimeMillis;
+  private final Map<JobAttemptPair, PendingStats> pendingStats = new ConcurrentHashMap<>();
+
+  public AttemptStatsBuffer(final JobPersistence jobPersistence,
+                            @Value("${airbyte.server.stats-buffer.enabled:false}") final boolean enabled,
+                            @Value("${airbyte.server.stats-buffer.max-pending-attempts:10000}") final int maxPendingAttempts) {
+    this(jobPersistence, enabled, maxPendingAttempts, MetricClientFactory.getMetricClient(), System::currentTimeMillis);
+  }
+
+  @VisibleForTesting
+  AttemptStatsBuffer(final JobPersistence jobPersistence,
+                     final boolean enabled,
+                     final int maxPendingAttempts,
+                     final MetricClient metricClient,
+                     final LongSupplier currentTimeMillis) {
+    this.jobPersistence = jobPersistence;
+    this.enabled = enabled;
+    this.maxPendingAttempts = maxPendingAttempts;
+    this.metricClient = metricClient;
+    this.currentTimeMillis = currentTimeMillis;
+  }
+
+  /**
+   * Save the latest stats of a running attempt. They replace the stats of the attempt that were not
+   * written yet.
+   */
+  public void save(final long jobId, final int attemptNumber, final AttemptStats stats) throws IOException {
+    if (!enabled) {
+      final SyncStats combinedStats = stats.combinedStats();
+      jobPersistence.writeStats(jobId, attemptNumber,
+          combinedStats.getEstimatedRecords(), combinedStats.getEstimatedBytes(),
+          combinedStats.getRecordsEmitted(), combinedStats.getBytesEmitted(),
+          combinedStats.getRecordsCommitted(), combinedStats.getBytesCommitted(),
+          stats.perStreamStats());
+      return;
+    }
+
+    // The database has been stale since the first stats that were not written, keep their time.
+    pendingStats.compute(new JobAttemptPair(jobId, attemptNumber), (jobAttempt, previousStats) -> {
+      if (previousStats == null) {
+        return new PendingStats(stats, currentTimeMillis.getAsLong());
+      }
+      metricClient.count(OssMetricsRegistry.STATS_BUFFER_COALESCED, 1);
+      return new PendingStats(stats, previousStats.bufferedAt());
+    });
+
+    // Don't let the buffer grow unbounded if the database can't keep up.
+    if (pendingStats.size() >= maxPendingAttempts) {
+      flush();
+    }
+  }
+
+  /**
+   * Write the buffered stats of an attempt, if any. Must be called before the attempt reaches a
+   * terminal status.
+   */
+  public synchronized void flush(final long jobId, final int attemptNumber) throws IOException {
+    final JobAttemptPair jobAttempt = new JobAttemptPair(jobId, attemptNumber);
+    final PendingStats stats = pendingStats.remove(jobAttempt);
+    if (stats == null) {
+      return;
+    }
+
+    try {
+      jobPersistence.writeStats(Map.of(jobAttempt, stats.stats()));
+    } catch (final IOException | RuntimeException e) {
+      pendingStats.putIfAbsent(jobAttempt, stats);
+      throw e;
+    }
+  }
+
+  /**
+   * Write all the buffered stats in a single transaction.
+   */
+  public synchronized void flush() throws IOException {
+    if (pendingStats.isEmpty()) {
+      return;
+    }
+
+    final Map<JobAttemptPair, PendingStats> flushedStats = new HashMap<>();
+    // Remove the stats one by one so that stats saved concurrently are either flushed now or kept for
+    // the next flush.
+    for (final JobAttemptPair jobAttempt : pendingStats.keySet()) {
+      final PendingStats stats = pendingStats.remove(jobAttempt);
+      if (stats != null) {
+        flushedStats.put(jobAttempt, stats);
+      }
+    }
+
+    final long start = currentTimeMillis.getAsLong();
+    final Map<JobAttemptPair, AttemptStats> attemptStats = new HashMap<>();
+    long oldestBufferedAt = start;
+    for (final Map.Entry<JobAttemptPair, PendingStats> entry : flushedStats.entrySet()) {
+      attemptStats.put(entry.getKey(), entry.getValue().stats());
+      oldestBufferedAt = Math.min(oldestBufferedAt, entry.getValue().bufferedAt());
+    }
+
+    try {
+      jobPersistence.writeStats(attemptStats);
+    } catch (final IOException | RuntimeException e) {
+      // Keep the stats for the next flush, unless more recent stats were saved in the meantime.
+      flushedStats.forEach(pendingStats::putIfAbsent);
+      throw e;
+    } finally {
+      metricClient.gauge(OssMetricsRegistry.STATS_BUFFER_PENDING_ATTEMPTS, pendingStats.size());
+    }
+
+    final long end = currentTimeMillis.getAsLong();
+    metricClient.distribution(OssMetricsRegistry.STATS_BUFFER_FLUSH_DURATION_MS, end - start);
+    metricClient.distribution(OssMetricsRegistry.STATS_BUFFER_STALENESS_MS, end - oldestBufferedAt);
+  }
+
+  @Scheduled(fixedDelay = "${airbyte.server.stats-buffer.flush-interval:5s}")
+  void scheduledFlush() {
+    if (!enabled) {
+      return;
+    }
+
+    try {
+      flush();
+    } catch (final Exception e) {
+      LOGGER.warn("Failed to write the buffered stats of {} attempts, retrying on the next flush", pendingStats.size(), e);
+    }
+  }
+
+  @PreDestroy
+  void flushOnShutdown() throws IOException {
+    if (enabled) {
+      flush();
+    }
+  }
+
+  private record PendingStats(AttemptStats stats, long bufferedAt) {}
+
+}
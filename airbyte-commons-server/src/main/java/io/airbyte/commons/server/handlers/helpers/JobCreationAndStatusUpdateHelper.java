@@ -70,15 +70,18 @@ public class JobCreationAndStatusUpdateHelper {
   private final ConfigRepository configRepository;
   private final JobNotifier jobNotifier;
   private final JobTracker jobTracker;
+  private final AttemptStatsBuffer attemptStatsBuffer;
 
   public JobCreationAndStatusUpdateHelper(final JobPersistence jobPersistence,
                                           final ConfigRepository configRepository,
                                           final JobNotifier jobNotifier,
-                                          final JobTracker jobTracker) {
+                                          final JobTracker jobTracker,
+                                          final AttemptStatsBuffer attemptStatsBuffer) {
     this.jobPersistence = jobPersistence;
     this.configRepository = configRepository;
     this.jobNotifier = jobNotifier;
     this.jobTracker = jobTracker;
+    this.attemptStatsBuffer = attemptStatsBuffer;
   }
 
   @VisibleForTesting
@@ -141,6 +144,7 @@ public class JobCreationAndStatusUpdateHelper {
 
         final int attemptNumber = attempt.getAttemptNumber();
         log.info("Failing non-terminal attempt {} for non-terminal job {}", attemptNumber, jobId);
+        attemptStatsBuffer.flush(jobId, attemptNumber);
         jobPersistence.failAttempt(jobId, attemptNumber);
         jobPersistence.writeAttemptFailureSummary(jobId, attemptNumber, failureSummaryForTemporalCleaningJobState(jobId, attemptNumber));
       }
@@ -18,12 +18,14 @@ import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.api.model.generated.AttemptInfoRead;
+import io.airbyte.api.model.generated.AttemptLogsPageRequestBody;
 import io.airbyte.api.model.generated.AttemptStats;
 import io.airbyte.api.model.generated.AttemptSyncConfig;
 import io.airbyte.api.model.generated.ConnectionState;
 import io.airbyte.api.model.generated.ConnectionStateType;
 import io.airbyte.api.model.generated.CreateNewAttemptNumberResponse;
 import io.airbyte.api.model.generated.GlobalState;
+import io.airbyte.api.model.generated.LogPageRead;
 import io.airbyte.api.model.generated.LogRead;
 import io.airbyte.api.model.generated.SaveAttemptSyncConfigRequestBody;
 import io.airbyte.api.model.generated.SetWorkflowInAttemptRequestBody;
@@ -33,6 +35,7 @@ import io.airbyte.commons.server.converters.JobConverter;
 import io.airbyte.commons.server.errors.BadRequestException;
 import io.airbyte.commons.server.errors.IdNotFoundKnownException;
 import io.airbyte.commons.server.errors.UnprocessableContentException;
+import io.airbyte.commons.server.handlers.helpers.AttemptStatsBuffer;
 import io.airbyte.commons.server.handlers.helpers.JobCreationAndStatusUpdateHelper;
 import io.airbyte.commons.temporal.TemporalUtils;
 import io.airbyte.config.AttemptFailureSummary;
@@ -64,7 +67,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 class AttemptHandlerTest {
@@ -74,6 +79,7 @@ class AttemptHandlerTest {
   Path path;
   AttemptHandler handler;
   JobCreationAndStatusUpdateHelper helper;
+  AttemptStatsBuffer attemptStatsBuffer;
 
   private static final UUID CONNECTION_ID = UUID.randomUUID();
   private static final long JOB_ID = 10002L;
@@ -100,7 +106,8 @@ class AttemptHandlerTest {
     jobConverter = Mockito.mock(JobConverter.class);
     path = Mockito.mock(Path.class);
     helper = Mockito.mock(JobCreationAndStatusUpdateHelper.class);
-    handler = new AttemptHandler(jobPersistence, jobConverter, helper, path);
+    attemptStatsBuffer = Mockito.mock(AttemptStatsBuffer.class);
+    handler = new AttemptHandler(jobPersistence, jobConverter, helper, attemptStatsBuffer, path);
   }
 
   @Test
@@ -266,6 +273,49 @@ class AttemptHandlerTest {
     assertEquals(logs, result.getLogs());
   }
 
+  @Test
+  void getAttemptLogsPageThrowsNotFound() throws Exception {
+    when(jobPersistence.getAttemptForJob(anyLong(), anyInt())).thenReturn(Optional.empty());
+
+    assertThrows(IdNotFoundKnownException.class,
+        () -> handler.getAttemptLogsPage(new AttemptLogsPageRequestBody().jobId(1L).attemptNumber(2)));
+  }
+
+  @Test
+  void getAttemptLogsPageReturnsPage() throws Exception {
+    final Path logPath = Path.of("/tmp/logs/all/the/way/down");
+    final var attempt = new Attempt(
+        2,
+        214L,
+        logPath,
+        null,
+        null,
+        AttemptStatus.RUNNING,
+        null,
+        null,
+        Instant.now().getEpochSecond(),
+        Instant.now().getEpochSecond(),
+        null);
+    final var page = new LogPageRead()
+        .logLines(List.of("log line 20", "log line 21"))
+        .offset(20L)
+        .nextOffset(22L)
+        .totalLines(22L);
+
+    when(jobPersistence.getAttemptForJob(214L, 2)).thenReturn(Optional.of(attempt));
+    when(jobConverter.getLogPageRead(logPath, 20L, LogClientSingleton.DEFAULT_PAGE_SIZE)).thenReturn(page);
+
+    assertEquals(page, handler.getAttemptLogsPage(new AttemptLogsPageRequestBody().jobId(214L).attemptNumber(2).offset(20L).limit(null)));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, -1})
+  void getAttemptLogsPageRejectsNonPositiveLimits(final int limit) throws Exception {
+    assertThrows(BadRequestException.class,
+        () -> handler.getAttemptLogsPage(new AttemptLogsPageRequestBody().jobId(214L).attemptNumber(2).limit(limit)));
+    Mockito.verifyNoInteractions(jobConverter);
+  }
+
   @Test
   void getAttemptCombinedStatsThrowsNotFound() throws Exception {
     when(jobPersistence.getAttemptCombinedStats(anyLong(), anyInt())).thenReturn(null);
@@ -299,7 +349,9 @@ class AttemptHandlerTest {
   void failAttemptSyncSummaryOutputPresent() throws IOException {
     handler.failAttempt(ATTEMPT_NUMBER, JOB_ID, failureSummary, standardSyncOutput);
 
-    Mockito.verify(jobPersistence).failAttempt(JOB_ID, ATTEMPT_NUMBER);
+    final InOrder inOrder = Mockito.inOrder(attemptStatsBuffer, jobPersistence);
+    inOrder.verify(attemptStatsBuffer).flush(JOB_ID, ATTEMPT_NUMBER);
+    inOrder.verify(jobPersistence).failAttempt(JOB_ID, ATTEMPT_NUMBER);
     Mockito.verify(jobPersistence).writeOutput(JOB_ID, ATTEMPT_NUMBER, jobOutput);
     Mockito.verify(jobPersistence).writeAttemptFailureSummary(JOB_ID, ATTEMPT_NUMBER, failureSummary);
   }
@@ -11,6 +11,7 @@ import static io.airbyte.config.EnvConfigs.DEFAULT_FAILED_JOBS_IN_A_ROW_BEFORE_C
 import static io.airbyte.persistence.job.models.Job.REPLICATION_TYPES;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -49,6 +50,7 @@ import io.airbyte.api.model.generated.ConnectionStatusRead;
 import io.airbyte.api.model.generated.ConnectionStatusesRequestBody;
 import io.airbyte.api.model.generated.ConnectionStreamHistoryReadItem;
 import io.airbyte.api.model.generated.ConnectionStreamHistoryRequestBody;
+import io.airbyte.api.model.generated.ConnectionSummaryRead;
 import io.airbyte.api.model.generated.ConnectionUpdate;
 import io.airbyte.api.model.generated.DestinationDefinitionIdWithWorkspaceId;
 import io.airbyte.api.model.generated.DestinationDefinitionSpecificationRead;
@@ -412,6 +414,28 @@ class ConnectionsHandlerTest {
       assertEquals(ConnectionHelpers.generateExpectedConnectionRead(standardSync), actualConnectionRead);
     }
 
+    @Test
+    void testGetConnectionSummary() throws JsonValidationException, ConfigNotFoundException, IOException {
+      final StandardSync updatedStandardSync = Jsons.clone(standardSync);
+      updatedStandardSync.getCatalog().getStreams().get(0).withSyncMode(io.airbyte.protocol.models.SyncMode.FULL_REFRESH).withCursorField(null);
+      when(configRepository.getStandardSync(standardSync.getConnectionId()))
+          .thenReturn(standardSync)
+          .thenReturn(standardSync)
+          .thenReturn(updatedStandardSync);
+
+      final ConnectionRead expectedConnectionRead = ConnectionHelpers.generateExpectedConnectionRead(standardSync);
+      final ConnectionSummaryRead summary = connectionsHandler.getConnectionSummary(standardSync.getConnectionId());
+
+      assertEquals(expectedConnectionRead.getSourceId(), summary.getSourceId());
+      assertEquals(expectedConnectionRead.getDestinationId(), summary.getDestinationId());
+      assertEquals(expectedConnectionRead.getStatus(), summary.getStatus());
+      assertEquals(expectedConnectionRead.getScheduleType(), summary.getScheduleType());
+      assertEquals(expectedConnectionRead.getScheduleData(), summary.getScheduleData());
+      assertEquals(expectedConnectionRead.getBreakingChange(), summary.getBreakingChange());
+      assertEquals(summary.getCatalogHash(), connectionsHandler.getConnectionSummary(standardSync.getConnectionId()).getCatalogHash());
+      assertNotEquals(summary.getCatalogHash(), connectionsHandler.getConnectionSummary(standardSync.getConnectionId()).getCatalogHash());
+    }
+
     @Test
     void testListConnectionsForWorkspace() throws JsonValidationException, ConfigNotFoundException, IOException {
       when(configRepository.listWorkspaceStandardSyncs(source.getWorkspaceId(), false))
@@ -2116,7 +2140,7 @@ class ConnectionsHandlerTest {
           new Job(0L, JobConfig.ConfigType.SYNC, connectionId.toString(), null, null, JobStatus.RUNNING, 1001L, 1000L, 1002L),
           new Job(0L, JobConfig.ConfigType.SYNC, connectionId.toString(), null, List.of(failedAttempt), JobStatus.FAILED, 901L, 900L, 902L),
           new Job(0L, JobConfig.ConfigType.SYNC, connectionId.toString(), null, null, JobStatus.SUCCEEDED, 801L, 800L, 802L));
-      when(jobPersistence.listJobs(Set.of(JobConfig.ConfigType.SYNC, JobConfig.ConfigType.RESET_CONNECTION), connectionId.toString(), 10))
+      when(jobPersistence.listJobsLight(Set.of(JobConfig.ConfigType.SYNC, JobConfig.ConfigType.RESET_CONNECTION), connectionId.toString(), 10))
           .thenReturn(jobs);
       final ConnectionStatusesRequestBody req = new ConnectionStatusesRequestBody().connectionIds(List.of(connectionId));
       final List<ConnectionStatusRead> status = connectionsHandler.getConnectionStatuses(req);
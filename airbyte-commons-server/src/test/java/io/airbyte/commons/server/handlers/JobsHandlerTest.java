@@ -23,6 +23,7 @@ import io.airbyte.api.model.generated.JobFailureRequest;
 import io.airbyte.api.model.generated.JobSuccessWithAttemptNumberRequest;
 import io.airbyte.commons.server.JobStatus;
 import io.airbyte.commons.server.errors.BadRequestException;
+import io.airbyte.commons.server.handlers.helpers.AttemptStatsBuffer;
 import io.airbyte.commons.server.handlers.helpers.JobCreationAndStatusUpdateHelper;
 import io.airbyte.config.AttemptFailureSummary;
 import io.airbyte.config.AttemptSyncConfig;
@@ -54,6 +55,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 /**
@@ -67,6 +69,7 @@ public class JobsHandlerTest {
   private JobsHandler jobsHandler;
   private JobCreationAndStatusUpdateHelper helper;
   private JobErrorReporter jobErrorReporter;
+  private AttemptStatsBuffer attemptStatsBuffer;
 
   private static final long JOB_ID = 12;
   private static final int ATTEMPT_NUMBER = 1;
@@ -92,7 +95,8 @@ public class JobsHandlerTest {
     jobErrorReporter = mock(JobErrorReporter.class);
 
     helper = mock(JobCreationAndStatusUpdateHelper.class);
-    jobsHandler = new JobsHandler(jobPersistence, helper, jobNotifier, jobErrorReporter);
+    attemptStatsBuffer = mock(AttemptStatsBuffer.class);
+    jobsHandler = new JobsHandler(jobPersistence, helper, jobNotifier, jobErrorReporter, attemptStatsBuffer);
   }
 
   @Test
@@ -104,8 +108,10 @@ public class JobsHandlerTest {
         .standardSyncOutput(standardSyncOutput);
     jobsHandler.jobSuccessWithAttemptNumber(request);
 
-    verify(jobPersistence).writeOutput(JOB_ID, ATTEMPT_NUMBER, jobOutput);
-    verify(jobPersistence).succeedAttempt(JOB_ID, ATTEMPT_NUMBER);
+    final InOrder inOrder = Mockito.inOrder(attemptStatsBuffer, jobPersistence);
+    inOrder.verify(attemptStatsBuffer).flush(JOB_ID, ATTEMPT_NUMBER);
+    inOrder.verify(jobPersistence).writeOutput(JOB_ID, ATTEMPT_NUMBER, jobOutput);
+    inOrder.verify(jobPersistence).succeedAttempt(JOB_ID, ATTEMPT_NUMBER);
     verify(jobNotifier).successJob(any());
     verify(helper).trackCompletion(any(), eq(JobStatus.SUCCEEDED));
   }
@@ -70,6 +70,7 @@ import io.airbyte.commons.lang.Exceptions;
 import io.airbyte.commons.server.converters.ConfigurationUpdate;
 import io.airbyte.commons.server.converters.JobConverter;
 import io.airbyte.commons.server.errors.ValueConflictKnownException;
+import io.airbyte.commons.server.handlers.helpers.AttemptStatsBuffer;
 import io.airbyte.commons.server.handlers.helpers.CatalogConverter;
 import io.airbyte.commons.server.helpers.DestinationHelpers;
 import io.airbyte.commons.server.helpers.SourceHelpers;
@@ -332,6 +333,7 @@ class SchedulerHandlerTest {
         jobFactory,
         jobNotifier,
         jobTracker,
+        mock(AttemptStatsBuffer.class),
         connectorDefinitionSpecificationHandler,
         workspaceService,
         secretPersistenceConfigService);
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.airbyte.config.StreamSyncStats;
+import io.airbyte.config.SyncStats;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import io.airbyte.persistence.job.JobPersistence;
+import io.airbyte.persistence.job.JobPersistence.AttemptStats;
+import io.airbyte.persistence.job.JobPersistence.JobAttemptPair;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AttemptStatsBufferTest {
+
+  private static final long JOB_ID = 12L;
+  private static final int ATTEMPT_NUMBER = 1;
+  private static final JobAttemptPair JOB_ATTEMPT = new JobAttemptPair(JOB_ID, ATTEMPT_NUMBER);
+  private static final AttemptStats FIRST_STATS = new AttemptStats(new SyncStats().withRecordsEmitted(10L).withBytesEmitted(100L), List.of(
+      new StreamSyncStats().withStreamName("users").withStats(new SyncStats().withRecordsEmitted(10L).withBytesEmitted(100L))));
+  private static final AttemptStats SECOND_STATS = new AttemptStats(new SyncStats().withRecordsEmitted(20L).withBytesEmitted(200L), List.of(
+      new StreamSyncStats().withStreamName("users").withStats(new SyncStats().withRecordsEmitted(20L).withBytesEmitted(200L))));
+
+  private JobPersistence jobPersistence;
+  private MetricClient metricClient;
+  private long currentTimeMillis;
+
+  @BeforeEach
+  void setup() {
+    jobPersistence = mock(JobPersistence.class);
+    metricClient = mock(MetricClient.class);
+    currentTimeMillis = 1000L;
+  }
+
+  private AttemptStatsBuffer buildBuffer(final boolean enabled, final int maxPendingAttempts) {
+    return new AttemptStatsBuffer(jobPersistence, enabled, maxPendingAttempts, metricClient, () -> currentTimeMillis);
+  }
+
+  @Test
+  void testDisabledBufferWritesStatsImmediately() throws IOException {
+    final AttemptStatsBuffer buffer = buildBuffer(false, 10);
+
+    buffer.save(JOB_ID, ATTEMPT_NUMBER, FIRST_STATS);
+
+    verify(jobPersistence).writeStats(JOB_ID, ATTEMPT_NUMBER, null, null, 10L, 100L, null, null, FIRST_STATS.perStreamStats());
+    buffer.flush();
+    verify(jobPersistence, never()).writeStats(anyMap());
+  }
+
+  @Test
+  void testFlushOnlyWritesTheLatestStatsOfEachAttempt() throws IOException {
+    final AttemptStatsBuffer buffer = buildBuffer(true, 10);
+    final JobAttemptPair otherJobAttempt = new JobAttemptPair(JOB_ID + 1, 0);
+
+    buffer.save(JOB_ID, ATTEMPT_NUMBER, FIRST_STATS);
+    currentTimeMillis += 2000L;
+    buffer.save(JOB_ID, ATTEMPT_NUMBER, SECOND_STATS);
+    buffer.save(otherJobAttempt.id(), otherJobAttempt.attemptNumber(), FIRST_STATS);
+    verifyNoInteractions(jobPersistence);
+
+    currentTimeMillis += 3000L;
+    buffer.flush();
+
+    verify(jobPersistence).writeStats(Map.of(JOB_ATTEMPT, SECOND_STATS, otherJobAttempt, FIRST_STATS));
+    verify(metricClient).count(OssMetricsRegistry.STATS_BUFFER_COALESCED, 1);
+    // The stats of the attempt were first buffered 5 seconds ago.
+    verify(metricClient).distribution(OssMetricsRegistry.STATS_BUFFER_STALENESS_MS, 5000L);
+    verify(metricClient).gauge(OssMetricsRegistry.STATS_BUFFER_PENDING_ATTEMPTS, 0);
+
+    // Nothing left to write.
+    buffer.flush();
+    verify(jobPersistence).writeStats(anyMap());
+  }
+
+  @Test
+  void testFlushAttempt() throws IOException {
+    final AttemptStatsBuffer buffer = buildBuffer(true, 10);
+    final JobAttemptPair otherJobAttempt = new JobAttemptPair(JOB_ID + 1, 0);
+    buffer.save(JOB_ID, ATTEMPT_NUMBER, FIRST_STATS);
+    buffer.save(otherJobAttempt.id(), otherJobAttempt.attemptNumber(), SECOND_STATS);
+
+    buffer.flush(JOB_ID, ATTEMPT_NUMBER);
+    verify(jobPersistence).writeStats(Map.of(JOB_ATTEMPT, FIRST_STATS));
+
+    buffer.flush();
+    verify(jobPersistence).writeStats(Map.of(otherJobAttempt, SECOND_STATS));
+  }
+
+  @Test
+  void testBufferIsFlushedWhenFull() throws IOException {
+    final AttemptStatsBuffer buffer = buildBuffer(true, 2);
+
+    buffer.save(JOB_ID, ATTEMPT_NUMBER, FIRST_STATS);
+    buffer.save(JOB_ID, ATTEMPT_NUMBER, SECOND_STATS);
+    verifyNoInteractions(jobPersistence);
+
+    buffer.save(JOB_ID + 1, 0, FIRST_STATS);
+    verify(jobPersistence).writeStats(Map.of(JOB_ATTEMPT, SECOND_STATS, new JobAttemptPair(JOB_ID + 1, 0), FIRST_STATS));
+  }
+
+  @Test
+  void testFailedFlushKeepsTheStatsForTheNextFlush() throws IOException {
+    final AttemptStatsBuffer buffer = buildBuffer(true, 10);
+    buffer.save(JOB_ID, ATTEMPT_NUMBER, FIRST_STATS);
+    doThrow(new IOException("oops")).when(jobPersistence).writeStats(anyMap());
+
+    assertThrows(IOException.class, buffer::flush);
+    verify(metricClient).gauge(eq(OssMetricsRegistry.STATS_BUFFER_PENDING_ATTEMPTS), eq(1.0));
+    verify(metricClient, never()).distribution(eq(OssMetricsRegistry.STATS_BUFFER_FLUSH_DURATION_MS), anyDouble());
+
+    // The stats saved since the failure are more recent and replace the ones that failed.
+    buffer.save(JOB_ID, ATTEMPT_NUMBER, SECOND_STATS);
+    assertThrows(IOException.class, buffer::flush);
+    verify(jobPersistence).writeStats(Map.of(JOB_ATTEMPT, SECOND_STATS));
+  }
+
+}
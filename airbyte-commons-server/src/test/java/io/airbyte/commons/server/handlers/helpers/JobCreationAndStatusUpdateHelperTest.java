@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -38,6 +39,7 @@ import java.util.UUID;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
 /**
  * Unit tests for {@link JobCreationAndStatusUpdateHelper}.
@@ -51,6 +53,8 @@ class JobCreationAndStatusUpdateHelperTest {
 
   JobTracker mJobTracker;
 
+  AttemptStatsBuffer mAttemptStatsBuffer;
+
   JobCreationAndStatusUpdateHelper helper;
 
   @BeforeEach
@@ -59,12 +63,14 @@ class JobCreationAndStatusUpdateHelperTest {
     mJobNotifier = mock(JobNotifier.class);
     mJobPersistence = mock(JobPersistence.class);
     mJobTracker = mock(JobTracker.class);
+    mAttemptStatsBuffer = mock(AttemptStatsBuffer.class);
 
     helper = new JobCreationAndStatusUpdateHelper(
         mJobPersistence,
         mConfigRepository,
         mJobNotifier,
-        mJobTracker);
+        mJobTracker,
+        mAttemptStatsBuffer);
   }
 
   @Test
@@ -139,6 +145,9 @@ class JobCreationAndStatusUpdateHelperTest {
 
     helper.failNonTerminalJobs(Fixtures.CONNECTION_ID);
 
+    final InOrder inOrder = inOrder(mAttemptStatsBuffer, mJobPersistence);
+    inOrder.verify(mAttemptStatsBuffer).flush(runningJob.getId(), attemptNo2);
+    inOrder.verify(mJobPersistence).failAttempt(runningJob.getId(), attemptNo2);
     verify(mJobPersistence).failJob(runningJob.getId());
     verify(mJobPersistence).failJob(pendingJob.getId());
     verify(mJobPersistence).failAttempt(runningJob.getId(), attemptNo2);
@@ -150,7 +159,7 @@ class JobCreationAndStatusUpdateHelperTest {
     verify(mJobTracker).trackSync(runningJob, JobState.FAILED);
     verify(mJobTracker).trackSync(pendingJob, JobState.FAILED);
     verify(mJobPersistence).listJobsForConnectionWithStatuses(Fixtures.CONNECTION_ID, Job.REPLICATION_TYPES, JobStatus.NON_TERMINAL_STATUSES);
-    verifyNoMoreInteractions(mJobPersistence, mJobNotifier, mJobTracker);
+    verifyNoMoreInteractions(mJobPersistence, mJobNotifier, mJobTracker, mAttemptStatsBuffer);
   }
 
   @Test
@@ -4,6 +4,9 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize
 import io.temporal.activity.ActivityInterface
 import io.temporal.activity.ActivityMethod
+import io.temporal.workflow.Async
+import io.temporal.workflow.SignalMethod
+import io.temporal.workflow.Workflow
 import io.temporal.workflow.WorkflowInterface
 import io.temporal.workflow.WorkflowMethod
 
@@ -67,6 +70,9 @@ class Message<T : Any> constructor(data: T) {
 interface QueueActivity<T : Any> {
   @ActivityMethod
   fun consume(message: Message<T>)
+
+  @ActivityMethod
+  fun consumeBatch(messages: List<Message<T>>)
 }
 
 /**
@@ -81,6 +87,28 @@ interface QueueWorkflow<T : Any> {
   fun publish(message: Message<T>)
 }
 
+/**
+ * Generic temporal workflow interface for a batching message queue.
+ *
+ * A single long-lived workflow runs per queue. Messages are sent to it as signals, and it hands them over to the consumer
+ * activity in batches instead of starting a workflow per message.
+ */
+@WorkflowInterface
+interface BatchQueueWorkflow<T : Any> {
+  /**
+   * Consumes the messages of the queue until the history of the workflow needs to be truncated, the messages that were not
+   * consumed yet are then carried over to the next run.
+   */
+  @WorkflowMethod
+  fun run(pendingMessages: List<Message<T>>)
+
+  /**
+   * Submits a message to the queue.
+   */
+  @SignalMethod
+  fun enqueue(message: Message<T>)
+}
+
 /**
  * Generic temporal queue activity implementation.
  */
@@ -88,6 +116,10 @@ class QueueActivityImpl<T : Any>(private val messageConsumer: MessageConsumer<T>
   override fun consume(message: Message<T>) {
     messageConsumer.consume(message.data)
   }
+
+  override fun consumeBatch(messages: List<Message<T>>) {
+    messageConsumer.consumeBatch(messages.map { it.data })
+  }
 }
 
 /**
@@ -106,3 +138,66 @@ abstract class QueueWorkflowBase<T : Any> : QueueWorkflow<T> {
     activity.consume(message)
   }
 }
+
+/**
+ * Generic temporal batching queue workflow base implementation.
+ *
+ * Up to [maxBatchSize] pending messages are drained per activity invocation, with at most [maxConcurrentBatches] activities in
+ * flight so that the consumers can still process messages in parallel.
+ */
+abstract class BatchQueueWorkflowBase<T : Any> : BatchQueueWorkflow<T> {
+  companion object {
+    const val DEFAULT_MAX_BATCH_SIZE = 20
+    const val DEFAULT_MAX_CONCURRENT_BATCHES = 10
+
+    // Every message adds a signal and an activity to the history of the workflow, so the workflow continues as new
+    // before the history gets too large, in number of messages or in size since messages can be large.
+    const val MAX_MESSAGES_PER_RUN = 1000
+    const val MAX_HISTORY_SIZE_BYTES = 10L * 1024 * 1024
+  }
+
+  /**
+   * The consumer activity, see [QueueWorkflowBase.activity].
+   */
+  protected abstract val activity: QueueActivity<T>
+
+  protected open val maxBatchSize: Int = DEFAULT_MAX_BATCH_SIZE
+  protected open val maxConcurrentBatches: Int = DEFAULT_MAX_CONCURRENT_BATCHES
+
+  private val pendingMessages = ArrayDeque<Message<T>>()
+  private var batchesInFlight = 0
+  private var consumedMessages = 0
+
+  override fun enqueue(message: Message<T>) {
+    pendingMessages.addLast(message)
+  }
+
+  override fun run(pendingMessages: List<Message<T>>) {
+    this.pendingMessages.addAll(pendingMessages)
+    val logger = Workflow.getLogger(javaClass)
+
+    while (!shouldContinueAsNew()) {
+      Workflow.await { this.pendingMessages.isNotEmpty() && batchesInFlight < maxConcurrentBatches }
+
+      val batch = List(minOf(maxBatchSize, this.pendingMessages.size)) { this.pendingMessages.removeFirst() }
+      batchesInFlight++
+      consumedMessages += batch.size
+      Async.procedure { activity.consumeBatch(batch) }.handle { _, e ->
+        batchesInFlight--
+        if (e != null) {
+          // Same as a single message: the consumer activity is not retried, and a failure doesn't stop the queue.
+          logger.error("Failed to consume a batch of {} messages", batch.size, e)
+        }
+      }
+    }
+
+    // The messages signaled until now are carried over, Temporal replays the run if more signals arrive in the meantime.
+    Workflow.await { batchesInFlight == 0 }
+    Workflow.continueAsNew(this.pendingMessages.toList())
+  }
+
+  private fun shouldContinueAsNew(): Boolean {
+    val info = Workflow.getInfo()
+    return consumedMessages >= MAX_MESSAGES_PER_RUN || info.historySize >= MAX_HISTORY_SIZE_BYTES || info.isContinueAsNewSuggested
+  }
+}
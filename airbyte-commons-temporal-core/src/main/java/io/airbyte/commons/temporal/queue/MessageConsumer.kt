@@ -1,8 +1,29 @@
 package io.airbyte.commons.temporal.queue
 
+import org.slf4j.LoggerFactory
+
+private val log = LoggerFactory.getLogger(MessageConsumer::class.java)
+
 /**
  * MessageConsumer interface for a temporal queue.
  */
 interface MessageConsumer<T : Any> {
   fun consume(input: T)
+
+  /**
+   * Consume a batch of messages drained from a [BatchQueueWorkflow]. Consumers that can process several messages at once should
+   * override it, it consumes the messages one by one otherwise.
+   *
+   * The consumer activity is not retried, so a message that fails to be consumed must not prevent the rest of the batch from
+   * being consumed.
+   */
+  fun consumeBatch(inputs: List<T>) {
+    inputs.forEach {
+      try {
+        consume(it)
+      } catch (e: Exception) {
+        log.error("Failed to consume message {}", it, e)
+      }
+    }
+  }
 }
@@ -7,6 +7,10 @@ import io.temporal.client.WorkflowOptions
  * Generic message producer for a temporal based queue.
  */
 class TemporalMessageProducer<T : Any>(private val workflowClientWrapped: WorkflowClientWrapped) {
+  companion object {
+    const val BATCH_QUEUE_WORKFLOW_ID_PREFIX = "batch-queue_"
+  }
+
   /**
    * Publish a message to the subject.
    */
@@ -18,6 +22,17 @@ class TemporalMessageProducer<T : Any>(private val workflowClientWrapped: Workfl
     doPublish<QueueWorkflow<T>>(subject, message, messageId)
   }
 
+  /**
+   * Publish a message to the batching queue of the subject, see [BatchQueueWorkflow]. The queue workflow is started if it isn't
+   * running yet.
+   */
+  fun enqueue(
+    subject: String,
+    message: T,
+  ) {
+    doEnqueue<BatchQueueWorkflow<T>>(subject, message)
+  }
+
   // This is a workaround to get a class with a generic.
   // Temporal newWorkflowStub call requires a Class<T>, reified enables this.
   // This is added as a private fun because of the visibility constraint from inline on member access.
@@ -34,4 +49,20 @@ class TemporalMessageProducer<T : Any>(private val workflowClientWrapped: Workfl
     val workflow = workflowClientWrapped.newWorkflowStub(W::class.java, workflowOptions)
     workflowClientWrapped.start(workflow::publish, Message(message))
   }
+
+  private inline fun <reified W : BatchQueueWorkflow<T>> doEnqueue(
+    subject: String,
+    message: T,
+  ) {
+    val workflowOptions =
+      WorkflowOptions.newBuilder()
+        .setTaskQueue(subject)
+        .setWorkflowId(BATCH_QUEUE_WORKFLOW_ID_PREFIX + subject)
+        .build()
+    val workflow = workflowClientWrapped.newWorkflowStub(W::class.java, workflowOptions)
+    val request = workflowClientWrapped.newSignalWithStartRequest()
+    request.add(workflow::run, listOf<Message<T>>())
+    request.add(workflow::enqueue, Message(message))
+    workflowClientWrapped.signalWithStart(request)
+  }
 }
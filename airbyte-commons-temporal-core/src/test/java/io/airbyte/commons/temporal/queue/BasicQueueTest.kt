@@ -11,14 +11,18 @@ import io.temporal.worker.Worker
 import io.temporal.workflow.Workflow
 import org.junit.jupiter.api.AfterAll
 import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.BeforeAll
 import org.junit.jupiter.api.Test
 import org.mockito.ArgumentCaptor
 import org.mockito.ArgumentMatchers.any
+import org.mockito.ArgumentMatchers.anyList
+import org.mockito.Mockito.atLeastOnce
 import org.mockito.Mockito.mock
 import org.mockito.Mockito.spy
 import org.mockito.Mockito.verify
 import java.time.Duration
+import java.util.concurrent.ConcurrentLinkedQueue
 import java.util.concurrent.CountDownLatch
 
 // Payload for the Queue
@@ -33,13 +37,28 @@ data class TestQueueInput(val input: String) {
 }
 
 // The actual consumer
-class TestConsumer(val latch: CountDownLatch = CountDownLatch(1)) : MessageConsumer<TestQueueInput> {
+class TestConsumer(var latch: CountDownLatch = CountDownLatch(1)) : MessageConsumer<TestQueueInput> {
+  val consumed = ConcurrentLinkedQueue<TestQueueInput>()
+
   override fun consume(input: TestQueueInput) {
+    consumed.add(input)
     latch.countDown()
     println(input)
   }
 }
 
+// A consumer that fails to consume some of the messages.
+class FailingTestConsumer(private val failingInputs: Set<TestQueueInput>) : MessageConsumer<TestQueueInput> {
+  val consumed = mutableListOf<TestQueueInput>()
+
+  override fun consume(input: TestQueueInput) {
+    if (input in failingInputs) {
+      throw IllegalStateException("failed to consume $input")
+    }
+    consumed.add(input)
+  }
+}
+
 // Test implementation, this is required to map the activities and for registering an implementation with temporal.
 class TestWorkflowImpl : QueueWorkflowBase<TestQueueInput>() {
   override lateinit var activity: QueueActivity<TestQueueInput>
@@ -60,6 +79,24 @@ class TestWorkflowImpl : QueueWorkflowBase<TestQueueInput>() {
   }
 }
 
+// Test implementation of the batching queue.
+class TestBatchWorkflowImpl : BatchQueueWorkflowBase<TestQueueInput>() {
+  override lateinit var activity: QueueActivity<TestQueueInput>
+  override val maxBatchSize = 2
+
+  init {
+    initializeActivity<QueueActivity<TestQueueInput>>()
+  }
+
+  private inline fun <reified W : QueueActivity<TestQueueInput>> initializeActivity() {
+    this.activity =
+      Workflow.newActivityStub(
+        W::class.java,
+        ActivityOptions.newBuilder().setStartToCloseTimeout(Duration.ofSeconds(10)).build(),
+      )
+  }
+}
+
 class BasicQueueTest {
   companion object {
     val QUEUE_NAME = "testQueue"
@@ -76,7 +113,7 @@ class BasicQueueTest {
     fun setUp() {
       testEnv = TestWorkflowEnvironment.newInstance()
       worker = testEnv.newWorker(QUEUE_NAME)
-      worker.registerWorkflowImplementationTypes(TestWorkflowImpl::class.java)
+      worker.registerWorkflowImplementationTypes(TestWorkflowImpl::class.java, TestBatchWorkflowImpl::class.java)
       client = testEnv.workflowClient
 
       consumer = TestConsumer()
@@ -100,6 +137,7 @@ class BasicQueueTest {
     val producer = TemporalMessageProducer<TestQueueInput>(workflowClient)
     val message = TestQueueInput("boom!")
     val messageId = "myId"
+    consumer.latch = CountDownLatch(1)
     producer.publish(QUEUE_NAME, message, messageId)
 
     // Since publishing is async, wait on the latch
@@ -108,4 +146,30 @@ class BasicQueueTest {
     verify(workflowClient).newWorkflowStub<QueueWorkflow<TestQueueInput>>(any(), optionsCaptor.capture())
     assertEquals(messageId, optionsCaptor.value.workflowId)
   }
+
+  @Test
+  fun testBatchedRoundTrip() {
+    val workflowClient = WorkflowClientWrapped(client, mock(MetricClient::class.java))
+    val producer = TemporalMessageProducer<TestQueueInput>(workflowClient)
+    val messages = listOf(TestQueueInput("a"), TestQueueInput("b"), TestQueueInput("c"))
+    consumer.latch = CountDownLatch(messages.size)
+
+    messages.forEach { producer.enqueue(QUEUE_NAME, it) }
+
+    // All the messages go through the same queue workflow, and are consumed in batches.
+    consumer.latch.await()
+    assertTrue(consumer.consumed.containsAll(messages))
+    verify(activity, atLeastOnce()).consumeBatch(anyList())
+  }
+
+  @Test
+  fun testBatchConsumesTheMessagesFollowingAFailure() {
+    val messages = listOf(TestQueueInput("a"), TestQueueInput("b"), TestQueueInput("c"), TestQueueInput("d"))
+    val failingConsumer = FailingTestConsumer(setOf(messages[1]))
+
+    failingConsumer.consumeBatch(messages)
+
+    // The batch isn't retried, so only the message that failed is lost.
+    assertEquals(listOf(messages[0], messages[2], messages[3]), failingConsumer.consumed)
+  }
 }
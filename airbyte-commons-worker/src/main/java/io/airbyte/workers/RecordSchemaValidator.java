@@ -12,25 +12,95 @@ import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import java.io.Closeable;
 import java.io.IOException;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 
 /**
  * Validates that AirbyteRecordMessage data conforms to the JSON schema defined by the source's
  * configured catalog.
+ * <p>
+ * Validation happens asynchronously on a pool of workers fed by a bounded queue. When the queue is
+ * full, records are dropped from validation rather than holding on to more of them. Records can also
+ * be sampled per stream, see {@link #isSampledOut(AirbyteStreamNameNamespacePair)}.
  */
+@Slf4j
 public class RecordSchemaValidator implements Closeable {
 
+  /**
+   * Configuration of the validation pool.
+   *
+   * @param workerCount number of threads validating records
+   * @param queueSize maximum number of records waiting for validation, records submitted when the
+   *        queue is full are not validated
+   * @param defaultSamplingRate ratio of the records of a stream to validate, between 0 and 1
+   * @param streamSamplingRates sampling rates overriding the default, keyed by stream name or by
+   *        namespace.name
+   */
+  public record ValidationPoolConfiguration(int workerCount, int queueSize, double defaultSamplingRate, Map<String, Double> streamSamplingRates) {
+
+    public static final ValidationPoolConfiguration DEFAULT = new ValidationPoolConfiguration(1, 10_000, 1.0, Map.of());
+
+    /**
+     * Build a configuration from a sampling rates definition. The definition is a comma separated list
+     * where an entry without a stream sets the default rate, e.g. "0.1,users=1.0,public.events=0.01".
+     * Invalid entries are ignored.
+     */
+    public static ValidationPoolConfiguration of(final int workerCount, final int queueSize, final String samplingRates) {
+      double defaultSamplingRate = DEFAULT.defaultSamplingRate;
+      final Map<String, Double> streamSamplingRates = new HashMap<>();
+      if (samplingRates != null) {
+        for (final String entry : samplingRates.split(",")) {
+          final int separator = entry.lastIndexOf('=');
+          try {
+            if (entry.isBlank()) {
+              continue;
+            } else if (separator < 0) {
+              defaultSamplingRate = Double.parseDouble(entry.trim());
+            } else {
+              streamSamplingRates.put(entry.substring(0, separator).trim(), Double.parseDouble(entry.substring(separator + 1).trim()));
+            }
+          } catch (final NumberFormatException e) {
+            log.warn("Ignoring invalid schema validation sampling rate: {}", entry);
+          }
+        }
+      }
+      return new ValidationPoolConfiguration(Math.max(1, workerCount), Math.max(1, queueSize), defaultSamplingRate, streamSamplingRates);
+    }
+
+    double samplingRate(final AirbyteStreamNameNamespacePair stream) {
+      if (streamSamplingRates.isEmpty()) {
+        return defaultSamplingRate;
+      }
+      final Double namespacedRate = stream.getNamespace() != null ? streamSamplingRates.get(stream.getNamespace() + "." + stream.getName()) : null;
+      return namespacedRate != null ? namespacedRate : streamSamplingRates.getOrDefault(stream.getName(), defaultSamplingRate);
+    }
+
+  }
+
   private final JsonSchemaValidator validator;
   private final ExecutorService validationExecutor;
   private final Map<AirbyteStreamNameNamespacePair, JsonNode> streams;
+  private final ValidationPoolConfiguration configuration;
+
+  private final Map<AirbyteStreamNameNamespacePair, Long> streamRecordCounts = new ConcurrentHashMap<>();
+  private final AtomicLong validatedRecords = new AtomicLong();
+  private final AtomicLong sampledOutRecords = new AtomicLong();
+  private final AtomicLong droppedRecords = new AtomicLong();
+  private final AtomicInteger queuedRecords = new AtomicInteger();
+  private final AtomicInteger maxQueuedRecords = new AtomicInteger();
 
   /**
    * Creates a RecordSchemaValidator.
@@ -38,7 +108,25 @@ public class RecordSchemaValidator implements Closeable {
    * @param streamNamesToSchemas Name of streams.
    */
   public RecordSchemaValidator(final Map<AirbyteStreamNameNamespacePair, JsonNode> streamNamesToSchemas) {
-    this(streamNamesToSchemas, Executors.newFixedThreadPool(1));
+    this(streamNamesToSchemas, ValidationPoolConfiguration.DEFAULT);
+  }
+
+  public RecordSchemaValidator(final Map<AirbyteStreamNameNamespacePair, JsonNode> streamNamesToSchemas,
+                               final ValidationPoolConfiguration configuration) {
+    this(streamNamesToSchemas, configuration, false);
+  }
+
+  /**
+   * Creates a RecordSchemaValidator.
+   *
+   * @param streamNamesToSchemas Name of streams.
+   * @param configuration the validation pool configuration.
+   * @param compileSchemas whether the stream schemas are compiled to validate the records.
+   */
+  public RecordSchemaValidator(final Map<AirbyteStreamNameNamespacePair, JsonNode> streamNamesToSchemas,
+                               final ValidationPoolConfiguration configuration,
+                               final boolean compileSchemas) {
+    this(streamNamesToSchemas, newValidationExecutor(configuration), new JsonSchemaValidator(compileSchemas), configuration);
   }
 
   @VisibleForTesting
@@ -50,11 +138,20 @@ public class RecordSchemaValidator implements Closeable {
   public RecordSchemaValidator(final Map<AirbyteStreamNameNamespacePair, JsonNode> streamNamesToSchemas,
                                final ExecutorService validationExecutor,
                                final JsonSchemaValidator jsonSchemaValidator) {
+    this(streamNamesToSchemas, validationExecutor, jsonSchemaValidator, ValidationPoolConfiguration.DEFAULT);
+  }
+
+  @VisibleForTesting
+  public RecordSchemaValidator(final Map<AirbyteStreamNameNamespacePair, JsonNode> streamNamesToSchemas,
+                               final ExecutorService validationExecutor,
+                               final JsonSchemaValidator jsonSchemaValidator,
+                               final ValidationPoolConfiguration configuration) {
     // streams is Map of a stream source namespace + name mapped to the stream schema
     // for easy access when we check each record's schema
     this.streams = streamNamesToSchemas;
     this.validationExecutor = validationExecutor;
     this.validator = jsonSchemaValidator;
+    this.configuration = configuration;
     // initialize schema validator to avoid creating validators each time.
     for (final AirbyteStreamNameNamespacePair stream : streamNamesToSchemas.keySet()) {
       // We must choose a JSON validator version for validating the schema
@@ -65,6 +162,32 @@ public class RecordSchemaValidator implements Closeable {
     }
   }
 
+  @VisibleForTesting
+  static ExecutorService newValidationExecutor(final ValidationPoolConfiguration configuration) {
+    // The default AbortPolicy lets submit count the records that are dropped when the queue is full.
+    return new ThreadPoolExecutor(configuration.workerCount(), configuration.workerCount(), 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(configuration.queueSize()));
+  }
+
+  /**
+   * Whether the record of the given stream should be skipped according to the sampling rate of the
+   * stream. Must be called once per record, the records of a stream from a single thread. Sampling is
+   * deterministic, the first record of a stream is always validated.
+   */
+  public boolean isSampledOut(final AirbyteStreamNameNamespacePair airbyteStream) {
+    final double samplingRate = configuration.samplingRate(airbyteStream);
+    if (samplingRate >= 1.0) {
+      return false;
+    }
+
+    final long recordIndex = streamRecordCounts.merge(airbyteStream, 1L, Long::sum) - 1;
+    final boolean isSampledOut = Math.floor(recordIndex * samplingRate) == Math.floor((recordIndex - 1) * samplingRate);
+    if (isSampledOut) {
+      sampledOutRecords.incrementAndGet();
+    }
+    return isSampledOut;
+  }
+
   /**
    * Takes an AirbyteRecordMessage and uses the JsonSchemaValidator to validate that its data conforms
    * to the stream's schema. If it does not, an error is added to the validationErrors map.
@@ -73,7 +196,7 @@ public class RecordSchemaValidator implements Closeable {
                              final AirbyteRecordMessage message,
                              final AirbyteStreamNameNamespacePair airbyteStream,
                              final ConcurrentHashMap<AirbyteStreamNameNamespacePair, ImmutablePair<Set<String>, Integer>> validationErrors) {
-    validationExecutor.execute(() -> {
+    submit(() -> {
       Set<String> errorMessages = validator.validateInitializedSchema(airbyteStream.toString(), message.getData());
       if (!errorMessages.isEmpty()) {
         updateValidationErrors(errorMessages, airbyteStream, validationErrors);
@@ -89,14 +212,42 @@ public class RecordSchemaValidator implements Closeable {
                                             final AirbyteRecordMessage message,
                                             final AirbyteStreamNameNamespacePair airbyteStream,
                                             final ConcurrentHashMap<AirbyteStreamNameNamespacePair, Set<String>> validationErrors) {
-    validationExecutor.execute(() -> {
+    submit(() -> {
       final Set<String> errorMessages = validator.validateInitializedSchema(airbyteStream.toString(), message.getData());
       if (!errorMessages.isEmpty()) {
-        validationErrors.computeIfAbsent(airbyteStream, k -> new HashSet<>()).addAll(errorMessages);
+        // Several workers can update the errors of a stream concurrently.
+        validationErrors.computeIfAbsent(airbyteStream, k -> ConcurrentHashMap.newKeySet()).addAll(errorMessages);
       }
     });
   }
 
+  private void submit(final Runnable validation) {
+    maxQueuedRecords.accumulateAndGet(queuedRecords.incrementAndGet(), Math::max);
+    try {
+      validationExecutor.execute(() -> {
+        try {
+          validation.run();
+          validatedRecords.incrementAndGet();
+        } finally {
+          queuedRecords.decrementAndGet();
+        }
+      });
+    } catch (final RejectedExecutionException e) {
+      queuedRecords.decrementAndGet();
+      droppedRecords.incrementAndGet();
+    }
+  }
+
+  /**
+   * Report how many records have been validated, sampled out or dropped because the queue was full,
+   * along with the highest number of records that were waiting for validation.
+   */
+  public void reportMetrics(final WorkerMetricReporter metricReporter) {
+    log.info("Schema validation: {} records validated, {} sampled out, {} dropped because the validation queue was full (max queued: {})",
+        validatedRecords.get(), sampledOutRecords.get(), droppedRecords.get(), maxQueuedRecords.get());
+    metricReporter.trackSchemaValidationStats(validatedRecords.get(), sampledOutRecords.get(), droppedRecords.get(), maxQueuedRecords.get());
+  }
+
   private void updateValidationErrors(final Set<String> errorMessages,
                                       final AirbyteStreamNameNamespacePair airbyteStream,
                                       final ConcurrentHashMap<AirbyteStreamNameNamespacePair, ImmutablePair<Set<String>, Integer>> validationErrors) {
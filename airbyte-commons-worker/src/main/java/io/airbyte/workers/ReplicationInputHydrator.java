@@ -5,6 +5,8 @@
 package io.airbyte.workers;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.airbyte.api.client.AirbyteApiClient;
 import io.airbyte.api.client.generated.ConnectionApi;
 import io.airbyte.api.client.generated.JobsApi;
@@ -16,6 +18,7 @@ import io.airbyte.api.client.model.generated.ConnectionRead;
 import io.airbyte.api.client.model.generated.ConnectionState;
 import io.airbyte.api.client.model.generated.ConnectionStateCreateOrUpdate;
 import io.airbyte.api.client.model.generated.ConnectionStateType;
+import io.airbyte.api.client.model.generated.ConnectionSummaryRead;
 import io.airbyte.api.client.model.generated.JobOptionalRead;
 import io.airbyte.api.client.model.generated.ScopeType;
 import io.airbyte.api.client.model.generated.SecretPersistenceConfig;
@@ -42,6 +45,7 @@ import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.workers.helper.BackfillHelper;
 import io.airbyte.workers.models.RefreshSchemaActivityOutput;
 import io.airbyte.workers.models.ReplicationActivityInput;
+import java.time.Duration;
 import java.util.UUID;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
@@ -50,6 +54,10 @@ import org.slf4j.LoggerFactory;
 public class ReplicationInputHydrator {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ReplicationInputHydrator.class);
+  // Catalogs are cached serialized and weighed by their length, so that a few very large catalogs
+  // can't hold on to most of the heap.
+  private static final long CATALOG_CACHE_MAX_WEIGHT = 32L * 1024 * 1024;
+  private static final Duration CATALOG_CACHE_EXPIRY = Duration.ofHours(1);
 
   private final ConnectionApi connectionApi;
   private final JobsApi jobsApi;
@@ -57,6 +65,7 @@ public class ReplicationInputHydrator {
   private final SecretsRepositoryReader secretsRepositoryReader;
   private final FeatureFlagClient featureFlagClient;
   private final SecretsPersistenceConfigApi secretsPersistenceConfigApi;
+  private final Cache<UUID, CachedCatalog> catalogCache;
 
   public ReplicationInputHydrator(final ConnectionApi connectionApi,
                                   final JobsApi jobsApi,
@@ -70,6 +79,11 @@ public class ReplicationInputHydrator {
     this.secretsRepositoryReader = secretsRepositoryReader;
     this.featureFlagClient = featureFlagClient;
     this.secretsPersistenceConfigApi = secretsPersistenceConfigApi;
+    this.catalogCache = CacheBuilder.newBuilder()
+        .maximumWeight(CATALOG_CACHE_MAX_WEIGHT)
+        .weigher((final UUID connectionId, final CachedCatalog cachedCatalog) -> cachedCatalog.serializedCatalog().length())
+        .expireAfterAccess(CATALOG_CACHE_EXPIRY)
+        .build();
   }
 
   /**
@@ -161,17 +175,35 @@ public class ReplicationInputHydrator {
     return state;
   }
 
+  /**
+   * Retrieve the catalog of the connection. Catalogs can be large and rarely change between
+   * attempts, so the summary of the connection is fetched first and the full connection is only
+   * fetched when the hash of its catalog differs from the one of the catalog we last converted.
+   */
   @NotNull
   private ConfiguredAirbyteCatalog retrieveCatalog(final ReplicationActivityInput replicationActivityInput) throws Exception {
+    final UUID connectionId = replicationActivityInput.getConnectionId();
+    final ConnectionSummaryRead connectionSummary =
+        AirbyteApiClient
+            .retryWithJitterThrows(
+                () -> connectionApi.getConnectionSummary(new ConnectionIdRequestBody().connectionId(connectionId)),
+                "retrieve the connection summary");
+    final CachedCatalog cachedCatalog = catalogCache.getIfPresent(connectionId);
+    if (cachedCatalog != null && cachedCatalog.catalogHash().equals(connectionSummary.getCatalogHash())) {
+      // The catalog is mutated for resets, hand out a copy.
+      return Jsons.deserialize(cachedCatalog.serializedCatalog(), ConfiguredAirbyteCatalog.class);
+    }
+
     final ConnectionRead connectionInfo =
         AirbyteApiClient
             .retryWithJitterThrows(
-                () -> connectionApi.getConnection(new ConnectionIdRequestBody().connectionId(replicationActivityInput.getConnectionId())),
+                () -> connectionApi.getConnection(new ConnectionIdRequestBody().connectionId(connectionId)),
                 "retrieve the connection");
     if (connectionInfo.getSyncCatalog() == null) {
       throw new IllegalArgumentException("Connection is missing catalog, which is required");
     }
     final ConfiguredAirbyteCatalog catalog = CatalogClientConverters.toConfiguredAirbyteProtocol(connectionInfo.getSyncCatalog());
+    catalogCache.put(connectionId, new CachedCatalog(connectionSummary.getCatalogHash(), Jsons.serialize(catalog)));
     return catalog;
   }
 
@@ -223,4 +255,6 @@ public class ReplicationInputHydrator {
                 io.airbyte.config.SecretPersistenceConfig.SecretPersistenceType.class));
   }
 
+  private record CachedCatalog(String catalogHash, String serializedCatalog) {}
+
 }
@@ -61,6 +61,25 @@ public class WorkerMetricReporter {
     metricClient.count(OssMetricsRegistry.NUM_UNEXPECTED_FIELDS_IN_STREAMS, unexpectedFieldNames.size(), attributesArr);
   }
 
+  /**
+   * Track how many records went through schema validation, how many were skipped because they were
+   * sampled out or because the validation queue was full, and the highest number of records that were
+   * waiting for validation.
+   */
+  public void trackSchemaValidationStats(final long validatedRecords,
+                                         final long sampledOutRecords,
+                                         final long droppedRecords,
+                                         final int maxQueuedRecords) {
+    final MetricAttribute repoAttribute = new MetricAttribute("docker_repo", dockerRepo);
+    final MetricAttribute versionAttribute = new MetricAttribute("docker_version", dockerVersion);
+    metricClient.count(OssMetricsRegistry.SCHEMA_VALIDATION_RECORDS_VALIDATED, validatedRecords, repoAttribute, versionAttribute);
+    metricClient.count(OssMetricsRegistry.SCHEMA_VALIDATION_RECORDS_SKIPPED, sampledOutRecords, repoAttribute, versionAttribute,
+        new MetricAttribute("reason", "sampled"));
+    metricClient.count(OssMetricsRegistry.SCHEMA_VALIDATION_RECORDS_SKIPPED, droppedRecords, repoAttribute, versionAttribute,
+        new MetricAttribute("reason", "queue_full"));
+    metricClient.gauge(OssMetricsRegistry.SCHEMA_VALIDATION_MAX_QUEUED_RECORDS, maxQueuedRecords, repoAttribute, versionAttribute);
+  }
+
   public void trackStateMetricTrackerError() {
     metricClient.count(OssMetricsRegistry.STATE_METRIC_TRACKER_ERROR, 1, new MetricAttribute("docker_repo", dockerRepo),
         new MetricAttribute("docker_version", dockerVersion));
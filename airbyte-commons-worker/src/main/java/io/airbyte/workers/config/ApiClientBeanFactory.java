@@ -22,6 +22,7 @@ import io.airbyte.api.client.generated.StateApi;
 import io.airbyte.api.client.generated.WorkspaceApi;
 import io.airbyte.api.client.invoker.generated.ApiClient;
 import io.airbyte.commons.temporal.config.WorkerMode;
+import io.airbyte.metrics.lib.MetricClient;
 import io.micronaut.context.BeanProvider;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Primary;
@@ -56,9 +57,17 @@ public class ApiClientBeanFactory {
                              @Value("${airbyte.internal.api.auth-header.name}") final String airbyteApiAuthHeaderName,
                              @Value("${airbyte.internal.api.host}") final String airbyteApiHost,
                              @Named(INTERNAL_API_AUTH_TOKEN_BEAN_NAME) final BeanProvider<String> internalApiAuthToken,
-                             @Named("internalApiScheme") final String internalApiScheme) {
+                             @Named("internalApiScheme") final String internalApiScheme,
+                             @Value("${airbyte.internal.api.http-version}") final Version httpVersion,
+                             @Value("${airbyte.internal.api.max-concurrent-requests}") final int maxConcurrentRequests,
+                             @Value("${airbyte.internal.api.compression.enabled}") final boolean compressionEnabled,
+                             @Value("${airbyte.internal.api.compression.threshold-bytes}") final long compressionThresholdBytes,
+                             final MetricClient metricClient) {
+    // All the API classes share the client built here, and so its connections.
+    final HttpClient.Builder httpClientBuilder =
+        new InternalApiHttpClient.Builder(maxConcurrentRequests, compressionEnabled, compressionThresholdBytes, metricClient).version(httpVersion);
     return new ApiClient()
-        .setHttpClientBuilder(HttpClient.newBuilder().version(Version.HTTP_1_1))
+        .setHttpClientBuilder(httpClientBuilder)
         .setScheme(internalApiScheme)
         .setHost(parseHostName(airbyteApiHost))
         .setPort(parsePort(airbyteApiHost))
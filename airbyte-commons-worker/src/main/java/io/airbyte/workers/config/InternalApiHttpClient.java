@@ -0,0 +1,519 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.config;
+
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.net.http.HttpResponse.PushPromiseHandler;
+import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+
+/**
+ * Transport of the generated internal API client.
+ * <p>
+ * The generated client builds a new {@link HttpClient}, and so a new connection pool, for every API
+ * class. {@link Builder} hands the same client to all of them, and that client bounds the number of
+ * requests in flight, which bounds the number of connections it keeps open over HTTP/1.1. When
+ * compression is enabled, request bodies above the threshold are gzipped and gzipped responses are
+ * accepted, which the server handles on its side. The latency and the size on the wire of every
+ * request are reported per API operation.
+ * <p>
+ * Only synchronous sends are bounded, the generated client does not use the asynchronous ones. A
+ * send waits no longer than the timeout of its request for another one to finish.
+ */
+public class InternalApiHttpClient extends HttpClient {
+
+  private static final String GZIP = "gzip";
+  private static final String ACCEPT_ENCODING = "Accept-Encoding";
+  private static final String CONTENT_ENCODING = "Content-Encoding";
+  private static final String ERROR_STATUS = "error";
+
+  private final HttpClient delegate;
+  private final int maxConcurrentRequests;
+  private final Semaphore inFlightRequests;
+  private final boolean compressionEnabled;
+  private final long compressionThresholdBytes;
+  private final MetricClient metricClient;
+
+  InternalApiHttpClient(final HttpClient delegate,
+                        final int maxConcurrentRequests,
+                        final boolean compressionEnabled,
+                        final long compressionThresholdBytes,
+                        final MetricClient metricClient) {
+    this.delegate = delegate;
+    this.maxConcurrentRequests = maxConcurrentRequests;
+    this.inFlightRequests = new Semaphore(maxConcurrentRequests, true);
+    this.compressionEnabled = compressionEnabled;
+    this.compressionThresholdBytes = compressionThresholdBytes;
+    this.metricClient = metricClient;
+  }
+
+  /**
+   * Send the request once fewer requests than the maximum are in flight. A request stays in flight
+   * until its response body was received in full or its subscriber gave up on it, since the
+   * connection is not free before that: the generated client reads some bodies as streams after send
+   * returned.
+   */
+  @Override
+  public <T> HttpResponse<T> send(final HttpRequest request, final BodyHandler<T> responseBodyHandler) throws IOException, InterruptedException {
+    final long start = System.nanoTime();
+    acquire(request);
+    final Runnable release = releaseOnce();
+    try {
+      final HttpRequest compressedRequest = compress(request);
+      try {
+        return delegate.send(compressedRequest, measured(compressedRequest, responseBodyHandler, start, release));
+      } catch (final IOException | RuntimeException e) {
+        recordDuration(compressedRequest, ERROR_STATUS, start);
+        throw e;
+      }
+    } catch (final IOException | RuntimeException | InterruptedException e) {
+      release.run();
+      throw e;
+    }
+  }
+
+  @Override
+  public <T> CompletableFuture<HttpResponse<T>> sendAsync(final HttpRequest request, final BodyHandler<T> responseBodyHandler) {
+    return sendAsync(request, responseBodyHandler, null);
+  }
+
+  @Override
+  public <T> CompletableFuture<HttpResponse<T>> sendAsync(final HttpRequest request,
+                                                          final BodyHandler<T> responseBodyHandler,
+                                                          final PushPromiseHandler<T> pushPromiseHandler) {
+    final long start = System.nanoTime();
+    final HttpRequest compressedRequest = compress(request);
+    return delegate.sendAsync(compressedRequest, measured(compressedRequest, responseBodyHandler, start, () -> {}), pushPromiseHandler);
+  }
+
+  /**
+   * Wait for a request to finish if the maximum number of requests are in flight, for no longer than
+   * the timeout of the request.
+   */
+  private void acquire(final HttpRequest request) throws InterruptedException, HttpTimeoutException {
+    if (request.timeout().isEmpty()) {
+      inFlightRequests.acquire();
+    } else if (!inFlightRequests.tryAcquire(request.timeout().get().toNanos(), TimeUnit.NANOSECONDS)) {
+      throw new HttpTimeoutException("timed out waiting for one of the " + maxConcurrentRequests + " requests in flight to finish");
+    }
+  }
+
+  private Runnable releaseOnce() {
+    final AtomicBoolean released = new AtomicBoolean();
+    return () -> {
+      if (released.compareAndSet(false, true)) {
+        inFlightRequests.release();
+      }
+    };
+  }
+
+  /**
+   * Gzip the body of the request if it is large enough, and ask for a gzipped response.
+   */
+  HttpRequest compress(final HttpRequest request) {
+    if (!compressionEnabled) {
+      return request;
+    }
+    final HttpRequest.Builder builder = HttpRequest.newBuilder(request, (name, value) -> true).setHeader(ACCEPT_ENCODING, GZIP);
+    final Optional<BodyPublisher> bodyPublisher = request.bodyPublisher();
+    if (bodyPublisher.isPresent() && bodyPublisher.get().contentLength() >= compressionThresholdBytes
+        && request.headers().firstValue(CONTENT_ENCODING).isEmpty()) {
+      builder.method(request.method(), BodyPublishers.ofByteArray(gzip(readBody(bodyPublisher.get()))))
+          .setHeader(CONTENT_ENCODING, GZIP);
+    }
+    return builder.build();
+  }
+
+  private <T> BodyHandler<T> measured(final HttpRequest request, final BodyHandler<T> handler, final long start, final Runnable release) {
+    final long requestBytes = request.bodyPublisher().map(BodyPublisher::contentLength).orElse(0L);
+    return responseInfo -> {
+      final BodySubscriber<T> downstream = handler.apply(responseInfo);
+      final MeasuringBodySubscriber.Listener listener = responseBytes -> {
+        final MetricAttribute[] attributes = attributes(request, String.valueOf(responseInfo.statusCode()));
+        metricClient.distribution(OssMetricsRegistry.API_CLIENT_REQUEST_DURATION_MS, elapsedMs(start), attributes);
+        metricClient.distribution(OssMetricsRegistry.API_CLIENT_REQUEST_SIZE_BYTES, Math.max(requestBytes, 0), attributes);
+        metricClient.distribution(OssMetricsRegistry.API_CLIENT_RESPONSE_SIZE_BYTES, responseBytes, attributes);
+      };
+      return new MeasuringBodySubscriber<>(downstream, isGzipped(responseInfo.headers()), listener, release);
+    };
+  }
+
+  private void recordDuration(final HttpRequest request, final String status, final long start) {
+    metricClient.distribution(OssMetricsRegistry.API_CLIENT_REQUEST_DURATION_MS, elapsedMs(start), attributes(request, status));
+  }
+
+  private static MetricAttribute[] attributes(final HttpRequest request, final String status) {
+    return new MetricAttribute[] {
+      new MetricAttribute(MetricTags.API_OPERATION, request.uri().getPath()),
+      new MetricAttribute(MetricTags.STATUS, status)
+    };
+  }
+
+  private static double elapsedMs(final long start) {
+    return (System.nanoTime() - start) / 1_000_000.0;
+  }
+
+  private static boolean isGzipped(final HttpHeaders headers) {
+    return headers.firstValue(CONTENT_ENCODING).filter(GZIP::equalsIgnoreCase).isPresent();
+  }
+
+  private static byte[] readBody(final BodyPublisher publisher) {
+    final ByteArrayOutputStream body = new ByteArrayOutputStream((int) publisher.contentLength());
+    final CompletableFuture<Void> done = new CompletableFuture<>();
+    publisher.subscribe(new Flow.Subscriber<>() {
+
+      @Override
+      public void onSubscribe(final Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+      }
+
+      @Override
+      public void onNext(final ByteBuffer item) {
+        final byte[] bytes = new byte[item.remaining()];
+        item.get(bytes);
+        body.write(bytes, 0, bytes.length);
+      }
+
+      @Override
+      public void onError(final Throwable throwable) {
+        done.completeExceptionally(throwable);
+      }
+
+      @Override
+      public void onComplete() {
+        done.complete(null);
+      }
+
+    });
+    done.join();
+    return body.toByteArray();
+  }
+
+  private static byte[] gzip(final byte[] bytes) {
+    final ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(bytes);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return compressed.toByteArray();
+  }
+
+  private static byte[] gunzip(final byte[] bytes) throws IOException {
+    try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+      return gzip.readAllBytes();
+    }
+  }
+
+  @Override
+  public Optional<CookieHandler> cookieHandler() {
+    return delegate.cookieHandler();
+  }
+
+  @Override
+  public Optional<Duration> connectTimeout() {
+    return delegate.connectTimeout();
+  }
+
+  @Override
+  public Redirect followRedirects() {
+    return delegate.followRedirects();
+  }
+
+  @Override
+  public Optional<ProxySelector> proxy() {
+    return delegate.proxy();
+  }
+
+  @Override
+  public SSLContext sslContext() {
+    return delegate.sslContext();
+  }
+
+  @Override
+  public SSLParameters sslParameters() {
+    return delegate.sslParameters();
+  }
+
+  @Override
+  public Optional<Authenticator> authenticator() {
+    return delegate.authenticator();
+  }
+
+  @Override
+  public Version version() {
+    return delegate.version();
+  }
+
+  @Override
+  public Optional<Executor> executor() {
+    return delegate.executor();
+  }
+
+  /**
+   * Counts the bytes of a response as they come off the wire, and gunzips the body before handing it
+   * to the subscriber of the caller if the server compressed it. A gzipped body is buffered in full,
+   * the generated client reads the whole body before deserializing it anyway. The request is released
+   * once the body was received in full, failed, or was cancelled by the subscriber of the caller.
+   */
+  private static class MeasuringBodySubscriber<T> implements BodySubscriber<T> {
+
+    interface Listener {
+
+      void onComplete(long responseBytes);
+
+    }
+
+    private final BodySubscriber<T> downstream;
+    private final boolean gzipped;
+    private final Listener listener;
+    private final Runnable release;
+    private final ByteArrayOutputStream gzippedBody = new ByteArrayOutputStream();
+    private long responseBytes;
+
+    MeasuringBodySubscriber(final BodySubscriber<T> downstream, final boolean gzipped, final Listener listener, final Runnable release) {
+      this.downstream = downstream;
+      this.gzipped = gzipped;
+      this.listener = listener;
+      this.release = release;
+    }
+
+    @Override
+    public CompletionStage<T> getBody() {
+      return downstream.getBody();
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+      if (gzipped) {
+        subscription.request(Long.MAX_VALUE);
+      } else {
+        downstream.onSubscribe(new ReleasingSubscription(subscription, release));
+      }
+    }
+
+    @Override
+    public void onNext(final List<ByteBuffer> items) {
+      for (final ByteBuffer item : items) {
+        responseBytes += item.remaining();
+        if (gzipped) {
+          final byte[] bytes = new byte[item.remaining()];
+          item.get(bytes);
+          gzippedBody.write(bytes, 0, bytes.length);
+        }
+      }
+      if (!gzipped) {
+        downstream.onNext(items);
+      }
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+      release.run();
+      if (gzipped) {
+        downstream.onSubscribe(new SingleBufferSubscription(downstream, null));
+      }
+      downstream.onError(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+      listener.onComplete(responseBytes);
+      release.run();
+      if (!gzipped) {
+        downstream.onComplete();
+        return;
+      }
+      final byte[] body;
+      try {
+        body = gunzip(gzippedBody.toByteArray());
+      } catch (final IOException e) {
+        downstream.onSubscribe(new SingleBufferSubscription(downstream, null));
+        downstream.onError(e);
+        return;
+      }
+      downstream.onSubscribe(new SingleBufferSubscription(downstream, ByteBuffer.wrap(body)));
+    }
+
+  }
+
+  /**
+   * Releases the request when the subscriber of the caller stops reading the body before the end,
+   * e.g. by closing the stream of the body.
+   */
+  private record ReleasingSubscription(Flow.Subscription subscription, Runnable release) implements Flow.Subscription {
+
+    @Override
+    public void request(final long n) {
+      subscription.request(n);
+    }
+
+    @Override
+    public void cancel() {
+      release.run();
+      subscription.cancel();
+    }
+
+  }
+
+  /**
+   * Delivers an already received body to a subscriber once it asks for it.
+   */
+  private static class SingleBufferSubscription implements Flow.Subscription {
+
+    private final BodySubscriber<?> subscriber;
+    private ByteBuffer body;
+
+    SingleBufferSubscription(final BodySubscriber<?> subscriber, final ByteBuffer body) {
+      this.subscriber = subscriber;
+      this.body = body;
+    }
+
+    @Override
+    public synchronized void request(final long n) {
+      if (body == null || n <= 0) {
+        return;
+      }
+      final ByteBuffer delivered = body;
+      body = null;
+      subscriber.onNext(List.of(delivered));
+      subscriber.onComplete();
+    }
+
+    @Override
+    public synchronized void cancel() {
+      body = null;
+    }
+
+  }
+
+  /**
+   * Builder handed to the generated client. It configures a regular {@link HttpClient} and wraps it
+   * once, on the first call to {@link #build()}, so that every API class shares the same client.
+   * Settings applied after that first call are ignored.
+   */
+  public static class Builder implements HttpClient.Builder {
+
+    private final HttpClient.Builder delegate;
+    private final int maxConcurrentRequests;
+    private final boolean compressionEnabled;
+    private final long compressionThresholdBytes;
+    private final MetricClient metricClient;
+    private InternalApiHttpClient client;
+
+    public Builder(final int maxConcurrentRequests,
+                   final boolean compressionEnabled,
+                   final long compressionThresholdBytes,
+                   final MetricClient metricClient) {
+      this.delegate = HttpClient.newBuilder();
+      this.maxConcurrentRequests = maxConcurrentRequests;
+      this.compressionEnabled = compressionEnabled;
+      this.compressionThresholdBytes = compressionThresholdBytes;
+      this.metricClient = metricClient;
+    }
+
+    @Override
+    public Builder cookieHandler(final CookieHandler cookieHandler) {
+      delegate.cookieHandler(cookieHandler);
+      return this;
+    }
+
+    @Override
+    public Builder connectTimeout(final Duration duration) {
+      delegate.connectTimeout(duration);
+      return this;
+    }
+
+    @Override
+    public Builder sslContext(final SSLContext sslContext) {
+      delegate.sslContext(sslContext);
+      return this;
+    }
+
+    @Override
+    public Builder sslParameters(final SSLParameters sslParameters) {
+      delegate.sslParameters(sslParameters);
+      return this;
+    }
+
+    @Override
+    public Builder executor(final Executor executor) {
+      delegate.executor(executor);
+      return this;
+    }
+
+    @Override
+    public Builder followRedirects(final Redirect policy) {
+      delegate.followRedirects(policy);
+      return this;
+    }
+
+    @Override
+    public Builder version(final Version version) {
+      delegate.version(version);
+      return this;
+    }
+
+    @Override
+    public Builder priority(final int priority) {
+      delegate.priority(priority);
+      return this;
+    }
+
+    @Override
+    public Builder proxy(final ProxySelector proxySelector) {
+      delegate.proxy(proxySelector);
+      return this;
+    }
+
+    @Override
+    public Builder authenticator(final Authenticator authenticator) {
+      delegate.authenticator(authenticator);
+      return this;
+    }
+
+    @Override
+    public synchronized InternalApiHttpClient build() {
+      if (client == null) {
+        client = new InternalApiHttpClient(delegate.build(), maxConcurrentRequests, compressionEnabled, compressionThresholdBytes, metricClient);
+      }
+      return client;
+    }
+
+  }
+
+}
@@ -7,7 +7,9 @@ package io.airbyte.workers.general;
 import static io.airbyte.metrics.lib.ApmTraceConstants.WORKER_OPERATION_NAME;
 
 import datadog.trace.api.Trace;
+import io.airbyte.commons.concurrency.BoundedBlockingRingBuffer;
 import io.airbyte.commons.concurrency.BoundedConcurrentLinkedQueue;
+import io.airbyte.commons.concurrency.ClosableQueue;
 import io.airbyte.commons.io.LineGobbler;
 import io.airbyte.commons.timer.Stopwatch;
 import io.airbyte.config.PerformanceMetrics;
@@ -21,6 +23,7 @@ import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.persistence.job.models.ReplicationInput;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.workers.RecordSchemaValidator;
 import io.airbyte.workers.context.ReplicationContext;
 import io.airbyte.workers.context.ReplicationFeatureFlags;
@@ -33,7 +36,10 @@ import io.airbyte.workers.internal.exception.DestinationException;
 import io.airbyte.workers.internal.exception.SourceException;
 import io.airbyte.workers.internal.syncpersistence.SyncPersistence;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -42,6 +48,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,6 +59,11 @@ import org.slf4j.MDC;
  * <p>
  * There is one thread per IO/Transform and buffers in between the different steps to apply
  * backpressure.
+ * <p>
+ * The records from the source can be processed by several lanes. Records are sharded between the
+ * lanes by stream, so the records of a stream are processed in order by a single lane. Other
+ * messages, e.g. STATE, are a barrier: they are processed once all the records read before them
+ * were handed to the destination buffer, so a state is never sent before the records it covers.
  */
 public class BufferedReplicationWorker implements ReplicationWorker {
 
@@ -66,12 +78,25 @@ public class BufferedReplicationWorker implements ReplicationWorker {
   private final RecordSchemaValidator recordSchemaValidator;
   private final SyncPersistence syncPersistence;
   private final HeartbeatTimeoutChaperone srcHeartbeatTimeoutChaperone;
-  private final BoundedConcurrentLinkedQueue<AirbyteMessage> messagesFromSourceQueue;
-  private final BoundedConcurrentLinkedQueue<AirbyteMessage> messagesForDestinationQueue;
+  private final ClosableQueue<AirbyteMessage> messagesFromSourceQueue;
+  private final ClosableQueue<AirbyteMessage> messagesForDestinationQueue;
   private final ExecutorService executors;
   private final ScheduledExecutorService scheduledExecutors;
   private final DestinationTimeoutMonitor destinationTimeoutMonitor;
 
+  private final List<ClosableQueue<AirbyteMessage>> laneQueues;
+  private final AtomicLong[] laneMessagesProcessed;
+  private final AtomicInteger runningLanes;
+  // Records dispatched to a lane that were not handed to the destination buffer yet.
+  private final AtomicInteger inFlightRecords;
+  private final AtomicLong barrierWaitInMillis;
+  private final Object lanesDrained;
+  // The lanes share the message tracking, which isn't thread safe.
+  private final Object trackFromSourceLock;
+  // The lanes share the destination buffer, which can be single producer.
+  private final Object offerToDestinationLock;
+  private volatile boolean processingLaneFailed;
+
   private final AtomicLong destMessagesRead;
   private final AtomicLong destMessagesSent;
   private final AtomicLong sourceMessagesRead;
@@ -87,8 +112,28 @@ public class BufferedReplicationWorker implements ReplicationWorker {
 
   private static final int sourceMaxBufferSize = 1000;
   private static final int destinationMaxBufferSize = 1000;
+  private static final int laneMaxBufferSize = 250;
   private static final int observabilityMetricsPeriodInSeconds = 1;
   private static final int executorShutdownGracePeriodInSeconds = 10;
+  private static final int queueWaitTimeoutInMillis = 100;
+
+  public static final int MAX_PROCESSING_LANES = 8;
+
+  /**
+   * Implementation of the buffers between the different steps of the replication.
+   */
+  public enum QueueImpl {
+    /**
+     * {@link BoundedConcurrentLinkedQueue}, producers sleep when the queue is full and consumers busy
+     * poll when it is empty.
+     */
+    CONCURRENT_LINKED_QUEUE,
+    /**
+     * {@link BoundedBlockingRingBuffer}, producers and consumers park until the other side makes
+     * progress.
+     */
+    RING_BUFFER
+  }
 
   public BufferedReplicationWorker(final String jobId,
                                    final int attempt,
@@ -100,6 +145,40 @@ public class BufferedReplicationWorker implements ReplicationWorker {
                                    final ReplicationFeatureFlagReader replicationFeatureFlagReader,
                                    final ReplicationWorkerHelper replicationWorkerHelper,
                                    final DestinationTimeoutMonitor destinationTimeoutMonitor) {
+    this(jobId, attempt, source, destination, syncPersistence, recordSchemaValidator, srcHeartbeatTimeoutChaperone, replicationFeatureFlagReader,
+        replicationWorkerHelper, destinationTimeoutMonitor, QueueImpl.CONCURRENT_LINKED_QUEUE);
+  }
+
+  public BufferedReplicationWorker(final String jobId,
+                                   final int attempt,
+                                   final AirbyteSource source,
+                                   final AirbyteDestination destination,
+                                   final SyncPersistence syncPersistence,
+                                   final RecordSchemaValidator recordSchemaValidator,
+                                   final HeartbeatTimeoutChaperone srcHeartbeatTimeoutChaperone,
+                                   final ReplicationFeatureFlagReader replicationFeatureFlagReader,
+                                   final ReplicationWorkerHelper replicationWorkerHelper,
+                                   final DestinationTimeoutMonitor destinationTimeoutMonitor,
+                                   final QueueImpl queueImpl) {
+    this(jobId, attempt, source, destination, syncPersistence, recordSchemaValidator, srcHeartbeatTimeoutChaperone, replicationFeatureFlagReader,
+        replicationWorkerHelper, destinationTimeoutMonitor, queueImpl, 1);
+  }
+
+  public BufferedReplicationWorker(final String jobId,
+                                   final int attempt,
+                                   final AirbyteSource source,
+                                   final AirbyteDestination destination,
+                                   final SyncPersistence syncPersistence,
+                                   final RecordSchemaValidator recordSchemaValidator,
+                                   final HeartbeatTimeoutChaperone srcHeartbeatTimeoutChaperone,
+                                   final ReplicationFeatureFlagReader replicationFeatureFlagReader,
+                                   final ReplicationWorkerHelper replicationWorkerHelper,
+                                   final DestinationTimeoutMonitor destinationTimeoutMonitor,
+                                   final QueueImpl queueImpl,
+                                   final int processingLanes) {
+    if (processingLanes < 1) {
+      throw new IllegalArgumentException("processingLanes must be positive, got " + processingLanes);
+    }
     this.jobId = jobId;
     this.attempt = attempt;
     this.source = source;
@@ -110,11 +189,24 @@ public class BufferedReplicationWorker implements ReplicationWorker {
     this.recordSchemaValidator = recordSchemaValidator;
     this.syncPersistence = syncPersistence;
     this.srcHeartbeatTimeoutChaperone = srcHeartbeatTimeoutChaperone;
-    this.messagesFromSourceQueue = new BoundedConcurrentLinkedQueue<>(sourceMaxBufferSize);
-    this.messagesForDestinationQueue = new BoundedConcurrentLinkedQueue<>(destinationMaxBufferSize);
+    this.messagesFromSourceQueue = createQueue(queueImpl, sourceMaxBufferSize);
+    this.messagesForDestinationQueue = createQueue(queueImpl, destinationMaxBufferSize);
+    this.laneQueues = new ArrayList<>();
+    this.laneMessagesProcessed = new AtomicLong[processingLanes > 1 ? processingLanes : 0];
+    for (int lane = 0; lane < laneMessagesProcessed.length; lane++) {
+      laneQueues.add(createQueue(queueImpl, laneMaxBufferSize));
+      laneMessagesProcessed[lane] = new AtomicLong();
+    }
+    this.runningLanes = new AtomicInteger(laneQueues.size());
+    this.inFlightRecords = new AtomicInteger();
+    this.barrierWaitInMillis = new AtomicLong();
+    this.lanesDrained = new Object();
+    this.trackFromSourceLock = new Object();
+    this.offerToDestinationLock = new Object();
+    this.processingLaneFailed = false;
     // readFromSource + processMessage + writeToDestination + readFromDestination +
-    // source heartbeat + dest timeout monitor + workload heartbeat = 7 threads
-    this.executors = Executors.newFixedThreadPool(7);
+    // source heartbeat + dest timeout monitor + workload heartbeat = 7 threads, plus one per lane
+    this.executors = Executors.newFixedThreadPool(7 + laneQueues.size());
     this.scheduledExecutors = Executors.newSingleThreadScheduledExecutor();
     this.isReadFromDestRunning = true;
     this.writeToDestFailed = false;
@@ -130,6 +222,21 @@ public class BufferedReplicationWorker implements ReplicationWorker {
     this.processFromDestStopwatch = new Stopwatch();
   }
 
+  /**
+   * Number of processing lanes for the CPUs available to the container. Two CPUs are left to the
+   * threads reading from the source and writing to the destination.
+   */
+  public static int defaultProcessingLanes() {
+    return Math.max(2, Math.min(MAX_PROCESSING_LANES, Runtime.getRuntime().availableProcessors() - 2));
+  }
+
+  private static ClosableQueue<AirbyteMessage> createQueue(final QueueImpl queueImpl, final int maxSize) {
+    return switch (queueImpl) {
+      case RING_BUFFER -> new BoundedBlockingRingBuffer<>(maxSize);
+      case CONCURRENT_LINKED_QUEUE -> new BoundedConcurrentLinkedQueue<>(maxSize);
+    };
+  }
+
   @Trace(operationName = WORKER_OPERATION_NAME)
   @Override
   public ReplicationOutput run(final ReplicationInput replicationInput, final Path jobRoot) throws WorkerException {
@@ -162,7 +269,7 @@ public class BufferedReplicationWorker implements ReplicationWorker {
 
         CompletableFuture.allOf(
             runAsyncWithHeartbeatCheck(this::readFromSource, mdc),
-            runAsync(this::processMessage, mdc),
+            laneQueues.isEmpty() ? runAsync(this::processMessage, mdc) : runLanesAsync(mdc),
             flags.isDestinationTimeoutEnabled() ? runAsyncWithTimeout(this::writeToDestination, mdc) : runAsync(this::writeToDestination, mdc),
             runAsync(this::readFromDestination, mdc)).join();
 
@@ -220,6 +327,14 @@ public class BufferedReplicationWorker implements ReplicationWorker {
     metricClient.count(OssMetricsRegistry.WORKER_DESTINATION_MESSAGE_READ, destMessagesRead.getAndSet(0));
     metricClient.count(OssMetricsRegistry.WORKER_DESTINATION_MESSAGE_SENT, destMessagesSent.getAndSet(0));
     metricClient.count(OssMetricsRegistry.WORKER_SOURCE_MESSAGE_READ, sourceMessagesRead.getAndSet(0));
+    if (!laneQueues.isEmpty()) {
+      for (int lane = 0; lane < laneQueues.size(); lane++) {
+        final MetricAttribute laneAttribute = new MetricAttribute(MetricTags.PROCESSING_LANE, String.valueOf(lane));
+        metricClient.gauge(OssMetricsRegistry.WORKER_PROCESSING_LANE_BUFFER_SIZE, laneQueues.get(lane).size(), laneAttribute);
+        metricClient.count(OssMetricsRegistry.WORKER_PROCESSING_LANE_MESSAGE_PROCESSED, laneMessagesProcessed[lane].getAndSet(0), laneAttribute);
+      }
+      metricClient.count(OssMetricsRegistry.WORKER_PROCESSING_LANE_BARRIER_WAIT, barrierWaitInMillis.getAndSet(0));
+    }
   }
 
   private CompletableFuture<?> runAsync(final Runnable runnable, final Map<String, String> mdc) {
@@ -229,6 +344,16 @@ public class BufferedReplicationWorker implements ReplicationWorker {
     }, executors).whenComplete(this::trackFailures);
   }
 
+  private CompletableFuture<?> runLanesAsync(final Map<String, String> mdc) {
+    final List<CompletableFuture<?>> futures = new ArrayList<>();
+    futures.add(runAsync(this::dispatchToLanes, mdc));
+    for (int lane = 0; lane < laneQueues.size(); lane++) {
+      final int laneIndex = lane;
+      futures.add(runAsync(() -> processLane(laneIndex), mdc));
+    }
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+  }
+
   private CompletableFuture<?> runAsyncWithHeartbeatCheck(final Runnable runnable, final Map<String, String> mdc) {
     final CompletableFuture<Void> runnableFuture = CompletableFuture.runAsync(() -> {
       MDC.setContextMap(mdc);
@@ -349,9 +474,10 @@ public class BufferedReplicationWorker implements ReplicationWorker {
         final Optional<AirbyteMessage> messageOptional = source.attemptRead();
         if (messageOptional.isPresent()) {
           sourceMessagesRead.incrementAndGet();
-          while (!replicationWorkerHelper.getShouldAbort() && !messagesFromSourceQueue.add(messageOptional.get())
+          while (!replicationWorkerHelper.getShouldAbort()
+              && !messagesFromSourceQueue.offer(messageOptional.get(), queueWaitTimeoutInMillis, TimeUnit.MILLISECONDS)
               && !messagesFromSourceQueue.isClosed()) {
-            Thread.sleep(100);
+            // keep trying until the message is accepted or the queue is closed
           }
         }
       }
@@ -370,7 +496,7 @@ public class BufferedReplicationWorker implements ReplicationWorker {
       throw e;
     } catch (final InterruptedException e) {
       LOGGER.info("readFromSource: interrupted", e);
-      // Getting interrupted during sleep, rethrowing to fail fast
+      // Getting interrupted while waiting on the queue, rethrowing to fail fast
       throw new RuntimeException(e);
     } catch (final Exception e) {
       LOGGER.info("readFromSource: exception caught", e);
@@ -388,7 +514,7 @@ public class BufferedReplicationWorker implements ReplicationWorker {
 
       while (!replicationWorkerHelper.getShouldAbort() && !messagesFromSourceQueue.isDone() && !messagesForDestinationQueue.isClosed()) {
         final AirbyteMessage message;
-        message = messagesFromSourceQueue.poll();
+        message = messagesFromSourceQueue.poll(queueWaitTimeoutInMillis, TimeUnit.MILLISECONDS);
         if (message == null) {
           continue;
         }
@@ -397,19 +523,11 @@ public class BufferedReplicationWorker implements ReplicationWorker {
         try (final var t = processFromSourceStopwatch.start()) {
           processedMessageOpt = replicationWorkerHelper.processMessageFromSource(message);
         }
-        if (processedMessageOpt.isPresent()) {
-          final AirbyteMessage m = processedMessageOpt.get();
-          // TODO this check should move to the processMessageFromSource
-          if (m.getType() == Type.RECORD || m.getType() == Type.STATE) {
-            while (!messagesForDestinationQueue.add(m) && !messagesForDestinationQueue.isClosed()) {
-              Thread.sleep(100);
-            }
-          }
-        }
+        offerToDestination(processedMessageOpt);
       }
 
     } catch (final InterruptedException e) {
-      // Getting interrupted during sleep, rethrowing to fail fast
+      // Getting interrupted while waiting on the queue, rethrowing to fail fast
       LOGGER.info("processMessage: interrupted", e);
       throw new RuntimeException(e);
     } catch (final Exception e) {
@@ -423,13 +541,175 @@ public class BufferedReplicationWorker implements ReplicationWorker {
     }
   }
 
+  private void offerToDestination(final Optional<AirbyteMessage> processedMessageOpt) throws InterruptedException {
+    if (processedMessageOpt.isPresent()) {
+      final AirbyteMessage m = processedMessageOpt.get();
+      // TODO this check should move to the processMessageFromSource
+      if (m.getType() == Type.RECORD || m.getType() == Type.STATE) {
+        while (!messagesForDestinationQueue.offer(m, queueWaitTimeoutInMillis, TimeUnit.MILLISECONDS)
+            && !messagesForDestinationQueue.isClosed()) {
+          // keep trying until the message is accepted or the queue is closed
+        }
+      }
+    }
+  }
+
+  /**
+   * Replaces {@link #processMessage()} when there are processing lanes. Records are dispatched to the
+   * lane of their stream, other messages are processed here once the lanes are drained.
+   */
+  private void dispatchToLanes() {
+    try {
+      LOGGER.info("dispatchToLanes: start");
+
+      while (!replicationWorkerHelper.getShouldAbort() && !processingLaneFailed && !messagesFromSourceQueue.isDone()
+          && !messagesForDestinationQueue.isClosed()) {
+        final AirbyteMessage message;
+        message = messagesFromSourceQueue.poll(queueWaitTimeoutInMillis, TimeUnit.MILLISECONDS);
+        if (message == null) {
+          continue;
+        }
+
+        if (message.getType() == Type.RECORD && message.getRecord() != null) {
+          final ClosableQueue<AirbyteMessage> laneQueue = laneQueues.get(getLane(message.getRecord()));
+          inFlightRecords.incrementAndGet();
+          while (!replicationWorkerHelper.getShouldAbort()
+              && !laneQueue.offer(message, queueWaitTimeoutInMillis, TimeUnit.MILLISECONDS)
+              && !processingLaneFailed
+              && !messagesForDestinationQueue.isClosed()) {
+            // keep trying until the message is accepted or the lanes stopped
+          }
+        } else if (awaitLanesDrained()) {
+          final Optional<AirbyteMessage> processedMessageOpt;
+          synchronized (trackFromSourceLock) {
+            try (final var t = processFromSourceStopwatch.start()) {
+              processedMessageOpt = replicationWorkerHelper.processMessageFromSource(message);
+            }
+          }
+          synchronized (offerToDestinationLock) {
+            offerToDestination(processedMessageOpt);
+          }
+        } else {
+          // The sync is failing or aborting, the records read before the message won't all reach the
+          // destination, so neither should the message.
+          LOGGER.warn("dispatchToLanes: dropping a {} message, the processing lanes stopped before handing the records read before it "
+              + "to the destination. (shouldAbort:{}, processingLaneFailed:{}, runningLanes:{}, forDest.isClosed:{})",
+              message.getType(), replicationWorkerHelper.getShouldAbort(), processingLaneFailed, runningLanes.get(),
+              messagesForDestinationQueue.isClosed());
+        }
+      }
+
+    } catch (final InterruptedException e) {
+      // Getting interrupted while waiting on the queue, rethrowing to fail fast
+      LOGGER.info("dispatchToLanes: interrupted", e);
+      throw new RuntimeException(e);
+    } catch (final Exception e) {
+      LOGGER.info("dispatchToLanes: exception caught", e);
+      throw e;
+    } finally {
+      LOGGER.info("dispatchToLanes: done. (fromSource.isDone:{}, forDest.isClosed:{}, processingLaneFailed:{})",
+          messagesFromSourceQueue.isDone(), messagesForDestinationQueue.isClosed(), processingLaneFailed);
+      messagesFromSourceQueue.close();
+      laneQueues.forEach(ClosableQueue::close);
+    }
+  }
+
+  private int getLane(final AirbyteRecordMessage record) {
+    return Math.floorMod(Objects.hash(record.getNamespace(), record.getStream()), laneQueues.size());
+  }
+
+  /**
+   * Waits until all the records dispatched to the lanes were handed to the destination buffer.
+   *
+   * @return false if the lanes stopped before being drained.
+   */
+  private boolean awaitLanesDrained() throws InterruptedException {
+    if (inFlightRecords.get() == 0) {
+      return true;
+    }
+
+    final long start = System.currentTimeMillis();
+    try {
+      synchronized (lanesDrained) {
+        while (inFlightRecords.get() > 0) {
+          if (replicationWorkerHelper.getShouldAbort() || processingLaneFailed || runningLanes.get() == 0 || messagesForDestinationQueue.isClosed()) {
+            return false;
+          }
+          lanesDrained.wait(queueWaitTimeoutInMillis);
+        }
+        return true;
+      }
+    } finally {
+      barrierWaitInMillis.addAndGet(System.currentTimeMillis() - start);
+    }
+  }
+
+  private void processLane(final int lane) {
+    final ClosableQueue<AirbyteMessage> laneQueue = laneQueues.get(lane);
+    try {
+      LOGGER.info("processLane {}: start", lane);
+
+      while (!replicationWorkerHelper.getShouldAbort() && !laneQueue.isDone() && !messagesForDestinationQueue.isClosed()) {
+        final AirbyteMessage message;
+        message = laneQueue.poll(queueWaitTimeoutInMillis, TimeUnit.MILLISECONDS);
+        if (message == null) {
+          continue;
+        }
+
+        try {
+          replicationWorkerHelper.selectFieldsAndValidate(message);
+          // Only the tracking and the hand-off to the destination buffer are serialized, the lanes validate
+          // and map their records concurrently.
+          synchronized (trackFromSourceLock) {
+            try (final var t = processFromSourceStopwatch.start()) {
+              replicationWorkerHelper.trackSelectedMessageFromSource(message);
+            }
+          }
+          final Optional<AirbyteMessage> processedMessageOpt = replicationWorkerHelper.mapMessageFromSource(message);
+          synchronized (offerToDestinationLock) {
+            offerToDestination(processedMessageOpt);
+          }
+          laneMessagesProcessed[lane].incrementAndGet();
+        } finally {
+          if (inFlightRecords.decrementAndGet() == 0) {
+            synchronized (lanesDrained) {
+              lanesDrained.notifyAll();
+            }
+          }
+        }
+      }
+
+    } catch (final InterruptedException e) {
+      processingLaneFailed = true;
+      // Getting interrupted while waiting on the queue, rethrowing to fail fast
+      LOGGER.info("processLane {}: interrupted", lane, e);
+      throw new RuntimeException(e);
+    } catch (final Exception e) {
+      processingLaneFailed = true;
+      LOGGER.info("processLane {}: exception caught", lane, e);
+      throw e;
+    } finally {
+      LOGGER.info("processLane {}: done. (lane.isDone:{}, forDest.isClosed:{})", lane, laneQueue.isDone(), messagesForDestinationQueue.isClosed());
+      if (processingLaneFailed) {
+        messagesFromSourceQueue.close();
+      }
+      // The last lane to stop closes the destination buffer, like processMessage does.
+      if (runningLanes.decrementAndGet() == 0 || processingLaneFailed) {
+        messagesForDestinationQueue.close();
+      }
+      synchronized (lanesDrained) {
+        lanesDrained.notifyAll();
+      }
+    }
+  }
+
   private void writeToDestination() {
     try {
       LOGGER.info("writeToDestination: start");
       try {
         while (!replicationWorkerHelper.getShouldAbort() && !messagesForDestinationQueue.isDone() && isReadFromDestRunning) {
           final AirbyteMessage message;
-          message = messagesForDestinationQueue.poll();
+          message = messagesForDestinationQueue.poll(queueWaitTimeoutInMillis, TimeUnit.MILLISECONDS);
           if (message == null) {
             continue;
           }
@@ -15,6 +15,8 @@ import io.airbyte.api.client.model.generated.SourceIdRequestBody;
 import io.airbyte.commons.concurrency.VoidCallable;
 import io.airbyte.commons.converters.ThreadedTimeTracker;
 import io.airbyte.commons.features.FeatureFlags;
+import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
+import io.airbyte.featureflag.CompileSchemaValidation;
 import io.airbyte.featureflag.ConcurrentSourceStreamRead;
 import io.airbyte.featureflag.Connection;
 import io.airbyte.featureflag.Context;
@@ -23,8 +25,14 @@ import io.airbyte.featureflag.DestinationTimeoutSeconds;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.FieldSelectionEnabled;
 import io.airbyte.featureflag.Multi;
+import io.airbyte.featureflag.RecordPassthrough;
 import io.airbyte.featureflag.RemoveValidationLimit;
+import io.airbyte.featureflag.ReplicationBufferImpl;
+import io.airbyte.featureflag.ReplicationProcessingLanes;
 import io.airbyte.featureflag.ReplicationWorkerImpl;
+import io.airbyte.featureflag.SchemaValidationQueueSize;
+import io.airbyte.featureflag.SchemaValidationSamplingRates;
+import io.airbyte.featureflag.SchemaValidationWorkerCount;
 import io.airbyte.featureflag.ShouldFailSyncOnDestinationTimeout;
 import io.airbyte.featureflag.Source;
 import io.airbyte.featureflag.SourceDefinition;
@@ -142,17 +150,23 @@ public class ReplicationWorkerFactory {
     final HeartbeatTimeoutChaperone heartbeatTimeoutChaperone = createHeartbeatTimeoutChaperone(heartbeatMonitor,
         featureFlagClient, replicationInput, metricClient);
     final DestinationTimeoutMonitor destinationTimeout = createDestinationTimeout(featureFlagClient, replicationInput, metricClient);
-    final RecordSchemaValidator recordSchemaValidator = createRecordSchemaValidator(replicationInput);
+    final RecordSchemaValidator recordSchemaValidator = createRecordSchemaValidator(featureFlagClient, replicationInput);
 
     // Enable concurrent stream reads for testing purposes
     maybeEnableConcurrentStreamReads(sourceLauncherConfig, replicationInput);
 
+    final boolean fieldSelectionEnabled = isFieldSelectionEnabled(featureFlagClient, replicationInput.getWorkspaceId(), sourceDefinitionId);
+    final boolean passRecordsThrough =
+        shouldPassRecordsThrough(replicationInput, sourceLauncherConfig, destinationLauncherConfig, fieldSelectionEnabled);
+
     log.info("Setting up source...");
     // reset jobs use an empty source to induce resetting all data in destination.
     final var airbyteSource = replicationInput.getIsReset()
         ? new EmptyAirbyteSource()
         : airbyteIntegrationLauncherFactory.createAirbyteSource(sourceLauncherConfig,
-            replicationInput.getSyncResourceRequirements(), replicationInput.getCatalog(), heartbeatMonitor);
+            replicationInput.getSyncResourceRequirements(), replicationInput.getCatalog(), heartbeatMonitor,
+            passRecordsThrough ? recordSchemaValidator::isSampledOut : null,
+            fieldSelectionEnabled);
 
     log.info("Setting up destination...");
     final var airbyteDestination = airbyteIntegrationLauncherFactory.createAirbyteDestination(destinationLauncherConfig,
@@ -163,7 +177,7 @@ public class ReplicationWorkerFactory {
     final AnalyticsMessageTracker analyticsMessageTracker = new AnalyticsMessageTracker(trackingClient);
 
     final FieldSelector fieldSelector =
-        createFieldSelector(recordSchemaValidator, metricReporter, featureFlagClient, replicationInput.getWorkspaceId(), sourceDefinitionId);
+        createFieldSelector(recordSchemaValidator, metricReporter, featureFlagClient, replicationInput.getWorkspaceId(), fieldSelectionEnabled);
 
     log.info("Setting up replication worker...");
     final SyncPersistence syncPersistence = createSyncPersistence(syncPersistenceFactory, replicationInput, sourceLauncherConfig);
@@ -211,6 +225,28 @@ public class ReplicationWorkerFactory {
     }
   }
 
+  /**
+   * Records can be forwarded from the source to the destination without being deserialized when
+   * nothing in between reads or modifies their data: no field selection, no renaming of the stream or
+   * the namespace and no protocol migration. Only the records that schema validation samples out are
+   * passed through, the others are deserialized to be validated.
+   */
+  private boolean shouldPassRecordsThrough(final ReplicationInput replicationInput,
+                                           final IntegrationLauncherConfig sourceLauncherConfig,
+                                           final IntegrationLauncherConfig destinationLauncherConfig,
+                                           final boolean fieldSelectionEnabled) {
+    if (fieldSelectionEnabled || !featureFlagClient.boolVariation(RecordPassthrough.INSTANCE, getFeatureFlagContext(replicationInput))) {
+      return false;
+    }
+
+    final boolean keepsNamespace = replicationInput.getNamespaceDefinition() == null
+        || replicationInput.getNamespaceDefinition() == NamespaceDefinitionType.SOURCE;
+    final boolean keepsStreamName = replicationInput.getPrefix() == null || replicationInput.getPrefix().isBlank();
+    final boolean sameProtocolVersion = sourceLauncherConfig.getProtocolVersion() != null && destinationLauncherConfig.getProtocolVersion() != null
+        && sourceLauncherConfig.getProtocolVersion().getMajorVersion().equals(destinationLauncherConfig.getProtocolVersion().getMajorVersion());
+    return keepsNamespace && keepsStreamName && sameProtocolVersion;
+  }
+
   /**
    * Create HeartbeatMonitor.
    */
@@ -274,17 +310,29 @@ public class ReplicationWorkerFactory {
   /**
    * Create RecordSchemaValidator.
    */
-  private static RecordSchemaValidator createRecordSchemaValidator(final ReplicationInput replicationInput) {
-    return new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(replicationInput.getCatalog()));
+  private static RecordSchemaValidator createRecordSchemaValidator(final FeatureFlagClient featureFlagClient,
+                                                                   final ReplicationInput replicationInput) {
+    final Context flagContext = getFeatureFlagContext(replicationInput);
+    final RecordSchemaValidator.ValidationPoolConfiguration configuration = RecordSchemaValidator.ValidationPoolConfiguration.of(
+        featureFlagClient.intVariation(SchemaValidationWorkerCount.INSTANCE, flagContext),
+        featureFlagClient.intVariation(SchemaValidationQueueSize.INSTANCE, flagContext),
+        featureFlagClient.stringVariation(SchemaValidationSamplingRates.INSTANCE, flagContext));
+    return new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(replicationInput.getCatalog()), configuration,
+        featureFlagClient.boolVariation(CompileSchemaValidation.INSTANCE, flagContext));
+  }
+
+  private static boolean isFieldSelectionEnabled(final FeatureFlagClient featureFlagClient,
+                                                 final UUID workspaceId,
+                                                 final UUID sourceDefinitionId) {
+    return workspaceId != null && featureFlagClient.boolVariation(FieldSelectionEnabled.INSTANCE, new Multi(
+        List.of(new Workspace(workspaceId), new SourceDefinition(sourceDefinitionId))));
   }
 
   private static FieldSelector createFieldSelector(final RecordSchemaValidator recordSchemaValidator,
                                                    final WorkerMetricReporter metricReporter,
                                                    final FeatureFlagClient featureFlagClient,
                                                    final UUID workspaceId,
-                                                   final UUID sourceDefinitionId) {
-    final boolean fieldSelectionEnabled = workspaceId != null && featureFlagClient.boolVariation(FieldSelectionEnabled.INSTANCE, new Multi(
-        List.of(new Workspace(workspaceId), new SourceDefinition(sourceDefinitionId))));
+                                                   final boolean fieldSelectionEnabled) {
     final boolean removeValidationLimit =
         workspaceId != null && featureFlagClient.boolVariation(RemoveValidationLimit.INSTANCE, new Workspace(workspaceId));
     return new FieldSelector(recordSchemaValidator, metricReporter, fieldSelectionEnabled, removeValidationLimit);
@@ -314,8 +362,12 @@ public class ReplicationWorkerFactory {
                                                            final Optional<String> workloadId) {
     final Context flagContext = getFeatureFlagContext(replicationInput);
     final String workerImpl = featureFlagClient.stringVariation(ReplicationWorkerImpl.INSTANCE, flagContext);
+    final String bufferImpl = featureFlagClient.stringVariation(ReplicationBufferImpl.INSTANCE, flagContext);
+    final int processingLanes = featureFlagClient.intVariation(ReplicationProcessingLanes.INSTANCE, flagContext);
     return buildReplicationWorkerInstance(
         workerImpl,
+        bufferImpl,
+        processingLanes,
         jobRunConfig.getJobId(),
         Math.toIntExact(jobRunConfig.getAttemptId()),
         source,
@@ -364,6 +416,8 @@ public class ReplicationWorkerFactory {
   }
 
   private static ReplicationWorker buildReplicationWorkerInstance(final String workerImpl,
+                                                                  final String bufferImpl,
+                                                                  final int processingLanes,
                                                                   final String jobId,
                                                                   final int attempt,
                                                                   final AirbyteSource source,
@@ -390,8 +444,15 @@ public class ReplicationWorkerFactory {
             workloadEnabled, analyticsMessageTracker, workloadId);
     if ("buffered".equals(workerImpl)) {
       metricClient.count(OssMetricsRegistry.REPLICATION_WORKER_CREATED, 1, new MetricAttribute(MetricTags.IMPLEMENTATION, workerImpl));
+      final BufferedReplicationWorker.QueueImpl queueImpl = "ring-buffer".equals(bufferImpl)
+          ? BufferedReplicationWorker.QueueImpl.RING_BUFFER
+          : BufferedReplicationWorker.QueueImpl.CONCURRENT_LINKED_QUEUE;
+      final int lanes = processingLanes > 0
+          ? Math.min(processingLanes, BufferedReplicationWorker.MAX_PROCESSING_LANES)
+          : BufferedReplicationWorker.defaultProcessingLanes();
+      log.info("Using {} buffers and {} processing lanes for the replication", queueImpl, lanes);
       return new BufferedReplicationWorker(jobId, attempt, source, destination, syncPersistence, recordSchemaValidator,
-          srcHeartbeatTimeoutChaperone, replicationFeatureFlagReader, replicationWorkerHelper, destinationTimeout);
+          srcHeartbeatTimeoutChaperone, replicationFeatureFlagReader, replicationWorkerHelper, destinationTimeout, queueImpl, lanes);
     } else {
       metricClient.count(OssMetricsRegistry.REPLICATION_WORKER_CREATED, 1, new MetricAttribute(MetricTags.IMPLEMENTATION, "default"));
       return new DefaultReplicationWorker(jobId, attempt, source, destination, syncPersistence, recordSchemaValidator,
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.helper;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+
+/**
+ * Size in bytes of records, as the UTF-8 serialization of their data.
+ * <p>
+ * The parsers that tokenize the line of a record know the size of its data, which is then carried
+ * by its {@link SourceRecordMessage}. Other records are measured by counting the bytes of their
+ * serialized data, without building the serialized string.
+ */
+public final class RecordByteSize {
+
+  private RecordByteSize() {}
+
+  /**
+   * Size of the record of a RECORD message.
+   *
+   * @param message the RECORD message
+   * @return the size in bytes of the data of the record
+   */
+  public static long of(final AirbyteMessage message) {
+    if (message instanceof final SourceRecordMessage sourceRecordMessage && sourceRecordMessage.dataByteSize() != null) {
+      return sourceRecordMessage.dataByteSize();
+    }
+    return of(message.getRecord());
+  }
+
+  /**
+   * Measure a record.
+   *
+   * @param record the record
+   * @return the size in bytes of the data of the record
+   */
+  public static long of(final AirbyteRecordMessage record) {
+    return Jsons.getSerializedByteSize(record.getData());
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.helper;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.util.Objects;
+
+/**
+ * A RECORD message read from a source, along with what was learned about the record while its line
+ * was parsed.
+ * <p>
+ * The replication queues, the mapper and the destination all pass the same {@link AirbyteMessage}
+ * instance along, so what the parser knows about the record travels with its message rather than in
+ * the record, which is never modified and can't leak any of it to the destination. It serializes
+ * like any other RECORD message.
+ * <p>
+ * A record that is passed through from the source to the destination without being deserialized
+ * only has its stream, namespace and emitted_at populated, its data is left null. Its message
+ * carries the line it was read from, which the destination writer writes as is instead of
+ * serializing the record.
+ */
+public class SourceRecordMessage extends AirbyteMessage {
+
+  @JsonIgnore
+  private Long dataByteSize;
+  @JsonIgnore
+  private final byte[] rawLine;
+  @JsonIgnore
+  private final String rawStream;
+  @JsonIgnore
+  private final String rawNamespace;
+  @JsonIgnore
+  private boolean sampledForValidation;
+
+  public SourceRecordMessage(final AirbyteRecordMessage record, final Long dataByteSize) {
+    this(record, dataByteSize, null);
+  }
+
+  /**
+   * Message of a record that is passed through.
+   *
+   * @param record the record, without data
+   * @param dataByteSize the size of the data in the line
+   * @param rawLine the UTF-8 bytes of the line the record was read from, without the line terminator
+   */
+  public SourceRecordMessage(final AirbyteRecordMessage record, final Long dataByteSize, final byte[] rawLine) {
+    setType(Type.RECORD);
+    setRecord(record);
+    this.dataByteSize = dataByteSize;
+    this.rawLine = rawLine;
+    this.rawStream = record.getStream();
+    this.rawNamespace = record.getNamespace();
+  }
+
+  /**
+   * Size in bytes of the data of the record, as it was read from the line.
+   *
+   * @return the size of the data, null if it isn't known.
+   */
+  public Long dataByteSize() {
+    return dataByteSize;
+  }
+
+  /**
+   * Forget the size of the data, once the data was modified.
+   */
+  public void clearDataByteSize() {
+    dataByteSize = null;
+  }
+
+  /**
+   * Whether the record is passed through, in which case its data wasn't deserialized.
+   */
+  public boolean isPassedThrough() {
+    return rawLine != null;
+  }
+
+  /**
+   * The line a passed through record was read from.
+   *
+   * @return the UTF-8 bytes of the line, null if the record isn't passed through.
+   * @throws IllegalStateException if the stream or the namespace of a passed through record were
+   *         changed, since the line would still carry the ones of the source.
+   */
+  public byte[] rawLine() {
+    if (rawLine != null && (!Objects.equals(rawStream, getRecord().getStream()) || !Objects.equals(rawNamespace, getRecord().getNamespace()))) {
+      throw new IllegalStateException(String.format("The record of stream %s:%s was mapped to %s:%s, its line can't be passed through as is",
+          rawNamespace, rawStream, getRecord().getNamespace(), getRecord().getStream()));
+    }
+    return rawLine;
+  }
+
+  /**
+   * Whether the record was already selected for schema validation by the sampling of its stream.
+   */
+  public boolean isSampledForValidation() {
+    return sampledForValidation;
+  }
+
+  /**
+   * Remember that the record was selected for schema validation, so that it isn't sampled again.
+   */
+  public void markSampledForValidation() {
+    sampledForValidation = true;
+  }
+
+}
@@ -4,7 +4,11 @@
 
 package io.airbyte.workers.internal;
 
+import com.google.common.base.Charsets;
 import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 
 /**
  * Factory for creating airbyte message writers. Base class that the versioned writers build upon.
@@ -13,4 +17,13 @@ public interface AirbyteMessageBufferedWriterFactory {
 
   AirbyteMessageBufferedWriter createWriter(BufferedWriter bufferedWriter);
 
+  /**
+   * Create a writer over the raw OutputStream of a connector. Implementations that can serialize
+   * directly to bytes may override this, by default the OutputStream is written through a
+   * BufferedWriter.
+   */
+  default AirbyteMessageBufferedWriter createWriter(final OutputStream outputStream) throws IOException {
+    return createWriter(new BufferedWriter(new OutputStreamWriter(outputStream, Charsets.UTF_8)));
+  }
+
 }
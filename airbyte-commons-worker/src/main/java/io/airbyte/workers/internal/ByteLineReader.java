@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Splits an InputStream into new line separated lines without decoding them.
+ * <p>
+ * Lines are exposed as a slice of an internal buffer that is reused from one line to the next, so
+ * the slice returned by {@link #buffer()}, {@link #lineStart()} and {@link #lineLength()} is only
+ * valid until the next call to {@link #readLine()}. Lines are terminated by '\n' or "\r\n", the
+ * terminator is not part of the line. The buffer grows to fit the longest line read.
+ * <p>
+ * This is not thread safe.
+ */
+class ByteLineReader {
+
+  private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+  private final InputStream inputStream;
+  private byte[] buffer;
+  // Start of the bytes that have been read from the stream but not returned as a line yet.
+  private int position;
+  // End of the bytes that have been read from the stream.
+  private int limit;
+  private int lineStart;
+  private int lineLength;
+  private boolean endOfStream;
+
+  ByteLineReader(final InputStream inputStream) {
+    this(inputStream, DEFAULT_BUFFER_SIZE);
+  }
+
+  ByteLineReader(final InputStream inputStream, final int initialBufferSize) {
+    this.inputStream = inputStream;
+    this.buffer = new byte[initialBufferSize];
+  }
+
+  /**
+   * Read the next line.
+   *
+   * @return false if the end of the stream has been reached and there is no line left.
+   * @throws IOException if reading from the stream fails
+   */
+  boolean readLine() throws IOException {
+    int scanFrom = position;
+    while (true) {
+      for (int i = scanFrom; i < limit; i++) {
+        if (buffer[i] == '\n') {
+          setLine(position, i);
+          position = i + 1;
+          return true;
+        }
+      }
+
+      if (endOfStream) {
+        if (position == limit) {
+          return false;
+        }
+        setLine(position, limit);
+        position = limit;
+        return true;
+      }
+
+      scanFrom = limit - position;
+      fill();
+    }
+  }
+
+  byte[] buffer() {
+    return buffer;
+  }
+
+  int lineStart() {
+    return lineStart;
+  }
+
+  int lineLength() {
+    return lineLength;
+  }
+
+  private void setLine(final int start, final int end) {
+    lineStart = start;
+    lineLength = end > start && buffer[end - 1] == '\r' ? end - start - 1 : end - start;
+  }
+
+  /**
+   * Move the pending bytes to the beginning of the buffer, growing it if it is full, and read more
+   * bytes from the stream.
+   */
+  private void fill() throws IOException {
+    final int pending = limit - position;
+    if (pending == buffer.length) {
+      buffer = Arrays.copyOf(buffer, buffer.length * 2);
+    } else if (position > 0) {
+      System.arraycopy(buffer, position, buffer, 0, pending);
+    }
+    position = 0;
+    limit = pending;
+
+    final int read = inputStream.read(buffer, limit, buffer.length - limit);
+    if (read < 0) {
+      endOfStream = true;
+    } else {
+      limit += read;
+    }
+  }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Parses RECORD lines without materializing the fields that are not selected, see
+ * {@link FieldSelectionPlan}.
+ * <p>
+ * The fields of the data that are not selected are skipped by the tokenizer when the stream of the
+ * record comes before its data, which is how connectors serialize records. Otherwise the data is read
+ * whole and pruned. Like {@link RawRecordParser}, anything that isn't a plain record, e.g. a record
+ * with a meta field, is left to the regular deserialization.
+ * <p>
+ * Not thread safe, {@link #hasSkippedFields()} and {@link #dataByteSize()} describe the last parsed
+ * record.
+ */
+final class FieldSelectingRecordParser {
+
+  // Same configuration as the exact deserialization of the messages.
+  private static final ObjectMapper OBJECT_MAPPER = MoreMappers.initMapper().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+  private static final String TYPE_FIELD = "type";
+  private static final String RECORD_FIELD = "record";
+  private static final String STREAM_FIELD = "stream";
+  private static final String NAMESPACE_FIELD = "namespace";
+  private static final String EMITTED_AT_FIELD = "emitted_at";
+  private static final String DATA_FIELD = "data";
+
+  private final FieldSelectionPlans selectionPlans;
+  private boolean hasSkippedFields;
+  private long dataByteSize;
+
+  FieldSelectingRecordParser(final FieldSelectionPlans selectionPlans) {
+    this.selectionPlans = selectionPlans;
+  }
+
+  /**
+   * Parse a line.
+   *
+   * @return the record message, empty if the line isn't a plain record.
+   */
+  Optional<AirbyteMessage> parse(final byte[] buffer, final int offset, final int length) {
+    hasSkippedFields = false;
+    dataByteSize = 0;
+    try (final JsonParser parser = OBJECT_MAPPER.getFactory().createParser(buffer, offset, length)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return Optional.empty();
+      }
+
+      String type = null;
+      AirbyteRecordMessage record = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String fieldName = parser.getCurrentName();
+        final JsonToken value = parser.nextToken();
+        if (TYPE_FIELD.equals(fieldName) && value == JsonToken.VALUE_STRING) {
+          type = parser.getText();
+        } else if (RECORD_FIELD.equals(fieldName) && value == JsonToken.START_OBJECT && record == null) {
+          record = parseRecord(parser);
+          if (record == null) {
+            return Optional.empty();
+          }
+        } else {
+          return Optional.empty();
+        }
+      }
+
+      if (parser.nextToken() != null || record == null || !AirbyteMessage.Type.RECORD.value().equals(type)) {
+        return Optional.empty();
+      }
+      return Optional.of(new AirbyteMessage().withType(AirbyteMessage.Type.RECORD).withRecord(record));
+    } catch (final IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Whether fields of the data of the last parsed record were not selected.
+   */
+  boolean hasSkippedFields() {
+    return hasSkippedFields;
+  }
+
+  /**
+   * Size in bytes of the data of the last parsed record, as it was read from the line. It includes
+   * the fields that were skipped, if any.
+   */
+  long dataByteSize() {
+    return dataByteSize;
+  }
+
+  /**
+   * Read the fields of a record, the parser must be on the START_OBJECT of the record.
+   *
+   * @return the record, null if it isn't a plain record.
+   */
+  private AirbyteRecordMessage parseRecord(final JsonParser parser) throws IOException {
+    final AirbyteRecordMessage record = new AirbyteRecordMessage();
+    ObjectNode data = null;
+    FieldSelectionPlan dataPlan = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String fieldName = parser.getCurrentName();
+      final JsonToken value = parser.nextToken();
+      if (STREAM_FIELD.equals(fieldName) && value == JsonToken.VALUE_STRING) {
+        record.setStream(parser.getText());
+      } else if (NAMESPACE_FIELD.equals(fieldName) && (value == JsonToken.VALUE_STRING || value == JsonToken.VALUE_NULL)) {
+        record.setNamespace(value == JsonToken.VALUE_STRING ? parser.getText() : null);
+      } else if (EMITTED_AT_FIELD.equals(fieldName) && value == JsonToken.VALUE_NUMBER_INT) {
+        record.setEmittedAt(parser.getLongValue());
+      } else if (DATA_FIELD.equals(fieldName) && value == JsonToken.START_OBJECT && data == null) {
+        final long dataStart = parser.getTokenLocation().getByteOffset();
+        if (record.getStream() != null) {
+          dataPlan = selectionPlans.get(record.getNamespace(), record.getStream());
+          data = readSelectedFields(parser, dataPlan);
+        } else {
+          data = (ObjectNode) OBJECT_MAPPER.readTree(parser);
+        }
+        dataByteSize = parser.getCurrentLocation().getByteOffset() - dataStart;
+      } else {
+        return null;
+      }
+    }
+
+    if (data == null || record.getStream() == null) {
+      return null;
+    }
+    final FieldSelectionPlan plan = selectionPlans.get(record.getNamespace(), record.getStream());
+    if (dataPlan == null) {
+      hasSkippedFields = plan.prune(data);
+    } else if (dataPlan != plan) {
+      // The namespace came after the data, which was read with the plan of another stream.
+      return null;
+    }
+    return record.withData(data);
+  }
+
+  /**
+   * Read an object, the parser must be on its START_OBJECT.
+   */
+  private ObjectNode readSelectedFields(final JsonParser parser, final FieldSelectionPlan plan) throws IOException {
+    final ObjectNode node = OBJECT_MAPPER.createObjectNode();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String fieldName = parser.getCurrentName();
+      final JsonToken value = parser.nextToken();
+      if (!plan.isSelected(fieldName)) {
+        hasSkippedFields = true;
+        parser.skipChildren();
+        continue;
+      }
+
+      final FieldSelectionPlan nestedPlan = plan.getNestedPlan(fieldName);
+      final JsonNode fieldValue = nestedPlan != null && value == JsonToken.START_OBJECT
+          ? readSelectedFields(parser, nestedPlan)
+          : OBJECT_MAPPER.readTree(parser);
+      node.set(fieldName, fieldValue);
+    }
+    return node;
+  }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The fields of a stream that are kept in its records when field selection is enabled.
+ * <p>
+ * The plan is built once per stream from the paths of the selected fields. A selected field is
+ * either kept whole or, if only some of its nested fields are selected, pruned by the plan of its
+ * nested fields. Plans are immutable and can be shared between threads.
+ */
+public final class FieldSelectionPlan {
+
+  /**
+   * The plan of a stream without selected fields, every field is removed.
+   */
+  public static final FieldSelectionPlan NONE = new FieldSelectionPlan(Map.of());
+
+  /**
+   * Selected fields mapped to the plan of their nested fields, or to null if they are kept whole.
+   */
+  private final Map<String, FieldSelectionPlan> selectedFields;
+
+  private FieldSelectionPlan(final Map<String, FieldSelectionPlan> selectedFields) {
+    this.selectedFields = selectedFields;
+  }
+
+  /**
+   * Build the plan of a stream.
+   *
+   * @param fieldPaths the paths of the selected fields, a path with a single element selects a top
+   *        level field.
+   * @return the plan
+   */
+  public static FieldSelectionPlan of(final Collection<List<String>> fieldPaths) {
+    final Map<String, FieldSelectionPlan> selectedFields = new HashMap<>();
+    for (final List<String> fieldPath : fieldPaths) {
+      if (fieldPath.size() == 1) {
+        selectedFields.put(fieldPath.get(0), null);
+      }
+    }
+    // Selecting a field whole takes precedence over selecting some of its nested fields.
+    final Map<String, List<List<String>>> nestedPaths = new HashMap<>();
+    for (final List<String> fieldPath : fieldPaths) {
+      if (fieldPath.size() > 1 && !selectedFields.containsKey(fieldPath.get(0))) {
+        nestedPaths.computeIfAbsent(fieldPath.get(0), k -> new ArrayList<>()).add(fieldPath.subList(1, fieldPath.size()));
+      }
+    }
+    nestedPaths.forEach((field, paths) -> selectedFields.put(field, of(paths)));
+    return new FieldSelectionPlan(Collections.unmodifiableMap(selectedFields));
+  }
+
+  public boolean isSelected(final String field) {
+    return selectedFields.containsKey(field);
+  }
+
+  /**
+   * Get the plan of the nested fields of a selected field.
+   *
+   * @return the plan, null if the field is kept whole or isn't selected.
+   */
+  public FieldSelectionPlan getNestedPlan(final String field) {
+    return selectedFields.get(field);
+  }
+
+  /**
+   * Remove the fields that are not selected from the data of a record, in a single pass over its
+   * fields. Nested fields are only pruned if their parent is an object.
+   *
+   * @param data the data of the record
+   * @return true if any field was removed.
+   */
+  public boolean prune(final ObjectNode data) {
+    boolean hasRemovedFields = false;
+    final Iterator<Map.Entry<String, JsonNode>> fields = data.fields();
+    while (fields.hasNext()) {
+      final Map.Entry<String, JsonNode> field = fields.next();
+      if (!selectedFields.containsKey(field.getKey())) {
+        fields.remove();
+        hasRemovedFields = true;
+      } else {
+        final FieldSelectionPlan nestedPlan = selectedFields.get(field.getKey());
+        if (nestedPlan != null && field.getValue().isObject()) {
+          hasRemovedFields |= nestedPlan.prune((ObjectNode) field.getValue());
+        }
+      }
+    }
+    return hasRemovedFields;
+  }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link FieldSelectionPlan} of every stream of a catalog.
+ * <p>
+ * Plans are looked up by the namespace and name of a record without building an
+ * AirbyteStreamNameNamespacePair for every record.
+ */
+public final class FieldSelectionPlans {
+
+  // The namespace is the outer key, it can be null.
+  private final Map<String, Map<String, FieldSelectionPlan>> plans;
+
+  private FieldSelectionPlans(final Map<String, Map<String, FieldSelectionPlan>> plans) {
+    this.plans = plans;
+  }
+
+  /**
+   * Build the plans of the streams of a catalog. The configured catalog only includes the selected
+   * fields in the schema of the streams, so the fields of the schema are the selected fields.
+   *
+   * @param catalog catalog
+   * @return the plans
+   */
+  public static FieldSelectionPlans fromCatalog(final ConfiguredAirbyteCatalog catalog) {
+    final Map<String, Map<String, FieldSelectionPlan>> plans = new HashMap<>();
+    for (final ConfiguredAirbyteStream s : catalog.getStreams()) {
+      final List<List<String>> selectedFields = new ArrayList<>();
+      final JsonNode propertiesNode = s.getStream().getJsonSchema().findPath("properties");
+      if (propertiesNode.isObject()) {
+        propertiesNode.fieldNames().forEachRemaining((fieldName) -> selectedFields.add(List.of(fieldName)));
+      } else {
+        throw new RuntimeException("No properties node in stream schema");
+      }
+      plans.computeIfAbsent(s.getStream().getNamespace(), k -> new HashMap<>()).put(s.getStream().getName(), FieldSelectionPlan.of(selectedFields));
+    }
+    return new FieldSelectionPlans(plans);
+  }
+
+  /**
+   * Get the plan of a stream.
+   *
+   * @return the plan, {@link FieldSelectionPlan#NONE} if the stream isn't in the catalog.
+   */
+  public FieldSelectionPlan get(final String namespace, final String name) {
+    final Map<String, FieldSelectionPlan> namespacePlans = plans.get(namespace);
+    final FieldSelectionPlan plan = namespacePlans != null ? namespacePlans.get(name) : null;
+    return plan != null ? plan : FieldSelectionPlan.NONE;
+  }
+
+}
@@ -12,12 +12,10 @@ import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.workers.RecordSchemaValidator;
 import io.airbyte.workers.WorkerMetricReporter;
-import java.util.ArrayList;
-import java.util.Collections;
+import io.airbyte.workers.helper.SourceRecordMessage;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -33,13 +31,14 @@ public class FieldSelector {
 
   /*
    * validationErrors must be a ConcurrentHashMap as they are updated and read in different threads
-   * concurrently for performance.
+   * concurrently for performance. unexpectedFields is updated concurrently when records of different
+   * streams are processed by different lanes.
    */
   private final ConcurrentHashMap<AirbyteStreamNameNamespacePair, ImmutablePair<Set<String>, Integer>> validationErrors = new ConcurrentHashMap<>();
   private final ConcurrentHashMap<AirbyteStreamNameNamespacePair, Set<String>> uncountedValidationErrors = new ConcurrentHashMap<>();
-  private final Map<AirbyteStreamNameNamespacePair, List<String>> streamToSelectedFields = new HashMap<>();
+  private FieldSelectionPlans selectionPlans;
   private final Map<AirbyteStreamNameNamespacePair, Set<String>> streamToAllFields = new HashMap<>();
-  private final Map<AirbyteStreamNameNamespacePair, Set<String>> unexpectedFields = new HashMap<>();
+  private final ConcurrentHashMap<AirbyteStreamNameNamespacePair, Set<String>> unexpectedFields = new ConcurrentHashMap<>();
 
   private final RecordSchemaValidator recordSchemaValidator;
   private final WorkerMetricReporter metricReporter;
@@ -61,7 +60,7 @@ public class FieldSelector {
    */
   public void populateFields(final ConfiguredAirbyteCatalog catalog) {
     if (fieldSelectionEnabled) {
-      populatedStreamToSelectedFields(catalog);
+      selectionPlans = FieldSelectionPlans.fromCatalog(catalog);
     }
     populateStreamToAllFields(catalog);
   }
@@ -72,6 +71,20 @@ public class FieldSelector {
    * @param airbyteMessage message to validate.
    */
   public void validateSchema(final AirbyteMessage airbyteMessage) {
+    final SourceRecordMessage sourceRecordMessage = airbyteMessage instanceof final SourceRecordMessage message ? message : null;
+    if (sourceRecordMessage != null && sourceRecordMessage.isPassedThrough()) {
+      // The record was sampled out when it was read and is passed through as is, its data hasn't been
+      // deserialized.
+      return;
+    }
+
+    if (airbyteMessage.getRecord() != null
+        && (sourceRecordMessage == null || !sourceRecordMessage.isSampledForValidation())
+        && recordSchemaValidator.isSampledOut(AirbyteStreamNameNamespacePair.fromRecordMessage(airbyteMessage.getRecord()))) {
+      // Neither the schema nor the unexpected fields are checked for the records that are sampled out.
+      return;
+    }
+
     if (removeValidationLimit) {
       validateSchemaUncounted(airbyteMessage);
     } else {
@@ -96,11 +109,13 @@ public class FieldSelector {
       return;
     }
 
-    final AirbyteStreamNameNamespacePair messageStream = AirbyteStreamNameNamespacePair.fromRecordMessage(record);
-    final List<String> selectedFields = streamToSelectedFields.getOrDefault(messageStream, Collections.emptyList());
+    final FieldSelectionPlan plan = selectionPlans.get(record.getNamespace(), record.getStream());
     final JsonNode data = record.getData();
     if (data.isObject()) {
-      ((ObjectNode) data).retain(selectedFields);
+      if (plan.prune((ObjectNode) data) && airbyteMessage instanceof final SourceRecordMessage sourceRecordMessage) {
+        // The size of the data that was read doesn't reflect the filtered record anymore.
+        sourceRecordMessage.clearDataByteSize();
+      }
     } else {
       throw new RuntimeException(String.format("Unexpected data in record: %s", data.toString()));
     }
@@ -131,26 +146,7 @@ public class FieldSelector {
         metricReporter.trackUnexpectedFields(stream, unexpectedFieldNames);
       }
     });
-  }
-
-  /**
-   * Generates a map from stream -> the explicit list of fields included for that stream, according to
-   * the configured catalog. Since the configured catalog only includes the selected fields, this lets
-   * us filter records to only the fields explicitly requested.
-   *
-   * @param catalog catalog
-   */
-  private void populatedStreamToSelectedFields(final ConfiguredAirbyteCatalog catalog) {
-    for (final var s : catalog.getStreams()) {
-      final List<String> selectedFields = new ArrayList<>();
-      final JsonNode propertiesNode = s.getStream().getJsonSchema().findPath("properties");
-      if (propertiesNode.isObject()) {
-        propertiesNode.fieldNames().forEachRemaining((fieldName) -> selectedFields.add(fieldName));
-      } else {
-        throw new RuntimeException("No properties node in stream schema");
-      }
-      streamToSelectedFields.put(AirbyteStreamNameNamespacePair.fromConfiguredAirbyteSteam(s), selectedFields);
-    }
+    recordSchemaValidator.reportMetrics(metricReporter);
   }
 
   /**
@@ -183,7 +179,7 @@ public class FieldSelector {
     recordSchemaValidator.validateSchemaWithoutCounting(record, messageStream, uncountedValidationErrors);
     final Set<String> unexpectedFieldNames = getUnexpectedFieldNames(record, streamToAllFields.get(messageStream));
     if (!unexpectedFieldNames.isEmpty()) {
-      unexpectedFields.computeIfAbsent(messageStream, k -> new HashSet<>()).addAll(unexpectedFieldNames);
+      unexpectedFields.computeIfAbsent(messageStream, k -> ConcurrentHashMap.newKeySet()).addAll(unexpectedFieldNames);
     }
   }
 
@@ -200,7 +196,7 @@ public class FieldSelector {
       recordSchemaValidator.validateSchema(record, messageStream, validationErrors);
       final Set<String> unexpectedFieldNames = getUnexpectedFieldNames(record, streamToAllFields.get(messageStream));
       if (!unexpectedFieldNames.isEmpty()) {
-        unexpectedFields.computeIfAbsent(messageStream, k -> new HashSet<>()).addAll(unexpectedFieldNames);
+        unexpectedFields.computeIfAbsent(messageStream, k -> ConcurrentHashMap.newKeySet()).addAll(unexpectedFieldNames);
       }
     }
   }
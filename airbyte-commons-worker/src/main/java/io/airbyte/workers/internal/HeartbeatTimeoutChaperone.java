@@ -12,6 +12,7 @@ import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.Multi;
 import io.airbyte.featureflag.ShouldFailSyncIfHeartbeatFailure;
 import io.airbyte.featureflag.Workspace;
+import io.airbyte.metrics.lib.BoundMetric;
 import io.airbyte.metrics.lib.MetricAttribute;
 import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.metrics.lib.MetricTags;
@@ -134,6 +135,8 @@ public class HeartbeatTimeoutChaperone implements AutoCloseable {
   @SuppressWarnings("BusyWait")
   @VisibleForTesting
   void monitor() {
+    final MetricAttribute connectionAttribute = new MetricAttribute(MetricTags.CONNECTION_ID, connectionId.toString());
+    final BoundMetric timeSinceLastBeat = metricClient.bind(OssMetricsRegistry.SOURCE_TIME_SINCE_LAST_HEARTBEAT_MILLIS, connectionAttribute);
     while (true) {
       try {
         sleep(timeoutCheckDuration.toMillis());
@@ -142,14 +145,11 @@ public class HeartbeatTimeoutChaperone implements AutoCloseable {
         return;
       }
 
-      heartbeatMonitor.getTimeSinceLastBeat()
-          .ifPresent(duration -> metricClient.distribution(OssMetricsRegistry.SOURCE_TIME_SINCE_LAST_HEARTBEAT_MILLIS, duration.toMillis(),
-              new MetricAttribute(MetricTags.CONNECTION_ID, connectionId.toString())));
+      heartbeatMonitor.getTimeSinceLastBeat().ifPresent(duration -> timeSinceLastBeat.distribution(duration.toMillis()));
 
       // if not beating, return. otherwise, if it is beating or heartbeat hasn't started, continue.
       if (!heartbeatMonitor.isBeating().orElse(true)) {
-        metricClient.count(OssMetricsRegistry.SOURCE_HEARTBEAT_FAILURE, 1,
-            new MetricAttribute(MetricTags.CONNECTION_ID, connectionId.toString()));
+        metricClient.count(OssMetricsRegistry.SOURCE_HEARTBEAT_FAILURE, 1, connectionAttribute);
         LOGGER.error("Source has stopped heart beating.");
         return;
       }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.workers.helper.SourceRecordMessage;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Reads the envelope of a RECORD line without deserializing its data.
+ * <p>
+ * The line is tokenized once. The type, stream, namespace and emitted_at are read while the data,
+ * and anything else, is skipped. The returned record has no data, its message carries a copy of the
+ * line and the size of the data, see {@link SourceRecordMessage}. Anything that isn't a well-formed
+ * record, including lines that have content after the message or data that isn't an object, is left
+ * to the regular deserialization so that it is validated and logged the usual way.
+ */
+final class RawRecordParser {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private static final String TYPE_FIELD = "type";
+  private static final String RECORD_FIELD = "record";
+  private static final String STREAM_FIELD = "stream";
+  private static final String NAMESPACE_FIELD = "namespace";
+  private static final String EMITTED_AT_FIELD = "emitted_at";
+  private static final String DATA_FIELD = "data";
+
+  private RawRecordParser() {}
+
+  static Optional<SourceRecordMessage> parse(final byte[] buffer, final int offset, final int length) {
+    try (final JsonParser parser = JSON_FACTORY.createParser(buffer, offset, length)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return Optional.empty();
+      }
+
+      String type = null;
+      ParsedRecord parsedRecord = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String fieldName = parser.getCurrentName();
+        final JsonToken value = parser.nextToken();
+        if (TYPE_FIELD.equals(fieldName) && value == JsonToken.VALUE_STRING) {
+          type = parser.getText();
+        } else if (RECORD_FIELD.equals(fieldName) && value == JsonToken.START_OBJECT) {
+          parsedRecord = parseRecord(parser);
+        } else {
+          parser.skipChildren();
+        }
+      }
+
+      if (parser.nextToken() != null || parsedRecord == null || !AirbyteMessage.Type.RECORD.value().equals(type)) {
+        return Optional.empty();
+      }
+
+      return Optional.of(new SourceRecordMessage(parsedRecord.record(), parsedRecord.dataByteSize(),
+          Arrays.copyOfRange(buffer, offset, offset + length)));
+    } catch (final IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Read the fields of a record, the parser must be on the START_OBJECT of the record.
+   *
+   * @return the record and the size of its data, null if the stream or the data are missing or if a
+   *         field of the envelope has an unexpected type.
+   */
+  private static ParsedRecord parseRecord(final JsonParser parser) throws IOException {
+    final AirbyteRecordMessage record = new AirbyteRecordMessage();
+    Long dataByteSize = null;
+    boolean isValid = true;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String fieldName = parser.getCurrentName();
+      final JsonToken value = parser.nextToken();
+      if (STREAM_FIELD.equals(fieldName) && value == JsonToken.VALUE_STRING) {
+        record.setStream(parser.getText());
+      } else if (NAMESPACE_FIELD.equals(fieldName) && (value == JsonToken.VALUE_STRING || value == JsonToken.VALUE_NULL)) {
+        record.setNamespace(value == JsonToken.VALUE_STRING ? parser.getText() : null);
+      } else if (EMITTED_AT_FIELD.equals(fieldName) && value == JsonToken.VALUE_NUMBER_INT) {
+        record.setEmittedAt(parser.getLongValue());
+      } else if (DATA_FIELD.equals(fieldName) && value == JsonToken.START_OBJECT) {
+        final long dataStart = parser.getTokenLocation().getByteOffset();
+        parser.skipChildren();
+        dataByteSize = parser.getCurrentLocation().getByteOffset() - dataStart;
+      } else {
+        if (DATA_FIELD.equals(fieldName) || STREAM_FIELD.equals(fieldName) || NAMESPACE_FIELD.equals(fieldName)
+            || EMITTED_AT_FIELD.equals(fieldName)) {
+          isValid = false;
+        }
+        parser.skipChildren();
+      }
+    }
+    return isValid && dataByteSize != null && record.getStream() != null ? new ParsedRecord(record, dataByteSize) : null;
+  }
+
+  private record ParsedRecord(AirbyteRecordMessage record, long dataByteSize) {}
+
+}
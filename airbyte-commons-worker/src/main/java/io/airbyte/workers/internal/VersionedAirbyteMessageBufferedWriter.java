@@ -8,8 +8,10 @@ import io.airbyte.commons.protocol.AirbyteMessageVersionedMigrator;
 import io.airbyte.commons.protocol.serde.AirbyteMessageSerializer;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.workers.helper.SourceRecordMessage;
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 /**
@@ -35,6 +37,14 @@ public class VersionedAirbyteMessageBufferedWriter<T> extends DefaultAirbyteMess
 
   @Override
   public void write(final AirbyteMessage message) throws IOException {
+    final byte[] rawLine = message instanceof final SourceRecordMessage sourceRecordMessage ? sourceRecordMessage.rawLine() : null;
+    if (rawLine != null) {
+      // The record was passed through from the source, write the line it was read from as is.
+      writer.write(new String(rawLine, StandardCharsets.UTF_8));
+      writer.newLine();
+      return;
+    }
+
     final T downgradedMessage = migrator.downgrade(message, configuredAirbyteCatalog);
     writer.write(serializer.serialize(downgradedMessage));
     writer.newLine();
@@ -7,8 +7,12 @@ package io.airbyte.workers.internal;
 import io.airbyte.commons.protocol.AirbyteMessageSerDeProvider;
 import io.airbyte.commons.protocol.AirbyteProtocolVersionedMigratorFactory;
 import io.airbyte.commons.version.Version;
+import io.airbyte.metrics.lib.MetricClientFactory;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.workers.internal.VersionedAirbyteMessageOutputStreamWriter.FlushPolicy;
 import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,24 +28,53 @@ public class VersionedAirbyteMessageBufferedWriterFactory implements AirbyteMess
   private final AirbyteProtocolVersionedMigratorFactory migratorFactory;
   private final Version protocolVersion;
   private final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog;
+  private final Optional<FlushPolicy> outputStreamFlushPolicy;
 
   public VersionedAirbyteMessageBufferedWriterFactory(final AirbyteMessageSerDeProvider serDeProvider,
                                                       final AirbyteProtocolVersionedMigratorFactory migratorFactory,
                                                       final Version protocolVersion,
                                                       final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog) {
+    this(serDeProvider, migratorFactory, protocolVersion, configuredAirbyteCatalog, Optional.empty());
+  }
+
+  /**
+   * Create the factory.
+   *
+   * @param outputStreamFlushPolicy if present, messages written to an OutputStream are serialized
+   *        directly to bytes by a {@link VersionedAirbyteMessageOutputStreamWriter} flushing with this
+   *        policy.
+   */
+  public VersionedAirbyteMessageBufferedWriterFactory(final AirbyteMessageSerDeProvider serDeProvider,
+                                                      final AirbyteProtocolVersionedMigratorFactory migratorFactory,
+                                                      final Version protocolVersion,
+                                                      final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog,
+                                                      final Optional<FlushPolicy> outputStreamFlushPolicy) {
     this.serDeProvider = serDeProvider;
     this.migratorFactory = migratorFactory;
     this.protocolVersion = protocolVersion;
     this.configuredAirbyteCatalog = configuredAirbyteCatalog;
+    this.outputStreamFlushPolicy = outputStreamFlushPolicy;
+  }
+
+  @Override
+  public AirbyteMessageBufferedWriter createWriter(final OutputStream outputStream) throws IOException {
+    if (outputStreamFlushPolicy.isEmpty()) {
+      return AirbyteMessageBufferedWriterFactory.super.createWriter(outputStream);
+    }
+
+    logProtocolVersion();
+    LOGGER.info("Writing messages directly to the output stream with {}", outputStreamFlushPolicy.get());
+    return new VersionedAirbyteMessageOutputStreamWriter<>(
+        outputStream,
+        migratorFactory.getAirbyteMessageMigrator(protocolVersion),
+        configuredAirbyteCatalog,
+        outputStreamFlushPolicy.get(),
+        MetricClientFactory.getMetricClient());
   }
 
   @Override
   public AirbyteMessageBufferedWriter createWriter(BufferedWriter bufferedWriter) {
-    final boolean needMigration = !protocolVersion.getMajorVersion().equals(migratorFactory.getMostRecentVersion().getMajorVersion());
-    LOGGER.info(
-        "Writing messages to protocol version {}{}",
-        protocolVersion.serialize(),
-        needMigration ? ", messages will be downgraded from protocol version " + migratorFactory.getMostRecentVersion().serialize() : "");
+    logProtocolVersion();
     return new VersionedAirbyteMessageBufferedWriter<>(
         bufferedWriter,
         serDeProvider.getSerializer(protocolVersion).orElseThrow(),
@@ -49,4 +82,12 @@ public class VersionedAirbyteMessageBufferedWriterFactory implements AirbyteMess
         configuredAirbyteCatalog);
   }
 
+  private void logProtocolVersion() {
+    final boolean needMigration = !protocolVersion.getMajorVersion().equals(migratorFactory.getMostRecentVersion().getMajorVersion());
+    LOGGER.info(
+        "Writing messages to protocol version {}{}",
+        protocolVersion.serialize(),
+        needMigration ? ", messages will be downgraded from protocol version " + migratorFactory.getMostRecentVersion().serialize() : "");
+  }
+
 }
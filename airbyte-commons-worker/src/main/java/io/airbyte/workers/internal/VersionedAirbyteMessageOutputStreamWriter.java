@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.commons.protocol.AirbyteMessageVersionedMigrator;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.workers.helper.SourceRecordMessage;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Write protocol objects in a specified version directly to the OutputStream of a connector.
+ * <p>
+ * Unlike {@link VersionedAirbyteMessageBufferedWriter}, messages are not serialized to an
+ * intermediate String and encoded by a Writer: a single JsonGenerator serializes them as UTF-8 bytes
+ * into a large buffer, and records passed through from the source are copied to the buffer as is.
+ * The buffer is flushed to the connector when it reaches the configured size, when the configured
+ * delay has elapsed since the last flush, and right after every STATE message so that the
+ * destination can checkpoint without waiting for more records. The delay is checked when a message
+ * is written, and periodically in the background so that the last messages written before the
+ * source goes quiet don't stay in the buffer.
+ * <p>
+ * Messages must be written from a single thread, the background flush synchronizes with it.
+ *
+ * @param <T> type of protocol object.
+ */
+public class VersionedAirbyteMessageOutputStreamWriter<T> implements AirbyteMessageBufferedWriter {
+
+  // Same configuration as Jsons.serialize, which is used by the protocol serializers.
+  private static final ObjectWriter OBJECT_WRITER = MoreMappers.initMapper().writer()
+      .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+  private static final String FLUSH_REASON_SIZE = "size";
+  private static final String FLUSH_REASON_DELAY = "delay";
+  private static final String FLUSH_REASON_STATE = "state";
+  private static final String FLUSH_REASON_END_OF_INPUT = "end_of_input";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(VersionedAirbyteMessageOutputStreamWriter.class);
+
+  // Shared by all the writers, flushing idle buffers is quick.
+  private static final ScheduledExecutorService IDLE_FLUSH_SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    final Thread thread = new Thread(runnable, "destination-idle-flush");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  /**
+   * When to flush the messages written to the connector.
+   *
+   * @param bufferSizeBytes size of the buffer, it is flushed once it is full.
+   * @param maxFlushDelay maximum time since the last flush after which the buffer is flushed.
+   */
+  public record FlushPolicy(int bufferSizeBytes, Duration maxFlushDelay) {
+
+    public static final FlushPolicy DEFAULT = new FlushPolicy(1024 * 1024, Duration.ofSeconds(1));
+
+  }
+
+  private final AirbyteMessageVersionedMigrator<T> migrator;
+  private final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog;
+  private final FlushPolicy flushPolicy;
+  private final MetricClient metricClient;
+  private final SizedBufferedOutputStream buffer;
+  private final JsonGenerator generator;
+  private final long maxFlushDelayNanos;
+  private final ScheduledFuture<?> idleFlush;
+
+  private long lastFlushNanos;
+  private long bytesFlushed;
+
+  public VersionedAirbyteMessageOutputStreamWriter(final OutputStream outputStream,
+                                                   final AirbyteMessageVersionedMigrator<T> migrator,
+                                                   final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog,
+                                                   final FlushPolicy flushPolicy,
+                                                   final MetricClient metricClient)
+      throws IOException {
+    this(outputStream, migrator, configuredAirbyteCatalog, flushPolicy, metricClient, IDLE_FLUSH_SCHEDULER);
+  }
+
+  @VisibleForTesting
+  VersionedAirbyteMessageOutputStreamWriter(final OutputStream outputStream,
+                                            final AirbyteMessageVersionedMigrator<T> migrator,
+                                            final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog,
+                                            final FlushPolicy flushPolicy,
+                                            final MetricClient metricClient,
+                                            final ScheduledExecutorService idleFlushScheduler)
+      throws IOException {
+    this.migrator = migrator;
+    this.configuredAirbyteCatalog = configuredAirbyteCatalog;
+    this.flushPolicy = flushPolicy;
+    this.metricClient = metricClient;
+    this.buffer = new SizedBufferedOutputStream(outputStream, flushPolicy.bufferSizeBytes());
+    this.generator = OBJECT_WRITER.createGenerator(buffer);
+    // The generator is flushed to the buffer before raw lines are copied to it, which must not flush the
+    // buffer to the connector. The buffer is flushed explicitly instead.
+    this.generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+    // Messages are separated by the line feed written after each of them.
+    this.generator.setRootValueSeparator(null);
+    this.maxFlushDelayNanos = flushPolicy.maxFlushDelay().toNanos();
+    this.lastFlushNanos = System.nanoTime();
+    // Every write flushes when the delay is zero.
+    this.idleFlush = maxFlushDelayNanos > 0
+        ? idleFlushScheduler.scheduleWithFixedDelay(this::flushIfIdle, maxFlushDelayNanos, maxFlushDelayNanos, TimeUnit.NANOSECONDS)
+        : null;
+  }
+
+  @Override
+  public synchronized void write(final AirbyteMessage message) throws IOException {
+    final byte[] rawLine = message instanceof final SourceRecordMessage sourceRecordMessage ? sourceRecordMessage.rawLine() : null;
+    if (rawLine != null) {
+      // The record was passed through from the source, write the line it was read from as is.
+      generator.flush();
+      buffer.write(rawLine);
+      buffer.write('\n');
+    } else {
+      OBJECT_WRITER.writeValue(generator, migrator.downgrade(message, configuredAirbyteCatalog));
+      generator.writeRaw('\n');
+    }
+
+    if (message.getType() == AirbyteMessage.Type.STATE) {
+      flush(FLUSH_REASON_STATE);
+    } else if (bufferedBytes() >= flushPolicy.bufferSizeBytes()) {
+      flush(FLUSH_REASON_SIZE);
+    } else if (System.nanoTime() - lastFlushNanos >= maxFlushDelayNanos) {
+      flush(FLUSH_REASON_DELAY);
+    }
+  }
+
+  @Override
+  public synchronized void flush() throws IOException {
+    flush(FLUSH_REASON_END_OF_INPUT);
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (idleFlush != null) {
+      idleFlush.cancel(false);
+    }
+    generator.close();
+  }
+
+  /**
+   * Flush the buffer if nothing was flushed for the max delay, when no message was written since.
+   */
+  @VisibleForTesting
+  synchronized void flushIfIdle() {
+    if (generator.isClosed() || bufferedBytes() == 0 || System.nanoTime() - lastFlushNanos < maxFlushDelayNanos) {
+      return;
+    }
+    try {
+      flush(FLUSH_REASON_DELAY);
+    } catch (final IOException e) {
+      // The next write or flush fails the same way and reports it.
+      LOGGER.warn("Failed to flush the idle buffer to the destination", e);
+    }
+  }
+
+  private long bufferedBytes() {
+    return (long) generator.getOutputBuffered() + buffer.size();
+  }
+
+  private void flush(final String reason) throws IOException {
+    final long bytes = bufferedBytes();
+    final long start = System.nanoTime();
+    generator.flush();
+    buffer.flush();
+    final long end = System.nanoTime();
+
+    bytesFlushed += bytes;
+    final MetricAttribute reasonAttribute = new MetricAttribute(MetricTags.FLUSH_REASON, reason);
+    metricClient.distribution(OssMetricsRegistry.WORKER_DESTINATION_FLUSH_LATENCY_MS, (end - start) / 1_000_000.0, reasonAttribute);
+    if (end > lastFlushNanos) {
+      metricClient.distribution(OssMetricsRegistry.WORKER_DESTINATION_WRITE_BYTES_PER_SECOND, bytes * 1_000_000_000.0 / (end - lastFlushNanos),
+          reasonAttribute);
+    }
+    lastFlushNanos = end;
+  }
+
+  /**
+   * Total number of bytes flushed to the connector.
+   */
+  public synchronized long getBytesFlushed() {
+    return bytesFlushed;
+  }
+
+  /**
+   * A BufferedOutputStream exposing the number of buffered bytes.
+   */
+  private static final class SizedBufferedOutputStream extends BufferedOutputStream {
+
+    SizedBufferedOutputStream(final OutputStream out, final int size) {
+      super(out, size);
+    }
+
+    int size() {
+      return count;
+    }
+
+  }
+
+}
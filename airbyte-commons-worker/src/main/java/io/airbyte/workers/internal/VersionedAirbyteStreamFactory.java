@@ -7,6 +7,7 @@ package io.airbyte.workers.internal;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.logging.MdcScope;
 import io.airbyte.commons.protocol.AirbyteMessageMigrator;
@@ -22,24 +23,33 @@ import io.airbyte.commons.protocol.serde.AirbyteMessageV1Serializer;
 import io.airbyte.commons.version.AirbyteProtocolVersion;
 import io.airbyte.commons.version.Version;
 import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.metrics.lib.MetricClientFactory;
 import io.airbyte.metrics.lib.MetricTags;
 import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.protocol.models.AirbyteLogMessage;
 import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.workers.helper.GsonPksExtractor;
+import io.airbyte.workers.helper.SourceRecordMessage;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.lang.reflect.InvocationTargetException;
 import java.nio.charset.StandardCharsets;
 import java.text.CharacterIterator;
 import java.text.StringCharacterIterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.joda.time.DateTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -95,6 +105,9 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
   private Version protocolVersion;
 
   private boolean shouldDetectVersion = false;
+  private boolean shouldParseInputStream = false;
+  private Predicate<AirbyteStreamNameNamespacePair> passThroughSampler = null;
+  private FieldSelectionPlans fieldSelectionPlans = null;
 
   private final InvalidLineFailureConfiguration invalidLineFailureConfiguration;
   private final GsonPksExtractor gsonPksExtractor;
@@ -210,6 +223,40 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
     return addLineReadLogic(bufferedReader);
   }
 
+  /**
+   * Create the AirbyteMessage stream directly from the InputStream.
+   *
+   * If input stream parsing is enabled, lines are deserialized from their UTF-8 bytes instead of
+   * being decoded to a String first. Lines that cannot be deserialized are still decoded so they can
+   * be logged. Version detection needs to look ahead in the stream, so it always goes through
+   * {@link #create(BufferedReader)}.
+   *
+   * If record pass-through is also enabled and the messages don't need to be upgraded, the RECORD
+   * lines whose records are sampled out of schema validation are not deserialized, see
+   * {@link RawRecordParser}. Likewise if field selection plans are set, the
+   * fields that are not selected are not deserialized, see {@link FieldSelectingRecordParser}.
+   */
+  @Override
+  public Stream<AirbyteMessage> create(final InputStream inputStream) {
+    if (!shouldParseInputStream || shouldDetectVersion) {
+      return create(IOs.newBufferedReader(inputStream));
+    }
+
+    final boolean needMigration = !protocolVersion.getMajorVersion().equals(migratorFactory.getMostRecentVersion().getMajorVersion());
+    logger.info(
+        "Reading messages from protocol version {}{} by parsing the input stream",
+        protocolVersion.serialize(),
+        needMigration ? ", messages will be upgraded to protocol version " + migratorFactory.getMostRecentVersion().serialize() : "");
+
+    final Predicate<AirbyteStreamNameNamespacePair> sampler = needMigration ? null : passThroughSampler;
+    if (sampler != null) {
+      logger.info("Records sampled out of schema validation will be passed through to the destination without being deserialized");
+    }
+    final FieldSelectingRecordParser fieldSelectingRecordParser =
+        fieldSelectionPlans != null && !needMigration ? new FieldSelectingRecordParser(fieldSelectionPlans) : null;
+    return addInputStreamReadLogic(inputStream, sampler, fieldSelectingRecordParser);
+  }
+
   private void detectAndInitialiseMigrators(final BufferedReader bufferedReader) {
     if (shouldDetectVersion) {
       final Optional<Version> versionMaybe;
@@ -233,28 +280,101 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
     final var metricClient = MetricClientFactory.getMetricClient();
     return bufferedReader
         .lines()
-        .peek(str -> {
-          final long messageSize = str.getBytes(StandardCharsets.UTF_8).length;
-          metricClient.distribution(OssMetricsRegistry.JSON_STRING_LENGTH, messageSize);
+        .peek(str -> checkMessageSize(metricClient, str.getBytes(StandardCharsets.UTF_8).length))
+        .flatMap(this::toAirbyteMessage)
+        .filter(this::filterLog);
+  }
 
-          if (exceptionClass.isPresent()) {
-            if (messageSize > maxMemory * MAX_SIZE_RATIO) {
-              connectionId.ifPresent(id -> metricClient.count(OssMetricsRegistry.RECORD_SIZE_ERROR, 1,
-                  new MetricAttribute(MetricTags.CONNECTION_ID, id.toString())));
-              final String errorMessage = String.format(
-                  "Airbyte has received a message at %s UTC which is larger than %s (size: %s). "
-                      + "The sync has been failed to prevent running out of memory.",
-                  DateTime.now(),
-                  humanReadableByteCountSI(maxMemory),
-                  humanReadableByteCountSI(messageSize));
-              throwExceptionClass(errorMessage);
+  private Stream<AirbyteMessage> addInputStreamReadLogic(final InputStream inputStream,
+                                                         final Predicate<AirbyteStreamNameNamespacePair> passThroughSampler,
+                                                         final FieldSelectingRecordParser fieldSelectingRecordParser) {
+    final var metricClient = MetricClientFactory.getMetricClient();
+    final ByteLineReader lineReader = new ByteLineReader(inputStream);
+    final Spliterator<AirbyteMessage> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+
+      @Override
+      public boolean tryAdvance(final Consumer<? super AirbyteMessage> action) {
+        try {
+          while (lineReader.readLine()) {
+            final int messageSize = lineReader.lineLength();
+            checkMessageSize(metricClient, messageSize);
+
+            Optional<AirbyteMessage> message = Optional.empty();
+            if (passThroughSampler != null) {
+              final Optional<SourceRecordMessage> rawRecord = RawRecordParser.parse(lineReader.buffer(), lineReader.lineStart(), messageSize);
+              if (rawRecord.isPresent()) {
+                if (passThroughSampler.test(AirbyteStreamNameNamespacePair.fromRecordMessage(rawRecord.get().getRecord()))) {
+                  message = Optional.of(rawRecord.get());
+                } else {
+                  // The record is validated, which needs its data. It must not be sampled a second time.
+                  message = toAirbyteMessage(lineReader.buffer(), lineReader.lineStart(), messageSize).findFirst()
+                      .map(parsed -> parsed.getType() == AirbyteMessage.Type.RECORD ? sampledForValidation(parsed, rawRecord.get()) : parsed);
+                  if (message.isEmpty()) {
+                    continue;
+                  }
+                }
+              }
+            }
+            if (message.isEmpty() && fieldSelectingRecordParser != null) {
+              final Optional<AirbyteMessage> record = fieldSelectingRecordParser.parse(lineReader.buffer(), lineReader.lineStart(), messageSize);
+              if (record.isPresent()) {
+                message = validateAndUpgrade(record.get(), null).findFirst();
+                if (message.isEmpty()) {
+                  continue;
+                }
+                // The size of the data that was read doesn't reflect a record whose fields were skipped.
+                if (!fieldSelectingRecordParser.hasSkippedFields()) {
+                  message = Optional.of(new SourceRecordMessage(message.get().getRecord(), fieldSelectingRecordParser.dataByteSize()));
+                }
+              }
+            }
+            if (message.isEmpty()) {
+              message = toAirbyteMessage(lineReader.buffer(), lineReader.lineStart(), messageSize).findFirst();
+            }
+            if (message.isPresent()) {
+              action.accept(message.get());
+              return true;
             }
           }
-        })
-        .flatMap(this::toAirbyteMessage)
+          return false;
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+
+    };
+    return StreamSupport.stream(spliterator, false)
         .filter(this::filterLog);
   }
 
+  /**
+   * The message of a record that was selected for schema validation when its line was read, which
+   * keeps the size of the data that was read along.
+   */
+  private static AirbyteMessage sampledForValidation(final AirbyteMessage message, final SourceRecordMessage rawRecord) {
+    final SourceRecordMessage sampledMessage = new SourceRecordMessage(message.getRecord(), rawRecord.dataByteSize());
+    sampledMessage.markSampledForValidation();
+    return sampledMessage;
+  }
+
+  private void checkMessageSize(final MetricClient metricClient, final long messageSize) {
+    metricClient.distribution(OssMetricsRegistry.JSON_STRING_LENGTH, messageSize);
+
+    if (exceptionClass.isPresent()) {
+      if (messageSize > maxMemory * MAX_SIZE_RATIO) {
+        connectionId.ifPresent(id -> metricClient.count(OssMetricsRegistry.RECORD_SIZE_ERROR, 1,
+            new MetricAttribute(MetricTags.CONNECTION_ID, id.toString())));
+        final String errorMessage = String.format(
+            "Airbyte has received a message at %s UTC which is larger than %s (size: %s). "
+                + "The sync has been failed to prevent running out of memory.",
+            DateTime.now(),
+            humanReadableByteCountSI(maxMemory),
+            humanReadableByteCountSI(messageSize));
+        throwExceptionClass(errorMessage);
+      }
+    }
+  }
+
   /**
    * Attempt to detect the version by scanning the stream
    *
@@ -309,6 +429,43 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
     return this;
   }
 
+  /**
+   * If enabled, {@link #create(InputStream)} deserializes messages straight from the bytes of the
+   * InputStream rather than going through a BufferedReader. This saves decoding every line to a
+   * String, which is then encoded again by the JSON parser.
+   */
+  public VersionedAirbyteStreamFactory<T> withInputStreamParsing(final boolean parseInputStream) {
+    this.shouldParseInputStream = parseInputStream;
+    return this;
+  }
+
+  /**
+   * If set along with input stream parsing, the RECORD messages that the sampler samples out of schema
+   * validation are not deserialized. They only carry their stream, namespace and emitted_at along
+   * with the line they were read from, which the destination writer forwards as is. See
+   * {@link SourceRecordMessage}. The records the sampler selects are deserialized and marked as
+   * sampled. This MUST only be set if nothing between the source and the destination needs to read or
+   * modify the data of the records that are not validated.
+   *
+   * @param passThroughSampler called once per record, returns true if the record is sampled out of
+   *        schema validation, see {@link io.airbyte.workers.RecordSchemaValidator#isSampledOut}
+   */
+  public VersionedAirbyteStreamFactory<T> withRecordPassthrough(final Predicate<AirbyteStreamNameNamespacePair> passThroughSampler) {
+    this.passThroughSampler = passThroughSampler;
+    return this;
+  }
+
+  /**
+   * If set along with input stream parsing, the fields of the records that are not selected are
+   * skipped while parsing rather than being deserialized and then filtered out by the
+   * {@link FieldSelector}. This MUST only be set if nothing before the FieldSelector needs to read the
+   * fields that are not selected.
+   */
+  public VersionedAirbyteStreamFactory<T> withFieldSelection(final FieldSelectionPlans fieldSelectionPlans) {
+    this.fieldSelectionPlans = fieldSelectionPlans;
+    return this;
+  }
+
   protected final void initializeForProtocolVersion(final Version protocolVersion) {
     this.deserializer = (AirbyteMessageDeserializer<AirbyteMessage>) serDeProvider.getDeserializer(protocolVersion).orElseThrow();
     this.migrator = migratorFactory.getAirbyteMessageMigrator(protocolVersion);
@@ -364,23 +521,43 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
    * 3. upgrade the message to the platform version, if needed.
    */
   protected Stream<AirbyteMessage> toAirbyteMessage(final String line) {
-    Optional<AirbyteMessage> m = deserializer.deserializeExact(line);
+    final Optional<AirbyteMessage> m = deserializer.deserializeExact(line);
 
     if (m.isPresent()) {
-      m = BasicAirbyteMessageValidator.validate(m.get(), configuredAirbyteCatalog, invalidLineFailureConfiguration.failMissingPks);
+      return validateAndUpgrade(m.get(), line);
+    }
 
-      if (m.isEmpty()) {
-        logger.error("Validation failed: {}", Jsons.serialize(line));
-        return m.stream();
-      }
+    handleCannotDeserialize(line);
+    return m.stream();
+  }
+
+  /**
+   * Same as {@link #toAirbyteMessage(String)} for a line of UTF-8 encoded bytes. The line is only
+   * decoded to a String if it cannot be processed.
+   */
+  protected Stream<AirbyteMessage> toAirbyteMessage(final byte[] buffer, final int offset, final int length) {
+    final Optional<AirbyteMessage> m = deserializer.deserializeExact(buffer, offset, length);
 
-      return upgradeMessage(m.get());
+    if (m.isPresent()) {
+      return validateAndUpgrade(m.get(), null);
     }
 
-    handleCannotDeserialize(line);
+    handleCannotDeserialize(new String(buffer, offset, length, StandardCharsets.UTF_8));
     return m.stream();
   }
 
+  private Stream<AirbyteMessage> validateAndUpgrade(final AirbyteMessage message, final String line) {
+    final Optional<AirbyteMessage> m =
+        BasicAirbyteMessageValidator.validate(message, configuredAirbyteCatalog, invalidLineFailureConfiguration.failMissingPks);
+
+    if (m.isEmpty()) {
+      logger.error("Validation failed: {}", line != null ? Jsons.serialize(line) : Jsons.serialize(message));
+      return m.stream();
+    }
+
+    return upgradeMessage(m.get());
+  }
+
   /**
    * If a line cannot be deserialized into an AirbyteMessage, either:
    * <p>
@@ -15,19 +15,23 @@ import io.airbyte.featureflag.FailMissingPks;
 import io.airbyte.featureflag.FailSyncIfTooBig;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.Multi;
+import io.airbyte.featureflag.ParseConnectorOutputStream;
 import io.airbyte.featureflag.PrintLongRecordPks;
 import io.airbyte.featureflag.Workspace;
+import io.airbyte.featureflag.WriteDestinationInputStream;
 import io.airbyte.persistence.job.models.IntegrationLauncherConfig;
+import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.workers.helper.GsonPksExtractor;
 import io.airbyte.workers.internal.AirbyteDestination;
 import io.airbyte.workers.internal.AirbyteSource;
-import io.airbyte.workers.internal.AirbyteStreamFactory;
 import io.airbyte.workers.internal.DefaultAirbyteDestination;
 import io.airbyte.workers.internal.DefaultAirbyteSource;
 import io.airbyte.workers.internal.DestinationTimeoutMonitor;
+import io.airbyte.workers.internal.FieldSelectionPlans;
 import io.airbyte.workers.internal.HeartbeatMonitor;
 import io.airbyte.workers.internal.VersionedAirbyteMessageBufferedWriterFactory;
+import io.airbyte.workers.internal.VersionedAirbyteMessageOutputStreamWriter.FlushPolicy;
 import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
 import io.airbyte.workers.internal.exception.DestinationException;
 import io.airbyte.workers.internal.exception.SourceException;
@@ -35,6 +39,7 @@ import jakarta.inject.Singleton;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 /**
  * Factory to help create IntegrationLaunchers.
@@ -96,12 +101,17 @@ public class AirbyteIntegrationLauncherFactory {
    * @param sourceLauncherConfig the configuration of the source.
    * @param configuredAirbyteCatalog the configuredAirbyteCatalog of the Connection the source.
    * @param heartbeatMonitor an instance of HeartbeatMonitor to use for the AirbyteSource.
+   * @param passThroughSampler if not null, the records it samples out of schema validation are
+   *        forwarded to the destination without being deserialized, the caller is responsible for
+   *        making sure nothing else needs their data.
    * @return an AirbyteSource.
    */
   public AirbyteSource createAirbyteSource(final IntegrationLauncherConfig sourceLauncherConfig,
                                            final SyncResourceRequirements syncResourceRequirements,
                                            final ConfiguredAirbyteCatalog configuredAirbyteCatalog,
-                                           final HeartbeatMonitor heartbeatMonitor) {
+                                           final HeartbeatMonitor heartbeatMonitor,
+                                           final Predicate<AirbyteStreamNameNamespacePair> passThroughSampler,
+                                           final boolean fieldSelectionEnabled) {
     final IntegrationLauncher sourceLauncher = createIntegrationLauncher(sourceLauncherConfig, syncResourceRequirements);
 
     final boolean failTooLongRecords = featureFlagClient.boolVariation(FailSyncIfTooBig.INSTANCE,
@@ -119,12 +129,24 @@ public class AirbyteIntegrationLauncherFactory {
             new Connection(sourceLauncherConfig.getConnectionId()),
             new Workspace(sourceLauncherConfig.getWorkspaceId()))));
 
-    return new DefaultAirbyteSource(sourceLauncher,
+    // Checking for missing PKs requires the record data.
+    final Predicate<AirbyteStreamNameNamespacePair> recordPassthrough = failMissingPks ? null : passThroughSampler;
+    final boolean parseInputStream = recordPassthrough != null || shouldParseInputStream(sourceLauncherConfig);
+    final FieldSelectionPlans fieldSelectionPlans =
+        fieldSelectionEnabled && parseInputStream && !failMissingPks ? FieldSelectionPlans.fromCatalog(configuredAirbyteCatalog) : null;
+
+    final VersionedAirbyteStreamFactory<?> streamFactory =
         getStreamFactory(sourceLauncherConfig, configuredAirbyteCatalog, SourceException.class, DefaultAirbyteSource.CONTAINER_LOG_MDC_BUILDER,
             new VersionedAirbyteStreamFactory.InvalidLineFailureConfiguration(
                 failTooLongRecords,
                 failMissingPks,
-                printLongRecordPks)),
+                printLongRecordPks))
+            .withInputStreamParsing(parseInputStream)
+            .withRecordPassthrough(recordPassthrough)
+            .withFieldSelection(fieldSelectionPlans);
+
+    return new DefaultAirbyteSource(sourceLauncher,
+        streamFactory,
         heartbeatMonitor,
         getProtocolSerializer(sourceLauncherConfig),
         featureFlags);
@@ -148,21 +170,37 @@ public class AirbyteIntegrationLauncherFactory {
             configuredAirbyteCatalog,
             DestinationException.class,
             DefaultAirbyteDestination.CONTAINER_LOG_MDC_BUILDER,
-            new VersionedAirbyteStreamFactory.InvalidLineFailureConfiguration(false, false, false)),
+            new VersionedAirbyteStreamFactory.InvalidLineFailureConfiguration(false, false, false))
+                .withInputStreamParsing(shouldParseInputStream(destinationLauncherConfig)),
         new VersionedAirbyteMessageBufferedWriterFactory(serDeProvider, migratorFactory, destinationLauncherConfig.getProtocolVersion(),
-            Optional.of(configuredAirbyteCatalog)),
+            Optional.of(configuredAirbyteCatalog),
+            shouldWriteInputStream(destinationLauncherConfig) ? Optional.of(FlushPolicy.DEFAULT) : Optional.empty()),
         getProtocolSerializer(destinationLauncherConfig), destinationTimeoutMonitor);
   }
 
+  private boolean shouldParseInputStream(final IntegrationLauncherConfig launcherConfig) {
+    return featureFlagClient.boolVariation(ParseConnectorOutputStream.INSTANCE,
+        new Multi(List.of(
+            new Connection(launcherConfig.getConnectionId()),
+            new Workspace(launcherConfig.getWorkspaceId()))));
+  }
+
+  private boolean shouldWriteInputStream(final IntegrationLauncherConfig launcherConfig) {
+    return featureFlagClient.boolVariation(WriteDestinationInputStream.INSTANCE,
+        new Multi(List.of(
+            new Connection(launcherConfig.getConnectionId()),
+            new Workspace(launcherConfig.getWorkspaceId()))));
+  }
+
   private VersionedProtocolSerializer getProtocolSerializer(final IntegrationLauncherConfig launcherConfig) {
     return migratorFactory.getProtocolSerializer(launcherConfig.getProtocolVersion());
   }
 
-  private AirbyteStreamFactory getStreamFactory(final IntegrationLauncherConfig launcherConfig,
-                                                final ConfiguredAirbyteCatalog configuredAirbyteCatalog,
-                                                final Class<? extends RuntimeException> exceptionClass,
-                                                final MdcScope.Builder mdcScopeBuilder,
-                                                final VersionedAirbyteStreamFactory.InvalidLineFailureConfiguration invalidLineFailureConfiguration) {
+  private VersionedAirbyteStreamFactory<?> getStreamFactory(final IntegrationLauncherConfig launcherConfig,
+                                                            final ConfiguredAirbyteCatalog configuredAirbyteCatalog,
+                                                            final Class<? extends RuntimeException> exceptionClass,
+                                                            final MdcScope.Builder mdcScopeBuilder,
+                                                            final VersionedAirbyteStreamFactory.InvalidLineFailureConfiguration invalidLineFailureConfiguration) {
     return new VersionedAirbyteStreamFactory<>(serDeProvider, migratorFactory, launcherConfig.getProtocolVersion(),
         Optional.of(launcherConfig.getConnectionId()), Optional.of(configuredAirbyteCatalog), mdcScopeBuilder, Optional.of(exceptionClass),
         invalidLineFailureConfiguration, gsonPksExtractor);
@@ -24,6 +24,17 @@ public class OrchestratorConstants {
   private static final String FEATURE_FLAG_CLIENT = "FEATURE_FLAG_CLIENT";
   private static final String FEATURE_FLAG_PATH = "FEATURE_FLAG_PATH";
 
+  // transport of the internal api client, see ApiClientBeanFactory
+  private static final String INTERNAL_API_HTTP_VERSION = "INTERNAL_API_HTTP_VERSION";
+  private static final String INTERNAL_API_MAX_CONCURRENT_REQUESTS = "INTERNAL_API_MAX_CONCURRENT_REQUESTS";
+  private static final String INTERNAL_API_COMPRESSION_ENABLED = "INTERNAL_API_COMPRESSION_ENABLED";
+  private static final String INTERNAL_API_COMPRESSION_THRESHOLD_BYTES = "INTERNAL_API_COMPRESSION_THRESHOLD_BYTES";
+
+  // buffering of the stream status updates, see StreamStatusUpdateBuffer
+  private static final String REPLICATION_STREAM_STATUS_BATCHING_ENABLED = "REPLICATION_STREAM_STATUS_BATCHING_ENABLED";
+  private static final String REPLICATION_STREAM_STATUS_FLUSH_PERIOD_MS = "REPLICATION_STREAM_STATUS_FLUSH_PERIOD_MS";
+  private static final String REPLICATION_STREAM_STATUS_MAX_BATCH_SIZE = "REPLICATION_STREAM_STATUS_MAX_BATCH_SIZE";
+
   // set of env vars necessary for the container orchestrator app to run
   public static final Set<String> ENV_VARS_TO_TRANSFER = new ImmutableSet.Builder<String>()
       .addAll(EnvConfigs.JOB_SHARED_ENVS.keySet())
@@ -86,6 +97,13 @@ public class OrchestratorConstants {
           EnvConfigs.LAUNCHDARKLY_KEY,
           EnvConfigs.SOCAT_KUBE_CPU_LIMIT,
           EnvConfigs.SOCAT_KUBE_CPU_REQUEST,
+          INTERNAL_API_HTTP_VERSION,
+          INTERNAL_API_MAX_CONCURRENT_REQUESTS,
+          INTERNAL_API_COMPRESSION_ENABLED,
+          INTERNAL_API_COMPRESSION_THRESHOLD_BYTES,
+          REPLICATION_STREAM_STATUS_BATCHING_ENABLED,
+          REPLICATION_STREAM_STATUS_FLUSH_PERIOD_MS,
+          REPLICATION_STREAM_STATUS_MAX_BATCH_SIZE,
           // Tracking Client Environment Variables
           TrackingClientConstants.AIRBYTE_ROLE_ENV_VAR,
           TrackingClientConstants.AIRBYTE_VERSION_ENV_VAR,
@@ -19,6 +19,7 @@ import io.airbyte.config.StandardSyncSummary.ReplicationStatus
 import io.airbyte.config.SyncStats
 import io.airbyte.config.WorkerDestinationConfig
 import io.airbyte.metrics.lib.ApmTraceUtils
+import io.airbyte.metrics.lib.BoundMetric
 import io.airbyte.metrics.lib.MetricAttribute
 import io.airbyte.metrics.lib.MetricClient
 import io.airbyte.metrics.lib.MetricClientFactory
@@ -82,7 +83,12 @@ class ReplicationWorkerHelper(
   private val workloadId: Optional<String>,
 ) {
   private val metricClient = MetricClientFactory.getMetricClient()
-  private val metricAttrs: MutableList<MetricAttribute> = mutableListOf()
+
+  // Emitted for every STATE message, so they are bound to the attributes of the sync once it is initialized.
+  private lateinit var stateProcessedFromSource: BoundMetric
+  private lateinit var stateProcessedFromDestination: BoundMetric
+  private lateinit var stateRecordCounts: Map<Pair<AirbyteMessageOrigin, AirbyteMessageOrigin>, BoundMetric>
+
   private val replicationFailures: MutableList<FailureReason> = Collections.synchronizedList(mutableListOf())
   private val _cancelled = AtomicBoolean()
   private val hasFailed = AtomicBoolean()
@@ -168,10 +174,16 @@ class ReplicationWorkerHelper(
 
     analyticsMessageTracker.ctx = ctx
 
-    with(metricAttrs) {
-      clear()
-      addAll(toConnectionAttrs(ctx))
-    }
+    val connectionAttrs = toConnectionAttrs(ctx).toTypedArray()
+    stateProcessedFromSource = metricClient.bind(OssMetricsRegistry.STATE_PROCESSED_FROM_SOURCE, *connectionAttrs)
+    stateProcessedFromDestination = metricClient.bind(OssMetricsRegistry.STATE_PROCESSED_FROM_DESTINATION, *connectionAttrs)
+    // Only the destination reports destination stats, see recordStateStatsMetrics.
+    stateRecordCounts =
+      listOf(
+        AirbyteMessageOrigin.SOURCE to AirbyteMessageOrigin.SOURCE,
+        AirbyteMessageOrigin.DESTINATION to AirbyteMessageOrigin.SOURCE,
+        AirbyteMessageOrigin.DESTINATION to AirbyteMessageOrigin.DESTINATION,
+      ).associateWith { (messageOrigin, statsType) -> bindStateRecordCount(metricClient, ctx, messageOrigin, statsType) }
 
     ApmTraceUtils.addTagsToTrace(ctx.connectionId, ctx.attempt.toLong(), ctx.jobId.toString(), jobRoot)
   }
@@ -326,10 +338,22 @@ class ReplicationWorkerHelper(
 
   @VisibleForTesting
   fun internalProcessMessageFromSource(sourceRawMessage: AirbyteMessage): AirbyteMessage {
-    val context = requireNotNull(ctx)
+    selectFieldsAndValidate(sourceRawMessage)
+    return trackMessageFromSource(sourceRawMessage)
+  }
 
+  /**
+   * Field selection and schema validation of a message from the source. This only updates state
+   * that is kept per stream, so messages of different streams can go through it concurrently.
+   */
+  fun selectFieldsAndValidate(sourceRawMessage: AirbyteMessage) {
     fieldSelector.filterSelectedFields(sourceRawMessage)
     fieldSelector.validateSchema(sourceRawMessage)
+  }
+
+  private fun trackMessageFromSource(sourceRawMessage: AirbyteMessage): AirbyteMessage {
+    val context = requireNotNull(ctx)
+
     messageTracker.acceptFromSource(sourceRawMessage)
     if (isAnalyticsMessage(sourceRawMessage)) {
       analyticsMessageTracker.addMessage(sourceRawMessage, AirbyteMessageOrigin.SOURCE)
@@ -349,13 +373,29 @@ class ReplicationWorkerHelper(
     }
 
     if (sourceRawMessage.type == Type.STATE) {
-      metricClient.count(OssMetricsRegistry.STATE_PROCESSED_FROM_SOURCE, 1, *metricAttrs.toTypedArray())
-      recordStateStatsMetrics(metricClient, sourceRawMessage.state, AirbyteMessageOrigin.SOURCE, ctx!!)
+      stateProcessedFromSource.count(1)
+      recordStateStatsMetrics(sourceRawMessage.state, AirbyteMessageOrigin.SOURCE)
     }
 
     return sourceRawMessage
   }
 
+  private fun recordStateStatsMetrics(
+    stateMessage: AirbyteStateMessage,
+    messageOrigin: AirbyteMessageOrigin,
+  ) {
+    // Only record the destination stats for state messages coming from the destination.
+    // The destination stats will always be blank for state messages coming from the source
+    if (messageOrigin == AirbyteMessageOrigin.DESTINATION && stateMessage.destinationStats != null) {
+      stateRecordCounts.getValue(messageOrigin to AirbyteMessageOrigin.DESTINATION)
+        .gauge(extractStateRecordCount(stateMessage.destinationStats))
+    }
+
+    if (stateMessage.sourceStats != null) {
+      stateRecordCounts.getValue(messageOrigin to AirbyteMessageOrigin.SOURCE).gauge(extractStateRecordCount(stateMessage.sourceStats))
+    }
+  }
+
   @VisibleForTesting
   fun internalProcessMessageFromDestination(destinationRawMessage: AirbyteMessage) {
     val context = requireNotNull(ctx)
@@ -385,9 +425,9 @@ class ReplicationWorkerHelper(
 
     if (destinationRawMessage.type == Type.STATE) {
       val airbyteStateMessage = destinationRawMessage.state
-      recordStateStatsMetrics(metricClient, airbyteStateMessage, AirbyteMessageOrigin.DESTINATION, ctx!!)
+      recordStateStatsMetrics(airbyteStateMessage, AirbyteMessageOrigin.DESTINATION)
       syncPersistence.persist(context.connectionId, destinationRawMessage.state)
-      metricClient.count(OssMetricsRegistry.STATE_PROCESSED_FROM_DESTINATION, 1, *metricAttrs.toTypedArray())
+      stateProcessedFromDestination.count(1)
     }
 
     if (shouldPublishMessage(destinationRawMessage)) {
@@ -410,6 +450,23 @@ class ReplicationWorkerHelper(
       .let { Optional.of(it) }
   }
 
+  /**
+   * Tracks a message from the source that already went through [selectFieldsAndValidate]: its stats,
+   * analytics and stream status events. Calls must not be concurrent.
+   */
+  fun trackSelectedMessageFromSource(sourceRawMessage: AirbyteMessage) {
+    trackMessageFromSource(sourceRawMessage)
+  }
+
+  /**
+   * Maps a message from the source that was tracked by [trackSelectedMessageFromSource] to the
+   * destination namespace. Records can be mapped concurrently, the mapping of a record only depends on
+   * the record.
+   */
+  fun mapMessageFromSource(sourceRawMessage: AirbyteMessage): Optional<AirbyteMessage> {
+    return Optional.of(mapper.mapMessage(sourceRawMessage))
+  }
+
   fun isWorkerV2TestEnabled(): Boolean {
     return workloadEnabled
   }
@@ -497,39 +554,14 @@ private fun extractStateRecordCount(stats: AirbyteStateStats?): Double {
   return stats?.recordCount ?: 0.0
 }
 
-private fun recordStateStatsMetrics(
+private fun bindStateRecordCount(
   metricClient: MetricClient,
-  stateMessage: AirbyteStateMessage,
-  messageOrigin: AirbyteMessageOrigin,
   ctx: ReplicationContext,
-) {
-  // Only record the destination stats for state messages coming from the destination.
-  // The destination stats will always be blank for state messages coming from the source
-  if (messageOrigin == AirbyteMessageOrigin.DESTINATION && stateMessage.destinationStats != null) {
-    recordStateStatsMetric(
-      metricClient,
-      stateMessage.destinationStats,
-      messageOrigin,
-      AirbyteMessageOrigin.DESTINATION,
-      ctx,
-    )
-  }
-
-  if (stateMessage.sourceStats != null) {
-    recordStateStatsMetric(metricClient, stateMessage.sourceStats, messageOrigin, AirbyteMessageOrigin.SOURCE, ctx)
-  }
-}
-
-private fun recordStateStatsMetric(
-  metricClient: MetricClient,
-  stats: AirbyteStateStats,
   messageOrigin: AirbyteMessageOrigin,
   statsType: AirbyteMessageOrigin,
-  ctx: ReplicationContext,
-) {
-  metricClient.gauge(
+): BoundMetric =
+  metricClient.bind(
     OssMetricsRegistry.SYNC_STATE_RECORD_COUNT,
-    extractStateRecordCount(stats),
     *toConnectionAttrs(ctx).toTypedArray(),
     *buildList {
       ctx.sourceImage?.let { add(MetricAttribute(MetricTags.SOURCE_IMAGE, it)) }
@@ -540,4 +572,3 @@ private fun recordStateStatsMetric(
       add(MetricAttribute(MetricTags.RECORD_COUNT_TYPE, statsType.name))
     }.toTypedArray(),
   )
-}
@@ -7,6 +7,7 @@ import io.airbyte.protocol.models.AirbyteAnalyticsTraceMessage
 import io.airbyte.protocol.models.AirbyteMessage
 import io.airbyte.protocol.models.AirbyteTraceMessage
 import io.airbyte.workers.helper.FailureHelper
+import io.airbyte.workers.helper.RecordByteSize
 import io.airbyte.workers.internal.stateaggregator.DefaultStateAggregator
 import io.airbyte.workers.internal.stateaggregator.StateAggregator
 import io.github.oshai.kotlinlogging.KotlinLogging
@@ -41,7 +42,7 @@ class AirbyteMessageTracker(
 
     when (msg.type) {
       AirbyteMessage.Type.TRACE -> handleEmittedTrace(msg.trace, AirbyteMessageOrigin.SOURCE)
-      AirbyteMessage.Type.RECORD -> syncStatsTracker.updateStats(msg.record)
+      AirbyteMessage.Type.RECORD -> syncStatsTracker.updateStats(msg.record, RecordByteSize.of(msg))
       AirbyteMessage.Type.STATE -> syncStatsTracker.updateSourceStatesStats(msg.state)
       AirbyteMessage.Type.CONTROL -> logger.debug { "Control message not currently tracked." }
       else -> logger.warn { "Invalid message type for message: $msg" }
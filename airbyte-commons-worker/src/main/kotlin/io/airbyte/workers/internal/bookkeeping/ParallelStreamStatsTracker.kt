@@ -39,9 +39,12 @@ class ParallelStreamStatsTracker(private val metricClient: MetricClient) : SyncS
   @Volatile
   private var checksumValidationEnabled = true
 
-  override fun updateStats(recordMessage: AirbyteRecordMessage) {
+  override fun updateStats(
+    recordMessage: AirbyteRecordMessage,
+    byteSize: Long,
+  ) {
     getOrCreateStreamStatsTracker(getNameNamespacePair(recordMessage))
-      .trackRecord(recordMessage)
+      .trackRecord(byteSize)
   }
 
   override fun updateEstimates(estimate: AirbyteEstimateTraceMessage) {
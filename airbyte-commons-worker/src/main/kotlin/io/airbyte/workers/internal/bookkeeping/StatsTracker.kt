@@ -7,9 +7,9 @@ import io.airbyte.commons.json.Jsons
 import io.airbyte.metrics.lib.MetricClient
 import io.airbyte.metrics.lib.OssMetricsRegistry
 import io.airbyte.protocol.models.AirbyteEstimateTraceMessage
-import io.airbyte.protocol.models.AirbyteRecordMessage
 import io.airbyte.protocol.models.AirbyteStateMessage
 import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair
+import io.airbyte.workers.helper.RecordByteSize
 import io.github.oshai.kotlinlogging.KotlinLogging
 import java.time.LocalDateTime
 import java.time.temporal.ChronoUnit
@@ -109,9 +109,10 @@ class StreamStatsTracker(
    * We update emitted records count on both emittedStats and streamStats. emittedStats is the tracker
    * for what is going to become committed once the state is acked. We update the global count to
    * avoid having to traverse the map to get the global count.
+   *
+   * @param estimatedBytesSize the size of the record, see [RecordByteSize].
    */
-  fun trackRecord(recordMessage: AirbyteRecordMessage) {
-    val estimatedBytesSize: Long = Jsons.getEstimatedByteSize(recordMessage.data).toLong()
+  fun trackRecord(estimatedBytesSize: Long) {
 
     // Update the current emitted stats
     // We do a local copy of the reference to emittedStats to ensure all the stats are
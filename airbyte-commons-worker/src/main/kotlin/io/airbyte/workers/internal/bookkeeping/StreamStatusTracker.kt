@@ -29,10 +29,16 @@ private val logger = KotlinLogging.logger {}
 /**
  * Tracks the status of individual streams within a replication sync based on the status of
  * source/destination messages.
+ *
+ * When a [StreamStatusUpdateBuffer] is available, the status changes are handed to it instead of
+ * being sent to the API one request at a time.
  */
 
 @Singleton
-class StreamStatusTracker(private val airbyteApiClient: AirbyteApiClient) {
+class StreamStatusTracker(
+  private val airbyteApiClient: AirbyteApiClient,
+  private val statusBuffer: StreamStatusUpdateBuffer?,
+) {
   private val currentStreamStatuses: MutableMap<StreamStatusKey, CurrentStreamStatus> = ConcurrentHashMap()
   protected val mdc: Map<String, String>? by lazy { MDC.getCopyOfContextMap() }
 
@@ -128,8 +134,13 @@ class StreamStatusTracker(private val airbyteApiClient: AirbyteApiClient) {
       throw StreamStatusException("Invalid stream status transition to STARTED.", AirbyteMessageOrigin.SOURCE, ctx, descriptor)
     }
 
-    val streamStatusRead: StreamStatusRead =
-      StreamStatusCreateRequestBody(ctx = ctx, descriptor = descriptor, transition = transition).let { requestBody ->
+    val requestBody = StreamStatusCreateRequestBody(ctx = ctx, descriptor = descriptor, transition = transition)
+    // the buffer keeps track of the id of the stream status itself
+    val streamStatusRead: StreamStatusRead? =
+      if (statusBuffer != null) {
+        statusBuffer.create(key, requestBody)
+        null
+      } else {
         AirbyteApiClient.retryWithJitterThrows(
           { airbyteApiClient.streamStatusesApi.createStreamStatus(requestBody) },
           "stream status started ${descriptor.namespace}:${descriptor.name}",
@@ -138,11 +149,11 @@ class StreamStatusTracker(private val airbyteApiClient: AirbyteApiClient) {
 
     // add a new [CurrentStreamStatus] to the [currentStreamStatuses]
     CurrentStreamStatus(sourceStatus = msg, destinationStatus = null)
-      .apply { statusId = streamStatusRead.id }
+      .apply { statusId = streamStatusRead?.id }
       .also { currentStreamStatuses[key] = it }
 
     logger.debug {
-      "Stream status for stream ${descriptor.namespace}:${descriptor.name} set to STARTED (id = ${streamStatusRead.id}, context = $ctx)"
+      "Stream status for stream ${descriptor.namespace}:${descriptor.name} set to STARTED (id = ${streamStatusRead?.id}, context = $ctx)"
     }
   }
 
@@ -276,9 +287,9 @@ class StreamStatusTracker(private val airbyteApiClient: AirbyteApiClient) {
   }
 
   /**
-   * Sends a stream status update request to the API.
+   * Sends a stream status update request to the API, or hands it to the [StreamStatusUpdateBuffer] if there is one.
    *
-   * @param statusId The ID of the stream status to update.
+   * @param statusId The ID of the stream status to update, unused if there is a [StreamStatusUpdateBuffer].
    * @param streamName The name of the stream to update.
    * @param streamNamespace The namespace of the stream to update.
    * @param transition The timestamp of the status change.
@@ -300,13 +311,8 @@ class StreamStatusTracker(private val airbyteApiClient: AirbyteApiClient) {
     origin: AirbyteMessageOrigin,
     incompleteRunCause: StreamStatusIncompleteRunCause? = null,
   ) {
-    if (statusId == null) {
-      throw StreamStatusException("Stream status ID not present to perform update.", origin, ctx, streamName, streamNamespace)
-    }
-
     val requestBody: StreamStatusUpdateRequestBody =
       StreamStatusUpdateRequestBody()
-        .id(statusId)
         .streamName(streamName)
         .streamNamespace(streamNamespace)
         .jobId(ctx.jobId)
@@ -322,6 +328,19 @@ class StreamStatusTracker(private val airbyteApiClient: AirbyteApiClient) {
           }
         }
 
+    if (statusBuffer != null) {
+      statusBuffer.update(
+        key = StreamStatusKey(streamName, streamNamespace, ctx.workspaceId, ctx.connectionId, ctx.jobId, ctx.attempt),
+        requestBody = requestBody,
+      )
+      return
+    }
+
+    if (statusId == null) {
+      throw StreamStatusException("Stream status ID not present to perform update.", origin, ctx, streamName, streamNamespace)
+    }
+    requestBody.id(statusId)
+
     try {
       AirbyteApiClient.retryWithJitterThrows(
         { airbyteApiClient.streamStatusesApi.updateStreamStatus(requestBody) },
@@ -346,6 +365,9 @@ class StreamStatusTracker(private val airbyteApiClient: AirbyteApiClient) {
    * @param streamStatusRunState The desired terminal status state.
    * @param streamStatusIncompleteRunCause The optional incomplete cause if the desired terminal state
    *        is [StreamStatusRunState.INCOMPLETE].
+   *
+   * The terminal statuses are the last changes of the sync, so any buffered change is sent before
+   * returning.
    */
   private fun forceStatusForConnection(
     ctx: ReplicationContext,
@@ -396,6 +418,8 @@ class StreamStatusTracker(private val airbyteApiClient: AirbyteApiClient) {
         currentStreamStatuses.remove(it)
         logger.debug { "Removed stream $it from the status tracking cache." }
       }
+
+      statusBuffer?.flush(ctx)
     }.onFailure {
       logger.error(it) { "Unable to force streams for connection ${ctx.connectionId} to status $streamStatusRunState (context = $ctx)." }
     }
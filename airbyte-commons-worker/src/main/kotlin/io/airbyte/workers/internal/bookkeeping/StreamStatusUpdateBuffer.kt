@@ -0,0 +1,223 @@
+package io.airbyte.workers.internal.bookkeeping
+
+import io.airbyte.api.client.AirbyteApiClient
+import io.airbyte.api.client.model.generated.StreamStatusBatchRequestBody
+import io.airbyte.api.client.model.generated.StreamStatusCreateRequestBody
+import io.airbyte.api.client.model.generated.StreamStatusUpdateRequestBody
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.OssMetricsRegistry
+import io.airbyte.workers.context.ReplicationContext
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.annotation.Value
+import jakarta.annotation.PreDestroy
+import jakarta.inject.Named
+import jakarta.inject.Singleton
+import java.util.UUID
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+
+private val logger = KotlinLogging.logger {}
+
+/**
+ * Number of flushes a stream status change is sent in before it is given up on.
+ */
+internal const val MAX_SEND_ATTEMPTS = 3
+
+/**
+ * Buffers the stream status changes of [StreamStatusTracker] and sends them to the API in batches
+ * from a background thread, so that the replication thread does not wait on one request per stream
+ * transition.
+ *
+ * Only the latest change of each stream is kept: a transition replaces a transition of the same
+ * stream that was not sent yet, and is folded into the creation of the stream status if that was
+ * not sent yet either. The buffer therefore holds at most one change per stream. Updates need the
+ * id the API returned when the stream status was created, so they are held back until the creation
+ * went through.
+ */
+@Singleton
+@Requires(property = "airbyte.worker.replication.stream-status.batching-enabled", value = "true")
+class StreamStatusUpdateBuffer(
+  private val airbyteApiClient: AirbyteApiClient,
+  private val metricClient: MetricClient,
+  @Named("streamStatusFlushExecutorService") private val flushExecutorService: ScheduledExecutorService,
+  @Value("\${airbyte.worker.replication.stream-status.flush-period-ms}") flushPeriodMs: Long,
+  @Value("\${airbyte.worker.replication.stream-status.max-batch-size}") private val maxBatchSize: Int,
+) {
+  private val pendingChanges: MutableMap<StreamStatusKey, PendingChange> = LinkedHashMap()
+  private val statusIds: MutableMap<StreamStatusKey, UUID> = ConcurrentHashMap()
+  private val flushLock = Any()
+
+  init {
+    flushExecutorService.scheduleWithFixedDelay(
+      { runCatching { flush() }.onFailure { logger.error(it) { "Unable to flush stream statuses." } } },
+      flushPeriodMs,
+      flushPeriodMs,
+      TimeUnit.MILLISECONDS,
+    )
+  }
+
+  /**
+   * Buffers the creation of the status of a stream.
+   *
+   * @param key The [StreamStatusKey] of the stream.
+   * @param requestBody The creation to send.
+   */
+  fun create(
+    key: StreamStatusKey,
+    requestBody: StreamStatusCreateRequestBody,
+  ) {
+    synchronized(pendingChanges) {
+      pendingChanges[key] = PendingChange(create = requestBody)
+      recordQueueDepth()
+    }
+  }
+
+  /**
+   * Buffers a transition of the status of a stream. The id of the request body is set when it is sent.
+   *
+   * @param key The [StreamStatusKey] of the stream.
+   * @param requestBody The transition to send.
+   */
+  fun update(
+    key: StreamStatusKey,
+    requestBody: StreamStatusUpdateRequestBody,
+  ) {
+    synchronized(pendingChanges) {
+      val pendingChange = pendingChanges[key]
+      when {
+        pendingChange?.create != null -> {
+          pendingChange.create.mergeUpdate(requestBody)
+          metricClient.count(OssMetricsRegistry.STREAM_STATUS_UPDATES_MERGED, 1)
+        }
+        pendingChange?.update != null -> {
+          pendingChanges[key] = PendingChange(update = requestBody)
+          metricClient.count(OssMetricsRegistry.STREAM_STATUS_UPDATES_MERGED, 1)
+        }
+        else -> pendingChanges[key] = PendingChange(update = requestBody)
+      }
+      recordQueueDepth()
+    }
+  }
+
+  /**
+   * Sends all the buffered changes.
+   */
+  fun flush() {
+    synchronized(flushLock) {
+      val changes =
+        synchronized(pendingChanges) {
+          pendingChanges.toList().also {
+            pendingChanges.clear()
+            recordQueueDepth()
+          }
+        }
+      changes.chunked(maxBatchSize).forEach { send(it) }
+    }
+  }
+
+  /**
+   * Sends all the buffered changes and forgets the streams of the given sync once their last change
+   * went through. Called once the streams of the sync are forced to a terminal status.
+   *
+   * @param ctx The [ReplicationContext] of the sync.
+   */
+  fun flush(ctx: ReplicationContext) {
+    flush()
+    synchronized(pendingChanges) {
+      statusIds.keys.removeIf { it.matchesContext(ctx) && !pendingChanges.containsKey(it) }
+    }
+  }
+
+  @PreDestroy
+  fun close() {
+    flushExecutorService.shutdown()
+    flush()
+  }
+
+  private fun send(changes: List<Pair<StreamStatusKey, PendingChange>>) {
+    val creates = changes.filter { (_, change) -> change.create != null }
+    val updates =
+      changes.filter { (key, change) ->
+        if (change.update == null) {
+          false
+        } else if (statusIds[key] == null) {
+          // The creation of the stream status never went through, there is nothing to update.
+          logger.warn { "Dropping stream status update of stream ${key.streamNamespace}:${key.streamName} without a stream status id." }
+          metricClient.count(OssMetricsRegistry.STREAM_STATUS_UPDATES_DROPPED, 1)
+          false
+        } else {
+          change.update.id(statusIds[key])
+          true
+        }
+      }
+    if (creates.isEmpty() && updates.isEmpty()) {
+      return
+    }
+
+    val requestBody =
+      StreamStatusBatchRequestBody()
+        .creates(creates.map { (_, change) -> change.create })
+        .updates(updates.map { (_, change) -> change.update })
+    try {
+      val batchRead =
+        AirbyteApiClient.retryWithJitterThrows(
+          { airbyteApiClient.streamStatusesApi.batchStreamStatuses(requestBody) },
+          "batch ${creates.size} stream status creations and ${updates.size} updates",
+        )
+      creates.zip(batchRead.created).forEach { (create, created) -> statusIds[create.first] = created.id }
+    } catch (e: Exception) {
+      logger.error(e) { "Unable to send ${creates.size} stream status creations and ${updates.size} updates, they will be retried." }
+      // The batch may have been committed even though it failed here, sending a creation again updates
+      // the stream status it created rather than creating another one.
+      requeue(creates + updates)
+    }
+  }
+
+  private fun requeue(changes: List<Pair<StreamStatusKey, PendingChange>>) {
+    synchronized(pendingChanges) {
+      changes.forEach { (key, change) ->
+        change.attempts++
+        val newerChange = pendingChanges[key]
+        when {
+          change.attempts >= MAX_SEND_ATTEMPTS -> {
+            logger.warn { "Giving up on the stream status change of stream ${key.streamNamespace}:${key.streamName}." }
+            metricClient.count(OssMetricsRegistry.STREAM_STATUS_UPDATES_DROPPED, 1)
+          }
+          change.create != null -> {
+            // The stream may have transitioned while the creation was sent.
+            newerChange?.update?.let {
+              change.create.mergeUpdate(it)
+              metricClient.count(OssMetricsRegistry.STREAM_STATUS_UPDATES_MERGED, 1)
+            }
+            pendingChanges[key] = change
+          }
+          newerChange != null -> metricClient.count(OssMetricsRegistry.STREAM_STATUS_UPDATES_MERGED, 1)
+          else -> pendingChanges[key] = change
+        }
+      }
+      recordQueueDepth()
+    }
+  }
+
+  private fun recordQueueDepth() {
+    metricClient.gauge(OssMetricsRegistry.STREAM_STATUS_UPDATE_QUEUE_DEPTH, pendingChanges.size.toDouble())
+  }
+}
+
+/**
+ * The change of a stream status that is waiting to be sent, either its creation or a transition.
+ */
+private class PendingChange(
+  val create: StreamStatusCreateRequestBody? = null,
+  val update: StreamStatusUpdateRequestBody? = null,
+) {
+  var attempts: Int = 0
+}
+
+private fun StreamStatusCreateRequestBody.mergeUpdate(update: StreamStatusUpdateRequestBody) {
+  runState(update.runState)
+  transitionedAt(update.transitionedAt)
+  incompleteRunCause(update.incompleteRunCause)
+}
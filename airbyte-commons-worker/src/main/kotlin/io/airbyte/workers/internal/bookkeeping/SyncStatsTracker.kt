@@ -8,6 +8,7 @@ import io.airbyte.protocol.models.AirbyteRecordMessage
 import io.airbyte.protocol.models.AirbyteStateMessage
 import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair
 import io.airbyte.workers.general.ReplicationFeatureFlagReader
+import io.airbyte.workers.helper.RecordByteSize
 
 /**
  * Track stats during a sync.
@@ -16,7 +17,15 @@ interface SyncStatsTracker {
   /**
    * Update the stats count with data from recordMessage.
    */
-  fun updateStats(recordMessage: AirbyteRecordMessage)
+  fun updateStats(recordMessage: AirbyteRecordMessage) = updateStats(recordMessage, RecordByteSize.of(recordMessage))
+
+  /**
+   * Update the stats count with data from recordMessage, when the size of the record is already known. See [RecordByteSize].
+   */
+  fun updateStats(
+    recordMessage: AirbyteRecordMessage,
+    byteSize: Long,
+  )
 
   /**
    * There are several assumptions here:
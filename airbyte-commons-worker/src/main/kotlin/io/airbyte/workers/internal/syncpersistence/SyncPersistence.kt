@@ -1,5 +1,6 @@
 package io.airbyte.workers.internal.syncpersistence
 
+import com.fasterxml.jackson.databind.JsonNode
 import datadog.trace.api.Trace
 import io.airbyte.api.client.AirbyteApiClient
 import io.airbyte.api.client.generated.AttemptApi
@@ -23,10 +24,13 @@ import io.airbyte.metrics.lib.MetricClientFactory
 import io.airbyte.metrics.lib.MetricTags
 import io.airbyte.metrics.lib.OssMetricsRegistry
 import io.airbyte.protocol.models.AirbyteEstimateTraceMessage
+import io.airbyte.protocol.models.AirbyteGlobalState
 import io.airbyte.protocol.models.AirbyteRecordMessage
 import io.airbyte.protocol.models.AirbyteStateMessage
+import io.airbyte.protocol.models.AirbyteStreamState
 import io.airbyte.protocol.models.CatalogHelpers
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog
+import io.airbyte.protocol.models.StreamDescriptor
 import io.airbyte.workers.internal.bookkeeping.SyncStatsTracker
 import io.airbyte.workers.internal.bookkeeping.getPerStreamStats
 import io.airbyte.workers.internal.bookkeeping.getTotalStats
@@ -73,6 +77,7 @@ class SyncPersistenceImpl
     private val stateAggregatorFactory: StateAggregatorFactory,
     @Named("syncPersistenceExecutorService") private val stateFlushExecutorService: ScheduledExecutorService,
     @Value("\${airbyte.worker.replication.persistence-flush-period-sec}") private val stateFlushPeriodInSeconds: Long,
+    @Value("\${airbyte.worker.replication.persistence-flush-state-delta}") private val flushStateDelta: Boolean,
     private val metricClient: MetricClient,
     @Named("parallelStreamStatsTracker") private val syncStatsTracker: SyncStatsTracker,
     @param:Parameter private val connectionId: UUID,
@@ -88,6 +93,10 @@ class SyncPersistenceImpl
     private var statsToPersist: SaveStatsRequestBody? = null
     private var retryWithJitterConfig: RetryWithJitterConfig? = null
 
+    // The stream states the server acknowledged, used to only send the stream states that changed since the last successful flush.
+    // null when the full state needs to be sent, either because nothing was flushed yet or because the last flush failed.
+    private var flushedStreamStates: MutableMap<StreamDescriptor, JsonNode?>? = null
+
     protected constructor(
       stateApi: StateApi,
       attemptApi: AttemptApi,
@@ -95,6 +104,7 @@ class SyncPersistenceImpl
       syncStatsTracker: SyncStatsTracker,
       scheduledExecutorService: ScheduledExecutorService,
       stateFlushPeriodInSeconds: Long,
+      flushStateDelta: Boolean,
       retryWithJitterConfig: RetryWithJitterConfig?,
       connectionId: UUID,
       jobId: Long,
@@ -106,6 +116,7 @@ class SyncPersistenceImpl
       stateAggregatorFactory = stateAggregatorFactory,
       stateFlushExecutorService = scheduledExecutorService,
       stateFlushPeriodInSeconds = stateFlushPeriodInSeconds,
+      flushStateDelta = flushStateDelta,
       syncStatsTracker = syncStatsTracker,
       metricClient = MetricClientFactory.getMetricClient(),
       connectionId = connectionId,
@@ -313,18 +324,39 @@ class SyncPersistenceImpl
 
       metricClient.count(OssMetricsRegistry.STATE_COMMIT_ATTEMPT, 1)
 
-      val stateApiRequest =
-        ConnectionStateCreateOrUpdate()
-          .connectionId(connectionId)
-          .connectionState(StateConverter.toClient(connectionId, maybeStateWrapper))
+      val flushedStates = flushedStreamStates
+      val stateDelta = if (flushStateDelta && flushedStates != null) getStateDelta(maybeStateWrapper, flushedStates) else null
 
       try {
-        stateApi.createOrUpdateState(stateApiRequest)
+        if (stateDelta == null) {
+          stateApi.createOrUpdateState(
+            ConnectionStateCreateOrUpdate()
+              .connectionId(connectionId)
+              .connectionState(StateConverter.toClient(connectionId, maybeStateWrapper)),
+          )
+        } else if (stateDelta.hasChanges()) {
+          stateApi.applyStateDelta(
+            ConnectionStateCreateOrUpdate()
+              .connectionId(connectionId)
+              .connectionState(StateConverter.toClient(connectionId, stateDelta)),
+          )
+        }
       } catch (e: Exception) {
+        // We do not know which stream states the server applied, the next flush falls back to the full state.
+        flushedStreamStates = null
         metricClient.count(OssMetricsRegistry.STATE_COMMIT_ATTEMPT_FAILED, 1)
         throw e
       }
 
+      if (flushStateDelta) {
+        val streamStates = getStreamStates(maybeStateWrapper)
+        if (stateDelta != null) {
+          val unchangedStreams = streamStates.size - getStreamStates(stateDelta).size
+          metricClient.count(OssMetricsRegistry.STATE_COMMIT_STREAMS_UNCHANGED, unchangedStreams.toLong())
+        }
+        flushedStreamStates = (flushedStates ?: mutableMapOf()).apply { streamStates.forEach { put(it.streamDescriptor, it.streamState) } }
+      }
+
       // Only reset stateToFlush if the API call was successful
       stateToFlush = null
       metricClient.count(OssMetricsRegistry.STATE_COMMIT_ATTEMPT_SUCCESSFUL, 1)
@@ -393,6 +425,14 @@ class SyncPersistenceImpl
       syncStatsTracker.updateStats(recordMessage)
     }
 
+    override fun updateStats(
+      recordMessage: AirbyteRecordMessage,
+      byteSize: Long,
+    ) {
+      isReceivingStats = true
+      syncStatsTracker.updateStats(recordMessage, byteSize)
+    }
+
     override fun updateEstimates(estimate: AirbyteEstimateTraceMessage) {
       isReceivingStats = true
       syncStatsTracker.updateEstimates(estimate)
@@ -409,6 +449,53 @@ class SyncPersistenceImpl
     }
   }
 
+/**
+ * Build the state to send to the server from the stream states that changed since the last flush.
+ *
+ * The shared state of a GLOBAL state is always kept. Returns null for LEGACY states, they do not
+ * have stream states and are always flushed in full.
+ */
+private fun getStateDelta(
+  state: StateWrapper,
+  flushedStreamStates: Map<StreamDescriptor, JsonNode?>,
+): StateWrapper? {
+  val isChanged = { streamState: AirbyteStreamState ->
+    !flushedStreamStates.containsKey(streamState.streamDescriptor) ||
+      flushedStreamStates[streamState.streamDescriptor] != streamState.streamState
+  }
+  return when (state.stateType) {
+    StateType.GLOBAL ->
+      StateWrapper()
+        .withStateType(StateType.GLOBAL)
+        .withGlobal(
+          AirbyteStateMessage()
+            .withType(AirbyteStateMessage.AirbyteStateType.GLOBAL)
+            .withGlobal(
+              AirbyteGlobalState()
+                .withSharedState(state.global.global.sharedState)
+                .withStreamStates(state.global.global.streamStates.filter(isChanged)),
+            ),
+        )
+    StateType.STREAM ->
+      StateWrapper()
+        .withStateType(StateType.STREAM)
+        .withStateMessages(state.stateMessages.filter { isChanged(it.stream) })
+    else -> null
+  }
+}
+
+private fun getStreamStates(state: StateWrapper): List<AirbyteStreamState> =
+  when (state.stateType) {
+    StateType.GLOBAL -> state.global.global.streamStates
+    StateType.STREAM -> state.stateMessages.map { it.stream }
+    else -> listOf()
+  }
+
+/**
+ * A GLOBAL delta is always sent since its shared state is written every time.
+ */
+private fun StateWrapper.hasChanges(): Boolean = stateType == StateType.GLOBAL || getStreamStates(this).isNotEmpty()
+
 private fun isStateEmpty(connectionState: ConnectionState?) = connectionState?.state?.isEmpty ?: false
 
 private fun buildSaveStatsRequest(
@@ -5,19 +5,26 @@
 package io.airbyte.workers;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.config.StandardSync;
 import io.airbyte.persistence.job.models.ReplicationInput;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair;
+import io.airbyte.validation.json.JsonSchemaValidator;
+import io.airbyte.workers.RecordSchemaValidator.ValidationPoolConfiguration;
 import io.airbyte.workers.test_utils.AirbyteMessageUtils;
 import io.airbyte.workers.test_utils.TestConfigHelpers;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -96,4 +103,66 @@ class RecordSchemaValidatorTest {
     assertEquals(2, uncountedValidationErrors.get(AIRBYTE_STREAM_NAME_NAMESPACE_PAIR).size());
   }
 
+  @Test
+  void testSamplingRates() {
+    final var configuration = ValidationPoolConfiguration.of(1, 10, "0.25,other_stream=1.0");
+    final var recordSchemaValidator = new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(replicationInput.getCatalog()), configuration);
+
+    final List<Integer> validatedRecordIndexes = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      if (!recordSchemaValidator.isSampledOut(AIRBYTE_STREAM_NAME_NAMESPACE_PAIR)) {
+        validatedRecordIndexes.add(i);
+      }
+      assertFalse(recordSchemaValidator.isSampledOut(new AirbyteStreamNameNamespacePair("other_stream", null)));
+    }
+
+    assertEquals(List.of(0, 4), validatedRecordIndexes);
+    final WorkerMetricReporter metricReporter = mock(WorkerMetricReporter.class);
+    recordSchemaValidator.reportMetrics(metricReporter);
+    verify(metricReporter).trackSchemaValidationStats(0, 6, 0, 0);
+  }
+
+  @Test
+  void testSamplingRatesDefinition() {
+    final var configuration = ValidationPoolConfiguration.of(0, 10, "0.5, public.users=0.1 ,users=0.2,invalid=rate");
+
+    assertEquals(1, configuration.workerCount());
+    assertEquals(0.5, configuration.defaultSamplingRate(), 0);
+    assertEquals(Map.of("public.users", 0.1, "users", 0.2), configuration.streamSamplingRates());
+    assertEquals(0.1, configuration.samplingRate(new AirbyteStreamNameNamespacePair("users", "public")), 0);
+    assertEquals(0.2, configuration.samplingRate(new AirbyteStreamNameNamespacePair("users", "other")), 0);
+    assertEquals(0.5, configuration.samplingRate(AIRBYTE_STREAM_NAME_NAMESPACE_PAIR), 0);
+  }
+
+  @Test
+  void testRecordsAreDroppedWhenTheValidationCannotKeepUp() throws InterruptedException {
+    final var configuration = ValidationPoolConfiguration.of(1, 1, null);
+    final var executorService = RecordSchemaValidator.newValidationExecutor(configuration);
+    final var recordSchemaValidator = new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(replicationInput.getCatalog()),
+        executorService, new JsonSchemaValidator(), configuration);
+
+    // Keep the only worker busy, so that the first record fills the queue and the second one is dropped.
+    final CountDownLatch workerBlocked = new CountDownLatch(1);
+    final CountDownLatch releaseWorker = new CountDownLatch(1);
+    executorService.execute(() -> {
+      workerBlocked.countDown();
+      try {
+        releaseWorker.await();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    workerBlocked.await();
+    recordSchemaValidator.validateSchema(INVALID_RECORD_1.getRecord(), AIRBYTE_STREAM_NAME_NAMESPACE_PAIR, validationErrors);
+    recordSchemaValidator.validateSchema(INVALID_RECORD_2.getRecord(), AIRBYTE_STREAM_NAME_NAMESPACE_PAIR, validationErrors);
+    releaseWorker.countDown();
+    executorService.shutdown();
+    executorService.awaitTermination(3, TimeUnit.SECONDS);
+
+    assertEquals(1, (int) validationErrors.get(AIRBYTE_STREAM_NAME_NAMESPACE_PAIR).getRight());
+    final WorkerMetricReporter metricReporter = mock(WorkerMetricReporter.class);
+    recordSchemaValidator.reportMetrics(metricReporter);
+    verify(metricReporter).trackSchemaValidationStats(1, 0, 1, 2);
+  }
+
 }
@@ -6,6 +6,8 @@ package io.airbyte.workers;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -24,6 +26,7 @@ import io.airbyte.api.client.model.generated.CatalogDiff;
 import io.airbyte.api.client.model.generated.ConnectionIdRequestBody;
 import io.airbyte.api.client.model.generated.ConnectionRead;
 import io.airbyte.api.client.model.generated.ConnectionState;
+import io.airbyte.api.client.model.generated.ConnectionSummaryRead;
 import io.airbyte.api.client.model.generated.FieldTransform;
 import io.airbyte.api.client.model.generated.JobOptionalRead;
 import io.airbyte.api.client.model.generated.JobRead;
@@ -62,6 +65,7 @@ class ReplicationInputHydratorTest {
 
   private static final String TEST_STREAM_NAME = "test-stream-name";
   private static final String TEST_STREAM_NAMESPACE = "test-stream-namespace";
+  private static final String CATALOG_HASH = "catalog-hash";
   private static final AirbyteCatalog SYNC_CATALOG = new AirbyteCatalog().addStreamsItem(new AirbyteStreamAndConfiguration()
       .stream(new AirbyteStream().addSupportedSyncModesItem(SyncMode.INCREMENTAL).name(TEST_STREAM_NAME).namespace(TEST_STREAM_NAMESPACE))
       .config(new AirbyteStreamConfiguration().syncMode(SyncMode.INCREMENTAL)));
@@ -132,6 +136,9 @@ class ReplicationInputHydratorTest {
     when(connectionApi.getConnection(new ConnectionIdRequestBody().connectionId(CONNECTION_ID))).thenReturn(new ConnectionRead()
         .connectionId(CONNECTION_ID)
         .syncCatalog(SYNC_CATALOG));
+    when(connectionApi.getConnectionSummary(new ConnectionIdRequestBody().connectionId(CONNECTION_ID))).thenReturn(new ConnectionSummaryRead()
+        .connectionId(CONNECTION_ID)
+        .catalogHash(CATALOG_HASH));
     when(stateApi.getState(new ConnectionIdRequestBody().connectionId(CONNECTION_ID))).thenReturn(CONNECTION_STATE_RESPONSE);
   }
 
@@ -197,6 +204,28 @@ class ReplicationInputHydratorTest {
     assertEquals(io.airbyte.protocol.models.SyncMode.FULL_REFRESH, replicationInput.getCatalog().getStreams().get(0).getSyncMode());
   }
 
+  @Test
+  void testGenerateReplicationInputReusesCatalogWhileItsHashIsUnchanged() throws Exception {
+    final ReplicationInputHydrator replicationInputHydrator = getReplicationInputHydrator();
+    final ReplicationActivityInput resetInput = getDefaultReplicationActivityInputForTest();
+    resetInput.setIsReset(true);
+    when(jobsApi.getLastReplicationJob(new ConnectionIdRequestBody().connectionId(CONNECTION_ID))).thenReturn(
+        new JobOptionalRead().job(new JobRead().resetConfig(new ResetConfig().streamsToReset(List.of(
+            new StreamDescriptor().name(TEST_STREAM_NAME).namespace(TEST_STREAM_NAMESPACE))))));
+
+    // The reset rewrites its catalog, which must not leak into the catalog of the next attempt.
+    replicationInputHydrator.getHydratedReplicationInput(resetInput);
+    final var replicationInput = replicationInputHydrator.getHydratedReplicationInput(getDefaultReplicationActivityInputForTest());
+    assertEquals(io.airbyte.protocol.models.SyncMode.INCREMENTAL, replicationInput.getCatalog().getStreams().get(0).getSyncMode());
+    verify(connectionApi, times(1)).getConnection(new ConnectionIdRequestBody().connectionId(CONNECTION_ID));
+
+    when(connectionApi.getConnectionSummary(new ConnectionIdRequestBody().connectionId(CONNECTION_ID))).thenReturn(new ConnectionSummaryRead()
+        .connectionId(CONNECTION_ID)
+        .catalogHash("updated-catalog-hash"));
+    replicationInputHydrator.getHydratedReplicationInput(getDefaultReplicationActivityInputForTest());
+    verify(connectionApi, times(2)).getConnection(new ConnectionIdRequestBody().connectionId(CONNECTION_ID));
+  }
+
   @Test
   void testGenerateReplicationInputHandlesBackfills() throws Exception {
     // Verify that if we have input from the schema refresh activity, that we clear state accordingly to
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.config;
+
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.NotImplementedMetricClient;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends catalog sized bodies to a local stand-in of the server from many concurrent callers, and
+ * compares the plain HTTP/1.1 client the generated API client used to get with the internal API
+ * transport. The stand-in only speaks HTTP/1.1, so this measures pooling and compression.
+ * <p>
+ * Run this main class to start benchmarking. The optional arguments are the number of requests, the
+ * number of concurrent callers, the size of the bodies in KB and the server latency in ms.
+ */
+public class InternalApiHttpClientBenchmark {
+
+  private static final int COMPRESSION_THRESHOLD_BYTES = 1024;
+
+  public static void main(final String[] args) throws Exception {
+    final int requests = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+    final int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+    final int bodyKb = args.length > 2 ? Integer.parseInt(args[2]) : 256;
+    final long serverLatencyMs = args.length > 3 ? Long.parseLong(args[3]) : 5;
+    final String body = catalogLikeBody(bodyKb * 1024);
+    final MetricClient metricClient = new NotImplementedMetricClient();
+
+    try (StandInApiServer server = new StandInApiServer(COMPRESSION_THRESHOLD_BYTES, serverLatencyMs)) {
+      final HttpClient plain = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+      final HttpClient pooled = new InternalApiHttpClient.Builder(concurrency / 2, false, COMPRESSION_THRESHOLD_BYTES, metricClient).build();
+      final HttpClient compressed = new InternalApiHttpClient.Builder(concurrency / 2, true, COMPRESSION_THRESHOLD_BYTES, metricClient).build();
+
+      for (final var candidate : List.of(
+          new Candidate("plain http/1.1", plain),
+          new Candidate("bounded pool", pooled),
+          new Candidate("bounded pool + gzip", compressed))) {
+        // Warm up the connections and the JIT.
+        run(server, candidate.client(), body, requests / 10, concurrency);
+        server.resetCounters();
+
+        final long durationMs = run(server, candidate.client(), body, requests, concurrency);
+        System.out.printf("%s: %d requests of %dKB, %d callers, %dms, %.0f requests/s, %.1fMB sent, %.1fMB received, %d max in flight%n",
+            candidate.name(), requests, bodyKb, concurrency, durationMs, requests * 1000.0 / durationMs,
+            server.requestBytesReceived() / 1_048_576.0, server.responseBytesSent() / 1_048_576.0, server.maxInFlightRequests());
+      }
+    }
+  }
+
+  private static long run(final StandInApiServer server, final HttpClient client, final String body, final int requests, final int concurrency)
+      throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+    final long start = System.nanoTime();
+    try {
+      final List<Future<?>> responses = new ArrayList<>();
+      for (int i = 0; i < requests; i++) {
+        responses.add(executor.submit(() -> client.send(HttpRequest.newBuilder(server.echoUri())
+            .header("Content-Type", "application/json")
+            .POST(BodyPublishers.ofString(body))
+            .build(), BodyHandlers.ofInputStream()).body().readAllBytes()));
+      }
+      for (final Future<?> response : responses) {
+        response.get();
+      }
+    } finally {
+      executor.shutdown();
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+    }
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
+
+  private static String catalogLikeBody(final int sizeBytes) {
+    final StringBuilder body = new StringBuilder("{\"streams\":[");
+    int i = 0;
+    while (body.length() < sizeBytes) {
+      body.append("{\"stream\":{\"name\":\"stream_").append(i).append("\",\"jsonSchema\":{\"type\":\"object\",\"properties\":{")
+          .append("\"id\":{\"type\":\"integer\"},\"updated_at\":{\"type\":\"string\",\"format\":\"date-time\"}}},")
+          .append("\"supportedSyncModes\":[\"full_refresh\",\"incremental\"]},")
+          .append("\"config\":{\"syncMode\":\"incremental\",\"destinationSyncMode\":\"append_dedup\",\"cursorField\":[\"updated_at\"],")
+          .append("\"primaryKey\":[[\"id\"]],\"selected\":true}},");
+      i++;
+    }
+    return body.append("{}]}").toString();
+  }
+
+  private record Candidate(String name, HttpClient client) {}
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InternalApiHttpClientTest {
+
+  private static final int COMPRESSION_THRESHOLD_BYTES = 1024;
+  private static final String SMALL_BODY = "{\"connectionId\":\"b8a3d5b2-0c1e-4f53-9e35-5f5d53f0c6d4\"}";
+  private static final String LARGE_BODY = "{\"streams\":[" + "{\"name\":\"stream\",\"syncMode\":\"incremental\"},".repeat(200) + "{}]}";
+
+  private MetricClient metricClient;
+  private StandInApiServer server;
+
+  @BeforeEach
+  void setup() throws Exception {
+    metricClient = mock(MetricClient.class);
+    server = new StandInApiServer(COMPRESSION_THRESHOLD_BYTES, 0);
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.close();
+  }
+
+  @Test
+  void testLargeBodiesAreCompressedBothWays() throws Exception {
+    final HttpClient client = newClient(true, 64);
+
+    final HttpResponse<String> response = client.send(post(LARGE_BODY), BodyHandlers.ofString());
+
+    assertEquals(LARGE_BODY, response.body());
+    assertEquals("gzip", server.lastRequestEncoding());
+    assertEquals("gzip", server.lastAcceptEncoding());
+    assertTrue(server.lastResponseBytes() < LARGE_BODY.length());
+  }
+
+  @Test
+  void testSmallBodiesAreNotCompressed() throws Exception {
+    final HttpClient client = newClient(true, 64);
+
+    final HttpResponse<String> response = client.send(post(SMALL_BODY), BodyHandlers.ofString());
+
+    assertEquals(SMALL_BODY, response.body());
+    assertNull(server.lastRequestEncoding());
+    assertEquals(SMALL_BODY.length(), server.lastResponseBytes());
+  }
+
+  @Test
+  void testNothingIsCompressedWhenDisabled() throws Exception {
+    final HttpClient client = newClient(false, 64);
+
+    final HttpResponse<String> response = client.send(post(LARGE_BODY), BodyHandlers.ofString());
+
+    assertEquals(LARGE_BODY, response.body());
+    assertNull(server.lastRequestEncoding());
+    assertNull(server.lastAcceptEncoding());
+  }
+
+  @Test
+  void testRequestsAreMeasuredPerOperation() throws Exception {
+    final HttpClient client = newClient(true, 64);
+
+    client.send(post(LARGE_BODY), BodyHandlers.ofString());
+
+    final MetricAttribute operation = new MetricAttribute(MetricTags.API_OPERATION, StandInApiServer.ECHO_PATH);
+    final MetricAttribute status = new MetricAttribute(MetricTags.STATUS, "200");
+    verify(metricClient).distribution(eq(OssMetricsRegistry.API_CLIENT_REQUEST_DURATION_MS), anyDouble(), eq(operation), eq(status));
+    verify(metricClient).distribution(eq(OssMetricsRegistry.API_CLIENT_RESPONSE_SIZE_BYTES), eq((double) server.lastResponseBytes()), eq(operation),
+        eq(status));
+  }
+
+  @Test
+  void testConcurrentRequestsAreBounded() throws Exception {
+    server.close();
+    server = new StandInApiServer(COMPRESSION_THRESHOLD_BYTES, 50);
+    final HttpClient client = newClient(false, 2);
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<HttpResponse<String>>> responses = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        responses.add(executor.submit(() -> client.send(post(SMALL_BODY), BodyHandlers.ofString())));
+      }
+      for (final Future<HttpResponse<String>> response : responses) {
+        assertEquals(SMALL_BODY, response.get().body());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertTrue(server.maxInFlightRequests() <= 2);
+  }
+
+  @Test
+  void testStreamedBodiesHoldTheirRequestInFlightUntilRead() throws Exception {
+    final HttpClient client = newClient(false, 1);
+    final String streamedBody = "x".repeat(4 * 1024 * 1024);
+
+    final HttpResponse<InputStream> streamed = client.send(post(streamedBody), BodyHandlers.ofInputStream());
+    // The body of the first request is still on the wire, there is no room for a second one.
+    assertThrows(HttpTimeoutException.class, () -> client.send(post(SMALL_BODY, Duration.ofMillis(200)), BodyHandlers.ofString()));
+
+    try (InputStream body = streamed.body()) {
+      assertEquals(streamedBody, new String(body.readAllBytes(), StandardCharsets.UTF_8));
+    }
+    assertEquals(SMALL_BODY, client.send(post(SMALL_BODY, Duration.ofSeconds(10)), BodyHandlers.ofString()).body());
+  }
+
+  @Test
+  void testClosingAStreamedBodyEndsItsRequest() throws Exception {
+    final HttpClient client = newClient(false, 1);
+
+    final HttpResponse<InputStream> streamed = client.send(post("x".repeat(4 * 1024 * 1024)), BodyHandlers.ofInputStream());
+    streamed.body().close();
+
+    assertEquals(SMALL_BODY, client.send(post(SMALL_BODY, Duration.ofSeconds(10)), BodyHandlers.ofString()).body());
+  }
+
+  @Test
+  void testBuilderSharesTheClient() {
+    final InternalApiHttpClient.Builder builder = new InternalApiHttpClient.Builder(64, true, COMPRESSION_THRESHOLD_BYTES, metricClient);
+
+    assertSame(builder.build(), builder.build());
+  }
+
+  private HttpClient newClient(final boolean compressionEnabled, final int maxConcurrentRequests) {
+    return new InternalApiHttpClient.Builder(maxConcurrentRequests, compressionEnabled, COMPRESSION_THRESHOLD_BYTES, metricClient).build();
+  }
+
+  private HttpRequest post(final String body) {
+    return HttpRequest.newBuilder(server.echoUri())
+        .header("Content-Type", "application/json")
+        .POST(BodyPublishers.ofString(body))
+        .build();
+  }
+
+  private HttpRequest post(final String body, final Duration timeout) {
+    return HttpRequest.newBuilder(post(body), (name, value) -> true).timeout(timeout).build();
+  }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Local stand-in for airbyte-server: echoes the body of every request, gunzipping gzipped requests
+ * and gzipping responses above the threshold for clients that accept it, like the server does.
+ */
+class StandInApiServer implements AutoCloseable {
+
+  static final String ECHO_PATH = "/api/v1/echo";
+
+  private final HttpServer server;
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private final int compressionThresholdBytes;
+  private final AtomicReference<String> lastRequestEncoding = new AtomicReference<>();
+  private final AtomicReference<String> lastAcceptEncoding = new AtomicReference<>();
+  private final AtomicLong lastResponseBytes = new AtomicLong();
+  private final AtomicInteger inFlightRequests = new AtomicInteger();
+  private final AtomicInteger maxInFlightRequests = new AtomicInteger();
+  private final AtomicLong requestBytesReceived = new AtomicLong();
+  private final AtomicLong responseBytesSent = new AtomicLong();
+
+  StandInApiServer(final int compressionThresholdBytes, final long responseDelayMs) throws IOException {
+    this.compressionThresholdBytes = compressionThresholdBytes;
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.setExecutor(executor);
+    server.createContext(ECHO_PATH, exchange -> {
+      try (exchange) {
+        // A request stops being in flight once the server starts answering, the client may send the next
+        // one as soon as it read the answer.
+        maxInFlightRequests.accumulateAndGet(inFlightRequests.incrementAndGet(), Math::max);
+        try {
+          if (responseDelayMs > 0) {
+            Thread.sleep(responseDelayMs);
+          }
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } finally {
+          inFlightRequests.decrementAndGet();
+        }
+        echo(exchange);
+      }
+    });
+    server.start();
+  }
+
+  private void echo(final HttpExchange exchange) throws IOException {
+    final String requestEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+    final String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+    lastRequestEncoding.set(requestEncoding);
+    lastAcceptEncoding.set(acceptEncoding);
+
+    final byte[] wireRequest = exchange.getRequestBody().readAllBytes();
+    requestBytesReceived.addAndGet(wireRequest.length);
+    final byte[] body = "gzip".equals(requestEncoding) ? gunzip(wireRequest) : wireRequest;
+
+    final boolean gzipResponse = acceptEncoding != null && acceptEncoding.contains("gzip") && body.length >= compressionThresholdBytes;
+    final byte[] wireResponse = gzipResponse ? gzip(body) : body;
+    if (gzipResponse) {
+      exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+    }
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, wireResponse.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(wireResponse);
+    }
+    lastResponseBytes.set(wireResponse.length);
+    responseBytesSent.addAndGet(wireResponse.length);
+  }
+
+  URI echoUri() {
+    return URI.create("http://localhost:" + server.getAddress().getPort() + ECHO_PATH);
+  }
+
+  String lastRequestEncoding() {
+    return lastRequestEncoding.get();
+  }
+
+  String lastAcceptEncoding() {
+    return lastAcceptEncoding.get();
+  }
+
+  long lastResponseBytes() {
+    return lastResponseBytes.get();
+  }
+
+  int maxInFlightRequests() {
+    return maxInFlightRequests.get();
+  }
+
+  long requestBytesReceived() {
+    return requestBytesReceived.get();
+  }
+
+  long responseBytesSent() {
+    return responseBytesSent.get();
+  }
+
+  void resetCounters() {
+    maxInFlightRequests.set(0);
+    requestBytesReceived.set(0);
+    responseBytesSent.set(0);
+  }
+
+  private static byte[] gzip(final byte[] bytes) throws IOException {
+    final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(bytes);
+    }
+    return compressed.toByteArray();
+  }
+
+  private static byte[] gunzip(final byte[] bytes) throws IOException {
+    try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+      return gzip.readAllBytes();
+    }
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+}
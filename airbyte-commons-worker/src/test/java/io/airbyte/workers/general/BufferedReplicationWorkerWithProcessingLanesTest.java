@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.commons.converters.ThreadedTimeTracker;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.workers.internal.FieldSelector;
+import io.airbyte.workers.test_utils.AirbyteMessageUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Runs the BufferedReplicationWorker tests with several processing lanes.
+ */
+class BufferedReplicationWorkerWithProcessingLanesTest extends BufferedReplicationWorkerTest {
+
+  private static final int PROCESSING_LANES = 4;
+  private static final int STREAM_COUNT = 7;
+
+  @Override
+  ReplicationWorker getDefaultReplicationWorker(final boolean fieldSelectionEnabled) {
+    final var fieldSelector = new FieldSelector(recordSchemaValidator, workerMetricReporter, fieldSelectionEnabled, false);
+    replicationWorkerHelper = spy(new ReplicationWorkerHelper(airbyteMessageDataExtractor, fieldSelector, mapper, messageTracker, syncPersistence,
+        replicationAirbyteMessageEventPublishingHelper, new ThreadedTimeTracker(), onReplicationRunning, workloadApi, false, analyticsMessageTracker,
+        Optional.empty()));
+    return new BufferedReplicationWorker(
+        JOB_ID,
+        JOB_ATTEMPT,
+        source,
+        destination,
+        syncPersistence,
+        recordSchemaValidator,
+        heartbeatTimeoutChaperone,
+        replicationFeatureFlagReader,
+        replicationWorkerHelper,
+        destinationTimeoutMonitor,
+        BufferedReplicationWorker.QueueImpl.RING_BUFFER,
+        PROCESSING_LANES);
+  }
+
+  @Test
+  void testRecordsOfAStreamAndStatesKeepTheirOrder() throws Exception {
+    final List<AirbyteMessage> messages = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      messages.add(AirbyteMessageUtils.createRecordMessage(STREAM_NAME + i % STREAM_COUNT, FIELD_NAME, i));
+      if (i % 50 == 49) {
+        messages.add(AirbyteMessageUtils.createStateMessage(STREAM_NAME + i % STREAM_COUNT, "checkpoint", String.valueOf(i)));
+      }
+    }
+    sourceStub.setMessages(messages.toArray(new AirbyteMessage[0]));
+    when(mapper.mapMessage(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    getDefaultReplicationWorker().run(replicationInput, jobRoot);
+
+    final ArgumentCaptor<AirbyteMessage> sentMessages = ArgumentCaptor.forClass(AirbyteMessage.class);
+    verify(destination, times(messages.size())).accept(sentMessages.capture());
+    final List<AirbyteMessage> sent = sentMessages.getAllValues();
+
+    // A state is sent after all the messages read before it and before all the messages read after it.
+    for (int i = 0; i < messages.size(); i++) {
+      if (messages.get(i).getType() == Type.STATE) {
+        assertEquals(messages.get(i), sent.get(i));
+      }
+    }
+    for (int stream = 0; stream < STREAM_COUNT; stream++) {
+      assertEquals(recordsOf(messages, STREAM_NAME + stream), recordsOf(sent, STREAM_NAME + stream));
+    }
+  }
+
+  private static List<AirbyteMessage> recordsOf(final List<AirbyteMessage> messages, final String stream) {
+    return messages.stream()
+        .filter(message -> message.getType() == Type.RECORD && stream.equals(message.getRecord().getStream()))
+        .toList();
+  }
+
+}
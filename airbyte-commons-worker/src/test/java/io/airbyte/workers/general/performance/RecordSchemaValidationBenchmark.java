@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general.performance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.resources.MoreResources;
+import io.airbyte.validation.json.JsonSchemaValidator;
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the compiled record validators with the networknt validators on the schemas of source
+ * connectors, the same way the RecordSchemaValidator validates the records of a sync.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RecordSchemaValidationBenchmark {
+
+  private static final int RECORD_COUNT = 100_000;
+
+  @Param({"true", "false"})
+  public boolean compileSchemas;
+
+  private JsonSchemaValidator validator;
+  private List<String> streams;
+  private List<JsonNode> records;
+
+  @Setup
+  public void setup() throws Exception {
+    final URI baseUri = RecordSchemaValidationBenchmark.class.getClassLoader().getResource("performance/WellKnownTypes.json").toURI();
+    validator = new JsonSchemaValidator(baseUri, compileSchemas);
+    for (final JsonNode stream : Jsons.deserialize(MoreResources.readResource("performance/connector_catalog.json")).get("streams")) {
+      validator.initializeSchemaValidator(stream.get("name").asText(), stream.get("json_schema"));
+    }
+
+    final List<JsonNode> messages = MoreResources.readResource("performance/connector_records.jsonl").lines().map(Jsons::deserialize).toList();
+    streams = messages.stream().map(message -> message.get("stream").asText()).toList();
+    records = messages.stream().map(message -> message.get("data")).toList();
+    for (int i = 0; i < records.size(); i++) {
+      if (!validator.validateInitializedSchema(streams.get(i), records.get(i)).isEmpty()) {
+        throw new IllegalStateException("The records of the benchmark are expected to be valid");
+      }
+    }
+  }
+
+  @Benchmark
+  public int validateRecords() {
+    int errorCount = 0;
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      final int index = i % records.size();
+      errorCount += validator.validateInitializedSchema(streams.get(index), records.get(index)).size();
+    }
+    return errorCount;
+  }
+
+  public static void main(final String[] args) throws IOException {
+    // Run this main class to start benchmarking.
+    org.openjdk.jmh.Main.main(args);
+  }
+
+}
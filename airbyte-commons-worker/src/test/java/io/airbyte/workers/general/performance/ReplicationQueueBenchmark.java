@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general.performance;
+
+import io.airbyte.commons.concurrency.BoundedBlockingRingBuffer;
+import io.airbyte.commons.concurrency.BoundedConcurrentLinkedQueue;
+import io.airbyte.commons.concurrency.ClosableQueue;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the queues the BufferedReplicationWorker can use between its steps by moving a fixed
+ * number of messages from a producer thread to a consumer thread, the same way readFromSource hands
+ * messages over to processMessage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ReplicationQueueBenchmark {
+
+  private static final int MESSAGE_COUNT = 1_000_000;
+  private static final int QUEUE_SIZE = 1000;
+  private static final long WAIT_TIMEOUT_MS = 100;
+
+  private static final AirbyteMessage MESSAGE = new AirbyteMessage()
+      .withType(Type.RECORD)
+      .withRecord(new AirbyteRecordMessage().withStream("stream").withEmittedAt(0L));
+
+  @Param({"CONCURRENT_LINKED_QUEUE", "RING_BUFFER"})
+  public String queueImpl;
+
+  private ClosableQueue<AirbyteMessage> newQueue() {
+    return "RING_BUFFER".equals(queueImpl)
+        ? new BoundedBlockingRingBuffer<>(QUEUE_SIZE)
+        : new BoundedConcurrentLinkedQueue<>(QUEUE_SIZE);
+  }
+
+  @Benchmark
+  public long transferMessages() throws Exception {
+    final ClosableQueue<AirbyteMessage> queue = newQueue();
+
+    final CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+      try {
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+          while (!queue.offer(MESSAGE, WAIT_TIMEOUT_MS, TimeUnit.MILLISECONDS) && !queue.isClosed()) {
+            // keep trying until the message is accepted
+          }
+        }
+      } catch (final InterruptedException e) {
+        throw new RuntimeException(e);
+      } finally {
+        queue.close();
+      }
+    });
+
+    long consumed = 0;
+    while (!queue.isDone()) {
+      if (queue.poll(WAIT_TIMEOUT_MS, TimeUnit.MILLISECONDS) != null) {
+        consumed++;
+      }
+    }
+    producer.join();
+    return consumed;
+  }
+
+  public static void main(final String[] args) throws IOException {
+    // Run this main class to start benchmarking.
+    org.openjdk.jmh.Main.main(args);
+  }
+
+}
@@ -155,7 +155,7 @@ public abstract class ReplicationWorkerPerformanceTest {
         workspaceID,
         UUID.randomUUID(),
         new NotImplementedMetricClient());
-    final StreamStatusTracker streamStatusTracker = new StreamStatusTracker(mock(AirbyteApiClient.class));
+    final StreamStatusTracker streamStatusTracker = new StreamStatusTracker(mock(AirbyteApiClient.class), null);
     final List<ApplicationEventListener<ReplicationAirbyteMessageEvent>> listeners = List.of(
         new AirbyteControlMessageEventListener(connectorConfigUpdater),
         new AirbyteStreamStatusMessageEventListener(streamStatusTracker));
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.workers.test_utils.AirbyteMessageUtils;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class RecordByteSizeTest {
+
+  @Test
+  void testMeasuresTheDataInBytes() {
+    final AirbyteMessage message = AirbyteMessageUtils.createRecordMessage("stream", "field", "vert é");
+
+    assertEquals("{\"field\":\"vert é\"}".getBytes(StandardCharsets.UTF_8).length, RecordByteSize.of(message));
+  }
+
+  @Test
+  void testUsesTheSizeOfTheDataThatWasRead() {
+    final AirbyteMessage message = new SourceRecordMessage(AirbyteMessageUtils.createRecordMessage("stream", "field", "vert é").getRecord(), 42L);
+
+    assertEquals(42L, RecordByteSize.of(message));
+  }
+
+  @Test
+  void testMeasuresTheDataOnceItsSizeIsCleared() {
+    final SourceRecordMessage message = new SourceRecordMessage(AirbyteMessageUtils.createRecordMessage("stream", "field", "vert é").getRecord(), 42L);
+
+    message.clearDataByteSize();
+
+    assertEquals("{\"field\":\"vert é\"}".getBytes(StandardCharsets.UTF_8).length, RecordByteSize.of(message));
+  }
+
+}
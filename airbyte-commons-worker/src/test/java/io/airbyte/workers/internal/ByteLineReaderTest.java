@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ByteLineReaderTest {
+
+  @Test
+  void testSplitsLines() throws IOException {
+    assertEquals(List.of("a", "bc", "", "d"), readLines("a\nbc\r\n\nd", 1024));
+  }
+
+  @Test
+  void testTrailingNewLineDoesNotAddAnEmptyLine() throws IOException {
+    assertEquals(List.of("a", "b"), readLines("a\nb\n", 1024));
+    assertEquals(List.of(), readLines("", 1024));
+  }
+
+  @Test
+  void testLinesLongerThanTheBuffer() throws IOException {
+    final String longLine = "x".repeat(100);
+    assertEquals(List.of("é", longLine, "y", longLine), readLines("é\n" + longLine + "\ny\n" + longLine, 4));
+  }
+
+  private static List<String> readLines(final String input, final int bufferSize) throws IOException {
+    final ByteLineReader reader = new ByteLineReader(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), bufferSize);
+    final List<String> lines = new ArrayList<>();
+    while (reader.readLine()) {
+      lines.add(new String(reader.buffer(), reader.lineStart(), reader.lineLength(), StandardCharsets.UTF_8));
+    }
+    return lines;
+  }
+
+}
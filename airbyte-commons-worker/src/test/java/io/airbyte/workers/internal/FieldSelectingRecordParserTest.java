@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FieldSelectingRecordParserTest {
+
+  private static final ConfiguredAirbyteCatalog CATALOG = CatalogHelpers.createConfiguredAirbyteCatalog(
+      "users",
+      "public",
+      Field.of("id", JsonSchemaType.NUMBER),
+      Field.of("name", JsonSchemaType.STRING));
+
+  private final FieldSelectingRecordParser parser = new FieldSelectingRecordParser(FieldSelectionPlans.fromCatalog(CATALOG));
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    // The stream comes before the data.
+    "{\"type\":\"RECORD\",\"record\":{\"stream\":\"users\",\"namespace\":\"public\",\"emitted_at\":1,"
+        + "\"data\":{\"id\":1.10,\"password\":{\"a\":[1]},\"name\":\"a\"}}}",
+    // The data comes first.
+    "{\"record\":{\"data\":{\"id\":1.10,\"password\":{\"a\":[1]},\"name\":\"a\"},\"emitted_at\":1,\"namespace\":\"public\",\"stream\":\"users\"},"
+        + "\"type\":\"RECORD\"}"})
+  void testSkipsTheFieldsThatAreNotSelected(final String line) {
+    final Optional<AirbyteMessage> message = parse(line);
+
+    assertTrue(message.isPresent());
+    assertTrue(parser.hasSkippedFields());
+    final AirbyteMessage expected = Jsons.tryDeserializeExact(line, AirbyteMessage.class).orElseThrow();
+    ((ObjectNode) expected.getRecord().getData()).remove("password");
+    assertEquals(expected, message.get());
+  }
+
+  @Test
+  void testRecordWithOnlySelectedFields() {
+    final Optional<AirbyteMessage> message =
+        parse("{\"type\":\"RECORD\",\"record\":{\"stream\":\"users\",\"namespace\":\"public\",\"data\":{\"id\":1}}}");
+
+    assertTrue(message.isPresent());
+    assertFalse(parser.hasSkippedFields());
+    assertEquals("{\"id\":1}".length(), parser.dataByteSize());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    // Not a record.
+    "{\"type\":\"STATE\",\"state\":{\"data\":{}}}",
+    // Meta is left to the deserializer.
+    "{\"type\":\"RECORD\",\"record\":{\"stream\":\"users\",\"namespace\":\"public\",\"data\":{},\"meta\":{}}}",
+    // The namespace comes after the data.
+    "{\"type\":\"RECORD\",\"record\":{\"stream\":\"users\",\"data\":{\"id\":1},\"namespace\":\"public\"}}",
+    // Data isn't an object.
+    "{\"type\":\"RECORD\",\"record\":{\"stream\":\"users\",\"namespace\":\"public\",\"data\":[]}}",
+    // Not json.
+    "I am a log line"})
+  void testLeavesAnythingElseToTheDeserializer(final String line) {
+    assertTrue(parse(line).isEmpty());
+  }
+
+  private Optional<AirbyteMessage> parse(final String line) {
+    final byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+    return parser.parse(bytes, 0, bytes.length);
+  }
+
+}
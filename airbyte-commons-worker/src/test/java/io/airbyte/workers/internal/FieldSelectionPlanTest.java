@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class FieldSelectionPlanTest {
+
+  @Test
+  void testPrunesTopLevelFields() {
+    final FieldSelectionPlan plan = FieldSelectionPlan.of(List.of(List.of("id"), List.of("name")));
+    final ObjectNode data = (ObjectNode) Jsons.deserialize("{\"id\": 1, \"name\": \"a\", \"secret\": \"b\"}");
+
+    assertTrue(plan.prune(data));
+    assertEquals(Jsons.deserialize("{\"id\": 1, \"name\": \"a\"}"), data);
+    assertFalse(plan.prune(data));
+  }
+
+  @Test
+  void testPrunesNestedFields() {
+    final FieldSelectionPlan plan = FieldSelectionPlan.of(List.of(
+        List.of("id"),
+        List.of("address", "city"),
+        List.of("user", "id"),
+        // Selecting the whole field takes precedence.
+        List.of("user")));
+    final ObjectNode data = (ObjectNode) Jsons.deserialize("""
+                                                           {"id": 1, "address": {"city": "Paris", "street": "a"}, "user": {"id": 2, "name": "b"},
+                                                            "other": {"city": "Lyon"}}
+                                                           """);
+
+    assertTrue(plan.prune(data));
+    assertEquals(Jsons.deserialize("{\"id\": 1, \"address\": {\"city\": \"Paris\"}, \"user\": {\"id\": 2, \"name\": \"b\"}}"), data);
+  }
+
+  @Test
+  void testNestedFieldsOfNonObjectsAreKept() {
+    final FieldSelectionPlan plan = FieldSelectionPlan.of(List.of(List.of("address", "city")));
+    final ObjectNode data = (ObjectNode) Jsons.deserialize("{\"address\": \"1 main street\"}");
+
+    assertFalse(plan.prune(data));
+    assertEquals(Jsons.deserialize("{\"address\": \"1 main street\"}"), data);
+  }
+
+}
@@ -7,6 +7,7 @@ package io.airbyte.workers.internal;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -35,7 +36,8 @@ class HeartBeatTimeoutChaperoneTest {
   private final FeatureFlagClient featureFlagClient = mock(TestClient.class);
   private final UUID workspaceId = UUID.randomUUID();
   private final UUID connectionId = UUID.randomUUID();
-  private final MetricClient metricClient = mock(MetricClient.class);
+  // Calls the default bind() of the client, so that bound metrics are recorded through the mock.
+  private final MetricClient metricClient = mock(MetricClient.class, CALLS_REAL_METHODS);
 
   @Test
   void testFailHeartbeat() {
@@ -110,7 +112,10 @@ class HeartBeatTimeoutChaperoneTest {
         metricClient);
     when(featureFlagClient.boolVariation(eq(ShouldFailSyncIfHeartbeatFailure.INSTANCE), any())).thenReturn(true);
     when(heartbeatMonitor.isBeating()).thenReturn(Optional.of(false));
+    when(heartbeatMonitor.getTimeSinceLastBeat()).thenReturn(Optional.of(Duration.ofMillis(42)));
     assertDoesNotThrow(() -> CompletableFuture.runAsync(() -> heartbeatTimeoutChaperone.monitor()).get(1000, TimeUnit.MILLISECONDS));
+    verify(metricClient, times(1)).distribution(OssMetricsRegistry.SOURCE_TIME_SINCE_LAST_HEARTBEAT_MILLIS, 42,
+        new MetricAttribute(MetricTags.CONNECTION_ID, connectionId.toString()));
     verify(metricClient, times(1)).count(OssMetricsRegistry.SOURCE_HEARTBEAT_FAILURE, 1,
         new MetricAttribute(MetricTags.CONNECTION_ID, connectionId.toString()));
   }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.workers.helper.SourceRecordMessage;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class RawRecordParserTest {
+
+  @Test
+  void testParsesTheEnvelope() {
+    final String line =
+        "{\"record\":{\"data\":{\"stream\":\"not the stream\",\"amount\":1.10},\"emitted_at\":1695224525688,\"namespace\":\"public\",\"stream\":\"documents\"},"
+            + "\"type\":\"RECORD\"}";
+    final byte[] bytes = ("prefix" + line + "suffix").getBytes(StandardCharsets.UTF_8);
+
+    final Optional<SourceRecordMessage> message = RawRecordParser.parse(bytes, "prefix".length(), line.length());
+
+    assertTrue(message.isPresent());
+    assertEquals(AirbyteMessage.Type.RECORD, message.get().getType());
+    final AirbyteRecordMessage record = message.get().getRecord();
+    assertEquals("documents", record.getStream());
+    assertEquals("public", record.getNamespace());
+    assertEquals(1695224525688L, record.getEmittedAt());
+    assertNull(record.getData());
+    assertTrue(message.get().isPassedThrough());
+    assertArrayEquals(line.getBytes(StandardCharsets.UTF_8), message.get().rawLine());
+    assertEquals(Long.valueOf("{\"stream\":\"not the stream\",\"amount\":1.10}".length()), message.get().dataByteSize());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    // Not a record.
+    "{\"type\":\"STATE\",\"state\":{\"data\":{}}}",
+    // Missing data.
+    "{\"type\":\"RECORD\",\"record\":{\"stream\":\"documents\"}}",
+    // Null data.
+    "{\"type\":\"RECORD\",\"record\":{\"stream\":\"documents\",\"data\":null}}",
+    // Data isn't an object.
+    "{\"type\":\"RECORD\",\"record\":{\"stream\":\"documents\",\"data\":\"documents\"}}",
+    // Missing stream.
+    "{\"type\":\"RECORD\",\"record\":{\"data\":{}}}",
+    // Stream isn't a string.
+    "{\"type\":\"RECORD\",\"record\":{\"stream\":{\"name\":\"documents\"},\"data\":{}}}",
+    // Content after the message.
+    "{\"type\":\"RECORD\",\"record\":{\"stream\":\"documents\",\"data\":{}}}{\"type\":\"RECORD\"}",
+    // Truncated message.
+    "{\"type\":\"RECORD\",\"record\":{\"stream\":\"documents\",\"data\":{\"amount\":",
+    // Not json.
+    "I am a log line"})
+  void testLeavesAnythingElseToTheDeserializer(final String line) {
+    final byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+    assertTrue(RawRecordParser.parse(bytes, 0, bytes.length).isEmpty());
+  }
+
+}
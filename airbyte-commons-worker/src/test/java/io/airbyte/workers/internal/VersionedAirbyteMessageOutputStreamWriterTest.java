@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.protocol.AirbyteMessageVersionedMigrator;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.workers.helper.SourceRecordMessage;
+import io.airbyte.workers.internal.VersionedAirbyteMessageOutputStreamWriter.FlushPolicy;
+import io.airbyte.workers.test_utils.AirbyteMessageUtils;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class VersionedAirbyteMessageOutputStreamWriterTest {
+
+  private static final FlushPolicy LARGE_BUFFER = new FlushPolicy(1024 * 1024, Duration.ofHours(1));
+
+  private AirbyteMessageVersionedMigrator<AirbyteMessage> migrator;
+  private MetricClient metricClient;
+  private ByteArrayOutputStream outputStream;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setup() {
+    migrator = mock(AirbyteMessageVersionedMigrator.class);
+    when(migrator.downgrade(any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+    metricClient = mock(MetricClient.class);
+    outputStream = new ByteArrayOutputStream();
+  }
+
+  @Test
+  void testWritesTheSameLinesAsTheSerializer() throws IOException {
+    final AirbyteMessage record = AirbyteMessageUtils.createRecordMessage("stream", Map.of("amount", new BigDecimal("1.10"), "name", "é"));
+    final AirbyteMessage state = AirbyteMessageUtils.createStateMessage("stream", "checkpoint", "1");
+    final String rawLine = "{\"type\":\"RECORD\",\"record\":{\"stream\":\"stream\",\"data\":{\"id\":1},\"emitted_at\":1}}";
+    final AirbyteMessage passedThrough =
+        new SourceRecordMessage(new AirbyteRecordMessage().withStream("stream"), 8L, rawLine.getBytes(StandardCharsets.UTF_8));
+
+    final var writer = createWriter(LARGE_BUFFER);
+    writer.write(record);
+    writer.write(passedThrough);
+    writer.write(state);
+    writer.flush();
+    writer.close();
+
+    assertEquals(Jsons.serialize(record) + "\n" + rawLine + "\n" + Jsons.serialize(state) + "\n", outputStream.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testRefusesToPassThroughRenamedRecords() {
+    final String rawLine = "{\"type\":\"RECORD\",\"record\":{\"stream\":\"stream\",\"data\":{\"id\":1},\"emitted_at\":1}}";
+    final AirbyteMessage passedThrough =
+        new SourceRecordMessage(new AirbyteRecordMessage().withStream("stream"), 8L, rawLine.getBytes(StandardCharsets.UTF_8));
+    // The line still names the stream of the source.
+    passedThrough.getRecord().setStream("prefix_stream");
+
+    final var writer = createWriter(LARGE_BUFFER);
+    assertThrows(IllegalStateException.class, () -> writer.write(passedThrough));
+  }
+
+  @Test
+  void testFlushesAfterStateMessages() throws IOException {
+    final AirbyteMessage record = AirbyteMessageUtils.createRecordMessage("stream", "id", 1);
+    final AirbyteMessage state = AirbyteMessageUtils.createStateMessage("stream", "checkpoint", "1");
+
+    final var writer = createWriter(LARGE_BUFFER);
+    writer.write(record);
+    assertEquals(0, outputStream.size());
+
+    writer.write(state);
+    assertEquals(Jsons.serialize(record) + "\n" + Jsons.serialize(state) + "\n", outputStream.toString(StandardCharsets.UTF_8));
+    verify(metricClient).distribution(eq(OssMetricsRegistry.WORKER_DESTINATION_FLUSH_LATENCY_MS), anyDouble(),
+        eq(new MetricAttribute(MetricTags.FLUSH_REASON, "state")));
+  }
+
+  @Test
+  void testFlushesWhenTheBufferIsFull() throws IOException {
+    final AirbyteMessage record = AirbyteMessageUtils.createRecordMessage("stream", "id", 1);
+    final int lineSize = (Jsons.serialize(record) + "\n").length();
+
+    final var writer = createWriter(new FlushPolicy(lineSize * 2, Duration.ofHours(1)));
+    writer.write(record);
+    assertEquals(0, outputStream.size());
+
+    writer.write(record);
+    assertEquals(lineSize * 2, outputStream.size());
+    assertEquals(lineSize * 2, writer.getBytesFlushed());
+  }
+
+  @Test
+  void testFlushesAfterTheMaxDelay() throws IOException {
+    final AirbyteMessage record = AirbyteMessageUtils.createRecordMessage("stream", "id", 1);
+
+    final var writer = createWriter(new FlushPolicy(1024 * 1024, Duration.ZERO));
+    writer.write(record);
+    assertEquals(Jsons.serialize(record) + "\n", outputStream.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testFlushesIdleBuffersWithoutAnotherWrite() throws IOException, InterruptedException {
+    final AirbyteMessage record = AirbyteMessageUtils.createRecordMessage("stream", "id", 1);
+    final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+
+    final var writer = new VersionedAirbyteMessageOutputStreamWriter<>(outputStream, migrator, Optional.empty(),
+        new FlushPolicy(1024 * 1024, Duration.ofMillis(50)), metricClient, scheduler);
+    verify(scheduler).scheduleWithFixedDelay(any(), eq(50_000_000L), eq(50_000_000L), eq(TimeUnit.NANOSECONDS));
+    writer.write(record);
+    writer.flushIfIdle();
+    assertEquals(0, outputStream.size());
+
+    // No message follows the last one, the background flush sends it once the delay has elapsed.
+    Thread.sleep(60);
+    writer.flushIfIdle();
+    assertEquals(Jsons.serialize(record) + "\n", outputStream.toString(StandardCharsets.UTF_8));
+    verify(metricClient).distribution(eq(OssMetricsRegistry.WORKER_DESTINATION_FLUSH_LATENCY_MS), anyDouble(),
+        eq(new MetricAttribute(MetricTags.FLUSH_REASON, "delay")));
+  }
+
+  @Test
+  void testPassedThroughRecordsStayBufferedUntilFlushed() throws IOException {
+    final AirbyteMessage record = AirbyteMessageUtils.createRecordMessage("stream", "id", 1);
+    final String rawLine = "{\"type\":\"RECORD\",\"record\":{\"stream\":\"stream\",\"data\":{\"id\":1},\"emitted_at\":1}}";
+    final CountingOutputStream countingOutputStream = new CountingOutputStream(outputStream);
+
+    final var writer =
+        new VersionedAirbyteMessageOutputStreamWriter<>(countingOutputStream, migrator, Optional.empty(), LARGE_BUFFER, metricClient);
+    for (int i = 0; i < 1000; i++) {
+      final AirbyteMessage passedThrough =
+          new SourceRecordMessage(new AirbyteRecordMessage().withStream("stream"), 8L, rawLine.getBytes(StandardCharsets.UTF_8));
+      writer.write(passedThrough);
+      // interleave serialized records, which go through the generator
+      writer.write(record);
+    }
+    assertEquals(0, countingOutputStream.writes);
+    assertEquals(0, countingOutputStream.flushes);
+
+    writer.flush();
+    assertEquals(1, countingOutputStream.flushes);
+    assertEquals(1000 * (rawLine.length() + Jsons.serialize(record).length() + 2), outputStream.size());
+
+    writer.close();
+    assertEquals(1000 * (rawLine.length() + Jsons.serialize(record).length() + 2), outputStream.size());
+  }
+
+  private VersionedAirbyteMessageOutputStreamWriter<AirbyteMessage> createWriter(final FlushPolicy flushPolicy) throws IOException {
+    return new VersionedAirbyteMessageOutputStreamWriter<>(outputStream, migrator, Optional.empty(), flushPolicy, metricClient);
+  }
+
+  /**
+   * Counts the writes and flushes that reach the connector.
+   */
+  private static final class CountingOutputStream extends FilterOutputStream {
+
+    private int writes;
+    private int flushes;
+
+    CountingOutputStream(final OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+      writes++;
+      out.write(b);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+      writes++;
+      out.write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+      flushes++;
+      out.flush();
+    }
+
+  }
+
+}
@@ -4,8 +4,12 @@
 
 package io.airbyte.workers.internal;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
@@ -26,6 +30,7 @@ import io.airbyte.commons.version.Version;
 import io.airbyte.protocol.models.AirbyteLogMessage;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.workers.helper.GsonPksExtractor;
+import io.airbyte.workers.helper.SourceRecordMessage;
 import io.airbyte.workers.test_utils.AirbyteMessageUtils;
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
@@ -39,6 +44,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.assertj.core.api.Assertions;
@@ -104,6 +110,73 @@ class VersionedAirbyteStreamFactoryTest {
       assertEquals(expectedStream.collect(Collectors.toList()), messageStream.collect(Collectors.toList()));
     }
 
+    @Test
+    void testInputStreamParsing() {
+      final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "vert é");
+      final AirbyteMessage record2 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, new BigDecimal("1234567890.1234567890"));
+      final AirbyteMessage logMessage = AirbyteMessageUtils.createLogMessage(AirbyteLogMessage.Level.WARN, "warning");
+      final String invalidLine = "invalid line";
+      final String line1 = Jsons.serialize(record1);
+      final String input = line1 + "\n" + invalidLine + "\r\n" + Jsons.serialize(logMessage) + "\n\n" + Jsons.serialize(record2);
+
+      final List<AirbyteMessage> messages = VersionedAirbyteStreamFactory
+          .noMigrationVersionedAirbyteStreamFactory(logger, new Builder(), Optional.of(RuntimeException.class), 100000L,
+              new VersionedAirbyteStreamFactory.InvalidLineFailureConfiguration(false, false, false),
+              gsonPksExtractor)
+          .withInputStreamParsing(true)
+          .create(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)))
+          .toList();
+
+      assertEquals(List.of(record1, record2), messages);
+      verify(logger).info(invalidLine);
+      verify(logger).warn("warning");
+    }
+
+    @Test
+    void testRecordPassthrough() {
+      final AirbyteMessage record = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+      final AirbyteMessage state = AirbyteMessageUtils.createStateMessage(STREAM_NAME, FIELD_NAME, "green");
+      final String recordLine = Jsons.serialize(record);
+      final String input = recordLine + "\n" + recordLine + "\n" + Jsons.serialize(state);
+      // Only the first record is sampled for validation.
+      final AtomicInteger sampledRecords = new AtomicInteger();
+
+      final List<AirbyteMessage> messages = VersionedAirbyteStreamFactory
+          .noMigrationVersionedAirbyteStreamFactory(logger, new Builder(), Optional.of(RuntimeException.class), 100000L,
+              new VersionedAirbyteStreamFactory.InvalidLineFailureConfiguration(false, false, false),
+              gsonPksExtractor)
+          .withInputStreamParsing(true)
+          .withRecordPassthrough(stream -> sampledRecords.getAndIncrement() > 0)
+          .create(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)))
+          .toList();
+
+      assertEquals(3, messages.size());
+      final SourceRecordMessage sampledRecord = (SourceRecordMessage) messages.get(0);
+      assertEquals(record.getRecord(), sampledRecord.getRecord());
+      assertTrue(sampledRecord.isSampledForValidation());
+      assertFalse(sampledRecord.isPassedThrough());
+      final SourceRecordMessage passedThroughRecord = (SourceRecordMessage) messages.get(1);
+      assertEquals(STREAM_NAME, passedThroughRecord.getRecord().getStream());
+      assertNull(passedThroughRecord.getRecord().getData());
+      assertArrayEquals(recordLine.getBytes(StandardCharsets.UTF_8), passedThroughRecord.rawLine());
+      assertEquals(state, messages.get(2));
+      assertEquals(2, sampledRecords.get());
+    }
+
+    @Test
+    void testInputStreamParsingFailsSize() {
+      final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+
+      final Stream<AirbyteMessage> messageStream =
+          VersionedAirbyteStreamFactory
+              .noMigrationVersionedAirbyteStreamFactory(logger, new Builder(), Optional.of(RuntimeException.class), 1L,
+                  new VersionedAirbyteStreamFactory.InvalidLineFailureConfiguration(false, false, false), gsonPksExtractor)
+              .withInputStreamParsing(true)
+              .create(new ByteArrayInputStream(Jsons.serialize(record1).getBytes(StandardCharsets.UTF_8)));
+
+      assertThrows(RuntimeException.class, () -> messageStream.toList());
+    }
+
     @Test
     void testLoggingLine() {
       final String invalidRecord = "invalid line";
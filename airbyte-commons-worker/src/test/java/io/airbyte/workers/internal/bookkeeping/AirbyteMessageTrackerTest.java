@@ -17,6 +17,8 @@ import io.airbyte.protocol.models.AirbyteTraceMessage.Type;
 import io.airbyte.protocol.models.Config;
 import io.airbyte.protocol.models.StreamDescriptor;
 import io.airbyte.workers.helper.FailureHelper;
+import io.airbyte.workers.helper.RecordByteSize;
+import io.airbyte.workers.helper.SourceRecordMessage;
 import io.airbyte.workers.test_utils.AirbyteMessageUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -79,7 +81,16 @@ class AirbyteMessageTrackerTest {
 
     messageTracker.acceptFromSource(record);
 
-    verify(syncStatsTracker).updateStats(record.getRecord());
+    verify(syncStatsTracker).updateStats(record.getRecord(), RecordByteSize.of(record.getRecord()));
+  }
+
+  @Test
+  void testAcceptFromSourceRecordWithKnownSize() {
+    final AirbyteMessage record = new SourceRecordMessage(AirbyteMessageUtils.createRecordMessage("stream 1", 123).getRecord(), 42L);
+
+    messageTracker.acceptFromSource(record);
+
+    verify(syncStatsTracker).updateStats(record.getRecord(), 42L);
   }
 
   @Test
@@ -16,6 +16,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -79,7 +80,7 @@ class StreamStatusTrackerTest {
     streamStatusesApi = mock(StreamStatusesApi.class);
     airbyteApiClient = mock(AirbyteApiClient.class);
     streamDescriptor = new StreamDescriptor().withName("name").withNamespace("namespace");
-    streamStatusTracker = new StreamStatusTracker(airbyteApiClient);
+    streamStatusTracker = new StreamStatusTracker(airbyteApiClient, null);
   }
 
   @Test
@@ -926,6 +927,33 @@ class StreamStatusTrackerTest {
     verify(streamStatusesApi, times(1)).updateStreamStatus(expected);
   }
 
+  @Test
+  void testForceCompletionRunningWithStatusBuffer() throws ApiException {
+    final StreamStatusUpdateBuffer statusBuffer = mock(StreamStatusUpdateBuffer.class);
+    streamStatusTracker = new StreamStatusTracker(airbyteApiClient, statusBuffer);
+    final ReplicationContext replicationContext =
+        new ReplicationContext(false, CONNECTION_ID, DESTINATION_ID, SOURCE_ID, JOB_ID, ATTEMPT, WORKSPACE_ID, SOURCE_IMAGE, DESTINATION_IMAGE);
+
+    final AirbyteMessage startedAirbyteMessage = createAirbyteMessage(streamDescriptor, STARTED, TIMESTAMP);
+    final AirbyteMessage runningAirbyteMessage = createAirbyteMessage(streamDescriptor, AirbyteStreamStatus.RUNNING, TIMESTAMP);
+    final AirbyteMessage forceCompletionMessage = createAirbyteMessage(new StreamDescriptor(), COMPLETE, TIMESTAMP);
+    final StreamStatusKey streamStatusKey = new StreamStatusKey(streamDescriptor.getName(), streamDescriptor.getNamespace(),
+        replicationContext.workspaceId(), replicationContext.connectionId(), replicationContext.jobId(), replicationContext.attempt());
+
+    streamStatusTracker.track(new ReplicationAirbyteMessageEvent(AirbyteMessageOrigin.SOURCE, startedAirbyteMessage, replicationContext));
+    streamStatusTracker.track(new ReplicationAirbyteMessageEvent(AirbyteMessageOrigin.SOURCE, runningAirbyteMessage, replicationContext));
+    streamStatusTracker.track(new ReplicationAirbyteMessageEvent(AirbyteMessageOrigin.INTERNAL, forceCompletionMessage, replicationContext));
+
+    assertNull(streamStatusTracker.getAirbyteStreamStatus(streamStatusKey));
+    verify(statusBuffer, times(1)).create(eq(streamStatusKey), any(StreamStatusCreateRequestBody.class));
+    verify(statusBuffer, times(2)).update(eq(streamStatusKey), updateArgumentCaptor.capture());
+    assertEquals(StreamStatusRunState.COMPLETE, updateArgumentCaptor.getValue().getRunState());
+    assertNull(updateArgumentCaptor.getValue().getId());
+    verify(statusBuffer, times(1)).flush(replicationContext);
+    verify(streamStatusesApi, times(0)).createStreamStatus(any(StreamStatusCreateRequestBody.class));
+    verify(streamStatusesApi, times(0)).updateStreamStatus(any(StreamStatusUpdateRequestBody.class));
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {true, false})
   void testForceCompletionPartiallyComplete(final boolean isReset) throws ApiException {
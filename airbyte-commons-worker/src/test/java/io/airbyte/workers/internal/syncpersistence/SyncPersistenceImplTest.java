@@ -29,7 +29,10 @@ import io.airbyte.api.client.model.generated.ConnectionState;
 import io.airbyte.api.client.model.generated.ConnectionStateCreateOrUpdate;
 import io.airbyte.api.client.model.generated.ConnectionStateType;
 import io.airbyte.api.client.model.generated.StreamState;
+import io.airbyte.commons.converters.StateConverter;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.StateType;
+import io.airbyte.config.StateWrapper;
 import io.airbyte.protocol.models.AirbyteEstimateTraceMessage;
 import io.airbyte.protocol.models.AirbyteGlobalState;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
@@ -91,7 +94,7 @@ class SyncPersistenceImplTest {
     stateApi = mock(StateApi.class);
     attemptApi = mock(AttemptApi.class);
     syncPersistence = new SyncPersistenceImpl(stateApi, attemptApi, new StateAggregatorFactory(), syncStatsTracker, executorService,
-        flushPeriod, new RetryWithJitterConfig(1, 1, 4),
+        flushPeriod, false, new RetryWithJitterConfig(1, 1, 4),
         connectionId, jobId, attemptNumber, catalog);
   }
 
@@ -181,6 +184,39 @@ class SyncPersistenceImplTest {
     verify(stateApi, never()).createOrUpdateState(any());
   }
 
+  @Test
+  void testDeltaFlushOnlySendsChangedStreamStates() throws Exception {
+    final SyncPersistenceImpl deltaSyncPersistence = new SyncPersistenceImpl(stateApi, attemptApi, new StateAggregatorFactory(), syncStatsTracker,
+        executorService, flushPeriod, true, new RetryWithJitterConfig(1, 1, 4), connectionId, jobId, attemptNumber, catalog);
+
+    // The first flush sends the full state
+    deltaSyncPersistence.persist(connectionId, getGlobalState(1, 1, 1));
+    actualFlushMethod.getValue().run();
+    verify(stateApi).createOrUpdateState(buildGlobalStateRequest(getGlobalState(1, 1, 1)));
+    verify(stateApi, never()).applyStateDelta(any());
+    clearInvocations(stateApi);
+
+    // Then only the shared state and the stream states that changed
+    deltaSyncPersistence.persist(connectionId, getGlobalState(2, 1, 2));
+    actualFlushMethod.getValue().run();
+    verify(stateApi).applyStateDelta(buildGlobalStateRequest(new AirbyteStateMessage().withType(GLOBAL)
+        .withGlobal(new AirbyteGlobalState()
+            .withSharedState(Jsons.jsonNode(2))
+            .withStreamStates(List.of(getGlobalStreamState("B", 2))))));
+    verify(stateApi, never()).createOrUpdateState(any());
+    clearInvocations(stateApi);
+
+    // A failed flush falls back to the full state
+    when(stateApi.applyStateDelta(any())).thenThrow(new ApiException());
+    deltaSyncPersistence.persist(connectionId, getGlobalState(3, 2, 2));
+    actualFlushMethod.getValue().run();
+    verify(stateApi).applyStateDelta(any());
+    actualFlushMethod.getValue().run();
+    verify(stateApi).createOrUpdateState(buildGlobalStateRequest(getGlobalState(3, 2, 2)));
+
+    deltaSyncPersistence.close();
+  }
+
   @Test
   void testStatsFlushBasicEmissions() throws ApiException {
     syncPersistence.updateStats(new AirbyteRecordMessage());
@@ -602,6 +638,26 @@ class SyncPersistenceImplTest {
         .withGlobal(new AirbyteGlobalState().withSharedState(Jsons.deserialize("{\"globalState\":" + stateValue + "}")));
   }
 
+  private AirbyteStateMessage getGlobalState(final int sharedStateValue, final int streamAStateValue, final int streamBStateValue) {
+    return new AirbyteStateMessage().withType(GLOBAL)
+        .withGlobal(new AirbyteGlobalState()
+            .withSharedState(Jsons.jsonNode(sharedStateValue))
+            .withStreamStates(List.of(getGlobalStreamState("A", streamAStateValue), getGlobalStreamState("B", streamBStateValue))));
+  }
+
+  private AirbyteStreamState getGlobalStreamState(final String streamName, final int stateValue) {
+    return new AirbyteStreamState()
+        .withStreamDescriptor(new StreamDescriptor().withName(streamName))
+        .withStreamState(Jsons.jsonNode(stateValue));
+  }
+
+  private ConnectionStateCreateOrUpdate buildGlobalStateRequest(final AirbyteStateMessage globalState) {
+    return new ConnectionStateCreateOrUpdate()
+        .connectionId(connectionId)
+        .connectionState(StateConverter.toClient(connectionId,
+            new StateWrapper().withStateType(StateType.GLOBAL).withGlobal(globalState)));
+  }
+
   private AirbyteStateMessage getLegacyState(final String stateValue) {
     return new AirbyteStateMessage().withType(LEGACY)
         .withData(Jsons.deserialize("{\"state\":\"" + stateValue + "\"}"));
@@ -0,0 +1,192 @@
+package io.airbyte.workers.internal.bookkeeping
+
+import io.airbyte.api.client.AirbyteApiClient
+import io.airbyte.api.client.generated.StreamStatusesApi
+import io.airbyte.api.client.model.generated.StreamStatusBatchRead
+import io.airbyte.api.client.model.generated.StreamStatusBatchRequestBody
+import io.airbyte.api.client.model.generated.StreamStatusCreateRequestBody
+import io.airbyte.api.client.model.generated.StreamStatusRead
+import io.airbyte.api.client.model.generated.StreamStatusRunState
+import io.airbyte.api.client.model.generated.StreamStatusUpdateRequestBody
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.OssMetricsRegistry
+import io.airbyte.workers.context.ReplicationContext
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.mockkStatic
+import io.mockk.slot
+import io.mockk.unmockkStatic
+import io.mockk.verify
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import java.util.UUID
+import java.util.concurrent.Callable
+import java.util.concurrent.ScheduledExecutorService
+
+private const val MAX_BATCH_SIZE = 2
+
+internal class StreamStatusUpdateBufferTest {
+  private val ctx =
+    ReplicationContext(false, UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), 1L, 0, UUID.randomUUID(), "source", "destination")
+  private val key = streamKey("users")
+
+  private lateinit var streamStatusesApi: StreamStatusesApi
+  private lateinit var metricClient: MetricClient
+  private lateinit var buffer: StreamStatusUpdateBuffer
+
+  @BeforeEach
+  fun setup() {
+    streamStatusesApi = mockk()
+    metricClient = mockk(relaxed = true)
+    val airbyteApiClient: AirbyteApiClient = mockk()
+    every { airbyteApiClient.streamStatusesApi } returns streamStatusesApi
+    val flushExecutorService: ScheduledExecutorService = mockk(relaxed = true)
+
+    // don't wait between the retries of a failed batch
+    mockkStatic(AirbyteApiClient::class)
+    every { AirbyteApiClient.retryWithJitterThrows(any<Callable<StreamStatusBatchRead>>(), any()) } answers {
+      firstArg<Callable<StreamStatusBatchRead>>().call()
+    }
+
+    buffer = StreamStatusUpdateBuffer(airbyteApiClient, metricClient, flushExecutorService, 1000, MAX_BATCH_SIZE)
+  }
+
+  @AfterEach
+  fun tearDown() {
+    unmockkStatic(AirbyteApiClient::class)
+  }
+
+  @Test
+  fun `transitions of a stream that was not created yet are folded into its creation`() {
+    val requests = mutableListOf<StreamStatusBatchRequestBody>()
+    every { streamStatusesApi.batchStreamStatuses(capture(requests)) } answers { batchRead(firstArg()) }
+
+    buffer.create(key, createBody(key))
+    buffer.update(key, updateBody(key, StreamStatusRunState.RUNNING))
+    buffer.update(key, updateBody(key, StreamStatusRunState.COMPLETE))
+    buffer.flush()
+
+    assertEquals(1, requests.size)
+    assertEquals(1, requests[0].creates.size)
+    assertEquals(StreamStatusRunState.COMPLETE, requests[0].creates[0].runState)
+    assertEquals(StreamStatusRunState.COMPLETE.ordinal.toLong(), requests[0].creates[0].transitionedAt)
+    assertEquals(listOf<StreamStatusUpdateRequestBody>(), requests[0].updates)
+    verify(exactly = 2) { metricClient.count(OssMetricsRegistry.STREAM_STATUS_UPDATES_MERGED, 1) }
+  }
+
+  @Test
+  fun `only the latest transition of a created stream is sent with its id`() {
+    val requests = mutableListOf<StreamStatusBatchRequestBody>()
+    every { streamStatusesApi.batchStreamStatuses(capture(requests)) } answers { batchRead(firstArg()) }
+
+    buffer.create(key, createBody(key))
+    buffer.flush()
+    buffer.update(key, updateBody(key, StreamStatusRunState.RUNNING))
+    buffer.update(key, updateBody(key, StreamStatusRunState.COMPLETE))
+    buffer.flush()
+
+    assertEquals(2, requests.size)
+    val createdId = requests[0].creates[0].let { statusId(it.streamName) }
+    assertEquals(1, requests[1].updates.size)
+    assertEquals(createdId, requests[1].updates[0].id)
+    assertEquals(StreamStatusRunState.COMPLETE, requests[1].updates[0].runState)
+    verify(exactly = 1) { metricClient.count(OssMetricsRegistry.STREAM_STATUS_UPDATES_MERGED, 1) }
+  }
+
+  @Test
+  fun `changes are sent in batches of the max batch size`() {
+    val requests = mutableListOf<StreamStatusBatchRequestBody>()
+    every { streamStatusesApi.batchStreamStatuses(capture(requests)) } answers { batchRead(firstArg()) }
+
+    listOf("a", "b", "c").map { streamKey(it) }.forEach { buffer.create(it, createBody(it)) }
+    buffer.flush()
+
+    assertEquals(listOf(2, 1), requests.map { it.creates.size })
+  }
+
+  @Test
+  fun `updates of a stream that was never created are dropped`() {
+    buffer.update(key, updateBody(key, StreamStatusRunState.RUNNING))
+    buffer.flush()
+
+    verify(exactly = 0) { streamStatusesApi.batchStreamStatuses(any()) }
+    verify(exactly = 1) { metricClient.count(OssMetricsRegistry.STREAM_STATUS_UPDATES_DROPPED, 1) }
+  }
+
+  @Test
+  fun `failed changes are retried with the transitions that happened in the meantime`() {
+    val request = slot<StreamStatusBatchRequestBody>()
+    every { streamStatusesApi.batchStreamStatuses(capture(request)) } throws RuntimeException("unavailable")
+
+    buffer.create(key, createBody(key))
+    buffer.flush()
+    buffer.update(key, updateBody(key, StreamStatusRunState.INCOMPLETE))
+
+    every { streamStatusesApi.batchStreamStatuses(capture(request)) } answers { batchRead(firstArg()) }
+    buffer.flush()
+
+    assertEquals(1, request.captured.creates.size)
+    assertEquals(StreamStatusRunState.INCOMPLETE, request.captured.creates[0].runState)
+    verify(exactly = 0) { metricClient.count(OssMetricsRegistry.STREAM_STATUS_UPDATES_DROPPED, 1) }
+  }
+
+  @Test
+  fun `changes are dropped after the max number of attempts`() {
+    every { streamStatusesApi.batchStreamStatuses(any()) } throws RuntimeException("unavailable")
+
+    buffer.create(key, createBody(key))
+    repeat(MAX_SEND_ATTEMPTS + 1) { buffer.flush() }
+
+    verify(exactly = MAX_SEND_ATTEMPTS) { streamStatusesApi.batchStreamStatuses(any()) }
+    verify(exactly = 1) { metricClient.count(OssMetricsRegistry.STREAM_STATUS_UPDATES_DROPPED, 1) }
+  }
+
+  @Test
+  fun `the ids of a sync are forgotten once its changes are flushed`() {
+    every { streamStatusesApi.batchStreamStatuses(any()) } answers { batchRead(firstArg()) }
+
+    buffer.create(key, createBody(key))
+    buffer.flush(ctx)
+    buffer.update(key, updateBody(key, StreamStatusRunState.COMPLETE))
+    buffer.flush()
+
+    verify(exactly = 1) { streamStatusesApi.batchStreamStatuses(any()) }
+    verify(exactly = 1) { metricClient.count(OssMetricsRegistry.STREAM_STATUS_UPDATES_DROPPED, 1) }
+  }
+
+  private fun streamKey(streamName: String) =
+    StreamStatusKey(streamName, "namespace", ctx.workspaceId, ctx.connectionId, ctx.jobId, ctx.attempt)
+
+  private fun createBody(key: StreamStatusKey) =
+    StreamStatusCreateRequestBody()
+      .streamName(key.streamName)
+      .streamNamespace(key.streamNamespace)
+      .jobId(key.jobId)
+      .attemptNumber(key.attempt)
+      .connectionId(key.connectionId)
+      .workspaceId(key.workspaceId)
+      .runState(StreamStatusRunState.PENDING)
+      .transitionedAt(StreamStatusRunState.PENDING.ordinal.toLong())
+
+  private fun updateBody(
+    key: StreamStatusKey,
+    runState: StreamStatusRunState,
+  ) = StreamStatusUpdateRequestBody()
+    .streamName(key.streamName)
+    .streamNamespace(key.streamNamespace)
+    .jobId(key.jobId)
+    .attemptNumber(key.attempt)
+    .connectionId(key.connectionId)
+    .workspaceId(key.workspaceId)
+    .runState(runState)
+    .transitionedAt(runState.ordinal.toLong())
+
+  private fun statusId(streamName: String): UUID = UUID.nameUUIDFromBytes(streamName.toByteArray())
+
+  private fun batchRead(requestBody: StreamStatusBatchRequestBody) =
+    StreamStatusBatchRead()
+      .created(requestBody.creates.map { StreamStatusRead().id(statusId(it.streamName)).runState(it.runState) })
+      .updated(requestBody.updates.map { StreamStatusRead().id(it.id).runState(it.runState) })
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.concurrency;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded single-producer/single-consumer ring buffer.
+ * <p>
+ * Unlike {@link BoundedConcurrentLinkedQueue}, this does not allocate a node per element and does
+ * not take any lock on the hot path. When the buffer is full (or empty), the producer (or consumer)
+ * parks until the other side makes progress, the buffer gets closed or the timeout expires, which
+ * removes the need for sleeping or busy polling.
+ * <p>
+ * This is only safe with at most one thread calling {@link #add}/{@link #offer} and at most one
+ * thread calling {@link #poll}. {@link #close()}, {@link #size()}, {@link #isClosed()} and
+ * {@link #isDone()} can be called from any thread. Elements published by the producer before it
+ * closes the buffer are always visible to the consumer, so the consumer can drain the buffer until
+ * {@link #isDone()}.
+ * <p>
+ * The capacity is rounded up to the next power of two.
+ */
+public class BoundedBlockingRingBuffer<T> implements ClosableQueue<T> {
+
+  private final Object[] buffer;
+  private final int mask;
+  // Index of the next element to read, only written by the consumer.
+  private final AtomicLong head;
+  // Index of the next slot to write, only written by the producer.
+  private final AtomicLong tail;
+  private final AtomicBoolean closed;
+
+  private volatile Thread waitingProducer;
+  private volatile Thread waitingConsumer;
+
+  public BoundedBlockingRingBuffer(final int maxSize) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("maxSize must be positive, got " + maxSize);
+    }
+    final int capacity = maxSize == 1 ? 1 : Integer.highestOneBit(maxSize - 1) << 1;
+    this.buffer = new Object[capacity];
+    this.mask = capacity - 1;
+    this.head = new AtomicLong();
+    this.tail = new AtomicLong();
+    this.closed = new AtomicBoolean();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T poll() {
+    final long currentHead = head.get();
+    if (currentHead == tail.get()) {
+      return null;
+    }
+    final int index = (int) (currentHead & mask);
+    final T e = (T) buffer[index];
+    buffer[index] = null;
+    head.set(currentHead + 1);
+    unpark(waitingProducer);
+    return e;
+  }
+
+  @Override
+  public T poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+    T e = poll();
+    if (e != null) {
+      return e;
+    }
+
+    final long deadline = System.nanoTime() + unit.toNanos(timeout);
+    waitingConsumer = Thread.currentThread();
+    try {
+      while ((e = poll()) == null && !isClosed()) {
+        final long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+          break;
+        }
+        LockSupport.parkNanos(this, remaining);
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+      }
+    } finally {
+      waitingConsumer = null;
+    }
+    // The producer may have published a last element right before closing.
+    return e != null ? e : poll();
+  }
+
+  @Override
+  public boolean add(final T e) {
+    Objects.requireNonNull(e);
+    if (closed.get()) {
+      return false;
+    }
+    final long currentTail = tail.get();
+    if (currentTail - head.get() >= buffer.length) {
+      return false;
+    }
+    buffer[(int) (currentTail & mask)] = e;
+    tail.set(currentTail + 1);
+    unpark(waitingConsumer);
+    return true;
+  }
+
+  @Override
+  public boolean offer(final T e, final long timeout, final TimeUnit unit) throws InterruptedException {
+    if (add(e)) {
+      return true;
+    }
+
+    final long deadline = System.nanoTime() + unit.toNanos(timeout);
+    waitingProducer = Thread.currentThread();
+    try {
+      while (!isClosed()) {
+        if (add(e)) {
+          return true;
+        }
+        final long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+          return false;
+        }
+        LockSupport.parkNanos(this, remaining);
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+      }
+      return false;
+    } finally {
+      waitingProducer = null;
+    }
+  }
+
+  @Override
+  public int size() {
+    // Read head first so that a concurrent poll can never make the size negative.
+    final long currentHead = head.get();
+    return (int) (tail.get() - currentHead);
+  }
+
+  public int capacity() {
+    return buffer.length;
+  }
+
+  @Override
+  public boolean isDone() {
+    // closed must be read before the indexes, see the class documentation.
+    return isClosed() && size() == 0;
+  }
+
+  @Override
+  public void close() {
+    closed.set(true);
+    unpark(waitingProducer);
+    unpark(waitingConsumer);
+  }
+
+  @Override
+  public boolean isClosed() {
+    return closed.get();
+  }
+
+  private static void unpark(final Thread thread) {
+    if (thread != null) {
+      LockSupport.unpark(thread);
+    }
+  }
+
+}
@@ -6,6 +6,7 @@ package io.airbyte.commons.concurrency;
 
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -19,7 +20,7 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  * default implementation of a BlockingQueue has a single lock while the ConcurrentLinkedQueue has
  * two locks, one each end of the queue hence reducing the contention.
  */
-public class BoundedConcurrentLinkedQueue<T> {
+public class BoundedConcurrentLinkedQueue<T> implements ClosableQueue<T> {
 
   private final Queue<T> queue;
   private final AtomicInteger size;
@@ -40,6 +41,7 @@ public class BoundedConcurrentLinkedQueue<T> {
    *
    * @return the head of this queue, or null if this queue is empty
    */
+  @Override
   public T poll() {
     final T e = queue.poll();
     if (e != null) {
@@ -48,6 +50,14 @@ public class BoundedConcurrentLinkedQueue<T> {
     return e;
   }
 
+  /**
+   * This queue has no way of waiting for an element, this is the same as {@link #poll()}.
+   */
+  @Override
+  public T poll(final long timeout, final TimeUnit unit) {
+    return poll();
+  }
+
   /**
    * Inserts the specified element into this queue if it is possible to do so immediately without
    * violating capacity restrictions, returning true upon success. Throws: IllegalStateException – if
@@ -60,6 +70,7 @@ public class BoundedConcurrentLinkedQueue<T> {
    * @param e the element to add
    * @return true if the insertion was successful
    */
+  @Override
   public boolean add(final T e) {
     try {
       // We use a ReadWriteLock to make sure we are not adding to the queue while attempting to close
@@ -81,6 +92,23 @@ public class BoundedConcurrentLinkedQueue<T> {
     }
   }
 
+  /**
+   * Attempts to insert the element, sleeping for the timeout before a single retry if the queue is
+   * full.
+   */
+  @Override
+  public boolean offer(final T e, final long timeout, final TimeUnit unit) throws InterruptedException {
+    if (add(e)) {
+      return true;
+    }
+    if (isClosed()) {
+      return false;
+    }
+    unit.sleep(timeout);
+    return add(e);
+  }
+
+  @Override
   public int size() {
     return size.get();
   }
@@ -88,6 +116,7 @@ public class BoundedConcurrentLinkedQueue<T> {
   /**
    * Returns true if the queue is done. A queue is done when closed and empty.
    */
+  @Override
   public boolean isDone() {
     try {
       closedLock.readLock().lock();
@@ -100,6 +129,7 @@ public class BoundedConcurrentLinkedQueue<T> {
   /**
    * Close the queue.
    */
+  @Override
   public void close() {
     try {
       closedLock.writeLock().lock();
@@ -112,6 +142,7 @@ public class BoundedConcurrentLinkedQueue<T> {
   /**
    * Returns true if the queue is closed.
    */
+  @Override
   public boolean isClosed() {
     try {
       // Acquiring this lock for safety. closed being an atomic boolean, we may not need this.
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.concurrency;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded queue that can be closed by either end.
+ * <p>
+ * Once closed, the queue refuses new elements while the remaining elements can still be drained. A
+ * queue is done when it is closed and empty.
+ */
+public interface ClosableQueue<T> {
+
+  /**
+   * Retrieves and removes the head of this queue, or returns null if this queue is empty.
+   *
+   * @return the head of this queue, or null if this queue is empty
+   */
+  T poll();
+
+  /**
+   * Retrieves and removes the head of this queue, waiting up to the specified time for an element to
+   * become available. Implementations may return early with null if the queue is done.
+   *
+   * @param timeout how long to wait before giving up
+   * @param unit the unit of the timeout
+   * @return the head of this queue, or null if no element was available in time
+   * @throws InterruptedException if interrupted while waiting
+   */
+  T poll(long timeout, TimeUnit unit) throws InterruptedException;
+
+  /**
+   * Inserts the specified element into this queue if it is possible to do so immediately.
+   *
+   * @param e the element to add
+   * @return true if the insertion was successful, false if the queue is full or closed
+   */
+  boolean add(T e);
+
+  /**
+   * Inserts the specified element into this queue, waiting up to the specified time for space to
+   * become available.
+   *
+   * @param e the element to add
+   * @param timeout how long to wait before giving up
+   * @param unit the unit of the timeout
+   * @return true if the insertion was successful, false if the queue remained full or got closed
+   * @throws InterruptedException if interrupted while waiting
+   */
+  boolean offer(T e, long timeout, TimeUnit unit) throws InterruptedException;
+
+  int size();
+
+  /**
+   * Returns true if the queue is done. A queue is done when closed and empty.
+   */
+  boolean isDone();
+
+  /**
+   * Close the queue.
+   */
+  void close();
+
+  /**
+   * Returns true if the queue is closed.
+   */
+  boolean isClosed();
+
+}
@@ -20,9 +20,11 @@ import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.base.Charsets;
 import com.google.common.base.Preconditions;
+import com.google.common.io.CountingOutputStream;
 import io.airbyte.commons.jackson.MoreMappers;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -182,6 +184,25 @@ public class Jsons {
     }
   }
 
+  /**
+   * Deserialize a slice of UTF-8 encoded bytes to a JSON object using the exact ObjectMapper. This
+   * avoids decoding the bytes to a String first.
+   *
+   * @param jsonBytes to deserialize.
+   * @param offset of the first byte of the JSON value.
+   * @param length of the JSON value in bytes.
+   * @param klass to deserialize to.
+   * @param <T> type of input object.
+   * @return optional as type T.
+   */
+  public static <T> Optional<T> tryDeserializeExact(final byte[] jsonBytes, final int offset, final int length, final Class<T> klass) {
+    try {
+      return Optional.of(OBJECT_MAPPER_EXACT.readValue(jsonBytes, offset, length, klass));
+    } catch (final Throwable e) {
+      return Optional.empty();
+    }
+  }
+
   /**
    * Convert an object to {@link JsonNode}.
    *
@@ -312,6 +333,23 @@ public class Jsons {
     return serialize(jsonNode).length();
   }
 
+  /**
+   * Get the exact size in bytes of the UTF-8 serialization of an object. The serialization is
+   * counted as it is written rather than held in memory.
+   *
+   * @param object to measure
+   * @return size in bytes of the object serialized as JSON
+   */
+  public static long getSerializedByteSize(final Object object) {
+    final CountingOutputStream outputStream = new CountingOutputStream(OutputStream.nullOutputStream());
+    try {
+      OBJECT_MAPPER.writeValue(outputStream, object);
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+    return outputStream.getCount();
+  }
+
   /**
    * Get top-level keys of a {@link JsonNode}.
    *
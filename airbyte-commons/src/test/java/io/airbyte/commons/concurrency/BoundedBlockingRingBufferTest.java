@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class BoundedBlockingRingBufferTest {
+
+  private record Record(int value) {}
+
+  private final Record record1 = new Record(1);
+  private final Record record2 = new Record(2);
+
+  @Test
+  void testCapacityIsRoundedUpToAPowerOfTwo() {
+    assertEquals(1, new BoundedBlockingRingBuffer<Record>(1).capacity());
+    assertEquals(4, new BoundedBlockingRingBuffer<Record>(3).capacity());
+    assertEquals(4, new BoundedBlockingRingBuffer<Record>(4).capacity());
+    assertEquals(1024, new BoundedBlockingRingBuffer<Record>(1000).capacity());
+    assertThrows(IllegalArgumentException.class, () -> new BoundedBlockingRingBuffer<Record>(0));
+  }
+
+  @Test
+  void testBasicAddPoll() {
+    final BoundedBlockingRingBuffer<Record> queue = new BoundedBlockingRingBuffer<>(2);
+
+    assertEquals(0, queue.size());
+    assertTrue(queue.add(record1));
+    assertTrue(queue.add(record2));
+    assertFalse(queue.add(new Record(3)));
+    assertEquals(2, queue.size());
+
+    assertEquals(record1, queue.poll());
+    assertEquals(record2, queue.poll());
+    assertNull(queue.poll());
+    assertEquals(0, queue.size());
+  }
+
+  @Test
+  void testAQueueIsDoneIfItIsEmptyAndClosed() {
+    final BoundedBlockingRingBuffer<Record> queue = new BoundedBlockingRingBuffer<>(2);
+
+    queue.add(record1);
+    queue.close();
+    assertTrue(queue.isClosed());
+    assertFalse(queue.isDone());
+    assertFalse(queue.add(record2));
+
+    assertEquals(record1, queue.poll());
+    assertTrue(queue.isDone());
+  }
+
+  @Test
+  void testAddingNullFails() {
+    final BoundedBlockingRingBuffer<Record> queue = new BoundedBlockingRingBuffer<>(2);
+
+    assertThrows(NullPointerException.class, () -> queue.add(null));
+    assertEquals(0, queue.size());
+  }
+
+  @Test
+  void testTimedOperationsGiveUpAfterTimeout() throws InterruptedException {
+    final BoundedBlockingRingBuffer<Record> queue = new BoundedBlockingRingBuffer<>(1);
+
+    assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+    assertTrue(queue.offer(record1, 10, TimeUnit.MILLISECONDS));
+    assertFalse(queue.offer(record2, 10, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  void testCloseWakesUpWaitingConsumer() throws Exception {
+    final BoundedBlockingRingBuffer<Record> queue = new BoundedBlockingRingBuffer<>(1);
+
+    final CompletableFuture<Record> consumer = CompletableFuture.supplyAsync(() -> {
+      try {
+        return queue.poll(1, TimeUnit.MINUTES);
+      } catch (final InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    queue.close();
+
+    assertNull(consumer.get(10, TimeUnit.SECONDS));
+    assertTrue(queue.isDone());
+  }
+
+  @Test
+  void testProducerConsumerPreservesOrder() throws Exception {
+    final int count = 100_000;
+    final BoundedBlockingRingBuffer<Record> queue = new BoundedBlockingRingBuffer<>(16);
+
+    final CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+      try {
+        for (int i = 0; i < count; i++) {
+          while (!queue.offer(new Record(i), 1, TimeUnit.SECONDS)) {
+            // retry until the consumer catches up
+          }
+        }
+      } catch (final InterruptedException e) {
+        throw new RuntimeException(e);
+      } finally {
+        queue.close();
+      }
+    });
+
+    final List<Integer> readValues = new ArrayList<>();
+    while (!queue.isDone()) {
+      final Record record = queue.poll(1, TimeUnit.SECONDS);
+      if (record != null) {
+        readValues.add(record.value());
+      }
+    }
+    producer.get(10, TimeUnit.SECONDS);
+
+    assertEquals(count, readValues.size());
+    for (int i = 0; i < count; i++) {
+      assertEquals(i, readValues.get(i));
+    }
+  }
+
+}
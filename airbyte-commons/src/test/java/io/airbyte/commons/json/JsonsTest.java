@@ -266,6 +266,12 @@ class JsonsTest {
     assertEquals(Jsons.toBytes(json).length, Jsons.getEstimatedByteSize(json));
   }
 
+  @Test
+  void testGetSerializedByteSize() {
+    final JsonNode json = Jsons.deserialize("{\"string_key\":\"vert é\",\"array_key\":[\"item1\", \"item2\"]}");
+    assertEquals(Jsons.toBytes(json).length, Jsons.getSerializedByteSize(json));
+  }
+
   @Test
   void testFlatten__noArrays() {
     final JsonNode json = Jsons.deserialize("{ \"abc\": { \"def\": \"ghi\" }, \"jkl\": true, \"pqr\": 1 }");
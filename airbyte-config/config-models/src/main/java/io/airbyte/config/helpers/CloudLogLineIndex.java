@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Line counts of the objects that make up a cloud log, stored as one more object next to them with
+ * the {@value #INDEX_SUFFIX} suffix. Log objects are never modified once uploaded, so an object is
+ * downloaded once to count its lines and afterwards only when a page needs its lines.
+ */
+final class CloudLogLineIndex {
+
+  static final String INDEX_SUFFIX = ".idx";
+
+  /**
+   * Opens the content of a log object.
+   */
+  @FunctionalInterface
+  interface LogObjectReader {
+
+    InputStream open(String key) throws IOException;
+
+  }
+
+  private final Map<String, Long> lineCounts;
+  private boolean changed;
+
+  private CloudLogLineIndex(final Map<String, Long> lineCounts) {
+    this.lineCounts = lineCounts;
+  }
+
+  static String indexKey(final String logPath) {
+    return logPath + INDEX_SUFFIX;
+  }
+
+  /**
+   * Parse an index written by {@link #serialize()}.
+   *
+   * @param content index content, null if the log has no index yet
+   * @return index
+   */
+  static CloudLogLineIndex parse(final @Nullable String content) {
+    final Map<String, Long> lineCounts = new LinkedHashMap<>();
+    if (content != null) {
+      for (final String entry : content.split("\n")) {
+        final int separator = entry.lastIndexOf('\t');
+        if (separator > 0) {
+          lineCounts.put(entry.substring(0, separator), Long.parseLong(entry.substring(separator + 1)));
+        }
+      }
+    }
+    return new CloudLogLineIndex(lineCounts);
+  }
+
+  String serialize() {
+    final StringBuilder content = new StringBuilder();
+    lineCounts.forEach((key, count) -> content.append(key).append('\t').append(count).append('\n'));
+    return content.toString();
+  }
+
+  /**
+   * Whether objects were counted since the index was parsed, in which case it should be written back.
+   */
+  boolean isChanged() {
+    return changed;
+  }
+
+  /**
+   * Read a page of lines of the log made of the given objects.
+   *
+   * @param ascendingKeys keys of the log objects in lexicographical order, without the index itself
+   * @param reader reader of the log objects
+   * @param offset line offset of the first line to read, null to read the last lines of the log
+   * @param limit maximum number of lines to read
+   * @return page of lines
+   * @throws IOException exception while reading the objects
+   */
+  LogPage readPage(final List<String> ascendingKeys, final LogObjectReader reader, final @Nullable Long offset, final int limit)
+      throws IOException {
+    long totalLines = 0;
+    for (final String key : ascendingKeys) {
+      if (!lineCounts.containsKey(key)) {
+        try (InputStream in = new BufferedInputStream(reader.open(key))) {
+          lineCounts.put(key, countLines(in));
+        }
+        changed = true;
+      }
+      totalLines += lineCounts.get(key);
+    }
+
+    final long firstLine = LogPage.firstLine(offset, limit, totalLines);
+    final List<String> lines = new ArrayList<>();
+    long linesBefore = 0;
+    for (final String key : ascendingKeys) {
+      if (lines.size() >= limit) {
+        break;
+      }
+      final long count = lineCounts.get(key);
+      final long nextLine = firstLine + lines.size();
+      if (nextLine < linesBefore + count) {
+        try (InputStream in = new BufferedInputStream(reader.open(key))) {
+          for (long skipped = linesBefore; skipped < nextLine; skipped++) {
+            LogLineIndex.readLine(in);
+          }
+          String line = LogLineIndex.readLine(in);
+          while (line != null && lines.size() < limit) {
+            lines.add(line);
+            if (lines.size() < limit) {
+              line = LogLineIndex.readLine(in);
+            }
+          }
+        }
+      }
+      linesBefore += count;
+    }
+    return new LogPage(firstLine, lines, totalLines);
+  }
+
+  private static long countLines(final InputStream in) throws IOException {
+    long lines = 0;
+    int last = '\n';
+    int b = in.read();
+    while (b >= 0) {
+      if (b == '\n') {
+        lines++;
+      }
+      last = b;
+      b = in.read();
+    }
+    // A last line without a terminator is still a line.
+    return last == '\n' ? lines : lines + 1;
+  }
+
+}
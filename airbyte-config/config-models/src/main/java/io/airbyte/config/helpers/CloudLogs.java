@@ -10,6 +10,7 @@ import io.airbyte.config.storage.MinioS3ClientFactory;
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +38,14 @@ public interface CloudLogs {
    */
   List<String> tailCloudLog(LogConfigs configs, String logPath, int numLines) throws IOException;
 
+  /**
+   * Assume all the lexicographically ordered objects at the given path form one giant log file,
+   * return up to limit lines starting at the given line offset, or the last limit lines if there is
+   * no offset. The line counts of the objects are kept in an index next to them, so only the objects
+   * holding the page are downloaded.
+   */
+  LogPage readCloudLogPage(LogConfigs configs, String logPath, @Nullable Long offset, int limit) throws IOException;
+
   void deleteLogs(LogConfigs configs, String logPath);
 
   /**
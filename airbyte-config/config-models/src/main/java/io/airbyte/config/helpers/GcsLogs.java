@@ -7,18 +7,24 @@ package io.airbyte.config.helpers;
 import com.google.api.gax.paging.Page;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Blob.BlobSourceOption;
+import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import io.airbyte.commons.string.Strings;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,7 +67,11 @@ public class GcsLogs implements CloudLogs {
     final var os = new FileOutputStream(tmpOutputFile);
     LOGGER.debug("Start getting GCS objects.");
     // Objects are returned in lexicographical order.
-    blobs.iterateAll().forEach(blob -> blob.downloadTo(os));
+    blobs.iterateAll().forEach(blob -> {
+      if (!CloudLogLineIndex.indexKey(logPath).equals(blob.getName())) {
+        blob.downloadTo(os);
+      }
+    });
     os.close();
     LOGGER.debug("Done retrieving GCS logs: {}.", logPath);
     return tmpOutputFile;
@@ -80,6 +90,7 @@ public class GcsLogs implements CloudLogs {
         Storage.BlobListOption.prefix(logPath))
         .iterateAll()
         .forEach(ascendingTimestampBlobs::add);
+    ascendingTimestampBlobs.removeIf(blob -> CloudLogLineIndex.indexKey(logPath).equals(blob.getName()));
 
     final var lines = new ArrayList<String>();
 
@@ -112,6 +123,40 @@ public class GcsLogs implements CloudLogs {
     return Lists.reverse(lines);
   }
 
+  @Override
+  public LogPage readCloudLogPage(final LogConfigs configs, final String logPath, final @Nullable Long offset, final int limit)
+      throws IOException {
+    LOGGER.debug("Reading a page of logs from GCS path: {}", logPath);
+    final Storage gcsClient = getOrCreateGcsClient();
+
+    final var bucketName = configs.getStorageConfigs().getGcsConfig().getBucketName();
+    final var indexKey = CloudLogLineIndex.indexKey(logPath);
+    final Map<String, Blob> ascendingBlobs = new LinkedHashMap<>();
+    gcsClient.list(bucketName, Storage.BlobListOption.prefix(logPath))
+        .iterateAll()
+        .forEach(blob -> ascendingBlobs.put(blob.getName(), blob));
+    final Blob indexBlob = ascendingBlobs.remove(indexKey);
+    final CloudLogLineIndex index = CloudLogLineIndex.parse(indexBlob == null ? null : new String(indexBlob.getContent(), StandardCharsets.UTF_8));
+
+    final LogPage page = index.readPage(new ArrayList<>(ascendingBlobs.keySet()), key -> {
+      final var inMemoryData = new ByteArrayOutputStream();
+      ascendingBlobs.get(key).downloadTo(inMemoryData);
+      return new ByteArrayInputStream(inMemoryData.toByteArray());
+    }, offset, limit);
+    if (index.isChanged()) {
+      try {
+        gcsClient.create(BlobInfo.newBuilder(bucketName, indexKey).setContentType("text/plain").build(),
+            index.serialize().getBytes(StandardCharsets.UTF_8));
+      } catch (final StorageException e) {
+        // The index only saves work, the page is still served without it.
+        LOGGER.warn("Could not write log index {}.", indexKey, e);
+      }
+    }
+
+    LOGGER.debug("Done reading a page of GCS logs: {}.", logPath);
+    return page;
+  }
+
   @Override
   public void deleteLogs(final LogConfigs configs, final String logPath) {
     LOGGER.debug("Retrieving logs from GCS path: {}", logPath);
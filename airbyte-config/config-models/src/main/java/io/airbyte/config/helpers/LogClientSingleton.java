@@ -6,6 +6,7 @@ package io.airbyte.config.helpers;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
 import io.airbyte.config.Configs;
 import io.airbyte.config.Configs.WorkerEnvironment;
 import java.io.File;
@@ -15,6 +16,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import javax.annotation.Nullable;
 import org.apache.commons.io.input.ReversedLinesFileReader;
 import org.apache.commons.lang3.NotImplementedException;
 import org.slf4j.Logger;
@@ -59,6 +61,7 @@ public class LogClientSingleton {
   public static final String GOOGLE_APPLICATION_CREDENTIALS = "GOOGLE_APPLICATION_CREDENTIALS";
 
   public static final int DEFAULT_PAGE_SIZE = 1000;
+  public static final int MAX_LOG_PAGE_SIZE = 10000;
   public static final String LOG_FILENAME = "logs.log";
   public static final String APP_LOGGING_CLOUD_PREFIX = "app-logging";
   public static final String JOB_LOGGING_CLOUD_PREFIX = "job-logging";
@@ -161,6 +164,40 @@ public class LogClientSingleton {
     return logClient.tailCloudLog(logConfigs, cloudLogPath, LOG_TAIL_SIZE);
   }
 
+  /**
+   * Read a page of a job log. Unlike {@link #getJobLogFile}, only the page is held in memory: local
+   * logs are read by seeking to the closest entry of a line offset index kept next to the log file
+   * and cloud logs only download the objects holding the page.
+   *
+   * @param workerEnvironment environment of worker.
+   * @param logConfigs configuration for logs
+   * @param logPath log path
+   * @param offset line offset of the first line to read, null to read the last lines of the log
+   * @param limit maximum number of lines to read, at least 1, capped to {@link #MAX_LOG_PAGE_SIZE}
+   * @return page of lines
+   * @throws IOException exception while accessing logs
+   */
+  public LogPage getJobLogPage(final WorkerEnvironment workerEnvironment,
+                               final LogConfigs logConfigs,
+                               final Path logPath,
+                               final @Nullable Long offset,
+                               final int limit)
+      throws IOException {
+    Preconditions.checkArgument(limit >= 1, "The limit of a log page must be at least 1, got %s", limit);
+    if (logPath == null || logPath.equals(Path.of(""))) {
+      return LogPage.empty();
+    }
+
+    final int pageSize = Math.min(limit, MAX_LOG_PAGE_SIZE);
+    if (shouldUseLocalLogs(workerEnvironment)) {
+      return LogLineIndex.readPage(logPath, offset, pageSize);
+    }
+
+    final var cloudLogPath = sanitisePath(JOB_LOGGING_CLOUD_PREFIX, logPath);
+    createCloudClientIfNull(logConfigs);
+    return logClient.readCloudLogPage(logConfigs, cloudLogPath, offset, pageSize);
+  }
+
   /**
    * Primarily to clean up logs after testing. Only valid for Kube logs.
    */
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sparse line offset index of a local log file, stored next to it with the {@value #INDEX_SUFFIX}
+ * suffix. It records the byte offset of every {@link #CHECKPOINT_INTERVAL}th line, so a page is read
+ * by seeking to the closest checkpoint instead of scanning the file from its start. Log files are
+ * only appended to, which lets the index pick up where it stopped when the file has grown.
+ */
+@SuppressWarnings("PMD.AvoidLiteralsInIfCondition")
+final class LogLineIndex {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(LogLineIndex.class);
+
+  static final String INDEX_SUFFIX = ".idx";
+  @VisibleForTesting
+  static final int CHECKPOINT_INTERVAL = 1000;
+
+  private static final int FORMAT_VERSION = 1;
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+  private final int checkpointInterval;
+  // checkpoints.get(i) is the byte offset of line i * checkpointInterval.
+  private final List<Long> checkpoints;
+  // Byte offset just after the last complete line that was indexed.
+  private long indexedBytes;
+  private long indexedLines;
+
+  @VisibleForTesting
+  LogLineIndex(final int checkpointInterval) {
+    this(checkpointInterval, new ArrayList<>(List.of(0L)), 0, 0);
+  }
+
+  private LogLineIndex(final int checkpointInterval, final List<Long> checkpoints, final long indexedBytes, final long indexedLines) {
+    this.checkpointInterval = checkpointInterval;
+    this.checkpoints = checkpoints;
+    this.indexedBytes = indexedBytes;
+    this.indexedLines = indexedLines;
+  }
+
+  /**
+   * Read a page of lines of a local log file, creating or extending its index on the way.
+   *
+   * @param logFile log file
+   * @param offset line offset of the first line to read, null to read the last lines of the file
+   * @param limit maximum number of lines to read
+   * @return page of lines
+   * @throws IOException exception while reading the file
+   */
+  static LogPage readPage(final Path logFile, final @Nullable Long offset, final int limit) throws IOException {
+    return readPage(logFile, offset, limit, CHECKPOINT_INTERVAL);
+  }
+
+  @VisibleForTesting
+  static LogPage readPage(final Path logFile, final @Nullable Long offset, final int limit, final int checkpointInterval) throws IOException {
+    if (!Files.exists(logFile)) {
+      return LogPage.empty();
+    }
+
+    final Path indexFile = indexFile(logFile);
+    try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+      final long size = channel.size();
+      LogLineIndex index = load(indexFile, checkpointInterval);
+      if (index.indexedBytes > size) {
+        // The file was replaced by a shorter one, start over.
+        index = new LogLineIndex(checkpointInterval);
+      }
+      if (index.extend(channel, size)) {
+        index.save(indexFile);
+      }
+
+      final long totalLines = index.totalLines(size);
+      final long firstLine = LogPage.firstLine(offset, limit, totalLines);
+      return new LogPage(firstLine, index.readLines(channel, firstLine, limit, totalLines), totalLines);
+    }
+  }
+
+  static Path indexFile(final Path logFile) {
+    return logFile.resolveSibling(logFile.getFileName() + INDEX_SUFFIX);
+  }
+
+  /**
+   * Index the complete lines between the end of the index and the given size.
+   *
+   * @return true if the index changed
+   */
+  @VisibleForTesting
+  boolean extend(final FileChannel channel, final long size) throws IOException {
+    final long linesBefore = indexedLines;
+    final ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+    long position = indexedBytes;
+    while (position < size) {
+      buffer.clear();
+      final int read = channel.read(buffer, position);
+      if (read < 0) {
+        break;
+      }
+      for (int i = 0; i < read && position + i < size; i++) {
+        if (buffer.get(i) == '\n') {
+          indexedLines++;
+          indexedBytes = position + i + 1;
+          if (indexedLines % checkpointInterval == 0) {
+            checkpoints.add(indexedBytes);
+          }
+        }
+      }
+      position += read;
+    }
+    return indexedLines != linesBefore;
+  }
+
+  /**
+   * Count the lines of the file, including a last line that is still being written.
+   */
+  @VisibleForTesting
+  long totalLines(final long size) {
+    return size > indexedBytes ? indexedLines + 1 : indexedLines;
+  }
+
+  private List<String> readLines(final FileChannel channel, final long firstLine, final int limit, final long totalLines) throws IOException {
+    final List<String> lines = new ArrayList<>();
+    if (limit <= 0 || firstLine >= totalLines) {
+      return lines;
+    }
+
+    final int checkpoint = (int) (firstLine / checkpointInterval);
+    channel.position(checkpoints.get(checkpoint));
+    // The channel is closed by the caller.
+    final InputStream in = new BufferedInputStream(Channels.newInputStream(channel), READ_BUFFER_SIZE);
+    for (long skipped = (long) checkpoint * checkpointInterval; skipped < firstLine; skipped++) {
+      if (readLine(in) == null) {
+        return lines;
+      }
+    }
+    String line = readLine(in);
+    while (line != null && lines.size() < limit) {
+      lines.add(line);
+      if (lines.size() < limit) {
+        line = readLine(in);
+      }
+    }
+    return lines;
+  }
+
+  /**
+   * Read one '\n' terminated line. Unlike {@link java.io.BufferedReader#readLine()} a lone '\r' does
+   * not end a line, so lines are counted the same way they are indexed.
+   *
+   * @return the line without its terminator, or null at the end of the stream
+   */
+  static String readLine(final InputStream in) throws IOException {
+    final ByteArrayOutputStream line = new ByteArrayOutputStream();
+    int b = in.read();
+    if (b < 0) {
+      return null;
+    }
+    while (b >= 0 && b != '\n') {
+      line.write(b);
+      b = in.read();
+    }
+    final String decoded = line.toString(StandardCharsets.UTF_8);
+    return decoded.endsWith("\r") ? decoded.substring(0, decoded.length() - 1) : decoded;
+  }
+
+  private static LogLineIndex load(final Path indexFile, final int checkpointInterval) {
+    if (!Files.exists(indexFile)) {
+      return new LogLineIndex(checkpointInterval);
+    }
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+      if (in.readInt() != FORMAT_VERSION || in.readInt() != checkpointInterval) {
+        return new LogLineIndex(checkpointInterval);
+      }
+      final long indexedBytes = in.readLong();
+      final long indexedLines = in.readLong();
+      final int count = in.readInt();
+      final List<Long> checkpoints = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        checkpoints.add(in.readLong());
+      }
+      return new LogLineIndex(checkpointInterval, checkpoints, indexedBytes, indexedLines);
+    } catch (final IOException e) {
+      LOGGER.warn("Could not read log index {}, rebuilding it.", indexFile, e);
+      return new LogLineIndex(checkpointInterval);
+    }
+  }
+
+  private void save(final Path indexFile) {
+    try {
+      // Concurrent readers of the same log each write their own copy and the last one wins.
+      final Path tmpFile = Files.createTempFile(indexFile.getParent(), indexFile.getFileName().toString(), ".tmp");
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFile)))) {
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(checkpointInterval);
+        out.writeLong(indexedBytes);
+        out.writeLong(indexedLines);
+        out.writeInt(checkpoints.size());
+        for (final long checkpoint : checkpoints) {
+          out.writeLong(checkpoint);
+        }
+      }
+      Files.move(tmpFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      // The index only saves work, the page is still served without it.
+      LOGGER.warn("Could not write log index {}.", indexFile, e);
+    }
+  }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * A page of log lines.
+ *
+ * @param offset line offset of the first line of the page in the whole log
+ * @param lines lines of the page, in the order they were logged
+ * @param totalLines number of lines in the whole log when the page was read
+ */
+public record LogPage(long offset, List<String> lines, long totalLines) {
+
+  public static LogPage empty() {
+    return new LogPage(0, List.of(), 0);
+  }
+
+  /**
+   * Get the offset to read the next page from.
+   *
+   * @return line offset just after the last line of this page
+   */
+  public long nextOffset() {
+    return offset + lines.size();
+  }
+
+  /**
+   * Resolve the offset of the first line of a page.
+   *
+   * @param offset requested line offset, null to read the last lines of the log
+   * @param limit maximum number of lines of the page
+   * @param totalLines number of lines in the whole log
+   * @return line offset of the first line of the page
+   */
+  static long firstLine(final @Nullable Long offset, final int limit, final long totalLines) {
+    if (offset == null) {
+      return Math.max(0, totalLines - limit);
+    }
+    return Math.min(Math.max(0, offset), totalLines);
+  }
+
+}
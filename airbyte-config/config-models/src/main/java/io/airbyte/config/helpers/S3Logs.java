@@ -21,14 +21,18 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 /**
  * S3 logs.
@@ -83,6 +87,9 @@ public class S3Logs implements CloudLogs {
     // Objects are returned in lexicographical order.
     for (final var page : s3Client.listObjectsV2Paginator(listObjReq)) {
       for (final var objMetadata : page.contents()) {
+        if (CloudLogLineIndex.indexKey(logPath).equals(objMetadata.key())) {
+          continue;
+        }
         final var getObjReq = GetObjectRequest.builder()
             .key(objMetadata.key())
             .bucket(s3Bucket)
@@ -104,7 +111,7 @@ public class S3Logs implements CloudLogs {
 
     final var s3Bucket = getBucketName(configs.getStorageConfigs());
     LOGGER.debug("Start making S3 list request.");
-    final List<String> ascendingTimestampKeys = getAscendingObjectKeys(s3Client, logPath, s3Bucket);
+    final List<String> ascendingTimestampKeys = getAscendingLogObjectKeys(s3Client, logPath, s3Bucket);
     final var descendingTimestampKeys = Lists.reverse(ascendingTimestampKeys);
 
     final var lines = new ArrayList<String>();
@@ -127,6 +134,34 @@ public class S3Logs implements CloudLogs {
     return lines;
   }
 
+  @Override
+  public LogPage readCloudLogPage(final LogConfigs configs, final String logPath, final @Nullable Long offset, final int limit)
+      throws IOException {
+    LOGGER.debug("Reading a page of logs from S3 path: {}", logPath);
+    final S3Client s3Client = getOrCreateS3Client();
+
+    final var s3Bucket = getBucketName(configs.getStorageConfigs());
+    final var indexKey = CloudLogLineIndex.indexKey(logPath);
+    final List<String> ascendingKeys = getAscendingObjectKeys(s3Client, logPath, s3Bucket);
+    final CloudLogLineIndex index = CloudLogLineIndex.parse(ascendingKeys.remove(indexKey)
+        ? s3Client.getObjectAsBytes(GetObjectRequest.builder().bucket(s3Bucket).key(indexKey).build()).asUtf8String()
+        : null);
+
+    final LogPage page = index.readPage(ascendingKeys,
+        key -> s3Client.getObject(GetObjectRequest.builder().bucket(s3Bucket).key(key).build()), offset, limit);
+    if (index.isChanged()) {
+      try {
+        s3Client.putObject(PutObjectRequest.builder().bucket(s3Bucket).key(indexKey).build(), RequestBody.fromString(index.serialize()));
+      } catch (final SdkException e) {
+        // The index only saves work, the page is still served without it.
+        LOGGER.warn("Could not write log index {}.", indexKey, e);
+      }
+    }
+
+    LOGGER.debug("Done reading a page of S3 logs: {}.", logPath);
+    return page;
+  }
+
   @Override
   public void deleteLogs(final LogConfigs configs, final String logPath) {
     LOGGER.debug("Deleting logs from S3 path: {}", logPath);
@@ -168,6 +203,12 @@ public class S3Logs implements CloudLogs {
     return ascendingTimestampObjs;
   }
 
+  private static List<String> getAscendingLogObjectKeys(final S3Client s3Client, final String logPath, final String s3Bucket) {
+    final List<String> keys = getAscendingObjectKeys(s3Client, logPath, s3Bucket);
+    keys.remove(CloudLogLineIndex.indexKey(logPath));
+    return keys;
+  }
+
   private static List<String> getCurrFile(final S3Client s3Client, final String s3Bucket, final String poppedKey) throws IOException {
     final var getObjReq = GetObjectRequest.builder()
         .key(poppedKey)
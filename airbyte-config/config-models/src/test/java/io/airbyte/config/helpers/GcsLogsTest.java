@@ -8,12 +8,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.api.gax.paging.Page;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Blob.BlobSourceOption;
+import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 import com.google.common.io.Files;
 import io.airbyte.config.storage.CloudStorageConfigs;
@@ -129,6 +131,51 @@ class GcsLogsTest {
         "all 9 items should have been returned in the correct order");
   }
 
+  @Test
+  void testReadCloudLogPage() throws IOException {
+    final var blob1 = mock(Blob.class);
+    final var blob2 = mock(Blob.class);
+    final var blob3 = mock(Blob.class);
+    final var indexBlob = mock(Blob.class);
+    when(blob1.getName()).thenReturn(logPath + "/1");
+    when(blob2.getName()).thenReturn(logPath + "/2");
+    when(blob3.getName()).thenReturn(logPath + "/3");
+    when(indexBlob.getName()).thenReturn(logPath + CloudLogLineIndex.INDEX_SUFFIX);
+
+    // The index already knows the first two blobs, the third one was uploaded since it was written.
+    when(indexBlob.getContent()).thenReturn((logPath + "/1\t3\n" + logPath + "/2\t3\n").getBytes(StandardCharsets.UTF_8));
+    doAnswer(i -> {
+      ((OutputStream) i.getArgument(0)).write("line 4\nline 5\nline 6\n".getBytes(StandardCharsets.UTF_8));
+      return null;
+    }).when(blob2).downloadTo(Mockito.any(OutputStream.class));
+    doAnswer(i -> {
+      ((OutputStream) i.getArgument(0)).write("line 7\nline 8\n".getBytes(StandardCharsets.UTF_8));
+      return null;
+    }).when(blob3).downloadTo(Mockito.any(OutputStream.class));
+
+    when(storage.list(bucketName, Storage.BlobListOption.prefix(logPath))).thenReturn(page);
+    when(page.iterateAll()).thenReturn(iterable);
+    doAnswer(i -> {
+      ((Consumer<Blob>) i.getArgument(0)).accept(blob1);
+      ((Consumer<Blob>) i.getArgument(0)).accept(blob2);
+      ((Consumer<Blob>) i.getArgument(0)).accept(blob3);
+      ((Consumer<Blob>) i.getArgument(0)).accept(indexBlob);
+      return null;
+    }).when(iterable).forEach(Mockito.any(Consumer.class));
+
+    final var gcsLogs = new GcsLogs(() -> storage);
+
+    assertEquals(new LogPage(3, List.of("line 4", "line 5", "line 6"), 8),
+        gcsLogs.readCloudLogPage(logConfigs, logPath, 3L, 3),
+        "only the lines of the second blob should have been returned");
+
+    // The first blob is neither counted nor read, the third one is only counted.
+    verify(blob1, never()).downloadTo(Mockito.any(OutputStream.class));
+    verify(blob3).downloadTo(Mockito.any(OutputStream.class));
+    verify(storage).create(BlobInfo.newBuilder(bucketName, logPath + CloudLogLineIndex.INDEX_SUFFIX).setContentType("text/plain").build(),
+        (logPath + "/1\t3\n" + logPath + "/2\t3\n" + logPath + "/3\t2\n").getBytes(StandardCharsets.UTF_8));
+  }
+
   @Test
   void testDeleteLogs() {
     final var blob1 = mock(Blob.class);
@@ -5,6 +5,7 @@
 package io.airbyte.config.helpers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -17,6 +18,7 @@ import io.airbyte.config.Configs.WorkerEnvironment;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -40,6 +42,30 @@ class LogClientSingletonTest {
     verify(mockLogClient).tailCloudLog(any(), eq("job-logging/job/1"), eq(LogClientSingleton.LOG_TAIL_SIZE));
   }
 
+  @Test
+  void testGetJobLogPageK8s() throws IOException {
+    final LogPage page = new LogPage(10, List.of("line 10", "line 11"), 12);
+    when(configs.getWorkerEnvironment()).thenReturn(WorkerEnvironment.KUBERNETES);
+    when(mockLogClient.readCloudLogPage(any(), eq("job-logging/job/1"), eq(10L), eq(LogClientSingleton.MAX_LOG_PAGE_SIZE))).thenReturn(page);
+
+    assertEquals(page,
+        LogClientSingleton.getInstance().getJobLogPage(configs.getWorkerEnvironment(), configs.getLogConfigs(), Path.of("/job/1"), 10L, 1_000_000));
+  }
+
+  @Test
+  void testGetJobLogPageRejectsNonPositiveLimit() {
+    assertThrows(IllegalArgumentException.class,
+        () -> LogClientSingleton.getInstance().getJobLogPage(configs.getWorkerEnvironment(), configs.getLogConfigs(), Path.of("/job/1"), 10L, 0));
+    verifyNoInteractions(mockLogClient);
+  }
+
+  @Test
+  void testGetJobLogPageEmptyPath() throws IOException {
+    assertEquals(LogPage.empty(),
+        LogClientSingleton.getInstance().getJobLogPage(configs.getWorkerEnvironment(), configs.getLogConfigs(), Path.of(""), null, 100));
+    verifyNoInteractions(mockLogClient);
+  }
+
   @Test
   void testGetJobLogFileNullPath() throws IOException {
     assertEquals(Collections.emptyList(),
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LogLineIndexTest {
+
+  private static final int CHECKPOINT_INTERVAL = 4;
+
+  @TempDir
+  Path logDir;
+
+  private Path logFile;
+
+  @BeforeEach
+  void setup() {
+    logFile = logDir.resolve(LogClientSingleton.LOG_FILENAME);
+  }
+
+  @Test
+  void testReadPageFromOffset() throws IOException {
+    appendLines(0, 10);
+
+    final LogPage page = LogLineIndex.readPage(logFile, 5L, 3, CHECKPOINT_INTERVAL);
+
+    assertEquals(new LogPage(5, List.of("line 5", "line 6", "line 7"), 10), page);
+    assertEquals(8, page.nextOffset());
+    assertTrue(Files.exists(LogLineIndex.indexFile(logFile)));
+  }
+
+  @Test
+  void testReadPageWithoutOffsetReadsTheLastLines() throws IOException {
+    appendLines(0, 10);
+
+    assertEquals(new LogPage(7, List.of("line 7", "line 8", "line 9"), 10), LogLineIndex.readPage(logFile, null, 3, CHECKPOINT_INTERVAL));
+    assertEquals(new LogPage(0, lines(0, 10), 10), LogLineIndex.readPage(logFile, null, 100, CHECKPOINT_INTERVAL));
+  }
+
+  @Test
+  void testReadPagePastTheEnd() throws IOException {
+    appendLines(0, 10);
+
+    assertEquals(new LogPage(10, List.of(), 10), LogLineIndex.readPage(logFile, 25L, 3, CHECKPOINT_INTERVAL));
+  }
+
+  @Test
+  void testReadPageOfMissingFile() throws IOException {
+    assertEquals(LogPage.empty(), LogLineIndex.readPage(logFile, 0L, 3, CHECKPOINT_INTERVAL));
+  }
+
+  @Test
+  void testIndexIsExtendedWhenTheLogGrows() throws IOException {
+    appendLines(0, 6);
+    assertEquals(new LogPage(4, List.of("line 4", "line 5"), 6), LogLineIndex.readPage(logFile, 4L, 3, CHECKPOINT_INTERVAL));
+
+    appendLines(6, 14);
+    assertEquals(new LogPage(9, List.of("line 9", "line 10", "line 11"), 14), LogLineIndex.readPage(logFile, 9L, 3, CHECKPOINT_INTERVAL));
+    assertEquals(new LogPage(12, List.of("line 12", "line 13"), 14), LogLineIndex.readPage(logFile, null, 2, CHECKPOINT_INTERVAL));
+  }
+
+  @Test
+  void testLineThatIsStillBeingWritten() throws IOException {
+    appendLines(0, 5);
+    Files.writeString(logFile, "line 5 is not", StandardOpenOption.APPEND);
+
+    assertEquals(new LogPage(4, List.of("line 4", "line 5 is not"), 6), LogLineIndex.readPage(logFile, 4L, 3, CHECKPOINT_INTERVAL));
+
+    Files.writeString(logFile, " done yet\nline 6\n", StandardOpenOption.APPEND);
+
+    assertEquals(new LogPage(5, List.of("line 5 is not done yet", "line 6"), 7), LogLineIndex.readPage(logFile, 5L, 3, CHECKPOINT_INTERVAL));
+  }
+
+  @Test
+  void testIndexIsRebuiltWhenTheLogIsReplaced() throws IOException {
+    appendLines(0, 10);
+    LogLineIndex.readPage(logFile, 0L, 1, CHECKPOINT_INTERVAL);
+
+    Files.writeString(logFile, "new line 0\nnew line 1\n", StandardCharsets.UTF_8);
+
+    assertEquals(new LogPage(0, List.of("new line 0", "new line 1"), 2), LogLineIndex.readPage(logFile, 0L, 3, CHECKPOINT_INTERVAL));
+  }
+
+  @Test
+  void testCorruptIndexIsRebuilt() throws IOException {
+    appendLines(0, 10);
+    Files.writeString(LogLineIndex.indexFile(logFile), "not an index", StandardCharsets.UTF_8);
+
+    assertEquals(new LogPage(8, List.of("line 8", "line 9"), 10), LogLineIndex.readPage(logFile, 8L, 3, CHECKPOINT_INTERVAL));
+  }
+
+  private void appendLines(final int from, final int to) throws IOException {
+    final String content = lines(from, to).stream().map(line -> line + "\n").collect(Collectors.joining());
+    Files.writeString(logFile, content, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+  }
+
+  private static List<String> lines(final int from, final int to) {
+    return IntStream.range(from, to).mapToObj(i -> "line " + i).toList();
+  }
+
+}
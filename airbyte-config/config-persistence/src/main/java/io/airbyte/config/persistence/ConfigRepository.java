@@ -40,6 +40,7 @@ import io.airbyte.data.services.OperationService;
 import io.airbyte.data.services.OrganizationService;
 import io.airbyte.data.services.SourceService;
 import io.airbyte.data.services.WorkspaceService;
+import io.airbyte.data.services.shared.StandardSyncSummary;
 import io.airbyte.protocol.models.AirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConnectorSpecification;
@@ -1184,6 +1185,23 @@ public class ConfigRepository {
     return connectionService.listWorkspaceStandardSyncs(query);
   }
 
+  /**
+   * List the summaries of the connections of a workspace via a query. The summaries leave out the
+   * catalogs of the connections, use them when listing connections.
+   *
+   * @param standardSyncQuery query
+   * @return list of connection summaries
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Deprecated
+  public List<StandardSyncSummary> listWorkspaceStandardSyncSummaries(final StandardSyncQuery standardSyncQuery) throws IOException {
+    return connectionService.listWorkspaceStandardSyncSummaries(new io.airbyte.data.services.shared.StandardSyncQuery(
+        standardSyncQuery.workspaceId(),
+        standardSyncQuery.sourceId(),
+        standardSyncQuery.destinationId(),
+        standardSyncQuery.includeDeleted()));
+  }
+
   /**
    * List connection IDs for active syncs based on the given query.
    *
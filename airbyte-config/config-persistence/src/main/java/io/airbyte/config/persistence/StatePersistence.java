@@ -15,13 +15,16 @@ import io.airbyte.config.StateWrapper;
 import io.airbyte.config.helpers.StateMessageHelper;
 import io.airbyte.db.Database;
 import io.airbyte.db.ExceptionWrappingDatabase;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.protocol.models.AirbyteGlobalState;
 import io.airbyte.protocol.models.AirbyteStateMessage;
 import io.airbyte.protocol.models.AirbyteStateMessage.AirbyteStateType;
 import io.airbyte.protocol.models.AirbyteStreamState;
 import io.airbyte.protocol.models.StreamDescriptor;
 import java.io.IOException;
-import java.time.OffsetDateTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -45,9 +48,15 @@ import org.jooq.impl.DSL;
 public class StatePersistence {
 
   private final ExceptionWrappingDatabase database;
+  private final MetricClient metricClient;
 
   public StatePersistence(final Database database) {
+    this(database, MetricClientFactory.getMetricClient());
+  }
+
+  public StatePersistence(final Database database, final MetricClient metricClient) {
     this.database = new ExceptionWrappingDatabase(database);
+    this.metricClient = metricClient;
   }
 
   /**
@@ -78,145 +87,123 @@ public class StatePersistence {
    * state. Other state type migrations should go through an explicit reset. An exception will be
    * thrown to prevent the system from getting into a bad state.
    *
+   * The current rows of the connection are loaded with a single query and only the states that
+   * changed since they were last written are sent back to the database.
+   *
    * @param connectionId connection id
    * @param state new state
    * @throws IOException if there is an issue while interacting with the db.
    */
   public void updateOrCreateState(final UUID connectionId, final StateWrapper state)
       throws IOException {
-    final Optional<StateWrapper> previousState = getCurrentState(connectionId);
-    final StateType currentStateType = state.getStateType();
-    final boolean isMigration = StateMessageHelper.isMigration(currentStateType, previousState);
-
-    // The only case where we allow a state migration is moving from LEGACY.
-    // We expect any other migration to go through an explicit reset.
-    if (!isMigration && previousState.isPresent() && previousState.get().getStateType() != currentStateType) {
-      throw new IllegalStateException("Unexpected type migration from '" + previousState.get().getStateType() + "' to '" + currentStateType
-          + "'. Migration of StateType need to go through an explicit reset.");
-    }
+    final StateUpdateBatch stateUpdateBatch = this.database.transaction(ctx -> {
+      final List<StateRecord> previousRecords = getStateRecords(ctx, connectionId);
+      final StateType previousStateType = previousRecords.isEmpty()
+          ? null
+          : Enums.convertTo(getStateType(connectionId, previousRecords), StateType.class);
+      final StateType currentStateType = state.getStateType();
+      final boolean isMigration = StateMessageHelper.isMigration(currentStateType, previousStateType);
+
+      // The only case where we allow a state migration is moving from LEGACY.
+      // We expect any other migration to go through an explicit reset.
+      if (!isMigration && previousStateType != null && previousStateType != currentStateType) {
+        throw new IllegalStateException("Unexpected type migration from '" + previousStateType + "' to '" + currentStateType
+            + "'. Migration of StateType need to go through an explicit reset.");
+      }
 
-    this.database.transaction(ctx -> {
+      final StateUpdateBatch batch = new StateUpdateBatch(connectionId);
+      final Map<StreamKey, StateRecord> existingRecords = new HashMap<>();
       if (isMigration) {
-        clearLegacyState(ctx, connectionId);
+        previousRecords.forEach(record -> batch.delete(record.id()));
+      } else {
+        previousRecords.forEach(record -> existingRecords.put(new StreamKey(record.streamName(), record.namespace()), record));
       }
-      switch (state.getStateType()) {
-        case GLOBAL -> saveGlobalState(ctx, connectionId, state.getGlobal().getGlobal());
-        case STREAM -> saveStreamState(ctx, connectionId, state.getStateMessages());
-        case LEGACY -> saveLegacyState(ctx, connectionId, state.getLegacyState());
+
+      switch (currentStateType) {
+        case GLOBAL -> saveGlobalState(existingRecords, state.getGlobal().getGlobal(), batch);
+        case STREAM -> saveStreamState(existingRecords, state.getStateMessages(), batch);
+        case LEGACY -> saveLegacyState(existingRecords, state.getLegacyState(), batch);
         default -> {
           // no op
         }
       }
-      return null;
+      batch.save(ctx);
+      return batch;
     });
-  }
 
-  private static void clearLegacyState(final DSLContext ctx, final UUID connectionId) {
-    final StateUpdateBatch stateUpdateBatch = new StateUpdateBatch();
-    writeStateToDb(ctx, connectionId, null, null, StateType.LEGACY, null, stateUpdateBatch);
-    stateUpdateBatch.save(ctx);
+    metricClient.count(OssMetricsRegistry.STATE_ROWS_WRITTEN, stateUpdateBatch.getRowsWritten());
+    metricClient.count(OssMetricsRegistry.STATE_ROWS_UNCHANGED, stateUpdateBatch.getUnchangedStreamStates());
+    metricClient.count(OssMetricsRegistry.STATE_BYTES_WRITTEN, stateUpdateBatch.getBytesWritten());
   }
 
-  private static void saveGlobalState(final DSLContext ctx, final UUID connectionId, final AirbyteGlobalState globalState) {
-    final StateUpdateBatch stateUpdateBatch = new StateUpdateBatch();
-    writeStateToDb(ctx, connectionId, null, null, StateType.GLOBAL, globalState.getSharedState(), stateUpdateBatch);
+  private static void saveGlobalState(final Map<StreamKey, StateRecord> existingRecords,
+                                      final AirbyteGlobalState globalState,
+                                      final StateUpdateBatch stateUpdateBatch) {
+    writeStateToDb(existingRecords, null, null, StateType.GLOBAL, globalState.getSharedState(), stateUpdateBatch);
     for (final AirbyteStreamState streamState : globalState.getStreamStates()) {
-      writeStateToDb(ctx,
-          connectionId,
+      writeStateToDb(existingRecords,
           streamState.getStreamDescriptor().getName(),
           streamState.getStreamDescriptor().getNamespace(),
           StateType.GLOBAL,
           streamState.getStreamState(),
           stateUpdateBatch);
     }
-    stateUpdateBatch.save(ctx);
   }
 
-  private static void saveStreamState(final DSLContext ctx, final UUID connectionId, final List<AirbyteStateMessage> stateMessages) {
-    final StateUpdateBatch stateUpdateBatch = new StateUpdateBatch();
+  private static void saveStreamState(final Map<StreamKey, StateRecord> existingRecords,
+                                      final List<AirbyteStateMessage> stateMessages,
+                                      final StateUpdateBatch stateUpdateBatch) {
     for (final AirbyteStateMessage stateMessage : stateMessages) {
       final AirbyteStreamState streamState = stateMessage.getStream();
-      writeStateToDb(ctx,
-          connectionId,
+      writeStateToDb(existingRecords,
           streamState.getStreamDescriptor().getName(),
           streamState.getStreamDescriptor().getNamespace(),
           StateType.STREAM,
           streamState.getStreamState(),
           stateUpdateBatch);
     }
-    stateUpdateBatch.save(ctx);
   }
 
-  private static void saveLegacyState(final DSLContext ctx, final UUID connectionId, final JsonNode state) {
-    final StateUpdateBatch stateUpdateBatch = new StateUpdateBatch();
-    writeStateToDb(ctx, connectionId, null, null, StateType.LEGACY, state, stateUpdateBatch);
-    stateUpdateBatch.save(ctx);
+  private static void saveLegacyState(final Map<StreamKey, StateRecord> existingRecords,
+                                      final JsonNode state,
+                                      final StateUpdateBatch stateUpdateBatch) {
+    writeStateToDb(existingRecords, null, null, StateType.LEGACY, state, stateUpdateBatch);
   }
 
   /**
-   * Performs the actual SQL operation depending on the state.
+   * Adds the SQL operation needed for the state to the batch.
    *
-   * If the state is null, it will delete the row, otherwise do an insert or update on conflict
+   * If the state is null, it will delete the row. Otherwise, it will insert the row if it does not
+   * exist or update it if its content changed. Rows whose content did not change are left as is.
    */
-  static void writeStateToDb(final DSLContext ctx,
-                             final UUID connectionId,
-                             final String streamName,
-                             final String namespace,
-                             final StateType stateType,
-                             final JsonNode state,
-                             final StateUpdateBatch stateUpdateBatch) {
-    if (state != null) {
-      final boolean hasState = ctx.fetchExists(STATE,
-          STATE.CONNECTION_ID.eq(connectionId),
-          PersistenceHelpers.isNullOrEquals(STATE.STREAM_NAME, streamName),
-          PersistenceHelpers.isNullOrEquals(STATE.NAMESPACE, namespace));
+  private static void writeStateToDb(final Map<StreamKey, StateRecord> existingRecords,
+                                     final String streamName,
+                                     final String namespace,
+                                     final StateType stateType,
+                                     final JsonNode state,
+                                     final StateUpdateBatch stateUpdateBatch) {
+    final StateRecord existingRecord = existingRecords.get(new StreamKey(streamName, namespace));
 
+    if (state != null) {
       // NOTE: the legacy code was storing a State object instead of just the State data field. We kept
       // the same behavior for consistency.
-      final JSONB jsonbState = JSONB.valueOf(Jsons.serialize(stateType != StateType.LEGACY ? state : new State().withState(state)));
-      final OffsetDateTime now = OffsetDateTime.now();
-
-      if (!hasState) {
-        stateUpdateBatch.getCreatedStreamStates().add(
-            ctx.insertInto(STATE)
-                .columns(
-                    STATE.ID,
-                    STATE.CREATED_AT,
-                    STATE.UPDATED_AT,
-                    STATE.CONNECTION_ID,
-                    STATE.STREAM_NAME,
-                    STATE.NAMESPACE,
-                    STATE.STATE_,
-                    STATE.TYPE)
-                .values(
-                    UUID.randomUUID(),
-                    now,
-                    now,
-                    connectionId,
-                    streamName,
-                    namespace,
-                    jsonbState,
-                    Enums.convertTo(stateType, io.airbyte.db.instance.configs.jooq.generated.enums.StateType.class)));
-
+      final JsonNode storedState = stateType != StateType.LEGACY ? state : Jsons.jsonNode(new State().withState(state));
+
+      if (existingRecord == null) {
+        stateUpdateBatch.create(
+            streamName,
+            namespace,
+            Enums.convertTo(stateType, io.airbyte.db.instance.configs.jooq.generated.enums.StateType.class),
+            JSONB.valueOf(Jsons.serialize(storedState)));
+      } else if (!storedState.equals(existingRecord.state())) {
+        stateUpdateBatch.update(existingRecord.id(), JSONB.valueOf(Jsons.serialize(storedState)));
       } else {
-        stateUpdateBatch.getUpdatedStreamStates().add(
-            ctx.update(STATE)
-                .set(STATE.UPDATED_AT, now)
-                .set(STATE.STATE_, jsonbState)
-                .where(
-                    STATE.CONNECTION_ID.eq(connectionId),
-                    PersistenceHelpers.isNullOrEquals(STATE.STREAM_NAME, streamName),
-                    PersistenceHelpers.isNullOrEquals(STATE.NAMESPACE, namespace)));
+        stateUpdateBatch.skipUnchanged();
       }
 
-    } else {
+    } else if (existingRecord != null) {
       // If the state is null, we remove the state instead of keeping a null row
-      stateUpdateBatch.getDeletedStreamStates().add(
-          ctx.deleteFrom(STATE)
-              .where(
-                  STATE.CONNECTION_ID.eq(connectionId),
-                  PersistenceHelpers.isNullOrEquals(STATE.STREAM_NAME, streamName),
-                  PersistenceHelpers.isNullOrEquals(STATE.NAMESPACE, namespace)));
+      stateUpdateBatch.delete(existingRecord.id());
     }
   }
 
@@ -321,6 +308,7 @@ public class StatePersistence {
 
   private static RecordMapper<Record, StateRecord> getStateRecordMapper() {
     return record -> new StateRecord(
+        record.get(STATE.ID, UUID.class),
         record.get(STATE.TYPE, io.airbyte.db.instance.configs.jooq.generated.enums.StateType.class),
         record.get(STATE.STREAM_NAME, String.class),
         record.get(STATE.NAMESPACE, String.class),
@@ -328,9 +316,12 @@ public class StatePersistence {
   }
 
   private record StateRecord(
+                             UUID id,
                              io.airbyte.db.instance.configs.jooq.generated.enums.StateType type,
                              String streamName,
                              String namespace,
                              JsonNode state) {}
 
+  private record StreamKey(String streamName, String namespace) {}
+
 }
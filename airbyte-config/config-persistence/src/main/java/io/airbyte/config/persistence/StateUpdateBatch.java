@@ -4,23 +4,115 @@
 
 package io.airbyte.config.persistence;
 
+import static io.airbyte.db.instance.configs.jooq.generated.Tables.STATE;
+
+import io.airbyte.db.instance.configs.jooq.generated.enums.StateType;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 import lombok.Getter;
+import org.jooq.BatchBindStep;
 import org.jooq.DSLContext;
-import org.jooq.Query;
+import org.jooq.InsertValuesStep8;
+import org.jooq.JSONB;
 
+/**
+ * Changes to the state rows of a connection.
+ *
+ * Rows are created with a single multi-row insert, updated with a single batched statement and
+ * deleted with a single statement, so saving the batch takes at most 3 round trips whatever the
+ * number of streams.
+ */
 @Getter
 class StateUpdateBatch {
 
-  private final List<Query> updatedStreamStates = new ArrayList<>();
-  private final List<Query> createdStreamStates = new ArrayList<>();
-  private final List<Query> deletedStreamStates = new ArrayList<>();
+  private final UUID connectionId;
+  private final List<CreatedState> createdStreamStates = new ArrayList<>();
+  private final List<UpdatedState> updatedStreamStates = new ArrayList<>();
+  private final List<UUID> deletedStreamStates = new ArrayList<>();
+  private int unchangedStreamStates;
+  private long bytesWritten;
+
+  StateUpdateBatch(final UUID connectionId) {
+    this.connectionId = connectionId;
+  }
+
+  void create(final String streamName, final String namespace, final StateType type, final JSONB state) {
+    createdStreamStates.add(new CreatedState(streamName, namespace, type, state));
+    bytesWritten += sizeOf(state);
+  }
+
+  void update(final UUID id, final JSONB state) {
+    updatedStreamStates.add(new UpdatedState(id, state));
+    bytesWritten += sizeOf(state);
+  }
+
+  void delete(final UUID id) {
+    deletedStreamStates.add(id);
+  }
+
+  void skipUnchanged() {
+    unchangedStreamStates++;
+  }
+
+  int getRowsWritten() {
+    return createdStreamStates.size() + updatedStreamStates.size() + deletedStreamStates.size();
+  }
 
   void save(final DSLContext ctx) {
-    ctx.batch(updatedStreamStates).execute();
-    ctx.batch(createdStreamStates).execute();
-    ctx.batch(deletedStreamStates).execute();
+    final OffsetDateTime now = OffsetDateTime.now();
+
+    if (!deletedStreamStates.isEmpty()) {
+      ctx.deleteFrom(STATE)
+          .where(STATE.ID.in(deletedStreamStates))
+          .execute();
+    }
+
+    if (!updatedStreamStates.isEmpty()) {
+      final BatchBindStep batch = ctx.batch(ctx.update(STATE)
+          .set(STATE.UPDATED_AT, (OffsetDateTime) null)
+          .set(STATE.STATE_, (JSONB) null)
+          .where(STATE.ID.eq((UUID) null)));
+      for (final UpdatedState updatedState : updatedStreamStates) {
+        batch.bind(now, updatedState.state(), updatedState.id());
+      }
+      batch.execute();
+    }
+
+    if (!createdStreamStates.isEmpty()) {
+      InsertValuesStep8<?, UUID, OffsetDateTime, OffsetDateTime, UUID, String, String, JSONB, StateType> insert = ctx.insertInto(STATE)
+          .columns(
+              STATE.ID,
+              STATE.CREATED_AT,
+              STATE.UPDATED_AT,
+              STATE.CONNECTION_ID,
+              STATE.STREAM_NAME,
+              STATE.NAMESPACE,
+              STATE.STATE_,
+              STATE.TYPE);
+      for (final CreatedState createdState : createdStreamStates) {
+        insert = insert.values(
+            UUID.randomUUID(),
+            now,
+            now,
+            connectionId,
+            createdState.streamName(),
+            createdState.namespace(),
+            createdState.state(),
+            createdState.type());
+      }
+      insert.execute();
+    }
+  }
+
+  private static long sizeOf(final JSONB state) {
+    return state.data().getBytes(StandardCharsets.UTF_8).length;
   }
 
+  record CreatedState(String streamName, String namespace, StateType type, JSONB state) {}
+
+  record UpdatedState(UUID id, JSONB state) {}
+
 }
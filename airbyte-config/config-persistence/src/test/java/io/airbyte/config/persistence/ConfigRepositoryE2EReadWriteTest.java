@@ -50,6 +50,7 @@ import io.airbyte.data.services.impls.jooq.OperationServiceJooqImpl;
 import io.airbyte.data.services.impls.jooq.OrganizationServiceJooqImpl;
 import io.airbyte.data.services.impls.jooq.SourceServiceJooqImpl;
 import io.airbyte.data.services.impls.jooq.WorkspaceServiceJooqImpl;
+import io.airbyte.data.services.shared.StandardSyncSummary;
 import io.airbyte.db.Database;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.TestClient;
@@ -431,6 +432,20 @@ class ConfigRepositoryE2EReadWriteTest extends BaseConfigDatabaseTest {
     assertSyncsMatch(expectedSyncs, actualSyncs);
   }
 
+  @Test
+  void testListWorkspaceStandardSyncSummaries() throws IOException {
+    final UUID workspaceId = MockData.standardWorkspaces().get(0).getWorkspaceId();
+    final StandardSyncQuery query = new StandardSyncQuery(workspaceId, null, List.of(MockData.DESTINATION_ID_1), false);
+    final Set<StandardSyncSummary> expectedSummaries = configRepository.listWorkspaceStandardSyncs(query).stream()
+        .map(StandardSyncSummary::fromStandardSync)
+        .collect(Collectors.toSet());
+    final List<StandardSyncSummary> actualSummaries = configRepository.listWorkspaceStandardSyncSummaries(query);
+
+    assertFalse(expectedSummaries.isEmpty());
+    assertEquals(expectedSummaries.size(), actualSummaries.size());
+    assertEquals(expectedSummaries, new HashSet<>(actualSummaries));
+  }
+
   @Test
   void testGetWorkspaceBySlug() throws IOException {
     final StandardWorkspace workspace = MockData.standardWorkspaces().get(0);
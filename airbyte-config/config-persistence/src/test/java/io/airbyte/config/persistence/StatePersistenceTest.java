@@ -5,6 +5,7 @@
 package io.airbyte.config.persistence;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.commons.enums.Enums;
@@ -36,6 +37,8 @@ import io.airbyte.data.services.impls.jooq.WorkspaceServiceJooqImpl;
 import io.airbyte.db.init.DatabaseInitializationException;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.TestClient;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.protocol.models.AirbyteGlobalState;
 import io.airbyte.protocol.models.AirbyteStateMessage;
 import io.airbyte.protocol.models.AirbyteStateMessage.AirbyteStateType;
@@ -44,6 +47,7 @@ import io.airbyte.protocol.models.StreamDescriptor;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -483,6 +487,49 @@ class StatePersistenceTest extends BaseConfigDatabaseTest {
         partialResetResult);
   }
 
+  @Test
+  void testOnlyChangedStreamStatesAreWritten() throws IOException, SQLException {
+    final MetricClient metricClient = mock(MetricClient.class);
+    statePersistence = new StatePersistence(database, metricClient);
+    final StateWrapper state0 = new StateWrapper()
+        .withStateType(StateType.STREAM)
+        .withStateMessages(Arrays.asList(
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s1").withNamespace("n1"))
+                    .withStreamState(Jsons.deserialize(STATE_WITH_NAMESPACE))),
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s2"))
+                    .withStreamState(Jsons.deserialize(STREAM_STATE_2)))));
+    statePersistence.updateOrCreateState(connectionId, state0);
+    verify(metricClient).count(OssMetricsRegistry.STATE_ROWS_WRITTEN, 2);
+
+    final OffsetDateTime s2UpdatedAt = getUpdatedAt("s2");
+    final StateWrapper update = new StateWrapper()
+        .withStateType(StateType.STREAM)
+        .withStateMessages(Arrays.asList(
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s1").withNamespace("n1"))
+                    .withStreamState(Jsons.deserialize("\"updated\""))),
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s2"))
+                    .withStreamState(Jsons.deserialize(STREAM_STATE_2)))));
+    statePersistence.updateOrCreateState(connectionId, update);
+
+    assertEquals(update, statePersistence.getCurrentState(connectionId).orElseThrow());
+    Assertions.assertEquals(s2UpdatedAt, getUpdatedAt("s2"));
+    verify(metricClient).count(OssMetricsRegistry.STATE_ROWS_WRITTEN, 1);
+    verify(metricClient).count(OssMetricsRegistry.STATE_ROWS_UNCHANGED, 1);
+    verify(metricClient).count(OssMetricsRegistry.STATE_BYTES_WRITTEN, "\"updated\"".length());
+  }
+
   @Test
   void testStreamFullReset() throws IOException {
     final StateWrapper state0 = new StateWrapper()
@@ -593,6 +640,14 @@ class StatePersistenceTest extends BaseConfigDatabaseTest {
     Assertions.assertEquals(readStates.get(0).getState(), stateWrapper.getLegacyState());
   }
 
+  private OffsetDateTime getUpdatedAt(final String streamName) throws SQLException {
+    return database.query(ctx -> ctx.select(DSL.field("updated_at", OffsetDateTime.class))
+        .from(DSL.table(STATE))
+        .where(DSL.field("connection_id").eq(connectionId), DSL.field("stream_name").eq(streamName))
+        .fetchOne()
+        .value1());
+  }
+
   private StateWrapper clone(final StateWrapper state) {
     return switch (state.getStateType()) {
       case LEGACY -> new StateWrapper()
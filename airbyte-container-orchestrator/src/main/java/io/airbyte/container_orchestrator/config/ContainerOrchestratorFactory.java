@@ -154,6 +154,12 @@ class ContainerOrchestratorFactory {
     return Executors.newSingleThreadScheduledExecutor();
   }
 
+  @Singleton
+  @Named("streamStatusFlushExecutorService")
+  public ScheduledExecutorService streamStatusFlushExecutorService() {
+    return Executors.newSingleThreadScheduledExecutor();
+  }
+
   @Singleton
   public StateAggregatorFactory stateAggregatorFactory() {
     return new StateAggregatorFactory();
@@ -10,9 +10,10 @@ import io.airbyte.metrics.lib.OssMetricsRegistry
 import io.airbyte.workload.api.client.generated.WorkloadApi
 import io.airbyte.workload.api.client.model.generated.LongRunningWorkloadRequest
 import io.airbyte.workload.api.client.model.generated.Workload
-import io.airbyte.workload.api.client.model.generated.WorkloadCancelRequest
+import io.airbyte.workload.api.client.model.generated.WorkloadBulkCancelRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadListRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadStatus
+import io.airbyte.workload.api.client.model.generated.WorkloadType
 import io.github.oshai.kotlinlogging.KotlinLogging
 import io.micronaut.context.annotation.Property
 import io.micronaut.context.annotation.Requires
@@ -23,12 +24,18 @@ import java.time.Duration
 import java.time.OffsetDateTime
 import java.time.ZoneId
 import java.time.ZoneOffset
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.Semaphore
 
 private val logger = KotlinLogging.logger { }
 
 /**
  * The value for [heartbeatTimeout] should always be greater
  * than [io.airbyte.featureflag.WorkloadHeartbeatTimeout] value
+ *
+ * Expired workloads are listed by pages of [pageSize] workloads, and each page is cancelled while
+ * the next one is listed, with at most [cancelParallelism] batches cancelled concurrently.
  */
 @Singleton
 @Requires(
@@ -42,6 +49,8 @@ open class WorkloadMonitor(
   @Property(name = "airbyte.workload.monitor.non-sync-workload-timeout") private val nonSyncWorkloadTimeout: Duration,
   @Property(name = "airbyte.workload.monitor.sync-workload-timeout") private val syncWorkloadTimeout: Duration,
   @Named("replicationNotStartedTimeout") private val nonStartedTimeout: Duration,
+  @Property(name = "airbyte.workload.monitor.page-size", defaultValue = "500") private val pageSize: Int,
+  @Property(name = "airbyte.workload.monitor.cancel-parallelism", defaultValue = "4") private val cancelParallelism: Int,
   private val metricClient: MetricClient,
   private val timeProvider: (ZoneId) -> OffsetDateTime = OffsetDateTime::now,
 ) {
@@ -64,15 +73,16 @@ open class WorkloadMonitor(
   open fun cancelNotStartedWorkloads() {
     logger.info { "Checking for not started workloads." }
     val oldestStartedTime = timeProvider(ZoneOffset.UTC).minusSeconds(nonStartedTimeout.seconds)
-    val notStartedWorkloads =
+    cancelExpiredWorkloads("Not started within time limit", CHECK_START) { afterId ->
       workloadApi.workloadList(
         WorkloadListRequest(
           status = listOf(WorkloadStatus.CLAIMED),
           updatedBefore = oldestStartedTime,
+          afterId = afterId,
+          limit = pageSize,
         ),
-      )
-
-    cancelWorkloads(notStartedWorkloads.workloads, "Not started within time limit", CHECK_START)
+      ).workloads
+    }
   }
 
   @Trace
@@ -86,15 +96,16 @@ open class WorkloadMonitor(
   open fun cancelNotClaimedWorkloads() {
     logger.info { "Checking for not claimed workloads." }
     val oldestClaimTime = timeProvider(ZoneOffset.UTC).minusSeconds(claimTimeout.seconds)
-    val notClaimedWorkloads =
+    cancelExpiredWorkloads("Not claimed within time limit", CHECK_CLAIMS) { afterId ->
       workloadApi.workloadList(
         WorkloadListRequest(
           status = listOf(WorkloadStatus.PENDING),
           updatedBefore = oldestClaimTime,
+          afterId = afterId,
+          limit = pageSize,
         ),
-      )
-
-    cancelWorkloads(notClaimedWorkloads.workloads, "Not claimed within time limit", CHECK_CLAIMS)
+      ).workloads
+    }
   }
 
   @Trace
@@ -108,15 +119,16 @@ open class WorkloadMonitor(
   open fun cancelNotHeartbeatingWorkloads() {
     logger.info { "Checking for non heartbeating workloads." }
     val oldestHeartbeatTime = timeProvider(ZoneOffset.UTC).minusSeconds(heartbeatTimeout.seconds)
-    val nonHeartbeatingWorkloads =
+    cancelExpiredWorkloads("No heartbeat within time limit", CHECK_HEARTBEAT) { afterId ->
       workloadApi.workloadList(
         WorkloadListRequest(
           status = listOf(WorkloadStatus.RUNNING, WorkloadStatus.LAUNCHED),
           updatedBefore = oldestHeartbeatTime,
+          afterId = afterId,
+          limit = pageSize,
         ),
-      )
-
-    cancelWorkloads(nonHeartbeatingWorkloads.workloads, "No heartbeat within time limit", CHECK_HEARTBEAT)
+      ).workloads
+    }
   }
 
   @Trace
@@ -129,14 +141,16 @@ open class WorkloadMonitor(
   @Scheduled(fixedRate = "\${airbyte.workload.monitor.non-sync-age-check-rate}")
   open fun cancelRunningForTooLongNonSyncWorkloads() {
     logger.info { "Checking for workloads running for too long with timeout value $nonSyncWorkloadTimeout" }
-    val nonHeartbeatingWorkloads =
+    val createdBefore = timeProvider(ZoneOffset.UTC).minus(nonSyncWorkloadTimeout)
+    cancelExpiredWorkloads("Non sync workload timeout", CHECK_NON_SYNC_TIMEOUT) { afterId ->
       workloadApi.workloadListOldNonSync(
         LongRunningWorkloadRequest(
-          createdBefore = timeProvider(ZoneOffset.UTC).minus(nonSyncWorkloadTimeout),
+          createdBefore = createdBefore,
+          afterId = afterId,
+          limit = pageSize,
         ),
-      )
-
-    cancelWorkloads(nonHeartbeatingWorkloads.workloads, "Non sync workload timeout", CHECK_NON_SYNC_TIMEOUT)
+      ).workloads
+    }
   }
 
   @Trace
@@ -149,38 +163,116 @@ open class WorkloadMonitor(
   @Scheduled(fixedRate = "\${airbyte.workload.monitor.sync-age-check-rate}")
   open fun cancelRunningForTooLongSyncWorkloads() {
     logger.info { "Checking for sync workloads running for too long with timeout value $syncWorkloadTimeout" }
-    val nonHeartbeatingWorkloads =
+    val createdBefore = timeProvider(ZoneOffset.UTC).minus(syncWorkloadTimeout)
+    cancelExpiredWorkloads("Sync workload timeout", CHECK_SYNC_TIMEOUT) { afterId ->
       workloadApi.workloadListOldSync(
         LongRunningWorkloadRequest(
-          createdBefore = timeProvider(ZoneOffset.UTC).minus(syncWorkloadTimeout),
+          createdBefore = createdBefore,
+          afterId = afterId,
+          limit = pageSize,
         ),
-      )
+      ).workloads
+    }
+  }
+
+  /**
+   * Cancel the expired workloads one page at a time: the cancellations of a page are sent while the
+   * next page is listed, which starts after the last workload of the previous page. Only the ids of
+   * the workloads whose cancellation is pending are kept, and at most [cancelParallelism] batches are
+   * pending at any time.
+   */
+  private fun cancelExpiredWorkloads(
+    reason: String,
+    source: String,
+    listPage: (afterId: String?) -> List<Workload>,
+  ) {
+    val executor = Executors.newFixedThreadPool(cancelParallelism)
+    val pendingBatches = Semaphore(cancelParallelism)
+    val cancellations = mutableListOf<Future<*>>()
+    var scanDurationMs = 0L
+    var expiredCount = 0L
+    var cancelStart: Long? = null
+    try {
+      var afterId: String? = null
+      do {
+        val listStart = System.currentTimeMillis()
+        val page = listPage(afterId)
+        scanDurationMs += System.currentTimeMillis() - listStart
+        expiredCount += page.size
+        afterId = page.lastOrNull()?.id
+        if (page.isNotEmpty() && cancelStart == null) {
+          cancelStart = System.currentTimeMillis()
+        }
+
+        // Batches only contain workloads of a single type, so that the cancellations can be counted by type.
+        page.groupBy({ it.type }, { it.id }).forEach { (type, workloadIds) ->
+          pendingBatches.acquire()
+          cancellations +=
+            executor.submit {
+              try {
+                cancelBatch(workloadIds, type, reason, source)
+              } finally {
+                pendingBatches.release()
+              }
+            }
+        }
+      } while (page.isNotEmpty() && page.size >= pageSize)
+      cancellations.forEach { it.get() }
+    } finally {
+      executor.shutdown()
+    }
 
-    cancelWorkloads(nonHeartbeatingWorkloads.workloads, "Sync workload timeout", CHECK_SYNC_TIMEOUT)
+    metricClient.distribution(
+      OssMetricsRegistry.WORKLOAD_MONITOR_SCAN_DURATION_MS,
+      scanDurationMs.toDouble(),
+      MetricAttribute(MetricTags.CRON_TYPE, source),
+    )
+    metricClient.count(OssMetricsRegistry.WORKLOAD_MONITOR_EXPIRED, expiredCount, MetricAttribute(MetricTags.CRON_TYPE, source))
+    cancelStart?.let {
+      metricClient.distribution(
+        OssMetricsRegistry.WORKLOAD_MONITOR_CANCEL_DURATION_MS,
+        (System.currentTimeMillis() - it).toDouble(),
+        MetricAttribute(MetricTags.CRON_TYPE, source),
+      )
+    }
   }
 
-  private fun cancelWorkloads(
-    workloads: List<Workload>,
+  private fun cancelBatch(
+    workloadIds: List<String>,
+    type: WorkloadType,
     reason: String,
     source: String,
   ) {
-    workloads.map {
-      var status = "fail"
-      try {
-        logger.info { "Cancelling workload ${it.id}, reason: $reason" }
-        workloadApi.workloadCancel(WorkloadCancelRequest(workloadId = it.id, reason = reason, source = source))
-        status = "ok"
-      } catch (e: Exception) {
-        logger.warn(e) { "Failed to cancel workload ${it.id}" }
-      } finally {
-        metricClient.count(
-          OssMetricsRegistry.WORKLOADS_CANCEL,
-          1,
-          MetricAttribute(MetricTags.CANCELLATION_SOURCE, source),
-          MetricAttribute(MetricTags.STATUS, status),
-          MetricAttribute(MetricTags.WORKLOAD_TYPE, it.type.value),
-        )
-      }
+    try {
+      logger.info { "Cancelling workloads $workloadIds, reason: $reason" }
+      val cancelledCount =
+        workloadApi.workloadBulkCancel(
+          WorkloadBulkCancelRequest(workloadIds = workloadIds, reason = reason, source = source),
+        ).cancelledCount
+      // The workloads that were not cancelled reached a terminal status since they were listed.
+      countCancelledWorkloads(cancelledCount, "ok", type, source)
+      countCancelledWorkloads(workloadIds.size - cancelledCount, "skipped", type, source)
+    } catch (e: Exception) {
+      logger.warn(e) { "Failed to cancel workloads $workloadIds" }
+      countCancelledWorkloads(workloadIds.size, "fail", type, source)
+    }
+  }
+
+  private fun countCancelledWorkloads(
+    count: Int,
+    status: String,
+    type: WorkloadType,
+    source: String,
+  ) {
+    if (count <= 0) {
+      return
     }
+    metricClient.count(
+      OssMetricsRegistry.WORKLOADS_CANCEL,
+      count.toLong(),
+      MetricAttribute(MetricTags.CANCELLATION_SOURCE, source),
+      MetricAttribute(MetricTags.STATUS, status),
+      MetricAttribute(MetricTags.WORKLOAD_TYPE, type.value),
+    )
   }
 }
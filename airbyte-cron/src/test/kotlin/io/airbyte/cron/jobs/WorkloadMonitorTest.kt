@@ -6,7 +6,7 @@ import io.airbyte.metrics.lib.MetricTags
 import io.airbyte.metrics.lib.OssMetricsRegistry
 import io.airbyte.workload.api.client.generated.WorkloadApi
 import io.airbyte.workload.api.client.model.generated.Workload
-import io.airbyte.workload.api.client.model.generated.WorkloadListRequest
+import io.airbyte.workload.api.client.model.generated.WorkloadBulkCancelResponse
 import io.airbyte.workload.api.client.model.generated.WorkloadListResponse
 import io.airbyte.workload.api.client.model.generated.WorkloadStatus
 import io.airbyte.workload.api.client.model.generated.WorkloadType
@@ -17,6 +17,7 @@ import io.mockk.verify
 import io.mockk.verifyAll
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
 import org.openapitools.client.infrastructure.ServerException
 import java.time.Duration
 import java.time.OffsetDateTime
@@ -29,6 +30,7 @@ class WorkloadMonitorTest {
   val nonStartedTimeout = Duration.of(7, ChronoUnit.SECONDS)
   val nonSyncTimeout = Duration.of(9, ChronoUnit.MINUTES)
   val syncTimeout = Duration.of(30, ChronoUnit.DAYS)
+  val pageSize = 2
 
   lateinit var currentTime: OffsetDateTime
   lateinit var metricClient: MetricClient
@@ -40,6 +42,7 @@ class WorkloadMonitorTest {
     metricClient =
       mockk<MetricClient>().also {
         every { it.count(any(), any(), *anyVararg()) } returns Unit
+        every { it.distribution(any(), any(), *anyVararg()) } returns Unit
       }
     workloadApi = mockk()
     workloadMonitor =
@@ -50,6 +53,8 @@ class WorkloadMonitorTest {
         nonStartedTimeout = nonStartedTimeout,
         nonSyncWorkloadTimeout = nonSyncTimeout,
         syncWorkloadTimeout = syncTimeout,
+        pageSize = pageSize,
+        cancelParallelism = 2,
         metricClient = metricClient,
         timeProvider = { _: ZoneId -> currentTime },
       )
@@ -57,191 +62,171 @@ class WorkloadMonitorTest {
 
   @Test
   fun `test cancel not started workloads`() {
-    val expiredWorkloads = WorkloadListResponse(workloads = listOf(getWorkload("1"), getWorkload("2"), getWorkload("3")))
     currentTime = OffsetDateTime.now()
-    every { workloadApi.workloadList(any()) } returns expiredWorkloads
-    every { workloadApi.workloadCancel(any()) } returns Unit andThenThrows ServerException() andThen Unit
+    every { workloadApi.workloadList(match { it.afterId == null }) } returns page("1", "2")
+    every { workloadApi.workloadList(match { it.afterId == "2" }) } returns page("3")
+    mockBulkCancel()
 
     workloadMonitor.cancelNotStartedWorkloads()
 
     verifyAll {
       workloadApi.workloadList(
         match {
-          it.status == listOf(WorkloadStatus.CLAIMED) && it.updatedBefore == currentTime.minus(nonStartedTimeout)
+          it.status == listOf(WorkloadStatus.CLAIMED) && it.updatedBefore == currentTime.minus(nonStartedTimeout) &&
+            it.afterId == null && it.limit == pageSize
         },
       )
-      workloadApi.workloadCancel(match { it.workloadId == "1" })
-      workloadApi.workloadCancel(match { it.workloadId == "2" })
-      workloadApi.workloadCancel(match { it.workloadId == "3" })
-    }
-    verify(exactly = 2) {
-      metricClient.count(
-        OssMetricsRegistry.WORKLOADS_CANCEL,
-        1,
-        MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-start"),
-        MetricAttribute(MetricTags.STATUS, "ok"),
-        MetricAttribute(MetricTags.WORKLOAD_TYPE, "sync"),
-      )
-    }
-    verify(exactly = 1) {
-      metricClient.count(
-        OssMetricsRegistry.WORKLOADS_CANCEL,
-        1,
-        MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-start"),
-        MetricAttribute(MetricTags.STATUS, "fail"),
-        MetricAttribute(MetricTags.WORKLOAD_TYPE, "sync"),
-      )
+      workloadApi.workloadList(match { it.status == listOf(WorkloadStatus.CLAIMED) && it.afterId == "2" && it.limit == pageSize })
+      workloadApi.workloadBulkCancel(match { it.workloadIds == listOf("1", "2") && it.source == "workload-monitor-start" })
+      workloadApi.workloadBulkCancel(match { it.workloadIds == listOf("3") && it.source == "workload-monitor-start" })
     }
+    verifyCancelMetrics("workload-monitor-start")
   }
 
   @Test
   fun `test cancel not claimed workloads`() {
-    val expiredWorkloads = WorkloadListResponse(workloads = listOf(getWorkload("a"), getWorkload("b"), getWorkload("c")))
     currentTime = OffsetDateTime.now()
-    every { workloadApi.workloadList(any()) } returns expiredWorkloads
-    every { workloadApi.workloadCancel(any()) } throws ServerException() andThen Unit andThen Unit
+    every { workloadApi.workloadList(match { it.afterId == null }) } returns page("1", "2")
+    every { workloadApi.workloadList(match { it.afterId == "2" }) } returns page("3")
+    mockBulkCancel()
 
     workloadMonitor.cancelNotClaimedWorkloads()
 
     verifyAll {
       workloadApi.workloadList(
         match {
-          it.status == listOf(WorkloadStatus.PENDING) && it.updatedBefore == currentTime.minus(claimTimeout)
+          it.status == listOf(WorkloadStatus.PENDING) && it.updatedBefore == currentTime.minus(claimTimeout) && it.afterId == null
         },
       )
-      workloadApi.workloadCancel(match { it.workloadId == "a" })
-      workloadApi.workloadCancel(match { it.workloadId == "b" })
-      workloadApi.workloadCancel(match { it.workloadId == "c" })
-    }
-    verify(exactly = 2) {
-      metricClient.count(
-        OssMetricsRegistry.WORKLOADS_CANCEL,
-        1,
-        MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-claim"),
-        MetricAttribute(MetricTags.STATUS, "ok"),
-        MetricAttribute(MetricTags.WORKLOAD_TYPE, "sync"),
-      )
-    }
-    verify(exactly = 1) {
-      metricClient.count(
-        OssMetricsRegistry.WORKLOADS_CANCEL,
-        1,
-        MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-claim"),
-        MetricAttribute(MetricTags.STATUS, "fail"),
-        MetricAttribute(MetricTags.WORKLOAD_TYPE, "sync"),
-      )
+      workloadApi.workloadList(match { it.status == listOf(WorkloadStatus.PENDING) && it.afterId == "2" })
+      workloadApi.workloadBulkCancel(match { it.workloadIds == listOf("1", "2") })
+      workloadApi.workloadBulkCancel(match { it.workloadIds == listOf("3") })
     }
+    verifyCancelMetrics("workload-monitor-claim")
   }
 
   @Test
   fun `test cancel not heartbeating workloads`() {
-    val expiredWorkloads = WorkloadListResponse(workloads = listOf(getWorkload("3"), getWorkload("4"), getWorkload("5")))
     currentTime = OffsetDateTime.now()
-    every {
-      workloadApi.workloadList(
-        WorkloadListRequest(
-          updatedBefore = currentTime.minus(heartbeatTimeout),
-          status = listOf(WorkloadStatus.RUNNING, WorkloadStatus.LAUNCHED),
-        ),
-      )
-    } returns expiredWorkloads
-    every { workloadApi.workloadCancel(any()) } returns Unit andThenThrows ServerException() andThen Unit
+    every { workloadApi.workloadList(match { it.afterId == null }) } returns page("1", "2")
+    every { workloadApi.workloadList(match { it.afterId == "2" }) } returns page("3")
+    mockBulkCancel()
 
     workloadMonitor.cancelNotHeartbeatingWorkloads()
 
     verifyAll {
       workloadApi.workloadList(
         match {
-          it.status == listOf(WorkloadStatus.RUNNING, WorkloadStatus.LAUNCHED) && it.updatedBefore == currentTime.minus(heartbeatTimeout)
+          it.status == listOf(WorkloadStatus.RUNNING, WorkloadStatus.LAUNCHED) && it.updatedBefore == currentTime.minus(heartbeatTimeout) &&
+            it.afterId == null
         },
       )
-      workloadApi.workloadCancel(match { it.workloadId == "3" })
-      workloadApi.workloadCancel(match { it.workloadId == "4" })
-      workloadApi.workloadCancel(match { it.workloadId == "5" })
-    }
-    verify(exactly = 2) {
-      metricClient.count(
-        OssMetricsRegistry.WORKLOADS_CANCEL,
-        1,
-        MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-heartbeat"),
-        MetricAttribute(MetricTags.STATUS, "ok"),
-        MetricAttribute(MetricTags.WORKLOAD_TYPE, "sync"),
-      )
-    }
-    verify(exactly = 1) {
-      metricClient.count(
-        OssMetricsRegistry.WORKLOADS_CANCEL,
-        1,
-        MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-heartbeat"),
-        MetricAttribute(MetricTags.STATUS, "fail"),
-        MetricAttribute(MetricTags.WORKLOAD_TYPE, "sync"),
-      )
+      workloadApi.workloadList(match { it.status == listOf(WorkloadStatus.RUNNING, WorkloadStatus.LAUNCHED) && it.afterId == "2" })
+      workloadApi.workloadBulkCancel(match { it.workloadIds == listOf("1", "2") })
+      workloadApi.workloadBulkCancel(match { it.workloadIds == listOf("3") })
     }
+    verifyCancelMetrics("workload-monitor-heartbeat")
   }
 
   @Test
   fun `test cancel timeout non sync workload`() {
-    val expiredWorkloads = WorkloadListResponse(workloads = listOf(getWorkload("3"), getWorkload("4"), getWorkload("5")))
     currentTime = OffsetDateTime.now()
-    every { workloadApi.workloadListOldNonSync(any()) } returns expiredWorkloads
-    every { workloadApi.workloadCancel(any()) } returns Unit andThenThrows ServerException() andThen Unit
+    every { workloadApi.workloadListOldNonSync(match { it.afterId == null }) } returns page("1", "2")
+    every { workloadApi.workloadListOldNonSync(match { it.afterId == "2" }) } returns page("3")
+    mockBulkCancel()
 
     workloadMonitor.cancelRunningForTooLongNonSyncWorkloads()
 
     verifyAll {
-      workloadApi.workloadListOldNonSync(
-        match {
-          it.createdBefore == currentTime.minus(nonSyncTimeout)
-        },
-      )
-      workloadApi.workloadCancel(match { it.workloadId == "3" })
-      workloadApi.workloadCancel(match { it.workloadId == "4" })
-      workloadApi.workloadCancel(match { it.workloadId == "5" })
+      workloadApi.workloadListOldNonSync(match { it.createdBefore == currentTime.minus(nonSyncTimeout) && it.afterId == null })
+      workloadApi.workloadListOldNonSync(match { it.createdBefore == currentTime.minus(nonSyncTimeout) && it.afterId == "2" })
+      workloadApi.workloadBulkCancel(match { it.workloadIds == listOf("1", "2") })
+      workloadApi.workloadBulkCancel(match { it.workloadIds == listOf("3") })
     }
-    verify(exactly = 2) {
-      metricClient.count(
-        OssMetricsRegistry.WORKLOADS_CANCEL,
-        1,
-        MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-non-sync-timeout"),
-        MetricAttribute(MetricTags.STATUS, "ok"),
-        MetricAttribute(MetricTags.WORKLOAD_TYPE, "sync"),
-      )
+    verifyCancelMetrics("workload-monitor-non-sync-timeout")
+  }
+
+  @Test
+  fun `test cancel timeout sync workload`() {
+    currentTime = OffsetDateTime.now()
+    every { workloadApi.workloadListOldSync(match { it.afterId == null }) } returns page("1", "2")
+    every { workloadApi.workloadListOldSync(match { it.afterId == "2" }) } returns page("3")
+    mockBulkCancel()
+
+    workloadMonitor.cancelRunningForTooLongSyncWorkloads()
+
+    verifyAll {
+      workloadApi.workloadListOldSync(match { it.createdBefore == currentTime.minus(syncTimeout) && it.afterId == null })
+      workloadApi.workloadListOldSync(match { it.createdBefore == currentTime.minus(syncTimeout) && it.afterId == "2" })
+      workloadApi.workloadBulkCancel(match { it.workloadIds == listOf("1", "2") })
+      workloadApi.workloadBulkCancel(match { it.workloadIds == listOf("3") })
     }
+    verifyCancelMetrics("workload-monitor-sync-timeout")
+  }
+
+  @Test
+  fun `test workloads that reached a terminal status are skipped`() {
+    currentTime = OffsetDateTime.now()
+    every { workloadApi.workloadList(any()) } returns page("1")
+    every { workloadApi.workloadBulkCancel(any()) } returns WorkloadBulkCancelResponse(cancelledCount = 0)
+
+    workloadMonitor.cancelNotClaimedWorkloads()
+
+    verify(exactly = 1) { workloadApi.workloadList(any()) }
     verify(exactly = 1) {
       metricClient.count(
         OssMetricsRegistry.WORKLOADS_CANCEL,
         1,
-        MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-non-sync-timeout"),
-        MetricAttribute(MetricTags.STATUS, "fail"),
+        MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-claim"),
+        MetricAttribute(MetricTags.STATUS, "skipped"),
         MetricAttribute(MetricTags.WORKLOAD_TYPE, "sync"),
       )
     }
   }
 
   @Test
-  fun `test cancel timeout sync workload`() {
-    val expiredWorkloads = WorkloadListResponse(workloads = listOf(getWorkload("3"), getWorkload("4"), getWorkload("5")))
+  fun `test pages are cancelled before the next ones are listed`() {
     currentTime = OffsetDateTime.now()
-    every { workloadApi.workloadListOldSync(any()) } returns expiredWorkloads
-    every { workloadApi.workloadCancel(any()) } returns Unit andThenThrows ServerException() andThen Unit
+    every { workloadApi.workloadList(match { it.afterId == null }) } returns page("1", "2")
+    every { workloadApi.workloadList(match { it.afterId == "2" }) } throws ServerException()
+    mockBulkCancel()
 
-    workloadMonitor.cancelRunningForTooLongSyncWorkloads()
+    assertThrows<ServerException> { workloadMonitor.cancelNotStartedWorkloads() }
 
-    verifyAll {
-      workloadApi.workloadListOldSync(
-        match {
-          it.createdBefore == currentTime.minus(syncTimeout)
-        },
-      )
-      workloadApi.workloadCancel(match { it.workloadId == "3" })
-      workloadApi.workloadCancel(match { it.workloadId == "4" })
-      workloadApi.workloadCancel(match { it.workloadId == "5" })
+    verify(timeout = 1000, exactly = 1) { workloadApi.workloadBulkCancel(match { it.workloadIds == listOf("1", "2") }) }
+  }
+
+  @Test
+  fun `test nothing is cancelled when no workload expired`() {
+    currentTime = OffsetDateTime.now()
+    every { workloadApi.workloadList(any()) } returns page()
+
+    workloadMonitor.cancelNotStartedWorkloads()
+
+    verify(exactly = 0) { workloadApi.workloadBulkCancel(any()) }
+    verify(exactly = 1) {
+      metricClient.count(OssMetricsRegistry.WORKLOAD_MONITOR_EXPIRED, 0, MetricAttribute(MetricTags.CRON_TYPE, "workload-monitor-start"))
+    }
+  }
+
+  /**
+   * The first batch is cancelled and the second one fails.
+   */
+  private fun mockBulkCancel() {
+    every { workloadApi.workloadBulkCancel(match { it.workloadIds == listOf("1", "2") }) } returns
+      WorkloadBulkCancelResponse(cancelledCount = 2)
+    every { workloadApi.workloadBulkCancel(match { it.workloadIds == listOf("3") }) } throws ServerException()
+  }
+
+  private fun verifyCancelMetrics(source: String) {
+    verify(exactly = 1) {
+      metricClient.count(OssMetricsRegistry.WORKLOAD_MONITOR_EXPIRED, 3, MetricAttribute(MetricTags.CRON_TYPE, source))
     }
-    verify(exactly = 2) {
+    verify(exactly = 1) {
       metricClient.count(
         OssMetricsRegistry.WORKLOADS_CANCEL,
-        1,
-        MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-sync-timeout"),
+        2,
+        MetricAttribute(MetricTags.CANCELLATION_SOURCE, source),
         MetricAttribute(MetricTags.STATUS, "ok"),
         MetricAttribute(MetricTags.WORKLOAD_TYPE, "sync"),
       )
@@ -250,13 +235,20 @@ class WorkloadMonitorTest {
       metricClient.count(
         OssMetricsRegistry.WORKLOADS_CANCEL,
         1,
-        MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-sync-timeout"),
+        MetricAttribute(MetricTags.CANCELLATION_SOURCE, source),
         MetricAttribute(MetricTags.STATUS, "fail"),
         MetricAttribute(MetricTags.WORKLOAD_TYPE, "sync"),
       )
     }
+    val cronType = MetricAttribute(MetricTags.CRON_TYPE, source)
+    verify(exactly = 1) {
+      metricClient.distribution(OssMetricsRegistry.WORKLOAD_MONITOR_SCAN_DURATION_MS, any(), cronType)
+      metricClient.distribution(OssMetricsRegistry.WORKLOAD_MONITOR_CANCEL_DURATION_MS, any(), cronType)
+    }
   }
 
+  private fun page(vararg ids: String): WorkloadListResponse = WorkloadListResponse(workloads = ids.map { getWorkload(it) })
+
   fun getWorkload(id: String): Workload {
     return mockkClass(Workload::class).also {
       every { it.id } returns id
@@ -28,6 +28,7 @@ import io.airbyte.config.helpers.ScheduleHelpers;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.ConnectionService;
 import io.airbyte.data.services.shared.StandardSyncQuery;
+import io.airbyte.data.services.shared.StandardSyncSummary;
 import io.airbyte.data.services.shared.StandardSyncsQueryPaginated;
 import io.airbyte.db.Database;
 import io.airbyte.db.ExceptionWrappingDatabase;
@@ -235,6 +236,45 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
     return getStandardSyncsFromResult(connectionAndOperationIdsResult, getNotificationConfigurationByConnectionIds(connectionIds));
   }
 
+  /**
+   * List the summaries of the connections of a workspace via a query. Unlike
+   * {@link #listWorkspaceStandardSyncs(StandardSyncQuery)}, the catalogs, operations and notification
+   * settings of the connections are not read.
+   *
+   * @param standardSyncQuery query
+   * @return list of connection summaries
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Override
+  public List<StandardSyncSummary> listWorkspaceStandardSyncSummaries(StandardSyncQuery standardSyncQuery)
+      throws IOException {
+    return database.query(ctx -> ctx
+        .select(
+            CONNECTION.ID,
+            CONNECTION.NAME,
+            CONNECTION.SOURCE_ID,
+            CONNECTION.DESTINATION_ID,
+            CONNECTION.STATUS,
+            CONNECTION.SCHEDULE_TYPE,
+            CONNECTION.MANUAL,
+            CONNECTION.SCHEDULE,
+            CONNECTION.SCHEDULE_DATA,
+            CONNECTION.SOURCE_CATALOG_ID,
+            CONNECTION.BREAKING_CHANGE)
+        .from(CONNECTION)
+        // join with source actors so that we can filter by workspaceId
+        .join(ACTOR).on(CONNECTION.SOURCE_ID.eq(ACTOR.ID))
+        .where(ACTOR.WORKSPACE_ID.eq(standardSyncQuery.workspaceId())
+            .and(standardSyncQuery.destinationId() == null || standardSyncQuery.destinationId().isEmpty() ? noCondition()
+                : CONNECTION.DESTINATION_ID.in(standardSyncQuery.destinationId()))
+            .and(standardSyncQuery.sourceId() == null || standardSyncQuery.sourceId().isEmpty() ? noCondition()
+                : CONNECTION.SOURCE_ID.in(standardSyncQuery.sourceId()))
+            .and(standardSyncQuery.includeDeleted() ? noCondition()
+                : CONNECTION.STATUS.notEqual(StatusType.deprecated)))
+        .fetch())
+        .map(DbConverter::buildStandardSyncSummary);
+  }
+
   /**
    * List connections. Paginated.
    */
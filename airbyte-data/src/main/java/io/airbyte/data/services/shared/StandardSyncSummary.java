@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.data.services.shared;
+
+import io.airbyte.config.Schedule;
+import io.airbyte.config.ScheduleData;
+import io.airbyte.config.StandardSync;
+import io.airbyte.config.StandardSync.ScheduleType;
+import io.airbyte.config.StandardSync.Status;
+import java.util.UUID;
+
+/**
+ * Projection of a connection (a.k.a. StandardSync) on the fields needed to list connections.
+ * <p>
+ * Listing connections does not need their configured catalog, which is by far the largest column of
+ * a connection and the most expensive one to deserialize. The summary is read without selecting
+ * it.
+ *
+ * @param connectionId connection id
+ * @param name connection name
+ * @param sourceId source id
+ * @param destinationId destination id
+ * @param status connection status
+ * @param scheduleType schedule type, null for connections using the legacy schedule
+ * @param manual legacy manual flag
+ * @param schedule legacy schedule
+ * @param scheduleData schedule data
+ * @param sourceCatalogId id of the source catalog the connection catalog was built from
+ * @param breakingChange whether the source schema changed in a breaking way
+ */
+public record StandardSyncSummary(UUID connectionId,
+                                  String name,
+                                  UUID sourceId,
+                                  UUID destinationId,
+                                  Status status,
+                                  ScheduleType scheduleType,
+                                  Boolean manual,
+                                  Schedule schedule,
+                                  ScheduleData scheduleData,
+                                  UUID sourceCatalogId,
+                                  Boolean breakingChange) {
+
+  /**
+   * Summarize a connection that was loaded whole.
+   *
+   * @param standardSync connection
+   * @return summary of the connection
+   */
+  public static StandardSyncSummary fromStandardSync(final StandardSync standardSync) {
+    return new StandardSyncSummary(
+        standardSync.getConnectionId(),
+        standardSync.getName(),
+        standardSync.getSourceId(),
+        standardSync.getDestinationId(),
+        standardSync.getStatus(),
+        standardSync.getScheduleType(),
+        standardSync.getManual(),
+        standardSync.getSchedule(),
+        standardSync.getScheduleData(),
+        standardSync.getSourceCatalogId(),
+        standardSync.getBreakingChange());
+  }
+
+  /**
+   * Get the schedule of the connection as a connection that only carries its schedule, so that it
+   * can go through the schedule converters.
+   *
+   * @return connection with only the schedule fields set
+   */
+  public StandardSync scheduleOnly() {
+    return new StandardSync()
+        .withScheduleType(scheduleType)
+        .withManual(manual)
+        .withSchedule(schedule)
+        .withScheduleData(scheduleData);
+  }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import static org.jooq.impl.DSL.constraint;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Removes the duplicated sync_stats and stream_stats rows and adds the unique keys that let the
+ * stats of an attempt be written with INSERT ... ON CONFLICT.
+ * <p>
+ * stream_stats already has a unique constraint on (attempt_id, stream_name, stream_namespace), but
+ * Postgres 13 considers nulls as distinct so it does not apply to streams without a namespace. A
+ * partial unique index covers those streams.
+ */
+public class V0_50_41_001__AddUniqueKeysToStatsTables extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_50_41_001__AddUniqueKeysToStatsTables.class);
+
+  static final String SYNC_STATS_UNIQUE_CONSTRAINT = "uniq_sync_stats_attempt";
+  static final String STREAM_STATS_NULL_NAMESPACE_UNIQUE_INDEX = "uniq_stream_stats_attempt_null_namespace";
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+    addUniqueKeyToSyncStats(ctx);
+    addUniqueKeyToStreamStats(ctx);
+
+    LOGGER.info("Completed migration: {}", this.getClass().getSimpleName());
+  }
+
+  static void addUniqueKeyToSyncStats(final DSLContext ctx) {
+    LOGGER.info("Removing duplicated sync_stats rows");
+    final int deleted = deleteDuplicates(ctx, "sync_stats", "attempt_id");
+    LOGGER.info("Removed {} duplicated sync_stats rows", deleted);
+
+    ctx.alterTable("sync_stats")
+        .add(constraint(SYNC_STATS_UNIQUE_CONSTRAINT).unique("attempt_id"))
+        .execute();
+    // The unique constraint is backed by an index on attempt_id.
+    ctx.dropIndexIfExists("attempt_id_idx").execute();
+  }
+
+  static void addUniqueKeyToStreamStats(final DSLContext ctx) {
+    LOGGER.info("Removing duplicated stream_stats rows");
+    final int deleted = deleteDuplicates(ctx, "stream_stats", "attempt_id, stream_name, stream_namespace");
+    LOGGER.info("Removed {} duplicated stream_stats rows", deleted);
+
+    ctx.createUniqueIndexIfNotExists(STREAM_STATS_NULL_NAMESPACE_UNIQUE_INDEX)
+        .on("stream_stats", "attempt_id", "stream_name")
+        .where(DSL.field("stream_namespace").isNull())
+        .execute();
+  }
+
+  /**
+   * Keep the most recently updated row of each key. Unlike unique constraints, PARTITION BY groups
+   * null values together.
+   */
+  private static int deleteDuplicates(final DSLContext ctx, final String table, final String key) {
+    return ctx.execute(String.format(
+        "DELETE FROM %1$s WHERE id IN ("
+            + "SELECT id FROM ("
+            + "SELECT id, row_number() OVER (PARTITION BY %2$s ORDER BY updated_at DESC, id DESC) AS duplicate_rank FROM %1$s"
+            + ") ranked WHERE duplicate_rank > 1)",
+        table, key));
+  }
+
+}
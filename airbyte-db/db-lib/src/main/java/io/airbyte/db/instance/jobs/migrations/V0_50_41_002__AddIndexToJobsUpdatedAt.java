@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Add index on the update time of jobs, which the metrics reporter filters jobs on every minute.
+ */
+public class V0_50_41_002__AddIndexToJobsUpdatedAt extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_50_41_002__AddIndexToJobsUpdatedAt.class);
+
+  static final String JOBS_UPDATED_AT_INDEX = "jobs_updated_at_idx";
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+    addUpdatedAtIndex(ctx);
+
+    LOGGER.info("Completed migration: {}", this.getClass().getSimpleName());
+  }
+
+  static void addUpdatedAtIndex(final DSLContext ctx) {
+    ctx.createIndexIfNotExists(JOBS_UPDATED_AT_INDEX).on("jobs", "updated_at").execute();
+  }
+
+}
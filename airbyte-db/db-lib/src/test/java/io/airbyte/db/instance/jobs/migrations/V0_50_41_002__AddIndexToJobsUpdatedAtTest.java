@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.airbyte.db.factory.FlywayFactory;
+import io.airbyte.db.instance.development.DevDatabaseMigrator;
+import io.airbyte.db.instance.jobs.AbstractJobsDatabaseTest;
+import io.airbyte.db.instance.jobs.JobsDatabaseMigrator;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings({"checkstyle:AbbreviationAsWordInName", "checkstyle:MemberName"})
+class V0_50_41_002__AddIndexToJobsUpdatedAtTest extends AbstractJobsDatabaseTest {
+
+  @BeforeEach
+  void beforeEach() {
+    final Flyway flyway = FlywayFactory.create(dataSource, "V0_50_41_002__AddIndexToJobsUpdatedAtTest", JobsDatabaseMigrator.DB_IDENTIFIER,
+        JobsDatabaseMigrator.MIGRATION_FILE_LOCATION);
+    final JobsDatabaseMigrator jobsDatabaseMigrator = new JobsDatabaseMigrator(database, flyway);
+
+    final BaseJavaMigration previousMigration = new V0_50_41_001__AddUniqueKeysToStatsTables();
+    final DevDatabaseMigrator devJobsDbMigrator = new DevDatabaseMigrator(jobsDatabaseMigrator, previousMigration.getVersion());
+    devJobsDbMigrator.createBaseline();
+  }
+
+  @Test
+  void testUpdatedAtIndexIsAdded() {
+    final DSLContext ctx = getDslContext();
+    assertEquals(0, countIndexes(ctx));
+
+    V0_50_41_002__AddIndexToJobsUpdatedAt.addUpdatedAtIndex(ctx);
+
+    assertEquals(1, countIndexes(ctx));
+  }
+
+  private static int countIndexes(final DSLContext ctx) {
+    return ctx.fetchCount(DSL.table("pg_indexes"),
+        DSL.field("tablename").eq("jobs"),
+        DSL.field("indexname").eq(V0_50_41_002__AddIndexToJobsUpdatedAt.JOBS_UPDATED_AT_INDEX));
+  }
+
+}
@@ -19,6 +19,14 @@ object NeedStateValidation : EnvVar(envVar = "NEED_STATE_VALIDATION")
 
 object RemoveValidationLimit : Temporary<Boolean>(key = "validation.removeValidationLimit", default = false)
 
+object SchemaValidationWorkerCount : Temporary<Int>(key = "validation.schema-validation-worker-count", default = 1)
+
+object SchemaValidationQueueSize : Temporary<Int>(key = "validation.schema-validation-queue-size", default = 10000)
+
+object SchemaValidationSamplingRates : Temporary<String>(key = "validation.schema-validation-sampling-rates", default = "")
+
+object CompileSchemaValidation : Temporary<Boolean>(key = "validation.compile-schema-validation", default = false)
+
 object NormalizationInDestination : Temporary<String>(key = "connectors.normalizationInDestination", default = "")
 
 object FieldSelectionEnabled : Temporary<Boolean>(key = "connection.columnSelection", default = false)
@@ -175,6 +183,11 @@ object AddInitialCreditsForWorkspace : Temporary<Int>(key = "add-credits-at-work
 
 object WorkloadApiRouting : Permanent<String>(key = "workload-api-routing", default = "workload_default")
 
+/**
+ * Send the workloads to the launcher through a long-lived batching queue workflow instead of starting a workflow per workload.
+ */
+object UseBatchedLauncherQueue : Temporary<Boolean>(key = "platform.use-batched-launcher-queue", default = false)
+
 object FailMissingPks : Temporary<Boolean>(key = "platform.fail-missing-pks", default = false)
 
 object PrintLongRecordPks : Temporary<Boolean>(key = "platform.print-long-record-pks", default = false)
@@ -186,3 +199,17 @@ object UseWorkloadApiForCheck : Temporary<Boolean>(key = "platform.use-workload-
 object WorkloadCheckFrequencyInSeconds : Permanent<Int>(key = "platform.workload-check-frequency-in-seconds", default = 1)
 
 object FailSyncOnInvalidChecksum : Temporary<Boolean>(key = "platform.fail-sync-on-invalid-checksum", default = false)
+
+object ReplicationBufferImpl : Temporary<String>(key = "platform.replication-buffer-impl", default = "concurrent-linked-queue")
+
+/**
+ * Number of lanes processing the records from the source in the buffered replication worker, 1
+ * processes them in a single thread and 0 sizes the lanes from the CPUs of the container.
+ */
+object ReplicationProcessingLanes : Temporary<Int>(key = "platform.replication-processing-lanes", default = 1)
+
+object ParseConnectorOutputStream : Temporary<Boolean>(key = "platform.parse-connector-output-stream", default = false)
+
+object WriteDestinationInputStream : Temporary<Boolean>(key = "platform.write-destination-input-stream", default = false)
+
+object RecordPassthrough : Temporary<Boolean>(key = "platform.record-passthrough", default = false)
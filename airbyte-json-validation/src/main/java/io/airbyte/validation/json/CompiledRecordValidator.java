@@ -0,0 +1,442 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.validation.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.JsonSchema;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Checks records against a stream schema in a single pass over the record, without interpreting the
+ * schema for every record.
+ * <p>
+ * The schema is compiled once into a tree of checks. The common subset of the catalog schemas is
+ * compiled: types (including nullable unions), properties, required, additionalProperties as a
+ * boolean, items, pattern, enum of strings, oneOf, the local references and the references to the
+ * Airbyte well known types, which are compiled from their definitions in WellKnownTypes.json. Any
+ * subschema using another keyword is checked by a networknt validator of that subschema, unless it
+ * contains references: references are resolved against the whole schema, so those subschemas are
+ * left to the networknt validator of the whole schema.
+ * <p>
+ * The compiled checks only tell whether a record is valid. They are meant to accept valid records
+ * quickly, the records they reject are expected to be validated again by networknt to get the
+ * validation errors.
+ */
+final class CompiledRecordValidator {
+
+  private static final String WELL_KNOWN_TYPES_REF_PREFIX = "WellKnownTypes.json#/definitions/";
+
+  /**
+   * Keywords that don't affect validation.
+   */
+  private static final Set<String> ANNOTATION_KEYWORDS = Set.of(
+      "$schema", "$id", "$comment", "title", "description", "default", "examples", "readOnly", "writeOnly", "definitions", "$defs",
+      "airbyte_type", "airbyte_secret", "order", "group", "always_show", "multiline", "display_type");
+
+  private static final Set<String> COMPILED_KEYWORDS = Set.of(
+      "type", "properties", "required", "additionalProperties", "items", "pattern", "enum", "oneOf", "$ref");
+
+  private final Predicate<JsonNode> check;
+  private final int fallbackCount;
+
+  private CompiledRecordValidator(final Predicate<JsonNode> check, final int fallbackCount) {
+    this.check = check;
+    this.fallbackCount = fallbackCount;
+  }
+
+  /**
+   * Compile a schema.
+   *
+   * @param schema the json schema of the stream
+   * @param wellKnownTypes the content of WellKnownTypes.json, or null if it isn't available, in which
+   *        case the references to the well known types are left to networknt
+   * @param fallbackFactory creates the networknt validator of a subschema that can't be compiled
+   * @return the compiled validator
+   */
+  static CompiledRecordValidator compile(final JsonNode schema,
+                                         final JsonNode wellKnownTypes,
+                                         final Function<JsonNode, JsonSchema> fallbackFactory) {
+    final Compiler compiler = new Compiler(schema, wellKnownTypes, fallbackFactory);
+    final Predicate<JsonNode> check = compiler.compile(schema);
+    return new CompiledRecordValidator(check, compiler.fallbackCount);
+  }
+
+  /**
+   * Returns true if the record is valid, false if it may not be.
+   */
+  boolean isValid(final JsonNode record) {
+    return check.test(record);
+  }
+
+  /**
+   * Number of subschemas that are checked by networknt.
+   */
+  int getFallbackCount() {
+    return fallbackCount;
+  }
+
+  private static Predicate<JsonNode> all(final List<Predicate<JsonNode>> checks) {
+    return switch (checks.size()) {
+      case 0 -> node -> true;
+      case 1 -> checks.get(0);
+      default -> {
+        final List<Predicate<JsonNode>> all = List.copyOf(checks);
+        yield node -> {
+          for (final Predicate<JsonNode> check : all) {
+            if (!check.test(node)) {
+              return false;
+            }
+          }
+          return true;
+        };
+      }
+    };
+  }
+
+  private static final class Compiler {
+
+    private final JsonNode root;
+    private final JsonNode wellKnownTypes;
+    private final Function<JsonNode, JsonSchema> fallbackFactory;
+    // Compiled references, shared by all the subschemas using them.
+    private final Map<String, Predicate<JsonNode>> references = new HashMap<>();
+    private final Set<String> referencesInProgress = new HashSet<>();
+    private int fallbackCount;
+
+    private Compiler(final JsonNode root, final JsonNode wellKnownTypes, final Function<JsonNode, JsonSchema> fallbackFactory) {
+      this.root = root;
+      this.wellKnownTypes = wellKnownTypes;
+      this.fallbackFactory = fallbackFactory;
+    }
+
+    private Predicate<JsonNode> compile(final JsonNode schema) {
+      if (schema.isBoolean()) {
+        return schema.booleanValue() ? node -> true : node -> false;
+      }
+      if (!schema.isObject() || !isCompilable(schema)) {
+        return fallback(schema);
+      }
+
+      final List<Predicate<JsonNode>> checks = new ArrayList<>();
+      if (schema.has("$ref")) {
+        final Predicate<JsonNode> reference = reference(schema.get("$ref"));
+        if (reference == null) {
+          return fallback(schema);
+        }
+        checks.add(reference);
+      }
+      if (schema.has("type")) {
+        final Predicate<JsonNode> type = type(schema.get("type"));
+        if (type == null) {
+          return fallback(schema);
+        }
+        checks.add(type);
+      }
+      if (schema.has("properties") || schema.has("required") || schema.has("additionalProperties")) {
+        final Predicate<JsonNode> object = object(schema);
+        if (object == null) {
+          return fallback(schema);
+        }
+        checks.add(object);
+      }
+      if (schema.has("items")) {
+        final JsonNode items = schema.get("items");
+        if (!items.isObject() && !items.isBoolean()) {
+          return fallback(schema);
+        }
+        final Predicate<JsonNode> item = compile(items);
+        checks.add(node -> {
+          if (node.isArray()) {
+            for (final JsonNode element : node) {
+              if (!item.test(element)) {
+                return false;
+              }
+            }
+          }
+          return true;
+        });
+      }
+      if (schema.has("pattern")) {
+        final Predicate<JsonNode> pattern = pattern(schema.get("pattern"));
+        if (pattern == null) {
+          return fallback(schema);
+        }
+        checks.add(pattern);
+      }
+      if (schema.has("enum")) {
+        final Predicate<JsonNode> enumCheck = enumCheck(schema.get("enum"));
+        if (enumCheck == null) {
+          return fallback(schema);
+        }
+        checks.add(enumCheck);
+      }
+      if (schema.has("oneOf")) {
+        final Predicate<JsonNode> oneOf = oneOf(schema.get("oneOf"));
+        if (oneOf == null) {
+          return fallback(schema);
+        }
+        checks.add(oneOf);
+      }
+
+      return all(checks);
+    }
+
+    /**
+     * Check a subschema with networknt. A standalone validator of the subschema can't resolve the
+     * references it contains, so these subschemas are rejected and left to the validator of the
+     * whole schema.
+     */
+    private Predicate<JsonNode> fallback(final JsonNode schema) {
+      fallbackCount++;
+      if (containsReference(schema)) {
+        return node -> false;
+      }
+      final JsonSchema jsonSchema = fallbackFactory.apply(schema);
+      return node -> jsonSchema.validate(node).isEmpty();
+    }
+
+    private static boolean containsReference(final JsonNode schema) {
+      if (schema.isObject() && schema.has("$ref")) {
+        return true;
+      }
+      for (final JsonNode child : schema) {
+        if (containsReference(child)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private static boolean isCompilable(final JsonNode schema) {
+      final Iterator<String> keywords = schema.fieldNames();
+      while (keywords.hasNext()) {
+        final String keyword = keywords.next();
+        if (!COMPILED_KEYWORDS.contains(keyword) && !ANNOTATION_KEYWORDS.contains(keyword)) {
+          return false;
+        }
+      }
+      // A $ref replaces the schema in draft 7, other keywords next to it would be ignored by networknt.
+      return !schema.has("$ref") || schema.size() == 1 + countAnnotations(schema);
+    }
+
+    private static int countAnnotations(final JsonNode schema) {
+      int count = 0;
+      final Iterator<String> keywords = schema.fieldNames();
+      while (keywords.hasNext()) {
+        if (ANNOTATION_KEYWORDS.contains(keywords.next())) {
+          count++;
+        }
+      }
+      return count;
+    }
+
+    /**
+     * Compile a reference to a definition of the schema itself or to a well known type. Other
+     * references, and references that are being compiled already (recursive definitions), are not
+     * compiled.
+     */
+    private Predicate<JsonNode> reference(final JsonNode ref) {
+      if (!ref.isTextual()) {
+        return null;
+      }
+      final String value = ref.textValue();
+      if (references.containsKey(value)) {
+        return references.get(value);
+      }
+
+      final JsonNode target;
+      if (value.startsWith("#")) {
+        target = root.at(value.substring(1));
+      } else {
+        final int index = value.lastIndexOf(WELL_KNOWN_TYPES_REF_PREFIX);
+        if (wellKnownTypes == null || index < 0 || (index > 0 && value.charAt(index - 1) != '/')) {
+          return null;
+        }
+        target = wellKnownTypes.path("definitions").path(value.substring(index + WELL_KNOWN_TYPES_REF_PREFIX.length()));
+      }
+      if (target.isMissingNode() || !referencesInProgress.add(value)) {
+        return null;
+      }
+
+      final Predicate<JsonNode> reference = compile(target);
+      referencesInProgress.remove(value);
+      references.put(value, reference);
+      return reference;
+    }
+
+    private static Predicate<JsonNode> type(final JsonNode type) {
+      if (type.isTextual()) {
+        return simpleType(type.textValue());
+      }
+      if (!type.isArray() || type.isEmpty()) {
+        return null;
+      }
+      final List<Predicate<JsonNode>> types = new ArrayList<>();
+      for (final JsonNode element : type) {
+        final Predicate<JsonNode> simpleType = element.isTextual() ? simpleType(element.textValue()) : null;
+        if (simpleType == null) {
+          return null;
+        }
+        types.add(simpleType);
+      }
+      if (types.size() == 1) {
+        return types.get(0);
+      }
+      final List<Predicate<JsonNode>> any = List.copyOf(types);
+      return node -> {
+        for (final Predicate<JsonNode> simpleType : any) {
+          if (simpleType.test(node)) {
+            return true;
+          }
+        }
+        return false;
+      };
+    }
+
+    private static Predicate<JsonNode> simpleType(final String type) {
+      return switch (type) {
+        case "null" -> JsonNode::isNull;
+        case "boolean" -> JsonNode::isBoolean;
+        case "string" -> JsonNode::isTextual;
+        case "object" -> JsonNode::isObject;
+        case "array" -> JsonNode::isArray;
+        case "number" -> JsonNode::isNumber;
+        case "integer" -> JsonNode::isIntegralNumber;
+        default -> null;
+      };
+    }
+
+    /**
+     * Patterns are searched for rather than matched, and only apply to strings.
+     */
+    private static Predicate<JsonNode> pattern(final JsonNode regex) {
+      if (!regex.isTextual()) {
+        return null;
+      }
+      final Pattern pattern;
+      try {
+        pattern = Pattern.compile(regex.textValue());
+      } catch (final PatternSyntaxException e) {
+        return null;
+      }
+      return node -> !node.isTextual() || pattern.matcher(node.textValue()).find();
+    }
+
+    /**
+     * Only enums of strings are compiled, the equality of numbers depends on their representation.
+     */
+    private static Predicate<JsonNode> enumCheck(final JsonNode values) {
+      if (!values.isArray()) {
+        return null;
+      }
+      final Set<String> strings = new HashSet<>();
+      for (final JsonNode value : values) {
+        if (!value.isTextual()) {
+          return null;
+        }
+        strings.add(value.textValue());
+      }
+      return node -> node.isTextual() && strings.contains(node.textValue());
+    }
+
+    private Predicate<JsonNode> oneOf(final JsonNode schemas) {
+      if (!schemas.isArray() || schemas.isEmpty()) {
+        return null;
+      }
+      final List<Predicate<JsonNode>> checks = new ArrayList<>();
+      for (final JsonNode schema : schemas) {
+        checks.add(compile(schema));
+      }
+      final List<Predicate<JsonNode>> oneOf = List.copyOf(checks);
+      return node -> {
+        int matches = 0;
+        for (final Predicate<JsonNode> check : oneOf) {
+          if (check.test(node) && ++matches > 1) {
+            return false;
+          }
+        }
+        return matches == 1;
+      };
+    }
+
+    /**
+     * Compile the object keywords, which only apply to objects.
+     */
+    private Predicate<JsonNode> object(final JsonNode schema) {
+      final Map<String, Predicate<JsonNode>> properties = new HashMap<>();
+      final JsonNode propertiesNode = schema.get("properties");
+      if (propertiesNode != null) {
+        if (!propertiesNode.isObject()) {
+          return null;
+        }
+        propertiesNode.fields().forEachRemaining(property -> properties.put(property.getKey(), compile(property.getValue())));
+      }
+
+      final List<String> required = new ArrayList<>();
+      final JsonNode requiredNode = schema.get("required");
+      if (requiredNode != null) {
+        if (!requiredNode.isArray()) {
+          return null;
+        }
+        for (final JsonNode field : requiredNode) {
+          if (!field.isTextual()) {
+            return null;
+          }
+          required.add(field.textValue());
+        }
+      }
+
+      final JsonNode additionalPropertiesNode = schema.get("additionalProperties");
+      if (additionalPropertiesNode != null && !additionalPropertiesNode.isBoolean()) {
+        return null;
+      }
+      final boolean additionalProperties = additionalPropertiesNode == null || additionalPropertiesNode.booleanValue();
+
+      return objectCheck(properties, required.toArray(new String[0]), additionalProperties);
+    }
+
+    private static Predicate<JsonNode> objectCheck(final Map<String, Predicate<JsonNode>> properties,
+                                                   final String[] required,
+                                                   final boolean additionalProperties) {
+      return node -> {
+        if (!node.isObject()) {
+          return true;
+        }
+        for (final String field : required) {
+          if (!node.has(field)) {
+            return false;
+          }
+        }
+        // Walk the fields of the record rather than the properties of the schema, records usually have
+        // fewer fields than their schema.
+        final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+          final Map.Entry<String, JsonNode> field = fields.next();
+          final Predicate<JsonNode> property = properties.get(field.getKey());
+          if (property == null) {
+            if (!additionalProperties) {
+              return false;
+            }
+          } else if (!property.test(field.getValue())) {
+            return false;
+          }
+        }
+        return true;
+      };
+    }
+
+  }
+
+}
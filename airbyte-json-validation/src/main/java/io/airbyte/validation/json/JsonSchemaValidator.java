@@ -13,11 +13,15 @@ import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.SpecVersion;
 import com.networknt.schema.ValidationContext;
 import com.networknt.schema.ValidationMessage;
+import io.airbyte.commons.io.IOs;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.string.Strings;
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -37,6 +41,7 @@ public class JsonSchemaValidator {
   // This URI just needs to point at any path in the same directory as /app/WellKnownTypes.json
   // It's required for the JsonSchema#validate method to resolve $ref correctly.
   private static final URI DEFAULT_BASE_URI;
+  private static final String WELL_KNOWN_TYPES_FILE = "WellKnownTypes.json";
 
   static {
     try {
@@ -48,7 +53,10 @@ public class JsonSchemaValidator {
 
   private final JsonSchemaFactory jsonSchemaFactory;
   private final URI baseUri;
+  private final boolean compileSchemas;
+  private final JsonNode wellKnownTypes;
   private final Map<String, JsonSchema> schemaToValidators = new HashMap<>();
+  private final Map<String, CompiledRecordValidator> schemaToCompiledValidators = new HashMap<>();
 
   public JsonSchemaValidator() {
     this(DEFAULT_BASE_URI);
@@ -64,17 +72,48 @@ public class JsonSchemaValidator {
    */
   @VisibleForTesting
   public JsonSchemaValidator(final URI baseUri) {
+    this(baseUri, false);
+  }
+
+  /**
+   * Validator of records, whose initialized schemas may also be compiled.
+   *
+   * @param compileSchemas whether initialized schemas are also compiled, see
+   *        {@link #initializeSchemaValidator(String, JsonNode)}
+   */
+  public JsonSchemaValidator(final boolean compileSchemas) {
+    this(DEFAULT_BASE_URI, compileSchemas);
+  }
+
+  /**
+   * Allows comparing the compiled validators with the networknt ones.
+   *
+   * @param baseUri The base URI for schema resolution
+   * @param compileSchemas whether initialized schemas are also compiled, see
+   *        {@link #initializeSchemaValidator(String, JsonNode)}
+   */
+  @VisibleForTesting
+  public JsonSchemaValidator(final URI baseUri, final boolean compileSchemas) {
     this.jsonSchemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7);
     this.baseUri = baseUri;
+    this.compileSchemas = compileSchemas;
+    this.wellKnownTypes = compileSchemas ? readWellKnownTypes(baseUri) : null;
   }
 
   /**
    * Create and cache a schema validator for a particular schema. This validator is used when
    * {@link #testInitializedSchema(String, JsonNode)} and
    * {@link #validateInitializedSchema(String, JsonNode)} is called.
+   * <p>
+   * When schemas are compiled, the schema is also compiled into checks that accept valid objects in a
+   * single pass, see {@link CompiledRecordValidator}. Only the objects the compiled checks reject are
+   * validated by networknt, so the validation errors are the same.
    */
   public void initializeSchemaValidator(final String schemaName, final JsonNode schemaJson) {
     schemaToValidators.put(schemaName, getSchemaValidator(schemaJson));
+    if (compileSchemas) {
+      schemaToCompiledValidators.put(schemaName, CompiledRecordValidator.compile(schemaJson, wellKnownTypes, this::getSchemaValidator));
+    }
   }
 
   /**
@@ -84,6 +123,11 @@ public class JsonSchemaValidator {
     final var schema = schemaToValidators.get(schemaName);
     Preconditions.checkNotNull(schema, schemaName + " needs to be initialised before calling this method");
 
+    final var compiledValidator = schemaToCompiledValidators.get(schemaName);
+    if (compiledValidator != null && compiledValidator.isValid(objectJson)) {
+      return true;
+    }
+
     final var validate = schema.validate(objectJson);
     return validate.isEmpty();
   }
@@ -96,6 +140,11 @@ public class JsonSchemaValidator {
     final var schema = schemaToValidators.get(schemaName);
     Preconditions.checkNotNull(schema, schemaName + " needs to be initialised before calling this method");
 
+    final var compiledValidator = schemaToCompiledValidators.get(schemaName);
+    if (compiledValidator != null && compiledValidator.isValid(objectNode)) {
+      return Set.of();
+    }
+
     final Set<ValidationMessage> validationMessages = schema.validate(objectNode);
     return validationMessages.stream().map(ValidationMessage::getMessage).collect(Collectors.toSet());
   }
@@ -184,6 +233,18 @@ public class JsonSchemaValidator {
     return schema.validate(objectJson);
   }
 
+  /**
+   * Read the WellKnownTypes.json the schemas refer to, which is next to the base URI.
+   */
+  private static JsonNode readWellKnownTypes(final URI baseUri) {
+    final URI uri = baseUri.resolve(WELL_KNOWN_TYPES_FILE);
+    if (!"file".equals(uri.getScheme()) || !Files.exists(Path.of(uri))) {
+      LOGGER.info("{} not found, the references to the well known types are not compiled", uri);
+      return null;
+    }
+    return Jsons.deserialize(IOs.readFile(Path.of(uri)));
+  }
+
   /**
    * Return a schema validator for a json schema, defaulting to the V7 Json schema.
    */
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.validation.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.resources.MoreResources;
+import java.net.URI;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CompiledRecordValidatorTest {
+
+  private static final Function<JsonNode, JsonSchema> NO_FALLBACK = schema -> {
+    throw new AssertionError("Unexpected fallback for " + schema);
+  };
+
+  private static final JsonNode WELL_KNOWN_TYPES = Jsons.deserialize(MoreResources.readResource("WellKnownTypes.json"));
+
+  private static final JsonNode STREAM_SCHEMA = Jsons.deserialize("""
+                                                                  {
+                                                                    "type": "object",
+                                                                    "required": ["id"],
+                                                                    "properties": {
+                                                                      "id": {"type": "integer"},
+                                                                      "name": {"type": ["null", "string"], "description": "a name"},
+                                                                      "amount": {"$ref": "WellKnownTypes.json#/definitions/Number"},
+                                                                      "created_at": {"$ref": "WellKnownTypes.json#/definitions/TimestampWithTimezone"},
+                                                                      "tags": {"type": "array", "items": {"type": "string"}},
+                                                                      "address": {
+                                                                        "type": ["null", "object"],
+                                                                        "additionalProperties": false,
+                                                                        "properties": {"city": {"type": "string"}}
+                                                                      }
+                                                                    }
+                                                                  }
+                                                                  """);
+
+  @Test
+  void testCompilesTheCommonSubset() {
+    final CompiledRecordValidator validator = CompiledRecordValidator.compile(STREAM_SCHEMA, WELL_KNOWN_TYPES, NO_FALLBACK);
+
+    assertEquals(0, validator.getFallbackCount());
+    assertTrue(validator.isValid(Jsons.deserialize("""
+                                                   {"id": 1, "name": null, "amount": "1.5", "created_at": "2023-01-01T00:00:00Z",
+                                                    "tags": ["a"], "address": {"city": "Paris"}, "extra": true}
+                                                   """)));
+    assertTrue(validator.isValid(Jsons.deserialize("{\"id\": 1, \"amount\": \"NaN\", \"address\": null}")));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    // Missing required field.
+    "{\"name\": \"a\"}",
+    // Wrong type.
+    "{\"id\": \"1\"}",
+    "{\"id\": 1.5}",
+    // Wrong type in a union.
+    "{\"id\": 1, \"name\": 1}",
+    // Well known types.
+    "{\"id\": 1, \"amount\": 1.5}",
+    "{\"id\": 1, \"amount\": \"abc\"}",
+    "{\"id\": 1, \"created_at\": \"2023-01-01\"}",
+    // Array items.
+    "{\"id\": 1, \"tags\": [\"a\", 1]}",
+    // Additional properties.
+    "{\"id\": 1, \"address\": {\"city\": \"Paris\", \"zip\": \"75000\"}}",
+    // Not an object.
+    "[]"})
+  void testRejectsInvalidRecords(final String record) {
+    assertFalse(CompiledRecordValidator.compile(STREAM_SCHEMA, WELL_KNOWN_TYPES, NO_FALLBACK).isValid(Jsons.deserialize(record)));
+  }
+
+  @Test
+  void testFallsBackForUnsupportedKeywords() {
+    final JsonNode schema = Jsons.deserialize("""
+                                              {
+                                                "type": "object",
+                                                "properties": {
+                                                  "id": {"type": "integer"},
+                                                  "port": {"type": "integer", "minimum": 0, "maximum": 65536},
+                                                  "email": {"type": "string", "format": "email"}
+                                                }
+                                              }
+                                              """);
+    // Only the subschemas using other keywords are left to networknt.
+    assertEquals(2, CompiledRecordValidator.compile(schema, WELL_KNOWN_TYPES, subschema -> null).getFallbackCount());
+  }
+
+  @Test
+  void testCompilesLocalReferences() {
+    final JsonNode schema = Jsons.deserialize("""
+                                              {
+                                                "type": "object",
+                                                "definitions": {
+                                                  "address": {"type": "object", "properties": {"city": {"type": "string"}}}
+                                                },
+                                                "properties": {
+                                                  "home": {"$ref": "#/definitions/address"},
+                                                  "work": {"$ref": "#/definitions/address"}
+                                                }
+                                              }
+                                              """);
+    final CompiledRecordValidator validator = CompiledRecordValidator.compile(schema, WELL_KNOWN_TYPES, NO_FALLBACK);
+
+    assertEquals(0, validator.getFallbackCount());
+    assertTrue(validator.isValid(Jsons.deserialize("{\"home\": {\"city\": \"Paris\"}, \"work\": {}}")));
+    assertFalse(validator.isValid(Jsons.deserialize("{\"home\": {\"city\": 1}}")));
+  }
+
+  @Test
+  void testSubschemasWithReferencesAreLeftToTheWholeSchema() {
+    final JsonNode schema = Jsons.deserialize("""
+                                              {
+                                                "type": "object",
+                                                "definitions": {"port": {"type": "integer", "minimum": 0}},
+                                                "properties": {
+                                                  "port": {"$ref": "#/definitions/port"},
+                                                  "ports": {"type": "array", "items": {"$ref": "#/definitions/port"}, "minItems": 1}
+                                                }
+                                              }
+                                              """);
+    // The referenced port is checked by a validator of its own, the ports can only be checked by the
+    // validator of the whole schema, which resolves the reference.
+    final JsonSchemaFactory factory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7);
+    final CompiledRecordValidator validator = CompiledRecordValidator.compile(schema, WELL_KNOWN_TYPES, factory::getSchema);
+
+    assertEquals(2, validator.getFallbackCount());
+    assertTrue(validator.isValid(Jsons.deserialize("{\"port\": 1}")));
+    assertFalse(validator.isValid(Jsons.deserialize("{\"port\": -1}")));
+    assertFalse(validator.isValid(Jsons.deserialize("{\"ports\": [1]}")));
+  }
+
+  @Test
+  void testValidationErrorsAreTheSameAsWithoutCompilation() throws Exception {
+    final URI baseUri = getClass().getClassLoader().getResource("WellKnownTypes.json").toURI();
+    final JsonSchemaValidator compiled = new JsonSchemaValidator(baseUri, true);
+    final JsonSchemaValidator interpreted = new JsonSchemaValidator(baseUri, false);
+    final JsonNode schema = Jsons.deserialize("""
+                                              {
+                                                "type": "object",
+                                                "required": ["id"],
+                                                "properties": {
+                                                  "id": {"type": "integer"},
+                                                  "name": {"type": ["null", "string"]},
+                                                  "port": {"$ref": "#/definitions/port"},
+                                                  "ports": {"type": "array", "items": {"$ref": "#/definitions/port"}},
+                                                  "amount": {"$ref": "WellKnownTypes.json#/definitions/Number"}
+                                                },
+                                                "definitions": {"port": {"type": "integer", "minimum": 0}}
+                                              }
+                                              """);
+    compiled.initializeSchemaValidator("stream", schema);
+    interpreted.initializeSchemaValidator("stream", schema);
+
+    for (final String record : List.of("{\"id\": 1}", "{\"id\": 1.0}", "{\"name\": 1}", "{\"id\": 1, \"port\": -1}", "{\"id\": 1, \"port\": 1}",
+        "{\"id\": 1, \"ports\": [1, -1]}", "{\"id\": 1, \"ports\": [1]}", "{\"id\": 1, \"amount\": \"1.5\"}", "{\"id\": 1, \"amount\": \"abc\"}")) {
+      final JsonNode node = Jsons.deserialize(record);
+      assertEquals(interpreted.validateInitializedSchema("stream", node), compiled.validateInitializedSchema("stream", node), record);
+      assertEquals(interpreted.testInitializedSchema("stream", node), compiled.testInitializedSchema("stream", node), record);
+    }
+  }
+
+}
@@ -41,4 +41,8 @@ dependencies {
 
     testImplementation(libs.junit.pioneer)
 
+    testAnnotationProcessor(libs.jmh.annotations)
+    testImplementation(libs.jmh.core)
+    testImplementation(libs.jmh.annotations)
+
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.lib;
+
+/**
+ * A metric bound to a fixed set of {@link MetricAttribute}s, see
+ * {@link MetricClient#bind(MetricsRegistry, MetricAttribute...)}.
+ * <p>
+ * Code emitting the same metric with the same attributes many times, such as once per message of a
+ * sync, should bind the metric once and reuse the returned handle: the {@link MetricClient} can then
+ * resolve the instrument and build the attributes once instead of on every call.
+ */
+public interface BoundMetric {
+
+  /**
+   * Increment or decrement the counter.
+   *
+   * @param val to record.
+   */
+  void count(long val);
+
+  /**
+   * Record the latest value of the gauge.
+   *
+   * @param val to record.
+   */
+  void gauge(double val);
+
+  /**
+   * Record a value of the distribution.
+   *
+   * @param val to record.
+   */
+  void distribution(double val);
+
+}
@@ -39,6 +39,35 @@ public interface MetricClient {
    */
   void distribution(MetricsRegistry metric, double val, final MetricAttribute... attributes);
 
+  /**
+   * Bind a metric to a set of attributes, to emit it many times with the same attributes.
+   *
+   * @param metric dd metric
+   * @param attributes attributes of every value recorded through the returned handle
+   * @return a handle recording values of the metric with the attributes
+   */
+  default BoundMetric bind(final MetricsRegistry metric, final MetricAttribute... attributes) {
+    final MetricAttribute[] boundAttributes = attributes.clone();
+    return new BoundMetric() {
+
+      @Override
+      public void count(final long val) {
+        MetricClient.this.count(metric, val, boundAttributes);
+      }
+
+      @Override
+      public void gauge(final double val) {
+        MetricClient.this.gauge(metric, val, boundAttributes);
+      }
+
+      @Override
+      public void distribution(final double val) {
+        MetricClient.this.distribution(metric, val, boundAttributes);
+      }
+
+    };
+  }
+
   /*
    * Reset initialization. Can be used in a unit test to reset metric client state.
    */
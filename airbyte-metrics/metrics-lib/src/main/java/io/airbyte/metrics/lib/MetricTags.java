@@ -16,6 +16,7 @@ public class MetricTags {
   public static final String ACTIVITY_NAME = "activity_name";
   public static final String ACTIVITY_METHOD = "activity_method";
   public static final String AIRBYTE_MESSAGE_ORIGIN = "airbyte_message_origin";
+  public static final String API_OPERATION = "api_operation";
   public static final String ATTEMPT_NUMBER = "attempt_number"; // 0|1|2|3
   public static final String ATTEMPT_OUTCOME = "attempt_outcome"; // succeeded|failed
   public static final String ATTEMPT_QUEUE = "attempt_queue";
@@ -29,6 +30,7 @@ public class MetricTags {
   public static final String DESTINATION_IMAGE = "destination_image";
   public static final String FAILURE_ORIGIN = "failure_origin";
   public static final String FAILURE_TYPE = "failure_type";
+  public static final String FLUSH_REASON = "flush_reason";
   public static final String GEOGRAPHY = "geography";
   public static final String IMPLEMENTATION = "implementation";
   public static final String IS_CUSTOM_CONNECTOR_SYNC = "is_custom_connector_sync";
@@ -42,6 +44,7 @@ public class MetricTags {
   public static final String MIN_CONNECTOR_RELEASE_STATE = "min_connector_release_stage";
   public static final String NOTIFICATION_TRIGGER = "notification_trigger";
   public static final String NOTIFICATION_CLIENT = "notification_client";
+  public static final String PROCESSING_LANE = "processing_lane";
   public static final String RECORD_COUNT_TYPE = "record_count_type";
   public static final String RELEASE_STAGE = "release_stage";
   public static final String RESET_WORKFLOW_FAILURE_CAUSE = "failure_cause";
@@ -27,9 +27,9 @@ import io.opentelemetry.sdk.metrics.export.PeriodicMetricReader;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Implementation of the {@link MetricClient} that sends the provided metric data to an
@@ -43,66 +43,130 @@ public class OpenTelemetryMetricClient implements MetricClient {
   private Meter meter;
   private SdkMeterProvider meterProvider;
 
-  private final Map<String, ObservableDoubleGauge> gauges = new HashMap<>();
-  private final Map<String, Map<Attributes, Double>> gaugeValues = Collections.synchronizedMap(new HashMap<>());
+  // Instruments are created once per metric rather than on every call, building one is a lookup in the registry of the meter.
+  private final Map<MetricsRegistry, LongCounter> counters = new ConcurrentHashMap<>();
+  private final Map<MetricsRegistry, DoubleHistogram> histograms = new ConcurrentHashMap<>();
+  private final Map<MetricsRegistry, ObservableDoubleGauge> gauges = new ConcurrentHashMap<>();
+  // Latest value of each gauge per attribute set, null until a value is recorded.
+  private final Map<MetricsRegistry, Map<Attributes, AtomicReference<Double>>> gaugeValues = new ConcurrentHashMap<>();
 
   @Override
   public void count(final MetricsRegistry metric, final long val, final MetricAttribute... attributes) {
-    final LongCounter counter = meter
-        .counterBuilder(metric.getMetricName())
-        .setDescription(metric.getMetricDescription())
-        .build();
-
-    final AttributesBuilder attributesBuilder = buildAttributes(attributes);
-    counter.add(val, attributesBuilder.build());
+    getCounter(metric).add(val, buildAttributes(attributes));
   }
 
   @Override
   public void gauge(final MetricsRegistry metric, final double val, final MetricAttribute... attributes) {
+    getGaugeValue(metric, buildAttributes(attributes)).set(val);
+  }
+
+  @Override
+  public void distribution(final MetricsRegistry metric, final double val, final MetricAttribute... attributes) {
+    getHistogram(metric).record(val, buildAttributes(attributes));
+  }
+
+  /**
+   * Bind a metric to a set of attributes.
+   * <p>
+   * The attributes are built once, and the instruments of the metric are resolved on the first use of
+   * the returned handle. Handles keep recording to the instruments they resolved before a
+   * {@link #shutdown()}.
+   */
+  @Override
+  public BoundMetric bind(final MetricsRegistry metric, final MetricAttribute... attributes) {
+    final Attributes boundAttributes = buildAttributes(attributes);
+    return new BoundMetric() {
+
+      private LongCounter counter;
+      private DoubleHistogram histogram;
+      private AtomicReference<Double> gaugeValue;
+
+      @Override
+      public void count(final long val) {
+        if (counter == null) {
+          counter = getCounter(metric);
+        }
+        counter.add(val, boundAttributes);
+      }
+
+      @Override
+      public void gauge(final double val) {
+        if (gaugeValue == null) {
+          gaugeValue = getGaugeValue(metric, boundAttributes);
+        }
+        gaugeValue.set(val);
+      }
+
+      @Override
+      public void distribution(final double val) {
+        if (histogram == null) {
+          histogram = getHistogram(metric);
+        }
+        histogram.record(val, boundAttributes);
+      }
+
+    };
+  }
+
+  private LongCounter getCounter(final MetricsRegistry metric) {
+    final LongCounter counter = counters.get(metric);
+    if (counter != null) {
+      return counter;
+    }
+    return counters.computeIfAbsent(metric, m -> meter
+        .counterBuilder(m.getMetricName())
+        .setDescription(m.getMetricDescription())
+        .build());
+  }
+
+  private DoubleHistogram getHistogram(final MetricsRegistry metric) {
+    final DoubleHistogram histogram = histograms.get(metric);
+    if (histogram != null) {
+      return histogram;
+    }
+    return histograms.computeIfAbsent(metric, m -> meter
+        .histogramBuilder(m.getMetricName())
+        .setDescription(m.getMetricDescription())
+        .build());
+  }
+
+  private AtomicReference<Double> getGaugeValue(final MetricsRegistry metric, final Attributes attributes) {
     /*
      * The Gauge builder in the OpenTelemetry Java SDK can only collect gauge values asynchronously via
      * a callback.
      *
-     * This implementation uses the sync map to ensure gauges are defined only once. It creates a
-     * synchronized map which can be updated by subsequent calls without redefining the gauge.
+     * This implementation defines each gauge once, with a callback reading the latest values recorded
+     * for each attribute set. Recording a value only sets an atomic once the gauge and the attribute set
+     * are known, so concurrent callers never block each other.
      *
      * This sort-of a hack: OpenTelemetry expects you to define your gauge up-front and provide a
      * callback that the SDK will call periodically. However, this API does not conform to the
      * MetricClient interface. Without some refactoring of the client interface, this adapter is
      * necessary.
      */
-    final Attributes attr = buildAttributes(attributes).build();
-    final String name = metric.getMetricName();
-    synchronized (gauges) { // sync so we don't create the same gauge concurrently
-      if (!gauges.containsKey(name)) {
-        // create an in-memory sync map for reading the latest value given the attribute set
-        final var valueMap = Collections.synchronizedMap(new HashMap<Attributes, Double>());
-        gaugeValues.put(name, valueMap); // Register this in-memory map with this gauge
-        valueMap.put(attr, val); // Must insert the initial value so the callback will see it on its first poll
-
-        // Build the gauge with a callback that reads from the sync map to get the current values for each
-        // attribute set
+    Map<Attributes, AtomicReference<Double>> valueMap = gaugeValues.get(metric);
+    if (valueMap == null) {
+      valueMap = gaugeValues.computeIfAbsent(metric, m -> {
+        final Map<Attributes, AtomicReference<Double>> values = new ConcurrentHashMap<>();
         // The OpenTelemetry SDK will call this periodically to read the current values.
-        final var gauge = meter.gaugeBuilder(name).setDescription(metric.getMetricDescription()).buildWithCallback(measurement -> {
-          for (final Map.Entry<Attributes, Double> entry : valueMap.entrySet()) {
-            measurement.record(entry.getValue(), entry.getKey());
+        gauges.put(m, meter.gaugeBuilder(m.getMetricName()).setDescription(m.getMetricDescription()).buildWithCallback(measurement -> {
+          for (final Map.Entry<Attributes, AtomicReference<Double>> entry : values.entrySet()) {
+            final Double value = entry.getValue().get();
+            // Skip the attribute sets added but not recorded yet.
+            if (value != null) {
+              measurement.record(value, entry.getKey());
+            }
           }
-        });
-        gauges.put(name, gauge);
-        return;
-      }
+        }));
+        return values;
+      });
     }
-    // This is outside the sync block since we don't need to create a new gauge/gaugeValues map
-    // and at this point they are both guaranteed to exist.
-    final var valueMap = gaugeValues.get(name);
-    valueMap.put(attr, val);
-  }
 
-  @Override
-  public void distribution(final MetricsRegistry metric, final double val, final MetricAttribute... attributes) {
-    final DoubleHistogram histogramMeter = meter.histogramBuilder(metric.getMetricName()).setDescription(metric.getMetricDescription()).build();
-    final AttributesBuilder attributesBuilder = buildAttributes(attributes);
-    histogramMeter.record(val, attributesBuilder.build());
+    final AtomicReference<Double> value = valueMap.get(attributes);
+    if (value != null) {
+      return value;
+    }
+    return valueMap.computeIfAbsent(attributes, a -> new AtomicReference<>());
   }
 
   /**
@@ -155,25 +219,28 @@ public class OpenTelemetryMetricClient implements MetricClient {
   @Override
   public void shutdown() {
     resetForTest();
-    closeGauges();
+    closeInstruments();
   }
 
-  private void closeGauges() {
-    synchronized (gauges) {
-      for (final Map.Entry<String, ObservableDoubleGauge> entry : gauges.entrySet()) {
-        entry.getValue().close();
-      }
-      gauges.clear();
-      gaugeValues.clear();
+  private void closeInstruments() {
+    for (final ObservableDoubleGauge gauge : gauges.values()) {
+      gauge.close();
     }
+    gauges.clear();
+    gaugeValues.clear();
+    counters.clear();
+    histograms.clear();
   }
 
-  private AttributesBuilder buildAttributes(final MetricAttribute... attributes) {
+  private static Attributes buildAttributes(final MetricAttribute... attributes) {
+    if (attributes.length == 0) {
+      return Attributes.empty();
+    }
     final AttributesBuilder attributesBuilder = Attributes.builder();
     for (final MetricAttribute attribute : attributes) {
       attributesBuilder.put(stringKey(attribute.key()), attribute.value());
     }
-    return attributesBuilder;
+    return attributesBuilder.build();
   }
 
 }
@@ -83,6 +83,18 @@ public enum OssMetricsRegistry implements MetricsRegistry {
       "activity_failure",
       "Generic metric for incrementing when an activity fails. Add activity name to attributes."),
 
+  API_CLIENT_REQUEST_DURATION_MS(
+      MetricEmittingApps.WORKER,
+      "api_client_request_duration_ms",
+      "time in milliseconds to send a request to the internal api and receive its response"),
+  API_CLIENT_REQUEST_SIZE_BYTES(
+      MetricEmittingApps.WORKER,
+      "api_client_request_size_bytes",
+      "size in bytes of the body of a request sent to the internal api, after compression"),
+  API_CLIENT_RESPONSE_SIZE_BYTES(
+      MetricEmittingApps.WORKER,
+      "api_client_response_size_bytes",
+      "size in bytes of the body of a response received from the internal api, before decompression"),
   ATTEMPTS_CREATED(
       MetricEmittingApps.WORKER,
       "attempt_created",
@@ -142,6 +154,9 @@ public enum OssMetricsRegistry implements MetricsRegistry {
       MetricEmittingApps.WORKER,
       "job_succeeded_by_release_stage",
       "increments when a job succeeds. jobs are double counted as this is tagged by release stage."),
+  JOBS_UPDATED_PER_MINUTE_BY_STATUS(MetricEmittingApps.METRICS_REPORTER,
+      "jobs_updated_per_minute_by_status",
+      "number of jobs per minute that were updated in the last minutes. tagged by the current status of the jobs."),
   JSON_STRING_LENGTH(
       MetricEmittingApps.WORKER,
       "json_string_length",
@@ -198,6 +213,15 @@ public enum OssMetricsRegistry implements MetricsRegistry {
   NUM_UNEXPECTED_FIELDS_IN_STREAMS(MetricEmittingApps.WORKER,
       "schemas_unexpected_fields",
       "number of unexpected (top level) fields for a given stream"),
+  SCHEMA_VALIDATION_RECORDS_VALIDATED(MetricEmittingApps.WORKER,
+      "schema_validation_records_validated",
+      "number of records whose schema was validated"),
+  SCHEMA_VALIDATION_RECORDS_SKIPPED(MetricEmittingApps.WORKER,
+      "schema_validation_records_skipped",
+      "number of records whose schema was not validated because they were sampled out or the validation queue was full"),
+  SCHEMA_VALIDATION_MAX_QUEUED_RECORDS(MetricEmittingApps.WORKER,
+      "schema_validation_max_queued_records",
+      "highest number of records waiting for schema validation during a sync"),
   NUM_TOTAL_SCHEDULED_SYNCS_IN_LAST_DAY(
       MetricEmittingApps.METRICS_REPORTER,
       "num_total_scheduled_syncs_last_day",
@@ -271,6 +295,9 @@ public enum OssMetricsRegistry implements MetricsRegistry {
   STATE_COMMIT_CLOSE_SUCCESSFUL(MetricEmittingApps.WORKER,
       "state_commit_close_successful",
       "number of final to connection exiting with the a successful final state flush"),
+  STATE_COMMIT_STREAMS_UNCHANGED(MetricEmittingApps.WORKER,
+      "state_commit_streams_unchanged",
+      "number of stream states left out of a state commit because they did not change since the previous commit"),
   STATS_COMMIT_ATTEMPT(MetricEmittingApps.WORKER,
       "stats_commit_attempt",
       "number of attempts to commit stats from the orchestrator/workers"),
@@ -303,6 +330,27 @@ public enum OssMetricsRegistry implements MetricsRegistry {
   STATE_PROCESSED_FROM_SOURCE(MetricEmittingApps.WORKER,
       "state_processed_from_source",
       "counter for number of state messages received from source"),
+  STATE_ROWS_WRITTEN(MetricEmittingApps.SERVER,
+      "state_rows_written",
+      "number of rows of the state table inserted, updated or deleted when persisting the state of a connection"),
+  STATE_ROWS_UNCHANGED(MetricEmittingApps.SERVER,
+      "state_rows_unchanged",
+      "number of stream states that were not written because they did not change since the last write"),
+  STATE_BYTES_WRITTEN(MetricEmittingApps.SERVER,
+      "state_bytes_written",
+      "number of bytes of state written to the state table"),
+  STATS_BUFFER_PENDING_ATTEMPTS(MetricEmittingApps.SERVER,
+      "stats_buffer_pending_attempts",
+      "number of attempts whose stats are buffered and not yet written to the database"),
+  STATS_BUFFER_COALESCED(MetricEmittingApps.SERVER,
+      "stats_buffer_coalesced",
+      "number of stats updates replaced in the buffer by a more recent update of the same attempt before being written"),
+  STATS_BUFFER_FLUSH_DURATION_MS(MetricEmittingApps.SERVER,
+      "stats_buffer_flush_duration_ms",
+      "time in milliseconds to write the buffered stats to the database"),
+  STATS_BUFFER_STALENESS_MS(MetricEmittingApps.SERVER,
+      "stats_buffer_staleness_ms",
+      "time in milliseconds the oldest buffered stats waited before being written to the database"),
   // TEMPORARY, delete after the migration.
   STATS_TRACKER_IMPLEMENTATION(MetricEmittingApps.WORKER,
       "stats_tracker_implementation",
@@ -310,6 +358,21 @@ public enum OssMetricsRegistry implements MetricsRegistry {
   STREAM_STATS_WRITE_NUM_QUERIES(MetricEmittingApps.WORKER,
       "stream_stats_write_num_queries",
       "number of separate queries to update the stream stats table"),
+  STREAM_STATUS_UPDATE_QUEUE_DEPTH(MetricEmittingApps.WORKER,
+      "stream_status_update_queue_depth",
+      "number of streams with a status change waiting to be sent to the api"),
+  STREAM_STATUS_UPDATES_DROPPED(MetricEmittingApps.WORKER,
+      "stream_status_updates_dropped",
+      "number of stream status changes given up on after failing to send them to the api"),
+  STREAM_STATUS_UPDATES_MERGED(MetricEmittingApps.WORKER,
+      "stream_status_updates_merged",
+      "number of stream status changes replaced by a later change of the same stream before being sent to the api"),
+  SYNC_AVERAGE_BYTES_PER_SECOND_BY_CONNECTION(MetricEmittingApps.METRICS_REPORTER,
+      "sync_average_bytes_per_second_by_connection",
+      "bytes emitted per second by the running syncs of a connection, averaged since their attempt started"),
+  SYNC_AVERAGE_BYTES_PER_SECOND_BY_GEOGRAPHY(MetricEmittingApps.METRICS_REPORTER,
+      "sync_average_bytes_per_second_by_geography",
+      "bytes emitted per second by the running syncs of a geography, averaged since their attempts started"),
   TEMPORAL_API_TRANSIENT_ERROR_RETRY(MetricEmittingApps.WORKER,
       "temporal_api_transient_error_retry",
       "whenever we retry a temporal api call for transient errors"),
@@ -337,10 +400,30 @@ public enum OssMetricsRegistry implements MetricsRegistry {
       "worker_destination_message_sent",
       "whenever a message is sent to the destination"),
 
+  WORKER_DESTINATION_FLUSH_LATENCY_MS(MetricEmittingApps.WORKER,
+      "worker_destination_flush_latency_ms",
+      "time in milliseconds to flush the messages buffered for the destination"),
+
+  WORKER_DESTINATION_WRITE_BYTES_PER_SECOND(MetricEmittingApps.WORKER,
+      "worker_destination_write_bytes_per_second",
+      "bytes written to the destination per second, measured between two flushes"),
+
   WORKER_DESTINATION_NOTIFY_END_OF_INPUT_TIMEOUT(MetricEmittingApps.WORKER,
       "notify_end_of_input_timeout",
       "destination call to notify end of input has timed out"),
 
+  WORKER_PROCESSING_LANE_BUFFER_SIZE(MetricEmittingApps.WORKER,
+      "worker_processing_lane_buffer_size",
+      "the size of the buffer queue of a processing lane of the replication worker"),
+
+  WORKER_PROCESSING_LANE_MESSAGE_PROCESSED(MetricEmittingApps.WORKER,
+      "worker_processing_lane_message_processed",
+      "whenever a record is processed by a processing lane of the replication worker"),
+
+  WORKER_PROCESSING_LANE_BARRIER_WAIT(MetricEmittingApps.WORKER,
+      "worker_processing_lane_barrier_wait",
+      "time in milliseconds spent waiting for the processing lanes to drain before processing a state message"),
+
   WORKER_SOURCE_BUFFER_SIZE(MetricEmittingApps.WORKER,
       "worker_source_buffer_size",
       "the size of the replication worker source buffer queue"),
@@ -367,6 +450,15 @@ public enum OssMetricsRegistry implements MetricsRegistry {
   WORKLOAD_MONITOR_DURATION(MetricEmittingApps.CRON,
       "workload_monitor_duration",
       "duration of a run of the workload_monitor"),
+  WORKLOAD_MONITOR_EXPIRED(MetricEmittingApps.CRON,
+      "workload_monitor_expired",
+      "number of expired workloads found by a run of the workload_monitor"),
+  WORKLOAD_MONITOR_SCAN_DURATION_MS(MetricEmittingApps.CRON,
+      "workload_monitor_scan_duration_ms",
+      "time it took a run of the workload_monitor to list the expired workloads"),
+  WORKLOAD_MONITOR_CANCEL_DURATION_MS(MetricEmittingApps.CRON,
+      "workload_monitor_cancel_duration_ms",
+      "time it took a run of the workload_monitor to cancel the expired workloads"),
   WORKLOADS_CANCEL(MetricEmittingApps.CRON,
       "workload_cancel",
       "number of workloads canceled"),
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.lib;
+
+import static io.opentelemetry.semconv.resource.attributes.ResourceAttributes.SERVICE_NAME;
+
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the cost of emitting a metric with the OpenTelemetry and DogStatsD clients, with and
+ * without binding the metric to its attributes, the way the replication emits metrics for every
+ * STATE message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Threads(4)
+@Fork(1)
+public class MetricClientBenchmark {
+
+  private static final MetricsRegistry METRIC = OssMetricsRegistry.STATE_PROCESSED_FROM_SOURCE;
+  private static final MetricAttribute[] ATTRIBUTES = {
+    new MetricAttribute(MetricTags.CONNECTION_ID, "8f4b5b3e-6f4b-4d8a-9c43-3f4e1f1d2a7b"),
+    new MetricAttribute(MetricTags.ATTEMPT_NUMBER, "0"),
+  };
+
+  @Param({"opentelemetry", "dogstatsd"})
+  public String client;
+
+  @Param({"true", "false"})
+  public boolean bound;
+
+  private MetricClient metricClient;
+  private BoundMetric boundMetric;
+
+  @Setup
+  public void setup() {
+    if ("opentelemetry".equals(client)) {
+      final OpenTelemetryMetricClient openTelemetryMetricClient = new OpenTelemetryMetricClient();
+      final Resource resource = Resource.getDefault().toBuilder().put(SERVICE_NAME, MetricEmittingApps.WORKER.getApplicationName()).build();
+      openTelemetryMetricClient.initialize(MetricEmittingApps.WORKER, InMemoryMetricExporter.create(),
+          SdkTracerProvider.builder().setResource(resource).build(), resource);
+      metricClient = openTelemetryMetricClient;
+    } else {
+      // Nothing listens on the port, the client sends the metrics over UDP without waiting for an answer.
+      final DogStatsDMetricClient dogStatsDMetricClient = new DogStatsDMetricClient();
+      dogStatsDMetricClient.initialize(MetricEmittingApps.WORKER, new DatadogClientConfiguration("localhost", "8125", true, List.of()));
+      metricClient = dogStatsDMetricClient;
+    }
+    boundMetric = metricClient.bind(METRIC, ATTRIBUTES);
+  }
+
+  @TearDown
+  public void tearDown() {
+    metricClient.shutdown();
+  }
+
+  @Benchmark
+  public void count() {
+    if (bound) {
+      boundMetric.count(1);
+    } else {
+      metricClient.count(METRIC, 1, ATTRIBUTES);
+    }
+  }
+
+  @Benchmark
+  public void gauge() {
+    if (bound) {
+      boundMetric.gauge(1);
+    } else {
+      metricClient.gauge(METRIC, 1, ATTRIBUTES);
+    }
+  }
+
+  @Benchmark
+  public void distribution() {
+    if (bound) {
+      boundMetric.distribution(1);
+    } else {
+      metricClient.distribution(METRIC, 1, ATTRIBUTES);
+    }
+  }
+
+  public static void main(final String[] args) throws IOException {
+    // Run this main class to start benchmarking.
+    org.openjdk.jmh.Main.main(args);
+  }
+
+}
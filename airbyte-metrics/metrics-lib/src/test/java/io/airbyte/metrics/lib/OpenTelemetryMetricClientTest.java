@@ -10,11 +10,15 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import com.google.common.collect.Iterables;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.DoublePointData;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
 import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.testing.exporter.InMemoryMetricExporter;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -110,4 +114,39 @@ class OpenTelemetryMetricClientTest {
     assertThat(data.getHistogramData().getPoints().stream().anyMatch(histogramPointData -> histogramPointData.getMin() == 10.0));
   }
 
+  @Test
+  @DisplayName("Bound metrics should be recorded with their attributes")
+  void testBoundMetricSuccess() {
+    final BoundMetric boundMetric =
+        openTelemetryMetricClient.bind(OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS, new MetricAttribute(TAG, TAG));
+    boundMetric.count(1);
+    boundMetric.count(2);
+    openTelemetryMetricClient.count(OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS, 4, new MetricAttribute(TAG, TAG));
+
+    metricProvider.forceFlush();
+    final List<MetricData> metricDataList = metricExporter.getFinishedMetricItems();
+    final MetricData data = Iterables.getOnlyElement(metricDataList);
+
+    final LongPointData point = Iterables.getOnlyElement(data.getLongSumData().getPoints());
+    assertThat(point.getValue()).isEqualTo(7L);
+    assertThat(point.getAttributes().get(AttributeKey.stringKey(TAG))).isEqualTo(TAG);
+  }
+
+  @Test
+  @DisplayName("Gauges should report the latest value of each attribute set")
+  void testGaugeLatestValuePerAttributes() {
+    final BoundMetric boundGauge =
+        openTelemetryMetricClient.bind(OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS, new MetricAttribute(TAG, "a"));
+    boundGauge.gauge(1);
+    boundGauge.gauge(2);
+    openTelemetryMetricClient.gauge(OssMetricsRegistry.KUBE_POD_PROCESS_CREATE_TIME_MILLISECS, 5, new MetricAttribute(TAG, "b"));
+
+    metricProvider.forceFlush();
+    final MetricData data = Iterables.getOnlyElement(metricExporter.getFinishedMetricItems());
+
+    final Map<String, Double> values = data.getDoubleGaugeData().getPoints().stream()
+        .collect(Collectors.toMap(point -> point.getAttributes().get(AttributeKey.stringKey(TAG)), DoublePointData::getValue));
+    assertThat(values).isEqualTo(Map.of("a", 2.0, "b", 5.0));
+  }
+
 }
@@ -11,6 +11,11 @@ import io.airbyte.metrics.lib.OssMetricsRegistry;
 import jakarta.inject.Singleton;
 import java.lang.invoke.MethodHandles;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.Callable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -189,6 +194,84 @@ final class TotalJobRuntimeByTerminalState extends Emitter {
 
 }
 
+@SuppressWarnings("OneTopLevelClass")
+@Singleton
+final class SyncThroughputByConnection extends Emitter {
+
+  SyncThroughputByConnection(final MetricClient client, final MetricRepository db) {
+    super(client, emitThroughputByConnection(client, db));
+  }
+
+  private static Callable<Void> emitThroughputByConnection(final MetricClient client, final MetricRepository db) {
+    // Connections whose syncs stopped running are reported with 0 once, otherwise datadog keeps using
+    // their last reported value.
+    final Set<UUID> runningConnectionIds = new HashSet<>();
+    return () -> {
+      final Map<UUID, Double> bytesPerSecondByConnection = new HashMap<>(db.syncAverageBytesPerSecondByConnection());
+      runningConnectionIds.forEach(connectionId -> bytesPerSecondByConnection.putIfAbsent(connectionId, 0.0));
+      runningConnectionIds.clear();
+      bytesPerSecondByConnection.forEach((connectionId, bytesPerSecond) -> {
+        client.gauge(
+            OssMetricsRegistry.SYNC_AVERAGE_BYTES_PER_SECOND_BY_CONNECTION,
+            bytesPerSecond,
+            new MetricAttribute(MetricTags.CONNECTION_ID, connectionId.toString()));
+        if (bytesPerSecond > 0) {
+          runningConnectionIds.add(connectionId);
+        }
+      });
+      return null;
+    };
+  }
+
+  @Override
+  public Duration getDuration() {
+    return Duration.ofMinutes(1);
+  }
+
+}
+
+@SuppressWarnings("OneTopLevelClass")
+@Singleton
+final class SyncThroughputByGeography extends Emitter {
+
+  SyncThroughputByGeography(final MetricClient client, final MetricRepository db) {
+    super(client, () -> {
+      db.syncAverageBytesPerSecondByGeography().forEach((geography, bytesPerSecond) -> client.gauge(
+          OssMetricsRegistry.SYNC_AVERAGE_BYTES_PER_SECOND_BY_GEOGRAPHY,
+          bytesPerSecond,
+          new MetricAttribute(MetricTags.GEOGRAPHY, geography)));
+      return null;
+    });
+  }
+
+  @Override
+  public Duration getDuration() {
+    return Duration.ofMinutes(1);
+  }
+
+}
+
+@SuppressWarnings("OneTopLevelClass")
+@Singleton
+final class JobsUpdatedByStatus extends Emitter {
+
+  JobsUpdatedByStatus(final MetricClient client, final MetricRepository db) {
+    super(client, () -> {
+      db.jobsUpdatedPerMinuteByStatus().forEach((jobStatus, updatedPerMinute) -> client.gauge(
+          OssMetricsRegistry.JOBS_UPDATED_PER_MINUTE_BY_STATUS,
+          updatedPerMinute,
+          new MetricAttribute(MetricTags.JOB_STATUS, jobStatus)));
+      return null;
+    });
+  }
+
+  @Override
+  public Duration getDuration() {
+    return Duration.ofMinutes(1);
+  }
+
+}
+
 /**
  * Abstract base class for all emitted metrics.
  * <p>
@@ -16,9 +16,11 @@ import io.airbyte.db.instance.configs.jooq.generated.enums.StatusType;
 import io.airbyte.db.instance.jobs.jooq.generated.enums.AttemptStatus;
 import io.airbyte.db.instance.jobs.jooq.generated.enums.JobStatus;
 import jakarta.inject.Singleton;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.impl.DSL;
@@ -35,6 +37,8 @@ class MetricRepository {
   private static final List<String> REGISTERED_ATTEMPT_QUEUE = List.of("SYNC", "AWS_PARIS_SYNC", "null");
   private static final List<String> REGISTERED_GEOGRAPHY = List.of("US", "AUTO", "EU");
 
+  private static final int JOBS_UPDATED_WINDOW_MINUTES = 5;
+
   MetricRepository(final DSLContext ctx) {
     this.ctx = ctx;
   }
@@ -302,4 +306,82 @@ class MetricRepository {
     return results;
   }
 
+  /**
+   * Average bytes emitted per second by the running syncs of each connection. The rate of an attempt
+   * is what its last stats write reported it emitted, over the time since the attempt started, so it
+   * is an average over the whole attempt rather than a windowed rate.
+   */
+  Map<UUID, Double> syncAverageBytesPerSecondByConnection() {
+    final var query = """
+                      SELECT jobs.scope::uuid AS connection_id,
+                        SUM(sync_stats.bytes_emitted / GREATEST(EXTRACT(EPOCH FROM (sync_stats.updated_at - attempts.created_at)), 1))::float
+                          AS bytes_per_second
+                      FROM attempts
+                      JOIN jobs
+                      ON jobs.id = attempts.job_id
+                      JOIN sync_stats
+                      ON sync_stats.attempt_id = attempts.id
+                      WHERE attempts.status = 'running'
+                        AND jobs.config_type IN ('sync', 'reset_connection')
+                      GROUP BY connection_id;
+                      """;
+    final Field<UUID> connectionIdField = DSL.field(name("connection_id"), UUID.class);
+    final Field<Double> bytesPerSecondField = DSL.field(name("bytes_per_second"), Double.class);
+    return ctx.fetch(query).intoMap(connectionIdField, bytesPerSecondField);
+  }
+
+  /**
+   * Average bytes emitted per second by the running syncs of each geography, see
+   * {@link #syncAverageBytesPerSecondByConnection()}.
+   */
+  Map<String, Double> syncAverageBytesPerSecondByGeography() {
+    final var query = """
+                      SELECT cast(connection.geography as varchar) AS geography,
+                        SUM(sync_stats.bytes_emitted / GREATEST(EXTRACT(EPOCH FROM (sync_stats.updated_at - attempts.created_at)), 1))::float
+                          AS bytes_per_second
+                      FROM attempts
+                      JOIN jobs
+                      ON jobs.id = attempts.job_id
+                      JOIN sync_stats
+                      ON sync_stats.attempt_id = attempts.id
+                      JOIN connection
+                      ON jobs.scope::uuid = connection.id
+                      WHERE attempts.status = 'running'
+                        AND jobs.config_type IN ('sync', 'reset_connection')
+                      GROUP BY geography;
+                      """;
+    final Field<String> geographyResultField = DSL.field(name("geography"), String.class);
+    final Field<Double> bytesPerSecondField = DSL.field(name("bytes_per_second"), Double.class);
+    final Map<String, Double> queriedMap = ctx.fetch(query).intoMap(geographyResultField, bytesPerSecondField);
+    for (final String potentialGeography : REGISTERED_GEOGRAPHY) {
+      if (!queriedMap.containsKey(potentialGeography)) {
+        queriedMap.put(potentialGeography, 0.0);
+      }
+    }
+    return queriedMap;
+  }
+
+  /**
+   * Number of jobs per minute that were updated over the last minutes, by their current status. This
+   * is not a count of status transitions: a job counts once, for the status it is in now, whatever it
+   * was updated for.
+   */
+  Map<String, Double> jobsUpdatedPerMinuteByStatus() {
+    final var query = """
+                      SELECT cast(status as varchar) AS status, COUNT(*)::float / %1$d AS updated_per_minute
+                      FROM jobs
+                      WHERE updated_at >= NOW() - INTERVAL '%1$d MINUTES'
+                      GROUP BY status;
+                      """.formatted(JOBS_UPDATED_WINDOW_MINUTES);
+    final Field<String> statusField = DSL.field(name("status"), String.class);
+    final Field<Double> updatedPerMinuteField = DSL.field(name("updated_per_minute"), Double.class);
+    final Map<String, Double> queriedMap = ctx.fetch(query).intoMap(statusField, updatedPerMinuteField);
+    for (final String potentialStatus : Arrays.stream(JobStatus.values()).map(JobStatus::getLiteral).toList()) {
+      if (!queriedMap.containsKey(potentialStatus)) {
+        queriedMap.put(potentialStatus, 0.0);
+      }
+    }
+    return queriedMap;
+  }
+
 }
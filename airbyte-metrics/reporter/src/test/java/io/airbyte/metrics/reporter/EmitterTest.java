@@ -17,6 +17,7 @@ import io.airbyte.metrics.lib.OssMetricsRegistry;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -184,4 +185,66 @@ class EmitterTest {
     verify(client).count(OssMetricsRegistry.EST_NUM_METRICS_EMITTED_BY_REPORTER, 1);
   }
 
+  @Test
+  void TestSyncThroughputByConnection() {
+    final var connectionId = UUID.randomUUID();
+    when(repo.syncAverageBytesPerSecondByConnection()).thenReturn(Map.of(connectionId, 1024.0));
+
+    final var emitter = new SyncThroughputByConnection(client, repo);
+    emitter.emit();
+
+    assertEquals(Duration.ofMinutes(1), emitter.getDuration());
+    verify(repo).syncAverageBytesPerSecondByConnection();
+    verify(client).gauge(OssMetricsRegistry.SYNC_AVERAGE_BYTES_PER_SECOND_BY_CONNECTION, 1024.0,
+        new MetricAttribute(MetricTags.CONNECTION_ID, connectionId.toString()));
+    verify(client).count(OssMetricsRegistry.EST_NUM_METRICS_EMITTED_BY_REPORTER, 1);
+  }
+
+  @Test
+  void TestSyncThroughputByGeography() {
+    final var value = Map.of(AUTO_REGION, 1024.0, EU_REGION, 0.0);
+    when(repo.syncAverageBytesPerSecondByGeography()).thenReturn(value);
+
+    final var emitter = new SyncThroughputByGeography(client, repo);
+    emitter.emit();
+
+    assertEquals(Duration.ofMinutes(1), emitter.getDuration());
+    verify(repo).syncAverageBytesPerSecondByGeography();
+    verify(client).gauge(OssMetricsRegistry.SYNC_AVERAGE_BYTES_PER_SECOND_BY_GEOGRAPHY, 1024.0,
+        new MetricAttribute(MetricTags.GEOGRAPHY, AUTO_REGION));
+    verify(client).gauge(OssMetricsRegistry.SYNC_AVERAGE_BYTES_PER_SECOND_BY_GEOGRAPHY, 0.0,
+        new MetricAttribute(MetricTags.GEOGRAPHY, EU_REGION));
+    verify(client).count(OssMetricsRegistry.EST_NUM_METRICS_EMITTED_BY_REPORTER, 1);
+  }
+
+  @Test
+  void TestJobsUpdatedByStatus() {
+    final var value = Map.of(JobStatus.running.getLiteral(), 2.5, JobStatus.failed.getLiteral(), 0.2);
+    when(repo.jobsUpdatedPerMinuteByStatus()).thenReturn(value);
+
+    final var emitter = new JobsUpdatedByStatus(client, repo);
+    emitter.emit();
+
+    assertEquals(Duration.ofMinutes(1), emitter.getDuration());
+    verify(repo).jobsUpdatedPerMinuteByStatus();
+    value.forEach((jobStatus, updatedPerMinute) -> verify(client).gauge(OssMetricsRegistry.JOBS_UPDATED_PER_MINUTE_BY_STATUS,
+        updatedPerMinute, new MetricAttribute(MetricTags.JOB_STATUS, jobStatus)));
+    verify(client).count(OssMetricsRegistry.EST_NUM_METRICS_EMITTED_BY_REPORTER, 1);
+  }
+
+  @Test
+  void TestSyncThroughputByConnectionResetsStoppedConnections() {
+    final var connectionId = UUID.randomUUID();
+    when(repo.syncAverageBytesPerSecondByConnection()).thenReturn(Map.of(connectionId, 1024.0)).thenReturn(Map.of());
+
+    final var emitter = new SyncThroughputByConnection(client, repo);
+    emitter.emit();
+    emitter.emit();
+    emitter.emit();
+
+    final var connectionAttribute = new MetricAttribute(MetricTags.CONNECTION_ID, connectionId.toString());
+    verify(client).gauge(OssMetricsRegistry.SYNC_AVERAGE_BYTES_PER_SECOND_BY_CONNECTION, 1024.0, connectionAttribute);
+    verify(client).gauge(OssMetricsRegistry.SYNC_AVERAGE_BYTES_PER_SECOND_BY_CONNECTION, 0.0, connectionAttribute);
+  }
+
 }
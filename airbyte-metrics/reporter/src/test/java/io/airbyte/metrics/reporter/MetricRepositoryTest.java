@@ -9,6 +9,7 @@ import static io.airbyte.db.instance.configs.jooq.generated.Tables.CONNECTION;
 import static io.airbyte.db.instance.configs.jooq.generated.Tables.WORKSPACE;
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.ATTEMPTS;
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.JOBS;
+import static io.airbyte.db.instance.jobs.jooq.generated.Tables.SYNC_STATS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -41,6 +42,7 @@ abstract class MetricRepositoryTest {
   private static final String AWS_SYNC_QUEUE = "AWS_PARIS_SYNC";
   private static final String AUTO_REGION = "AUTO";
   private static final String EU_REGION = "EU";
+  private static final String US_REGION = "US";
 
   protected static final UUID SRC_DEF_ID = UUID.randomUUID();
   protected static final UUID DST_DEF_ID = UUID.randomUUID();
@@ -635,4 +637,81 @@ abstract class MetricRepositoryTest {
 
   }
 
+  @Nested
+  class SyncThroughputAndJobsUpdatedByStatus {
+
+    @Test
+    void shouldReturnBytesPerSecondOfRunningSyncsByConnection() {
+      final var connectionId = UUID.randomUUID();
+      final var now = OffsetDateTime.now();
+      insertJobs(connectionId, JobConfigType.sync, 1L, 2L, 3L);
+      insertAttempt(10L, 1L, AttemptStatus.running, now.minusSeconds(100), now, 1000L);
+      insertAttempt(20L, 2L, AttemptStatus.running, now.minusSeconds(50), now, 500L);
+      // Attempts that are done don't emit anymore.
+      insertAttempt(30L, 3L, AttemptStatus.succeeded, now.minusSeconds(100), now, 1000L);
+      // Only replication jobs have a connection.
+      insertJobs(UUID.randomUUID(), JobConfigType.check_connection_source, 4L);
+      insertAttempt(40L, 4L, AttemptStatus.running, now.minusSeconds(100), now, 1000L);
+
+      final var res = db.syncAverageBytesPerSecondByConnection();
+      assertEquals(Map.of(connectionId, 20.0), res);
+    }
+
+    @Test
+    void shouldReturnBytesPerSecondOfRunningSyncsByGeography() {
+      final var connectionId = UUID.randomUUID();
+      final var now = OffsetDateTime.now();
+      ctx.insertInto(CONNECTION, CONNECTION.ID, CONNECTION.NAMESPACE_DEFINITION, CONNECTION.SOURCE_ID, CONNECTION.DESTINATION_ID,
+          CONNECTION.NAME, CONNECTION.CATALOG, CONNECTION.MANUAL, CONNECTION.STATUS, CONNECTION.GEOGRAPHY)
+          .values(connectionId, NamespaceDefinitionType.source, UUID.randomUUID(), UUID.randomUUID(), CONN, JSONB.valueOf("{}"), true,
+              StatusType.active, GeographyType.valueOf(EU_REGION))
+          .execute();
+      insertJobs(connectionId, JobConfigType.sync, 1L);
+      insertAttempt(10L, 1L, AttemptStatus.running, now.minusSeconds(100), now, 200L);
+
+      final var res = db.syncAverageBytesPerSecondByGeography();
+      assertEquals(2.0, res.get(EU_REGION));
+      assertEquals(0.0, res.get(US_REGION));
+      assertEquals(0.0, res.get(AUTO_REGION));
+    }
+
+    @Test
+    void shouldReturnJobsUpdatedPerMinuteByStatus() {
+      final var now = OffsetDateTime.now();
+      ctx.insertInto(JOBS, JOBS.ID, JOBS.SCOPE, JOBS.STATUS, JOBS.UPDATED_AT)
+          .values(1L, "", JobStatus.running, now.minusMinutes(1))
+          .values(2L, "", JobStatus.running, now.minusMinutes(4))
+          .values(3L, "", JobStatus.failed, now.minusMinutes(10))
+          .execute();
+
+      final var res = db.jobsUpdatedPerMinuteByStatus();
+      assertEquals(0.4, res.get(JobStatus.running.getLiteral()));
+      assertEquals(0.0, res.get(JobStatus.failed.getLiteral()));
+      assertEquals(JobStatus.values().length, res.size());
+    }
+
+    private void insertJobs(final UUID connectionId, final JobConfigType configType, final Long... jobIds) {
+      for (final Long jobId : jobIds) {
+        ctx.insertInto(JOBS, JOBS.ID, JOBS.SCOPE, JOBS.STATUS, JOBS.CONFIG_TYPE)
+            .values(jobId, connectionId.toString(), JobStatus.running, configType)
+            .execute();
+      }
+    }
+
+    private void insertAttempt(final long attemptId,
+                               final long jobId,
+                               final AttemptStatus status,
+                               final OffsetDateTime createdAt,
+                               final OffsetDateTime statsUpdatedAt,
+                               final long bytesEmitted) {
+      ctx.insertInto(ATTEMPTS, ATTEMPTS.ID, ATTEMPTS.JOB_ID, ATTEMPTS.STATUS, ATTEMPTS.CREATED_AT)
+          .values(attemptId, jobId, status, createdAt)
+          .execute();
+      ctx.insertInto(SYNC_STATS, SYNC_STATS.ID, SYNC_STATS.ATTEMPT_ID, SYNC_STATS.BYTES_EMITTED, SYNC_STATS.UPDATED_AT)
+          .values(UUID.randomUUID(), attemptId, bytesEmitted, statsUpdatedAt)
+          .execute();
+    }
+
+  }
+
 }
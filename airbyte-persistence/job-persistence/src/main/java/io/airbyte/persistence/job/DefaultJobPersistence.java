@@ -34,10 +34,10 @@ import io.airbyte.config.JobOutput.OutputType;
 import io.airbyte.config.NormalizationSummary;
 import io.airbyte.config.StreamSyncStats;
 import io.airbyte.config.SyncStats;
-import io.airbyte.config.persistence.PersistenceHelpers;
 import io.airbyte.db.Database;
 import io.airbyte.db.ExceptionWrappingDatabase;
 import io.airbyte.db.instance.configs.jooq.generated.Tables;
+import io.airbyte.db.instance.jobs.jooq.generated.tables.records.StreamStatsRecord;
 import io.airbyte.persistence.job.models.Attempt;
 import io.airbyte.persistence.job.models.AttemptNormalizationStatus;
 import io.airbyte.persistence.job.models.AttemptStatus;
@@ -61,6 +61,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -73,8 +74,11 @@ import java.util.stream.StreamSupport;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.InsertOnDuplicateSetMoreStep;
+import org.jooq.InsertOnDuplicateSetStep;
+import org.jooq.InsertValuesStepN;
 import org.jooq.JSONB;
-import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.RecordMapper;
 import org.jooq.Result;
@@ -119,6 +123,45 @@ public class DefaultJobPersistence implements JobPersistence {
                                                  attempts.updated_at AS attempt_updated_at,
                                                  attempts.ended_at AS attempt_ended_at
                                                """;
+  // Only the parts of the attempts needed to list them: no sync config, and only the sync summary of
+  // the output, which otherwise embeds the output catalog and the state.
+  private static final String LIGHT_ATTEMPT_FIELDS = """
+                                                       attempts.attempt_number AS attempt_number,
+                                                       NULL AS attempt_sync_config,
+                                                       attempts.log_path AS log_path,
+                                                       CASE WHEN attempts.output->'sync' IS NOT NULL
+                                                         THEN jsonb_build_object(
+                                                           'outputType', attempts.output->'outputType',
+                                                           'sync', jsonb_build_object(
+                                                             'standardSyncSummary', attempts.output->'sync'->'standardSyncSummary'))
+                                                       END AS attempt_output,
+                                                       attempts.status AS attempt_status,
+                                                       attempts.processing_task_queue AS processing_task_queue,
+                                                       attempts.failure_summary AS attempt_failure_summary,
+                                                       attempts.created_at AS attempt_created_at,
+                                                       attempts.updated_at AS attempt_updated_at,
+                                                       attempts.ended_at AS attempt_ended_at
+                                                     """;
+  // Only the parts of the job config needed to list the jobs: the enabled streams and the reset
+  // configuration. The configured catalog is reduced to the names and namespaces of its streams.
+  private static final String LIGHT_JOB_CONFIG = """
+                                                   jsonb_build_object(
+                                                     'configType', jobs.config->'configType',
+                                                     'sync', CASE WHEN jobs.config->'sync' IS NOT NULL THEN jsonb_build_object(
+                                                       'configuredAirbyteCatalog', CASE
+                                                         WHEN jobs.config->'sync'->'configuredAirbyteCatalog' IS NOT NULL
+                                                         THEN jsonb_build_object('streams', (
+                                                           SELECT coalesce(jsonb_agg(jsonb_build_object('stream', jsonb_build_object(
+                                                             'name', stream->'stream'->'name',
+                                                             'namespace', stream->'stream'->'namespace'))), '[]'::jsonb)
+                                                           FROM jsonb_array_elements(
+                                                             jobs.config->'sync'->'configuredAirbyteCatalog'->'streams') AS stream))
+                                                       END)
+                                                     END,
+                                                     'resetConnection', CASE WHEN jobs.config->'resetConnection' IS NOT NULL THEN jsonb_build_object(
+                                                       'resetSourceConfiguration', jobs.config->'resetConnection'->'resetSourceConfiguration')
+                                                     END)
+                                                 """;
   @VisibleForTesting
   static final String BASE_JOB_SELECT_AND_JOIN = jobSelectAndJoin("jobs");
   private static final String ATTEMPT_SELECT =
@@ -148,44 +191,31 @@ public class DefaultJobPersistence implements JobPersistence {
   }
 
   private static String jobSelectAndJoin(final String jobsSubquery) {
+    return jobSelectAndJoin(jobsSubquery, false);
+  }
+
+  /**
+   * Select the jobs of the subquery with their attempts.
+   *
+   * @param jobsSubquery jobs to select
+   * @param light if true, only select the parts of the jobs and attempts needed to list them
+   * @return the select statement
+   */
+  private static String jobSelectAndJoin(final String jobsSubquery, final boolean light) {
     return "SELECT\n"
         + "jobs.id AS job_id,\n"
         + "jobs.config_type AS config_type,\n"
         + "jobs.scope AS scope,\n"
-        + "jobs.config AS config,\n"
+        + (light ? LIGHT_JOB_CONFIG : "jobs.config") + " AS config,\n"
         + "jobs.status AS job_status,\n"
         + "jobs.started_at AS job_started_at,\n"
         + "jobs.created_at AS job_created_at,\n"
         + "jobs.updated_at AS job_updated_at,\n"
-        + ATTEMPT_FIELDS
+        + (light ? LIGHT_ATTEMPT_FIELDS : ATTEMPT_FIELDS)
         + "FROM " + jobsSubquery + " LEFT OUTER JOIN attempts ON jobs.id = attempts.job_id ";
   }
 
   private static void saveToSyncStatsTable(final OffsetDateTime now, final SyncStats syncStats, final Long attemptId, final DSLContext ctx) {
-    // Although JOOQ supports upsert using the onConflict statement, we cannot use it as the table
-    // currently has duplicate records and also doesn't contain the unique constraint on the attempt_id
-    // column JOOQ requires. We are forced to check for existence.
-    final var isExisting = ctx.fetchExists(SYNC_STATS, SYNC_STATS.ATTEMPT_ID.eq(attemptId));
-    if (isExisting) {
-      ctx.update(SYNC_STATS)
-          .set(SYNC_STATS.UPDATED_AT, now)
-          .set(SYNC_STATS.BYTES_EMITTED, syncStats.getBytesEmitted())
-          .set(SYNC_STATS.RECORDS_EMITTED, syncStats.getRecordsEmitted())
-          .set(SYNC_STATS.ESTIMATED_RECORDS, syncStats.getEstimatedRecords())
-          .set(SYNC_STATS.ESTIMATED_BYTES, syncStats.getEstimatedBytes())
-          .set(SYNC_STATS.RECORDS_COMMITTED, syncStats.getRecordsCommitted())
-          .set(SYNC_STATS.BYTES_COMMITTED, syncStats.getBytesCommitted())
-          .set(SYNC_STATS.SOURCE_STATE_MESSAGES_EMITTED, syncStats.getSourceStateMessagesEmitted())
-          .set(SYNC_STATS.DESTINATION_STATE_MESSAGES_EMITTED, syncStats.getDestinationStateMessagesEmitted())
-          .set(SYNC_STATS.MAX_SECONDS_BEFORE_SOURCE_STATE_MESSAGE_EMITTED, syncStats.getMaxSecondsBeforeSourceStateMessageEmitted())
-          .set(SYNC_STATS.MEAN_SECONDS_BEFORE_SOURCE_STATE_MESSAGE_EMITTED, syncStats.getMeanSecondsBeforeSourceStateMessageEmitted())
-          .set(SYNC_STATS.MAX_SECONDS_BETWEEN_STATE_MESSAGE_EMITTED_AND_COMMITTED, syncStats.getMaxSecondsBetweenStateMessageEmittedandCommitted())
-          .set(SYNC_STATS.MEAN_SECONDS_BETWEEN_STATE_MESSAGE_EMITTED_AND_COMMITTED, syncStats.getMeanSecondsBetweenStateMessageEmittedandCommitted())
-          .where(SYNC_STATS.ATTEMPT_ID.eq(attemptId))
-          .execute();
-      return;
-    }
-
     ctx.insertInto(SYNC_STATS)
         .set(SYNC_STATS.ID, UUID.randomUUID())
         .set(SYNC_STATS.CREATED_AT, now)
@@ -203,6 +233,21 @@ public class DefaultJobPersistence implements JobPersistence {
         .set(SYNC_STATS.MEAN_SECONDS_BEFORE_SOURCE_STATE_MESSAGE_EMITTED, syncStats.getMeanSecondsBeforeSourceStateMessageEmitted())
         .set(SYNC_STATS.MAX_SECONDS_BETWEEN_STATE_MESSAGE_EMITTED_AND_COMMITTED, syncStats.getMaxSecondsBetweenStateMessageEmittedandCommitted())
         .set(SYNC_STATS.MEAN_SECONDS_BETWEEN_STATE_MESSAGE_EMITTED_AND_COMMITTED, syncStats.getMeanSecondsBetweenStateMessageEmittedandCommitted())
+        .onConflict(SYNC_STATS.ATTEMPT_ID)
+        .doUpdate()
+        .set(SYNC_STATS.UPDATED_AT, now)
+        .set(SYNC_STATS.BYTES_EMITTED, syncStats.getBytesEmitted())
+        .set(SYNC_STATS.RECORDS_EMITTED, syncStats.getRecordsEmitted())
+        .set(SYNC_STATS.ESTIMATED_RECORDS, syncStats.getEstimatedRecords())
+        .set(SYNC_STATS.ESTIMATED_BYTES, syncStats.getEstimatedBytes())
+        .set(SYNC_STATS.RECORDS_COMMITTED, syncStats.getRecordsCommitted())
+        .set(SYNC_STATS.BYTES_COMMITTED, syncStats.getBytesCommitted())
+        .set(SYNC_STATS.SOURCE_STATE_MESSAGES_EMITTED, syncStats.getSourceStateMessagesEmitted())
+        .set(SYNC_STATS.DESTINATION_STATE_MESSAGES_EMITTED, syncStats.getDestinationStateMessagesEmitted())
+        .set(SYNC_STATS.MAX_SECONDS_BEFORE_SOURCE_STATE_MESSAGE_EMITTED, syncStats.getMaxSecondsBeforeSourceStateMessageEmitted())
+        .set(SYNC_STATS.MEAN_SECONDS_BEFORE_SOURCE_STATE_MESSAGE_EMITTED, syncStats.getMeanSecondsBeforeSourceStateMessageEmitted())
+        .set(SYNC_STATS.MAX_SECONDS_BETWEEN_STATE_MESSAGE_EMITTED_AND_COMMITTED, syncStats.getMaxSecondsBetweenStateMessageEmittedandCommitted())
+        .set(SYNC_STATS.MEAN_SECONDS_BETWEEN_STATE_MESSAGE_EMITTED_AND_COMMITTED, syncStats.getMeanSecondsBetweenStateMessageEmittedandCommitted())
         .execute();
   }
 
@@ -210,58 +255,84 @@ public class DefaultJobPersistence implements JobPersistence {
                                                   final List<StreamSyncStats> perStreamStats,
                                                   final Long attemptId,
                                                   final DSLContext ctx) {
-    final List<Query> queries = new ArrayList<>();
-
-    // Upserts require the onConflict statement that does not work as the table currently has duplicate
-    // records on the null
-    // namespace value. This is a valid state and not a bug.
-    // Upserts are possible if we upgrade to Postgres 15. However this requires downtime. A simpler
-    // solution to prevent O(N) existence checks, where N in the
-    // number of streams, is to fetch all streams for the attempt. Existence checks are in memory,
-    // letting us do only 2 queries in total.
-    final Set<StreamDescriptor> existingStreams = ctx.select(STREAM_STATS.STREAM_NAME, STREAM_STATS.STREAM_NAMESPACE)
-        .from(STREAM_STATS)
-        .where(STREAM_STATS.ATTEMPT_ID.eq(attemptId))
-        .fetchSet(r -> new StreamDescriptor().withName(r.get(STREAM_STATS.STREAM_NAME)).withNamespace(r.get(STREAM_STATS.STREAM_NAMESPACE)));
-
-    Optional.ofNullable(perStreamStats).orElse(Collections.emptyList()).forEach(
-        streamStats -> {
-          final var isExisting =
-              existingStreams.contains(new StreamDescriptor().withName(streamStats.getStreamName()).withNamespace(streamStats.getStreamNamespace()));
-          final var stats = streamStats.getStats();
-          if (isExisting) {
-            queries.add(
-                ctx.update(STREAM_STATS)
-                    .set(STREAM_STATS.UPDATED_AT, now)
-                    .set(STREAM_STATS.BYTES_EMITTED, stats.getBytesEmitted())
-                    .set(STREAM_STATS.RECORDS_EMITTED, stats.getRecordsEmitted())
-                    .set(STREAM_STATS.ESTIMATED_RECORDS, stats.getEstimatedRecords())
-                    .set(STREAM_STATS.ESTIMATED_BYTES, stats.getEstimatedBytes())
-                    .set(STREAM_STATS.BYTES_COMMITTED, stats.getBytesCommitted())
-                    .set(STREAM_STATS.RECORDS_COMMITTED, stats.getRecordsCommitted())
-                    .where(
-                        STREAM_STATS.ATTEMPT_ID.eq(attemptId),
-                        PersistenceHelpers.isNullOrEquals(STREAM_STATS.STREAM_NAME, streamStats.getStreamName()),
-                        PersistenceHelpers.isNullOrEquals(STREAM_STATS.STREAM_NAMESPACE, streamStats.getStreamNamespace())));
-          } else {
-            queries.add(
-                ctx.insertInto(STREAM_STATS)
-                    .set(STREAM_STATS.ID, UUID.randomUUID())
-                    .set(STREAM_STATS.ATTEMPT_ID, attemptId)
-                    .set(STREAM_STATS.STREAM_NAME, streamStats.getStreamName())
-                    .set(STREAM_STATS.STREAM_NAMESPACE, streamStats.getStreamNamespace())
-                    .set(STREAM_STATS.CREATED_AT, now)
-                    .set(STREAM_STATS.UPDATED_AT, now)
-                    .set(STREAM_STATS.BYTES_EMITTED, stats.getBytesEmitted())
-                    .set(STREAM_STATS.RECORDS_EMITTED, stats.getRecordsEmitted())
-                    .set(STREAM_STATS.ESTIMATED_RECORDS, stats.getEstimatedRecords())
-                    .set(STREAM_STATS.ESTIMATED_BYTES, stats.getEstimatedBytes())
-                    .set(STREAM_STATS.BYTES_COMMITTED, stats.getBytesCommitted())
-                    .set(STREAM_STATS.RECORDS_COMMITTED, stats.getRecordsCommitted()));
-          }
-        });
+    // Postgres 13 considers nulls as distinct, so the unique key of the streams without a namespace is a
+    // partial index instead of the uniq_stream_attempt constraint. As an ON CONFLICT clause can only
+    // use one of them, the streams are upserted with at most 2 statements.
+    // A statement cannot upsert the same row twice, the last stats of a stream win.
+    final Map<StreamDescriptor, StreamSyncStats> statsWithNamespace = new LinkedHashMap<>();
+    final Map<StreamDescriptor, StreamSyncStats> statsWithoutNamespace = new LinkedHashMap<>();
+    Optional.ofNullable(perStreamStats).orElse(Collections.emptyList()).forEach(streamStats -> {
+      final var streamDescriptor = new StreamDescriptor().withName(streamStats.getStreamName()).withNamespace(streamStats.getStreamNamespace());
+      (streamStats.getStreamNamespace() == null ? statsWithoutNamespace : statsWithNamespace).put(streamDescriptor, streamStats);
+    });
+
+    if (!statsWithNamespace.isEmpty()) {
+      setStreamStatsOnConflict(insertStreamStats(now, statsWithNamespace.values(), attemptId, ctx)
+          .onConflict(STREAM_STATS.ATTEMPT_ID, STREAM_STATS.STREAM_NAME, STREAM_STATS.STREAM_NAMESPACE)
+          .doUpdate())
+          .execute();
+    }
+    if (!statsWithoutNamespace.isEmpty()) {
+      setStreamStatsOnConflict(insertStreamStats(now, statsWithoutNamespace.values(), attemptId, ctx)
+          .onConflict(STREAM_STATS.ATTEMPT_ID, STREAM_STATS.STREAM_NAME)
+          .where(STREAM_STATS.STREAM_NAMESPACE.isNull())
+          .doUpdate())
+          .execute();
+    }
+  }
+
+  private static InsertValuesStepN<StreamStatsRecord> insertStreamStats(final OffsetDateTime now,
+                                                                        final Collection<StreamSyncStats> perStreamStats,
+                                                                        final Long attemptId,
+                                                                        final DSLContext ctx) {
+    final InsertValuesStepN<StreamStatsRecord> insert = ctx.insertInto(STREAM_STATS, List.of(
+        STREAM_STATS.ID,
+        STREAM_STATS.ATTEMPT_ID,
+        STREAM_STATS.STREAM_NAME,
+        STREAM_STATS.STREAM_NAMESPACE,
+        STREAM_STATS.CREATED_AT,
+        STREAM_STATS.UPDATED_AT,
+        STREAM_STATS.BYTES_EMITTED,
+        STREAM_STATS.RECORDS_EMITTED,
+        STREAM_STATS.ESTIMATED_RECORDS,
+        STREAM_STATS.ESTIMATED_BYTES,
+        STREAM_STATS.BYTES_COMMITTED,
+        STREAM_STATS.RECORDS_COMMITTED));
+    perStreamStats.forEach(streamStats -> {
+      final var stats = streamStats.getStats();
+      insert.values(
+          UUID.randomUUID(),
+          attemptId,
+          streamStats.getStreamName(),
+          streamStats.getStreamNamespace(),
+          now,
+          now,
+          stats.getBytesEmitted(),
+          stats.getRecordsEmitted(),
+          stats.getEstimatedRecords(),
+          stats.getEstimatedBytes(),
+          stats.getBytesCommitted(),
+          stats.getRecordsCommitted());
+    });
+    return insert;
+  }
 
-    ctx.batch(queries).execute();
+  private static InsertOnDuplicateSetMoreStep<StreamStatsRecord> setStreamStatsOnConflict(final InsertOnDuplicateSetStep<StreamStatsRecord> update) {
+    return update
+        .set(STREAM_STATS.UPDATED_AT, excluded(STREAM_STATS.UPDATED_AT))
+        .set(STREAM_STATS.BYTES_EMITTED, excluded(STREAM_STATS.BYTES_EMITTED))
+        .set(STREAM_STATS.RECORDS_EMITTED, excluded(STREAM_STATS.RECORDS_EMITTED))
+        .set(STREAM_STATS.ESTIMATED_RECORDS, excluded(STREAM_STATS.ESTIMATED_RECORDS))
+        .set(STREAM_STATS.ESTIMATED_BYTES, excluded(STREAM_STATS.ESTIMATED_BYTES))
+        .set(STREAM_STATS.BYTES_COMMITTED, excluded(STREAM_STATS.BYTES_COMMITTED))
+        .set(STREAM_STATS.RECORDS_COMMITTED, excluded(STREAM_STATS.RECORDS_COMMITTED));
+  }
+
+  /**
+   * The value a multi-row upsert tried to insert in the conflicting row.
+   */
+  private static <T> Field<T> excluded(final Field<T> field) {
+    return DSL.field(DSL.name("excluded", field.getName()), field.getDataType());
   }
 
   private static Map<JobAttemptPair, AttemptStats> hydrateSyncStats(final String jobIdsStr, final DSLContext ctx) {
@@ -379,10 +450,11 @@ public class DefaultJobPersistence implements JobPersistence {
 
   // Retrieves only Job information from the record, without any attempt info
   private static Job getJobFromRecord(final Record record) {
-    return new Job(record.get(JOB_ID, Long.class),
+    final String jobConfigString = record.get("config", String.class);
+    return Job.withLazyConfig(record.get(JOB_ID, Long.class),
         Enums.toEnum(record.get("config_type", String.class), ConfigType.class).orElseThrow(),
         record.get("scope", String.class),
-        parseJobConfigFromString(record.get("config", String.class)),
+        () -> parseJobConfigFromString(jobConfigString),
         new ArrayList<Attempt>(),
         JobStatus.valueOf(record.get("job_status", String.class).toUpperCase()),
         Optional.ofNullable(record.get("job_started_at")).map(value -> getEpoch(record, "started_at")).orElse(null),
@@ -760,6 +832,31 @@ public class DefaultJobPersistence implements JobPersistence {
 
   }
 
+  @Override
+  public void writeStats(final Map<JobAttemptPair, AttemptStats> attemptStats) throws IOException {
+    if (attemptStats.isEmpty()) {
+      return;
+    }
+
+    final OffsetDateTime now = OffsetDateTime.ofInstant(timeSupplier.get(), ZoneOffset.UTC);
+    jobDatabase.transaction(ctx -> {
+      final Map<JobAttemptPair, Long> runningAttemptIds = ctx.select(ATTEMPTS.ID, ATTEMPTS.JOB_ID, ATTEMPTS.ATTEMPT_NUMBER)
+          .from(ATTEMPTS)
+          .where(DSL.row(ATTEMPTS.JOB_ID, ATTEMPTS.ATTEMPT_NUMBER).in(attemptStats.keySet().stream()
+              .map(jobAttempt -> DSL.row(jobAttempt.id(), jobAttempt.attemptNumber()))
+              .toList()))
+          .and(ATTEMPTS.STATUS.eq(io.airbyte.db.instance.jobs.jooq.generated.enums.AttemptStatus.lookupLiteral(toSqlName(AttemptStatus.RUNNING))))
+          .fetchMap(r -> new JobAttemptPair(r.get(ATTEMPTS.JOB_ID), r.get(ATTEMPTS.ATTEMPT_NUMBER)), r -> r.get(ATTEMPTS.ID));
+
+      runningAttemptIds.forEach((jobAttempt, attemptId) -> {
+        final AttemptStats stats = attemptStats.get(jobAttempt);
+        saveToSyncStatsTable(now, stats.combinedStats(), attemptId, ctx);
+        saveToStreamStatsTableBatch(now, stats.perStreamStats(), attemptId, ctx);
+      });
+      return null;
+    });
+  }
+
   @Override
   public void writeAttemptSyncConfig(final long jobId, final int attemptNumber, final AttemptSyncConfig attemptSyncConfig) throws IOException {
     final OffsetDateTime now = OffsetDateTime.ofInstant(timeSupplier.get(), ZoneOffset.UTC);
@@ -874,6 +971,15 @@ public class DefaultJobPersistence implements JobPersistence {
 
   @Override
   public List<Job> listJobs(final Set<ConfigType> configTypes, final String configId, final int pagesize) throws IOException {
+    return listJobs(configTypes, configId, pagesize, false);
+  }
+
+  @Override
+  public List<Job> listJobsLight(final Set<ConfigType> configTypes, final String configId, final int pagesize) throws IOException {
+    return listJobs(configTypes, configId, pagesize, true);
+  }
+
+  private List<Job> listJobs(final Set<ConfigType> configTypes, final String configId, final int pagesize, final boolean light) throws IOException {
     return jobDatabase.query(ctx -> {
       final String jobsSubquery = "(" + ctx.select(DSL.asterisk()).from(JOBS)
           .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
@@ -882,7 +988,7 @@ public class DefaultJobPersistence implements JobPersistence {
           .limit(pagesize)
           .getSQL(ParamType.INLINED) + ") AS jobs";
 
-      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(jobsSubquery) + ORDER_BY_JOB_TIME_ATTEMPT_TIME));
+      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(jobsSubquery, light) + ORDER_BY_JOB_TIME_ATTEMPT_TIME));
     });
   }
 
@@ -899,6 +1005,40 @@ public class DefaultJobPersistence implements JobPersistence {
                             final String orderByField,
                             final String orderByMethod)
       throws IOException {
+    return listJobs(configTypes, configId, limit, offset, status, createdAtStart, createdAtEnd, updatedAtStart, updatedAtEnd,
+        orderByField, orderByMethod, false);
+  }
+
+  @Override
+  public List<Job> listJobsLight(final Set<ConfigType> configTypes,
+                                 final String configId,
+                                 final int limit,
+                                 final int offset,
+                                 final JobStatus status,
+                                 final OffsetDateTime createdAtStart,
+                                 final OffsetDateTime createdAtEnd,
+                                 final OffsetDateTime updatedAtStart,
+                                 final OffsetDateTime updatedAtEnd,
+                                 final String orderByField,
+                                 final String orderByMethod)
+      throws IOException {
+    return listJobs(configTypes, configId, limit, offset, status, createdAtStart, createdAtEnd, updatedAtStart, updatedAtEnd,
+        orderByField, orderByMethod, true);
+  }
+
+  private List<Job> listJobs(final Set<ConfigType> configTypes,
+                             final String configId,
+                             final int limit,
+                             final int offset,
+                             final JobStatus status,
+                             final OffsetDateTime createdAtStart,
+                             final OffsetDateTime createdAtEnd,
+                             final OffsetDateTime updatedAtStart,
+                             final OffsetDateTime updatedAtEnd,
+                             final String orderByField,
+                             final String orderByMethod,
+                             final boolean light)
+      throws IOException {
     return jobDatabase.query(ctx -> {
       final String jobsSubquery = "(" + ctx.select(DSL.asterisk()).from(JOBS)
           .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
@@ -915,7 +1055,7 @@ public class DefaultJobPersistence implements JobPersistence {
           .getSQL(ParamType.INLINED) + ") AS jobs";
 
       LOGGER.debug("jobs subquery: {}", jobsSubquery);
-      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(jobsSubquery) + buildJobOrderByString(orderByField, orderByMethod)));
+      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(jobsSubquery, light) + buildJobOrderByString(orderByField, orderByMethod)));
     });
   }
 
@@ -932,6 +1072,40 @@ public class DefaultJobPersistence implements JobPersistence {
                             final String orderByField,
                             final String orderByMethod)
       throws IOException {
+    return listJobs(configTypes, workspaceIds, limit, offset, status, createdAtStart, createdAtEnd, updatedAtStart, updatedAtEnd,
+        orderByField, orderByMethod, false);
+  }
+
+  @Override
+  public List<Job> listJobsLight(final Set<ConfigType> configTypes,
+                                 final List<UUID> workspaceIds,
+                                 final int limit,
+                                 final int offset,
+                                 final JobStatus status,
+                                 final OffsetDateTime createdAtStart,
+                                 final OffsetDateTime createdAtEnd,
+                                 final OffsetDateTime updatedAtStart,
+                                 final OffsetDateTime updatedAtEnd,
+                                 final String orderByField,
+                                 final String orderByMethod)
+      throws IOException {
+    return listJobs(configTypes, workspaceIds, limit, offset, status, createdAtStart, createdAtEnd, updatedAtStart, updatedAtEnd,
+        orderByField, orderByMethod, true);
+  }
+
+  private List<Job> listJobs(final Set<ConfigType> configTypes,
+                             final List<UUID> workspaceIds,
+                             final int limit,
+                             final int offset,
+                             final JobStatus status,
+                             final OffsetDateTime createdAtStart,
+                             final OffsetDateTime createdAtEnd,
+                             final OffsetDateTime updatedAtStart,
+                             final OffsetDateTime updatedAtEnd,
+                             final String orderByField,
+                             final String orderByMethod,
+                             final boolean light)
+      throws IOException {
 
     return jobDatabase.query(ctx -> {
       final String jobsSubquery = "(" + ctx.select(JOBS.asterisk()).from(JOBS)
@@ -952,7 +1126,7 @@ public class DefaultJobPersistence implements JobPersistence {
           .offset(offset)
           .getSQL(ParamType.INLINED) + ") AS jobs";
 
-      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(jobsSubquery) + buildJobOrderByString(orderByField, orderByMethod)));
+      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(jobsSubquery, light) + buildJobOrderByString(orderByField, orderByMethod)));
     });
   }
 
@@ -969,6 +1143,24 @@ public class DefaultJobPersistence implements JobPersistence {
   @Override
   public List<Job> listJobsIncludingId(final Set<ConfigType> configTypes, final String connectionId, final long includingJobId, final int pagesize)
       throws IOException {
+    return listJobsIncludingId(configTypes, connectionId, includingJobId, pagesize, false);
+  }
+
+  @Override
+  public List<Job> listJobsIncludingIdLight(final Set<ConfigType> configTypes,
+                                            final String connectionId,
+                                            final long includingJobId,
+                                            final int pagesize)
+      throws IOException {
+    return listJobsIncludingId(configTypes, connectionId, includingJobId, pagesize, true);
+  }
+
+  private List<Job> listJobsIncludingId(final Set<ConfigType> configTypes,
+                                        final String connectionId,
+                                        final long includingJobId,
+                                        final int pagesize,
+                                        final boolean light)
+      throws IOException {
     final Optional<OffsetDateTime> includingJobCreatedAt = jobDatabase.query(ctx -> ctx.select(JOBS.CREATED_AT).from(JOBS)
         .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
         .and(JOBS.SCOPE.eq(connectionId))
@@ -990,7 +1182,7 @@ public class DefaultJobPersistence implements JobPersistence {
 
     // calculate the multiple of `pagesize` that includes the target job
     final int pageSizeThatIncludesJob = (countIncludingJob / pagesize + 1) * pagesize;
-    return listJobs(configTypes, connectionId, pageSizeThatIncludesJob);
+    return listJobs(configTypes, connectionId, pageSizeThatIncludesJob, light);
   }
 
   @Override
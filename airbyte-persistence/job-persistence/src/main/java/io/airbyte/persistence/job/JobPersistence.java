@@ -185,6 +185,15 @@ public interface JobPersistence {
                   List<StreamSyncStats> streamStats)
       throws IOException;
 
+  /**
+   * Writes the latest stats of several attempts in a single transaction. Attempts that are not
+   * running anymore are skipped: their final stats are written with their output.
+   *
+   * @param attemptStats stats of each attempt
+   * @throws IOException exception due to interaction with persistence
+   */
+  void writeStats(Map<JobAttemptPair, AttemptStats> attemptStats) throws IOException;
+
   /**
    * Writes a summary of all failures that occurred during the attempt.
    *
@@ -282,6 +291,66 @@ public interface JobPersistence {
                      String orderByMethod)
       throws IOException;
 
+  /**
+   * Same as {@link #listJobs(Set, String, int)}, but the jobs only hold what is needed to list them.
+   * Their config only holds the enabled streams and the reset configuration, their attempts have no
+   * sync config and their output only holds the sync summary.
+   *
+   * @param configTypes - type of config, e.g. sync
+   * @param configId - id of that config
+   * @return lists job in descending order by created_at
+   * @throws IOException - what you do when you IO
+   */
+  List<Job> listJobsLight(Set<ConfigType> configTypes, String configId, int limit) throws IOException;
+
+  /**
+   * Same as
+   * {@link #listJobs(Set, String, int, int, JobStatus, OffsetDateTime, OffsetDateTime, OffsetDateTime, OffsetDateTime, String, String)},
+   * but the jobs only hold what is needed to list them, see {@link #listJobsLight(Set, String, int)}.
+   *
+   * @param configTypes - type of config, e.g. sync
+   * @param configId - id of that config
+   * @return lists job in descending order by created_at
+   * @throws IOException - what you do when you IO
+   */
+  List<Job> listJobsLight(
+                          Set<JobConfig.ConfigType> configTypes,
+                          String configId,
+                          int limit,
+                          int offset,
+                          JobStatus status,
+                          OffsetDateTime createdAtStart,
+                          OffsetDateTime createdAtEnd,
+                          OffsetDateTime updatedAtStart,
+                          OffsetDateTime updatedAtEnd,
+                          String orderByField,
+                          String orderByMethod)
+      throws IOException;
+
+  /**
+   * Same as
+   * {@link #listJobs(Set, List, int, int, JobStatus, OffsetDateTime, OffsetDateTime, OffsetDateTime, OffsetDateTime, String, String)},
+   * but the jobs only hold what is needed to list them, see {@link #listJobsLight(Set, String, int)}.
+   *
+   * @param configTypes - type of config, e.g. sync
+   * @param workspaceIds - ids of requested workspaces
+   * @return lists job in descending order by created_at
+   * @throws IOException - what you do when you IO
+   */
+  List<Job> listJobsLight(
+                          Set<JobConfig.ConfigType> configTypes,
+                          List<UUID> workspaceIds,
+                          int limit,
+                          int offset,
+                          JobStatus status,
+                          OffsetDateTime createdAtStart,
+                          OffsetDateTime createdAtEnd,
+                          OffsetDateTime updatedAtStart,
+                          OffsetDateTime updatedAtEnd,
+                          String orderByField,
+                          String orderByMethod)
+      throws IOException;
+
   /**
    * List jobs of a config type after a certain time.
    *
@@ -306,6 +375,13 @@ public interface JobPersistence {
    */
   List<Job> listJobsIncludingId(Set<JobConfig.ConfigType> configTypes, String connectionId, long includingJobId, int pagesize) throws IOException;
 
+  /**
+   * Same as {@link #listJobsIncludingId(Set, String, long, int)}, but the jobs only hold what is
+   * needed to list them, see {@link #listJobsLight(Set, String, int)}.
+   */
+  List<Job> listJobsIncludingIdLight(Set<JobConfig.ConfigType> configTypes, String connectionId, long includingJobId, int pagesize)
+      throws IOException;
+
   List<Job> listJobsWithStatus(JobStatus status) throws IOException;
 
   List<Job> listJobsWithStatus(Set<JobConfig.ConfigType> configTypes, JobStatus status) throws IOException;
@@ -36,8 +36,10 @@ import io.airbyte.config.JobConfig;
 import io.airbyte.config.JobConfig.ConfigType;
 import io.airbyte.config.JobGetSpecConfig;
 import io.airbyte.config.JobOutput;
+import io.airbyte.config.JobResetConnectionConfig;
 import io.airbyte.config.JobSyncConfig;
 import io.airbyte.config.NormalizationSummary;
+import io.airbyte.config.ResetSourceConfiguration;
 import io.airbyte.config.StandardSyncOutput;
 import io.airbyte.config.StandardSyncSummary;
 import io.airbyte.config.State;
@@ -57,6 +59,12 @@ import io.airbyte.persistence.job.models.Job;
 import io.airbyte.persistence.job.models.JobStatus;
 import io.airbyte.persistence.job.models.JobStatusSummary;
 import io.airbyte.persistence.job.models.JobWithStatusAndTimestamp;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import io.airbyte.protocol.models.StreamDescriptor;
 import io.airbyte.test.utils.Databases;
 import java.io.IOException;
 import java.nio.file.Path;
@@ -66,6 +74,7 @@ import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -746,6 +755,62 @@ class DefaultJobPersistenceTest {
       assertEquals(streamStats, actStreamStats);
     }
 
+    @Test
+    @DisplayName("Writing stats of streams with and without a namespace at once should keep the last stats of each stream")
+    void testWriteStatsMixedNamespacesUpsert() throws IOException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+      final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+
+      // First write.
+      jobPersistence.writeStats(jobId, attemptNumber, 1000L, 1000L, 1000L, 1000L, 1000L, 1000L, List.of(
+          new StreamSyncStats().withStreamName("name1")
+              .withStats(new SyncStats().withBytesEmitted(100L).withRecordsEmitted(100L).withEstimatedBytes(10000L).withEstimatedRecords(2000L)),
+          new StreamSyncStats().withStreamName("name1").withStreamNamespace("ns")
+              .withStats(new SyncStats().withBytesEmitted(200L).withRecordsEmitted(200L).withEstimatedBytes(10000L).withEstimatedRecords(2000L))));
+
+      // Second write, with the stream without a namespace sent twice.
+      when(timeSupplier.get()).thenReturn(Instant.now());
+      final var nullNamespaceStats = new StreamSyncStats().withStreamName("name1")
+          .withStats(new SyncStats().withBytesEmitted(500L).withRecordsEmitted(500L).withEstimatedBytes(10000L).withEstimatedRecords(2000L));
+      final var namespaceStats = new StreamSyncStats().withStreamName("name1").withStreamNamespace("ns")
+          .withStats(new SyncStats().withBytesEmitted(600L).withRecordsEmitted(600L).withEstimatedBytes(10000L).withEstimatedRecords(2000L));
+      jobPersistence.writeStats(jobId, attemptNumber, 2000L, 2000L, 2000L, 2000L, 2000L, 2000L, List.of(
+          new StreamSyncStats().withStreamName("name1")
+              .withStats(new SyncStats().withBytesEmitted(300L).withRecordsEmitted(300L).withEstimatedBytes(10000L).withEstimatedRecords(2000L)),
+          nullNamespaceStats,
+          namespaceStats));
+
+      final var actStreamStats = jobPersistence.getAttemptStats(jobId, attemptNumber).perStreamStats();
+      assertEquals(2, actStreamStats.size());
+      assertTrue(actStreamStats.containsAll(List.of(nullNamespaceStats, namespaceStats)));
+    }
+
+    @Test
+    @DisplayName("Writing the stats of several attempts at once should only write the stats of running attempts")
+    void testWriteStatsOfSeveralAttempts() throws IOException {
+      final long runningJobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+      final int runningAttemptNumber = jobPersistence.createAttempt(runningJobId, LOG_PATH);
+      final long failedJobId = jobPersistence.enqueueJob(SPEC_SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+      final int failedAttemptNumber = jobPersistence.createAttempt(failedJobId, LOG_PATH);
+      jobPersistence.writeStats(failedJobId, failedAttemptNumber, 1000L, 1000L, 1000L, 1000L, 1000L, 1000L, List.of());
+      jobPersistence.failAttempt(failedJobId, failedAttemptNumber);
+
+      final var streamStats = List.of(new StreamSyncStats().withStreamName("name1").withStreamNamespace("ns")
+          .withStats(new SyncStats().withBytesEmitted(500L).withRecordsEmitted(500L).withEstimatedBytes(10000L).withEstimatedRecords(2000L)));
+      final var syncStats = new SyncStats().withBytesEmitted(500L).withRecordsEmitted(500L).withEstimatedBytes(10000L).withEstimatedRecords(2000L);
+      jobPersistence.writeStats(Map.of(
+          new JobAttemptPair(runningJobId, runningAttemptNumber), new AttemptStats(syncStats, streamStats),
+          new JobAttemptPair(failedJobId, failedAttemptNumber), new AttemptStats(syncStats, streamStats)));
+
+      final AttemptStats runningStats = jobPersistence.getAttemptStats(runningJobId, runningAttemptNumber);
+      assertEquals(500, runningStats.combinedStats().getBytesEmitted());
+      assertEquals(streamStats, runningStats.perStreamStats());
+
+      final AttemptStats failedStats = jobPersistence.getAttemptStats(failedJobId, failedAttemptNumber);
+      assertEquals(1000, failedStats.combinedStats().getBytesEmitted());
+      assertEquals(List.of(), failedStats.perStreamStats());
+    }
+
     @Test
     @DisplayName("Writing multiple stats a stream with null namespace should write correctly without exceptions")
     void testGetStatsNoResult() throws IOException {
@@ -1952,6 +2017,68 @@ class DefaultJobPersistenceTest {
       assertEquals(jobId2, actualList.get(0).getId());
     }
 
+    @Test
+    @DisplayName("Should list jobs with only the parts of their config and attempts needed to list them")
+    void testListJobsLight() throws IOException {
+      final ConfiguredAirbyteCatalog catalog = new ConfiguredAirbyteCatalog().withStreams(List.of(
+          new ConfiguredAirbyteStream().withStream(CatalogHelpers.createAirbyteStream("users", Field.of("id", JsonSchemaType.STRING))),
+          new ConfiguredAirbyteStream().withStream(CatalogHelpers.createAirbyteStream("orders", "shop", Field.of("id", JsonSchemaType.STRING)))));
+      final JobConfig syncConfig = new JobConfig()
+          .withConfigType(ConfigType.SYNC)
+          .withSync(new JobSyncConfig().withConfiguredAirbyteCatalog(catalog));
+      final ResetSourceConfiguration resetSourceConfiguration =
+          new ResetSourceConfiguration().withStreamsToReset(List.of(new StreamDescriptor().withName("orders").withNamespace("shop")));
+      final JobConfig resetConfig = new JobConfig()
+          .withConfigType(ConfigType.RESET_CONNECTION)
+          .withResetConnection(new JobResetConnectionConfig()
+              .withConfiguredAirbyteCatalog(catalog)
+              .withResetSourceConfiguration(resetSourceConfiguration));
+
+      final long syncJobId = jobPersistence.enqueueJob(SCOPE, syncConfig).orElseThrow();
+      final int attemptNumber = jobPersistence.createAttempt(syncJobId, LOG_PATH);
+      jobPersistence.writeAttemptSyncConfig(syncJobId, attemptNumber, new AttemptSyncConfig()
+          .withSourceConfiguration(Jsons.jsonNode(Map.of("source", "s_config_value"))));
+      final StandardSyncSummary standardSyncSummary = new StandardSyncSummary()
+          .withTotalStats(new SyncStats().withRecordsEmitted(10L).withBytesEmitted(100L))
+          .withStreamStats(List.of(new StreamSyncStats().withStreamName("users")
+              .withStats(new SyncStats().withRecordsEmitted(10L).withBytesEmitted(100L))));
+      jobPersistence.writeOutput(syncJobId, attemptNumber, new JobOutput()
+          .withOutputType(JobOutput.OutputType.SYNC)
+          .withSync(new StandardSyncOutput()
+              .withStandardSyncSummary(standardSyncSummary)
+              .withState(new State().withState(Jsons.jsonNode(Map.of("cursor", "value"))))
+              .withOutputCatalog(catalog)));
+      jobPersistence.succeedAttempt(syncJobId, attemptNumber);
+      when(timeSupplier.get()).thenReturn(NOW.plusSeconds(1));
+      final long resetJobId = jobPersistence.enqueueJob(SCOPE, resetConfig).orElseThrow();
+
+      final List<Job> jobs =
+          jobPersistence.listJobsLight(Set.of(ConfigType.SYNC, ConfigType.RESET_CONNECTION), SCOPE, 10, 0, null, null, null, null, null, null, null);
+
+      assertEquals(List.of(resetJobId, syncJobId), jobs.stream().map(Job::getId).toList());
+      assertEquals(resetSourceConfiguration, jobs.get(0).getConfig().getResetConnection().getResetSourceConfiguration());
+      assertNull(jobs.get(0).getConfig().getResetConnection().getConfiguredAirbyteCatalog());
+
+      final Job syncJob = jobs.get(1);
+      final List<ConfiguredAirbyteStream> streams = syncJob.getConfig().getSync().getConfiguredAirbyteCatalog().getStreams();
+      assertEquals(List.of("users", "orders"), streams.stream().map(stream -> stream.getStream().getName()).toList());
+      assertEquals(Arrays.asList(null, "shop"), streams.stream().map(stream -> stream.getStream().getNamespace()).toList());
+      assertNull(streams.get(0).getStream().getJsonSchema());
+
+      final Attempt attempt = syncJob.getAttempts().get(0);
+      assertEquals(Optional.empty(), attempt.getSyncConfig());
+      final StandardSyncOutput output = attempt.getOutput().orElseThrow().getSync();
+      assertEquals(standardSyncSummary, output.getStandardSyncSummary());
+      assertNull(output.getState());
+      assertNull(output.getOutputCatalog());
+
+      // The same jobs are fully loaded when listed normally.
+      final List<Job> fullJobs = jobPersistence.listJobs(Set.of(ConfigType.SYNC, ConfigType.RESET_CONNECTION), SCOPE, 10);
+      assertNotNull(fullJobs.get(1).getConfig().getSync().getConfiguredAirbyteCatalog().getStreams().get(0).getStream().getJsonSchema());
+      assertTrue(fullJobs.get(1).getAttempts().get(0).getSyncConfig().isPresent());
+      assertNotNull(fullJobs.get(1).getAttempts().get(0).getOutput().orElseThrow().getSync().getOutputCatalog());
+    }
+
     @Test
     @DisplayName("Should list jobs including the specified job")
     void testListJobsIncludingId() throws IOException {
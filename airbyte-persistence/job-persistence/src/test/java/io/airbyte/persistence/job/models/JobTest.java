@@ -10,7 +10,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.airbyte.config.JobConfig;
+import io.airbyte.config.JobConfig.ConfigType;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
@@ -32,6 +35,21 @@ class JobTest {
     return new Job(1L, null, null, null, null, jobStatus, 0L, 0L, 0L);
   }
 
+  @Test
+  void testConfigIsLoadedLazilyAndOnce() {
+    final JobConfig config = new JobConfig().withConfigType(ConfigType.SYNC);
+    final AtomicInteger loads = new AtomicInteger();
+    final Job job = Job.withLazyConfig(1L, ConfigType.SYNC, null, () -> {
+      loads.incrementAndGet();
+      return config;
+    }, List.of(), JobStatus.PENDING, 0L, 0L, 0L);
+    assertEquals(0, loads.get());
+
+    assertEquals(config, job.getConfig());
+    assertEquals(config, job.getConfig());
+    assertEquals(1, loads.get());
+  }
+
   @Test
   void testHasRunningAttempt() {
     assertTrue(jobWithAttemptWithStatus(AttemptStatus.RUNNING).hasRunningAttempt());
@@ -11,12 +11,14 @@ import static io.airbyte.commons.auth.AuthRoleConstants.WORKSPACE_READER;
 
 import io.airbyte.api.generated.AttemptApi;
 import io.airbyte.api.model.generated.AttemptInfoRead;
+import io.airbyte.api.model.generated.AttemptLogsPageRequestBody;
 import io.airbyte.api.model.generated.AttemptStats;
 import io.airbyte.api.model.generated.CreateNewAttemptNumberRequest;
 import io.airbyte.api.model.generated.CreateNewAttemptNumberResponse;
 import io.airbyte.api.model.generated.FailAttemptRequest;
 import io.airbyte.api.model.generated.GetAttemptStatsRequestBody;
 import io.airbyte.api.model.generated.InternalOperationResult;
+import io.airbyte.api.model.generated.LogPageRead;
 import io.airbyte.api.model.generated.SaveAttemptSyncConfigRequestBody;
 import io.airbyte.api.model.generated.SaveStatsRequestBody;
 import io.airbyte.api.model.generated.SetWorkflowInAttemptRequestBody;
@@ -52,6 +54,16 @@ public class AttemptApiController implements AttemptApi {
         .execute(() -> attemptHandler.getAttemptForJob(requestBody.getJobId(), requestBody.getAttemptNumber()));
   }
 
+  @Override
+  @Post(uri = "/get_logs_page",
+        processes = MediaType.APPLICATION_JSON)
+  @ExecuteOn(AirbyteTaskExecutors.IO)
+  @Secured({READER, WORKSPACE_READER, ORGANIZATION_READER})
+  @SecuredWorkspace
+  public LogPageRead getAttemptLogsPage(final AttemptLogsPageRequestBody requestBody) {
+    return ApiHelper.execute(() -> attemptHandler.getAttemptLogsPage(requestBody));
+  }
+
   @Override
   @Post(uri = "/create_new_attempt_number",
         processes = MediaType.APPLICATION_JSON)
@@ -28,6 +28,7 @@ import io.airbyte.api.model.generated.ConnectionStatusesRequestBody;
 import io.airbyte.api.model.generated.ConnectionStreamHistoryReadItem;
 import io.airbyte.api.model.generated.ConnectionStreamHistoryRequestBody;
 import io.airbyte.api.model.generated.ConnectionStreamRequestBody;
+import io.airbyte.api.model.generated.ConnectionSummaryRead;
 import io.airbyte.api.model.generated.ConnectionSyncProgressReadItem;
 import io.airbyte.api.model.generated.ConnectionSyncResultRead;
 import io.airbyte.api.model.generated.ConnectionUpdate;
@@ -163,6 +164,14 @@ public class ConnectionApiController implements ConnectionApi {
     return ApiHelper.execute(() -> connectionsHandler.getConnection(connectionIdRequestBody.getConnectionId()));
   }
 
+  @Override
+  @Post(uri = "/get_summary")
+  @Secured({ADMIN})
+  @ExecuteOn(AirbyteTaskExecutors.IO)
+  public ConnectionSummaryRead getConnectionSummary(@Body final ConnectionIdRequestBody connectionIdRequestBody) {
+    return ApiHelper.execute(() -> connectionsHandler.getConnectionSummary(connectionIdRequestBody.getConnectionId()));
+  }
+
   @Override
   @Post(uri = "/history/data")
   @Secured({READER, WORKSPACE_READER, ORGANIZATION_READER})
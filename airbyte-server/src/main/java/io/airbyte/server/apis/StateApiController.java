@@ -16,6 +16,7 @@ import io.airbyte.api.generated.StateApi;
 import io.airbyte.api.model.generated.ConnectionIdRequestBody;
 import io.airbyte.api.model.generated.ConnectionState;
 import io.airbyte.api.model.generated.ConnectionStateCreateOrUpdate;
+import io.airbyte.api.model.generated.InternalOperationResult;
 import io.airbyte.commons.auth.SecuredWorkspace;
 import io.airbyte.commons.server.handlers.StateHandler;
 import io.airbyte.commons.server.scheduling.AirbyteTaskExecutors;
@@ -43,6 +44,14 @@ public class StateApiController implements StateApi {
     return ApiHelper.execute(() -> stateHandler.createOrUpdateState(connectionStateCreateOrUpdate));
   }
 
+  @Post("/apply_delta")
+  @Secured({ADMIN})
+  @ExecuteOn(AirbyteTaskExecutors.IO)
+  @Override
+  public InternalOperationResult applyStateDelta(final ConnectionStateCreateOrUpdate connectionStateCreateOrUpdate) {
+    return ApiHelper.execute(() -> stateHandler.applyStateDelta(connectionStateCreateOrUpdate));
+  }
+
   @Post("/create_or_update_safe")
   @Secured({EDITOR, WORKSPACE_EDITOR, ORGANIZATION_EDITOR})
   @SecuredWorkspace
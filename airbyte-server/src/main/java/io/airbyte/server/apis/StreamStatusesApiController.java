@@ -12,6 +12,8 @@ import static io.airbyte.commons.auth.AuthRoleConstants.WORKSPACE_READER;
 import io.airbyte.api.generated.StreamStatusesApi;
 import io.airbyte.api.model.generated.ConnectionIdRequestBody;
 import io.airbyte.api.model.generated.Pagination;
+import io.airbyte.api.model.generated.StreamStatusBatchRead;
+import io.airbyte.api.model.generated.StreamStatusBatchRequestBody;
 import io.airbyte.api.model.generated.StreamStatusCreateRequestBody;
 import io.airbyte.api.model.generated.StreamStatusIncompleteRunCause;
 import io.airbyte.api.model.generated.StreamStatusListRequestBody;
@@ -60,6 +62,21 @@ public class StreamStatusesApiController implements StreamStatusesApi {
     return handler.updateStreamStatus(req);
   }
 
+  @Secured({ADMIN})
+  @ExecuteOn(AirbyteTaskExecutors.IO)
+  @Post(uri = "/batch")
+  @Override
+  public StreamStatusBatchRead batchStreamStatuses(final StreamStatusBatchRequestBody req) {
+    if (req.getCreates() != null) {
+      req.getCreates().forEach(create -> Validations.validate(create.getRunState(), create.getIncompleteRunCause()));
+    }
+    if (req.getUpdates() != null) {
+      req.getUpdates().forEach(update -> Validations.validate(update.getRunState(), update.getIncompleteRunCause()));
+    }
+
+    return handler.batchStreamStatuses(req);
+  }
+
   @Secured({READER, WORKSPACE_READER, ORGANIZATION_READER})
   @SecuredWorkspace
   @ExecuteOn(AirbyteTaskExecutors.IO)
@@ -28,6 +28,7 @@ import io.airbyte.db.check.impl.JobsDatabaseAvailabilityCheck;
 import io.airbyte.db.factory.DSLContextFactory;
 import io.airbyte.db.factory.DatabaseCheckFactory;
 import io.airbyte.db.instance.DatabaseConstants;
+import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.persistence.job.DefaultJobPersistence;
 import io.airbyte.persistence.job.DefaultMetadataPersistence;
 import io.airbyte.persistence.job.JobPersistence;
@@ -140,8 +141,8 @@ public class DatabaseBeanFactory {
   }
 
   @Singleton
-  public StatePersistence statePersistence(@Named("configDatabase") final Database configDatabase) {
-    return new StatePersistence(configDatabase);
+  public StatePersistence statePersistence(@Named("configDatabase") final Database configDatabase, final MetricClient metricClient) {
+    return new StatePersistence(configDatabase, metricClient);
   }
 
   @Singleton
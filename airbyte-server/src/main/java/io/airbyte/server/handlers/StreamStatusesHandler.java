@@ -8,6 +8,8 @@ import io.airbyte.api.model.generated.ConnectionIdRequestBody;
 import io.airbyte.api.model.generated.ConnectionSyncResultRead;
 import io.airbyte.api.model.generated.ConnectionUptimeHistoryRequestBody;
 import io.airbyte.api.model.generated.JobStatus;
+import io.airbyte.api.model.generated.StreamStatusBatchRead;
+import io.airbyte.api.model.generated.StreamStatusBatchRequestBody;
 import io.airbyte.api.model.generated.StreamStatusCreateRequestBody;
 import io.airbyte.api.model.generated.StreamStatusIncompleteRunCause;
 import io.airbyte.api.model.generated.StreamStatusListRequestBody;
@@ -17,14 +19,23 @@ import io.airbyte.api.model.generated.StreamStatusRunState;
 import io.airbyte.api.model.generated.StreamStatusUpdateRequestBody;
 import io.airbyte.server.handlers.api_domain_mapping.StreamStatusesMapper;
 import io.airbyte.server.repositories.StreamStatusesRepository;
+import io.airbyte.server.repositories.domain.StreamStatus;
+import io.micronaut.transaction.annotation.TransactionalAdvice;
 import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.StreamSupport;
 
 /**
  * Interface layer between the API and Persistence layers.
@@ -56,6 +67,85 @@ public class StreamStatusesHandler {
     return mapper.map(saved);
   }
 
+  /**
+   * Creates and updates stream statuses in a single transaction, so that the client can send the
+   * whole batch again if any of it fails without creating the same stream statuses twice.
+   * <p>
+   * The client can't tell whether a batch that timed out was committed, so creations are idempotent:
+   * the creation of the status of a stream that already has one for the same attempt updates the
+   * existing stream status instead, and returns it as created.
+   */
+  @Transactional
+  @TransactionalAdvice("config")
+  public StreamStatusBatchRead batchStreamStatuses(final StreamStatusBatchRequestBody req) {
+    final var creates = Objects.requireNonNullElse(req.getCreates(), List.<StreamStatusCreateRequestBody>of())
+        .stream()
+        .map(mapper::map)
+        .toList();
+    final var updates = Objects.requireNonNullElse(req.getUpdates(), List.<StreamStatusUpdateRequestBody>of())
+        .stream()
+        .map(mapper::map)
+        .toList();
+
+    final List<StreamStatus> created = upsertAll(creates);
+    final Iterable<StreamStatus> updated = updates.isEmpty() ? List.<StreamStatus>of() : repo.updateAll(updates);
+
+    return new StreamStatusBatchRead()
+        .created(created.stream().map(mapper::map).toList())
+        .updated(StreamSupport.stream(updated.spliterator(), false).map(mapper::map).toList());
+  }
+
+  /**
+   * Saves the new stream statuses and updates the ones that already exist.
+   *
+   * @return the saved stream statuses, in the order of the given ones.
+   */
+  private List<StreamStatus> upsertAll(final List<StreamStatus> streamStatuses) {
+    if (streamStatuses.isEmpty()) {
+      return List.of();
+    }
+
+    final Map<StreamStatusKey, StreamStatus> existing = new HashMap<>();
+    repo.findAllByJobIdIn(streamStatuses.stream().map(StreamStatus::getJobId).distinct().toList())
+        .forEach(streamStatus -> existing.put(StreamStatusKey.of(streamStatus), streamStatus));
+
+    final List<StreamStatus> inserts = new ArrayList<>();
+    final List<StreamStatus> upserts = new ArrayList<>();
+    for (final StreamStatus streamStatus : streamStatuses) {
+      final StreamStatus existingStreamStatus = existing.get(StreamStatusKey.of(streamStatus));
+      if (existingStreamStatus == null) {
+        inserts.add(streamStatus);
+      } else {
+        upserts.add(withId(streamStatus, existingStreamStatus));
+      }
+    }
+
+    final Iterator<StreamStatus> inserted = (inserts.isEmpty() ? List.<StreamStatus>of() : repo.saveAll(inserts)).iterator();
+    final Iterator<StreamStatus> updated = (upserts.isEmpty() ? List.<StreamStatus>of() : repo.updateAll(upserts)).iterator();
+    return streamStatuses.stream()
+        .map(streamStatus -> existing.containsKey(StreamStatusKey.of(streamStatus)) ? updated.next() : inserted.next())
+        .toList();
+  }
+
+  private static StreamStatus withId(final StreamStatus streamStatus, final StreamStatus existing) {
+    return new StreamStatus(existing.getId(), streamStatus.getWorkspaceId(), streamStatus.getConnectionId(), streamStatus.getJobId(),
+        streamStatus.getAttemptNumber(), streamStatus.getStreamNamespace(), streamStatus.getStreamName(), streamStatus.getJobType(),
+        existing.getCreatedAt(), streamStatus.getUpdatedAt(), streamStatus.getRunState(), streamStatus.getIncompleteRunCause(),
+        streamStatus.getTransitionedAt());
+  }
+
+  /**
+   * A stream has a single stream status per attempt.
+   */
+  private record StreamStatusKey(Long jobId, Integer attemptNumber, String streamNamespace, String streamName) {
+
+    static StreamStatusKey of(final StreamStatus streamStatus) {
+      return new StreamStatusKey(streamStatus.getJobId(), streamStatus.getAttemptNumber(), streamStatus.getStreamNamespace(),
+          streamStatus.getStreamName());
+    }
+
+  }
+
   public StreamStatusReadList listStreamStatus(final StreamStatusListRequestBody req) {
     final var filters = mapper.map(req);
 
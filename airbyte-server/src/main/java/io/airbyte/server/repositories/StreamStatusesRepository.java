@@ -18,6 +18,7 @@ import io.micronaut.data.repository.PageableRepository;
 import io.micronaut.data.repository.jpa.JpaSpecificationExecutor;
 import io.micronaut.data.repository.jpa.criteria.PredicateSpecification;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import lombok.Builder;
@@ -70,6 +71,11 @@ public interface StreamStatusesRepository extends PageableRepository<StreamStatu
     return findAll(spec, pageable);
   }
 
+  /**
+   * Returns the stream statuses of the given jobs.
+   */
+  List<StreamStatus> findAllByJobIdIn(final Collection<Long> jobIds);
+
   /**
    * Returns the latest stream status per run state (and job type) for a connection.
    */
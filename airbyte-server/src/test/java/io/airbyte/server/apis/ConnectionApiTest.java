@@ -9,6 +9,7 @@ import io.airbyte.api.model.generated.ConnectionIdRequestBody;
 import io.airbyte.api.model.generated.ConnectionRead;
 import io.airbyte.api.model.generated.ConnectionReadList;
 import io.airbyte.api.model.generated.ConnectionSearch;
+import io.airbyte.api.model.generated.ConnectionSummaryRead;
 import io.airbyte.api.model.generated.ConnectionUpdate;
 import io.airbyte.api.model.generated.InternalOperationResult;
 import io.airbyte.api.model.generated.JobInfoRead;
@@ -138,6 +139,20 @@ class ConnectionApiTest extends BaseControllerTest {
         HttpStatus.NOT_FOUND);
   }
 
+  @Test
+  void testGetConnectionSummary() throws JsonValidationException, ConfigNotFoundException, IOException {
+    Mockito.when(connectionsHandler.getConnectionSummary(Mockito.any()))
+        .thenReturn(new ConnectionSummaryRead())
+        .thenThrow(new ConfigNotFoundException("", ""));
+    final String path = "/api/v1/connections/get_summary";
+    testEndpointStatus(
+        HttpRequest.POST(path, Jsons.serialize(new ConnectionIdRequestBody())),
+        HttpStatus.OK);
+    testErrorEndpointStatus(
+        HttpRequest.POST(path, Jsons.serialize(new ConnectionIdRequestBody())),
+        HttpStatus.NOT_FOUND);
+  }
+
   @Test
   void testDeleteConnection() throws JsonValidationException, ConfigNotFoundException, IOException {
     Mockito.doNothing()
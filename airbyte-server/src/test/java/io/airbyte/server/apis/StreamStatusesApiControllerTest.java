@@ -8,6 +8,8 @@ import static org.mockito.Mockito.when;
 
 import io.airbyte.api.model.generated.ConnectionIdRequestBody;
 import io.airbyte.api.model.generated.Pagination;
+import io.airbyte.api.model.generated.StreamStatusBatchRead;
+import io.airbyte.api.model.generated.StreamStatusBatchRequestBody;
 import io.airbyte.api.model.generated.StreamStatusCreateRequestBody;
 import io.airbyte.api.model.generated.StreamStatusIncompleteRunCause;
 import io.airbyte.api.model.generated.StreamStatusJobType;
@@ -26,6 +28,7 @@ import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.test.annotation.MockBean;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Stream;
@@ -54,6 +57,7 @@ class StreamStatusesApiControllerTest extends BaseControllerTest {
   static String PATH_BASE = "/api/v1/stream_statuses";
   static String PATH_CREATE = PATH_BASE + "/create";
   static String PATH_UPDATE = PATH_BASE + "/update";
+  static String PATH_BATCH = PATH_BASE + "/batch";
   static String PATH_LIST = PATH_BASE + "/list";
   static String PATH_LATEST_PER_RUN_STATE = PATH_BASE + "/latest_per_run_state";
 
@@ -115,6 +119,39 @@ class StreamStatusesApiControllerTest extends BaseControllerTest {
         HttpStatus.BAD_REQUEST);
   }
 
+  @Test
+  void testBatchSuccessful() {
+    when(handler.batchStreamStatuses(Mockito.any()))
+        .thenReturn(new StreamStatusBatchRead());
+
+    testEndpointStatus(
+        HttpRequest.POST(
+            PATH_BATCH,
+            Jsons.serialize(new StreamStatusBatchRequestBody()
+                .creates(List.of(Fixtures.validCreate()))
+                .updates(List.of(Fixtures.validUpdate())))),
+        HttpStatus.OK);
+  }
+
+  @ParameterizedTest
+  @MethodSource("invalidRunStateCauseMatrix")
+  void testBatchIncompleteRunCauseRunStateInvariant(final StreamStatusRunState state, final StreamStatusIncompleteRunCause incompleteCause) {
+    when(handler.batchStreamStatuses(Mockito.any()))
+        .thenReturn(new StreamStatusBatchRead());
+
+    final var invalid = Fixtures.validUpdate()
+        .runState(state)
+        .incompleteRunCause(incompleteCause);
+
+    testErrorEndpointStatus(
+        HttpRequest.POST(
+            PATH_BATCH,
+            Jsons.serialize(new StreamStatusBatchRequestBody()
+                .creates(List.of(Fixtures.validCreate()))
+                .updates(List.of(invalid)))),
+        HttpStatus.BAD_REQUEST);
+  }
+
   private static Stream<Arguments> invalidRunStateCauseMatrix() {
     return Stream.of(
         Arguments.of(StreamStatusRunState.PENDING, StreamStatusIncompleteRunCause.FAILED),
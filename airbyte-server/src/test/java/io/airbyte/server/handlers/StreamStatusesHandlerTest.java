@@ -9,6 +9,7 @@ import static org.mockito.Mockito.when;
 import io.airbyte.api.model.generated.ConnectionIdRequestBody;
 import io.airbyte.api.model.generated.ConnectionSyncResultRead;
 import io.airbyte.api.model.generated.ConnectionUptimeHistoryRequestBody;
+import io.airbyte.api.model.generated.StreamStatusBatchRequestBody;
 import io.airbyte.api.model.generated.StreamStatusCreateRequestBody;
 import io.airbyte.api.model.generated.StreamStatusListRequestBody;
 import io.airbyte.api.model.generated.StreamStatusRead;
@@ -29,6 +30,7 @@ import java.util.UUID;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 class StreamStatusesHandlerTest {
@@ -78,6 +80,116 @@ class StreamStatusesHandlerTest {
     Assertions.assertSame(apiResp, handler.updateStreamStatus(apiReq));
   }
 
+  @Test
+  void testBatch() {
+    final var apiCreate = new StreamStatusCreateRequestBody();
+    final var apiUpdate = new StreamStatusUpdateRequestBody();
+    final var createDomain = StreamStatus.builder().build();
+    final var updateDomain = StreamStatus.builder().build();
+    final var createResp = new StreamStatusRead();
+    final var updateResp = new StreamStatusRead();
+
+    when(mapper.map(apiCreate))
+        .thenReturn(createDomain);
+    when(mapper.map(apiUpdate))
+        .thenReturn(updateDomain);
+    when(repo.saveAll(List.of(createDomain)))
+        .thenReturn(List.of(createDomain));
+    when(repo.updateAll(List.of(updateDomain)))
+        .thenReturn(List.of(updateDomain));
+    when(mapper.map(createDomain))
+        .thenReturn(createResp);
+    when(mapper.map(updateDomain))
+        .thenReturn(updateResp);
+
+    final var result = handler.batchStreamStatuses(new StreamStatusBatchRequestBody()
+        .creates(List.of(apiCreate))
+        .updates(List.of(apiUpdate)));
+
+    Assertions.assertEquals(List.of(createResp), result.getCreated());
+    Assertions.assertEquals(List.of(updateResp), result.getUpdated());
+  }
+
+  @Test
+  void testBatchWithoutUpdates() {
+    final var apiCreate = new StreamStatusCreateRequestBody();
+    final var domain = StreamStatus.builder().build();
+    final var apiResp = new StreamStatusRead();
+
+    when(mapper.map(apiCreate))
+        .thenReturn(domain);
+    when(repo.saveAll(List.of(domain)))
+        .thenReturn(List.of(domain));
+    when(mapper.map(domain))
+        .thenReturn(apiResp);
+
+    final var result = handler.batchStreamStatuses(new StreamStatusBatchRequestBody().creates(List.of(apiCreate)));
+
+    Assertions.assertEquals(List.of(apiResp), result.getCreated());
+    Assertions.assertEquals(List.of(), result.getUpdated());
+    Mockito.verify(repo, Mockito.never()).updateAll(Mockito.anyIterable());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testBatchUpdatesTheStreamStatusesThatWereAlreadyCreated() {
+    final var apiCreate = new StreamStatusCreateRequestBody();
+    final var apiNewCreate = new StreamStatusCreateRequestBody().streamName("new");
+    final var createDomain = StreamStatus.builder().jobId(1L).attemptNumber(0).streamName("stream").build();
+    final var newCreateDomain = StreamStatus.builder().jobId(1L).attemptNumber(0).streamName("new").build();
+    final var existingId = UUID.randomUUID();
+    final var existingDomain = StreamStatus.builder().id(existingId).jobId(1L).attemptNumber(0).streamName("stream").build();
+    final var createResp = new StreamStatusRead().streamName("stream");
+    final var newCreateResp = new StreamStatusRead().streamName("new");
+
+    when(mapper.map(apiCreate))
+        .thenReturn(createDomain);
+    when(mapper.map(apiNewCreate))
+        .thenReturn(newCreateDomain);
+    // A previous attempt at sending the batch was committed.
+    when(repo.findAllByJobIdIn(List.of(1L)))
+        .thenReturn(List.of(existingDomain));
+    when(repo.saveAll(List.of(newCreateDomain)))
+        .thenReturn(List.of(newCreateDomain));
+    when(repo.updateAll(Mockito.anyIterable()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(mapper.map(Mockito.any(StreamStatus.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0) == newCreateDomain ? newCreateResp : createResp);
+
+    final var result = handler.batchStreamStatuses(new StreamStatusBatchRequestBody().creates(List.of(apiCreate, apiNewCreate)));
+
+    Assertions.assertEquals(List.of(createResp, newCreateResp), result.getCreated());
+    final ArgumentCaptor<Iterable<StreamStatus>> upserted = ArgumentCaptor.forClass(Iterable.class);
+    Mockito.verify(repo).updateAll(upserted.capture());
+    final StreamStatus upsertedStatus = upserted.getValue().iterator().next();
+    Assertions.assertEquals(existingId, upsertedStatus.getId());
+    Assertions.assertEquals(createDomain, upsertedStatus);
+  }
+
+  @Test
+  void testBatchFailsWhenAnUpdateFails() {
+    final var apiCreate = new StreamStatusCreateRequestBody();
+    final var apiUpdate = new StreamStatusUpdateRequestBody();
+    final var createDomain = StreamStatus.builder().build();
+    final var updateDomain = StreamStatus.builder().build();
+
+    when(mapper.map(apiCreate))
+        .thenReturn(createDomain);
+    when(mapper.map(apiUpdate))
+        .thenReturn(updateDomain);
+    when(repo.saveAll(List.of(createDomain)))
+        .thenReturn(List.of(createDomain));
+    when(repo.updateAll(List.of(updateDomain)))
+        .thenThrow(new IllegalStateException("update failed"));
+
+    // The creations are rolled back with the updates by the transaction of the batch, the client sends
+    // the whole batch again.
+    Assertions.assertThrows(IllegalStateException.class, () -> handler.batchStreamStatuses(new StreamStatusBatchRequestBody()
+        .creates(List.of(apiCreate))
+        .updates(List.of(apiUpdate))));
+    Mockito.verify(mapper, Mockito.never()).map(createDomain);
+  }
+
   @Test
   void testList() {
     final var apiReq = new StreamStatusListRequestBody();
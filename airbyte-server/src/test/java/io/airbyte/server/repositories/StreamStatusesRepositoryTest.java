@@ -4,6 +4,11 @@
 
 package io.airbyte.server.repositories;
 
+import io.airbyte.api.model.generated.StreamStatusBatchRequestBody;
+import io.airbyte.api.model.generated.StreamStatusCreateRequestBody;
+import io.airbyte.api.model.generated.StreamStatusJobType;
+import io.airbyte.api.model.generated.StreamStatusRunState;
+import io.airbyte.api.model.generated.StreamStatusUpdateRequestBody;
 import io.airbyte.db.factory.DSLContextFactory;
 import io.airbyte.db.init.DatabaseInitializationException;
 import io.airbyte.db.instance.jobs.jooq.generated.Keys;
@@ -12,6 +17,7 @@ import io.airbyte.db.instance.jobs.jooq.generated.enums.JobStreamStatusIncomplet
 import io.airbyte.db.instance.jobs.jooq.generated.enums.JobStreamStatusJobType;
 import io.airbyte.db.instance.jobs.jooq.generated.enums.JobStreamStatusRunState;
 import io.airbyte.db.instance.test.TestDatabaseProviders;
+import io.airbyte.server.handlers.StreamStatusesHandler;
 import io.airbyte.server.repositories.StreamStatusesRepository.FilterParams;
 import io.airbyte.server.repositories.StreamStatusesRepository.FilterParams.FilterParamsBuilder;
 import io.airbyte.server.repositories.StreamStatusesRepository.Pagination;
@@ -114,6 +120,40 @@ class StreamStatusesRepositoryTest {
     Assertions.assertEquals(inserted, found.get());
   }
 
+  @Test
+  void testBatchIsRolledBackWhenAnUpdateFails() {
+    final var handler = context.getBean(StreamStatusesHandler.class);
+    final var existing = repo.save(Fixtures.status().build());
+    final var create = new StreamStatusCreateRequestBody()
+        .workspaceId(Fixtures.workspaceId1)
+        .connectionId(Fixtures.connectionId1)
+        .jobId(Fixtures.jobId1)
+        .jobType(StreamStatusJobType.SYNC)
+        .attemptNumber(0)
+        .streamNamespace(Fixtures.namespace)
+        .streamName(Fixtures.name2)
+        .runState(StreamStatusRunState.PENDING)
+        .transitionedAt(System.currentTimeMillis());
+    // A stream status must have a stream name.
+    final var update = new StreamStatusUpdateRequestBody()
+        .id(existing.getId())
+        .workspaceId(Fixtures.workspaceId1)
+        .connectionId(Fixtures.connectionId1)
+        .jobId(Fixtures.jobId1)
+        .jobType(StreamStatusJobType.SYNC)
+        .attemptNumber(0)
+        .streamNamespace(Fixtures.namespace)
+        .runState(StreamStatusRunState.RUNNING)
+        .transitionedAt(System.currentTimeMillis());
+
+    Assertions.assertThrows(RuntimeException.class,
+        () -> handler.batchStreamStatuses(new StreamStatusBatchRequestBody().creates(List.of(create)).updates(List.of(update))));
+
+    // The creation was rolled back along with the update, sending the batch again won't create it twice.
+    Assertions.assertEquals(1, repo.count());
+    Assertions.assertEquals(existing, repo.findById(existing.getId()).orElseThrow());
+  }
+
   @Test
   void testUpdateCompleteFlow() {
     final var pendingAt = Fixtures.now();
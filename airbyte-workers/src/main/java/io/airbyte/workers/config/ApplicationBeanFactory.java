@@ -76,6 +76,12 @@ public class ApplicationBeanFactory {
     return Executors.newSingleThreadScheduledExecutor();
   }
 
+  @Singleton
+  @Named("streamStatusFlushExecutorService")
+  public ScheduledExecutorService streamStatusFlushExecutorService() {
+    return Executors.newSingleThreadScheduledExecutor();
+  }
+
   @Singleton
   public StateAggregatorFactory stateAggregatorFactory() {
     return new StateAggregatorFactory();
@@ -15,13 +15,13 @@ import io.airbyte.api.client.generated.JobsApi;
 import io.airbyte.api.client.generated.WorkspaceApi;
 import io.airbyte.api.client.invoker.generated.ApiException;
 import io.airbyte.api.client.model.generated.ConnectionIdRequestBody;
-import io.airbyte.api.client.model.generated.ConnectionRead;
 import io.airbyte.api.client.model.generated.ConnectionSchedule;
 import io.airbyte.api.client.model.generated.ConnectionScheduleDataBasicSchedule;
 import io.airbyte.api.client.model.generated.ConnectionScheduleDataBasicSchedule.TimeUnitEnum;
 import io.airbyte.api.client.model.generated.ConnectionScheduleDataCron;
 import io.airbyte.api.client.model.generated.ConnectionScheduleType;
 import io.airbyte.api.client.model.generated.ConnectionStatus;
+import io.airbyte.api.client.model.generated.ConnectionSummaryRead;
 import io.airbyte.api.client.model.generated.JobOptionalRead;
 import io.airbyte.api.client.model.generated.JobRead;
 import io.airbyte.commons.temporal.exception.RetryableException;
@@ -34,6 +34,7 @@ import io.airbyte.featureflag.Workspace;
 import io.airbyte.metrics.lib.ApmTraceUtils;
 import io.airbyte.workers.helpers.CronSchedulingHelper;
 import io.airbyte.workers.helpers.ScheduleJitterHelper;
+import io.micronaut.cache.annotation.Cacheable;
 import io.micronaut.context.annotation.Value;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
@@ -105,13 +106,14 @@ public class ConfigFetchActivityImpl implements ConfigFetchActivity {
     try {
       ApmTraceUtils.addTagsToTrace(Map.of(CONNECTION_ID_KEY, input.getConnectionId()));
       final ConnectionIdRequestBody connectionIdRequestBody = new ConnectionIdRequestBody().connectionId(input.getConnectionId());
-      final ConnectionRead connectionRead = connectionApi.getConnection(connectionIdRequestBody);
+      // Not cached: a schedule update has to be picked up by the next wait computation.
+      final ConnectionSummaryRead connectionSummary = connectionApi.getConnectionSummary(connectionIdRequestBody);
       final UUID workspaceId = workspaceApi.getWorkspaceByConnectionId(connectionIdRequestBody).getWorkspaceId();
-      final Duration timeToWait = connectionRead.getScheduleType() != null
-          ? getTimeToWaitFromScheduleType(connectionRead, input.getConnectionId(), workspaceId)
-          : getTimeToWaitFromLegacy(connectionRead, input.getConnectionId());
+      final Duration timeToWait = connectionSummary.getScheduleType() != null
+          ? getTimeToWaitFromScheduleType(connectionSummary, input.getConnectionId(), workspaceId)
+          : getTimeToWaitFromLegacy(connectionSummary, input.getConnectionId());
       final Duration timeToWaitWithSchedulingJitter =
-          applyJitterRules(timeToWait, input.getConnectionId(), connectionRead.getScheduleType(), workspaceId);
+          applyJitterRules(timeToWait, input.getConnectionId(), connectionSummary.getScheduleType(), workspaceId);
       return new ScheduleRetrieverOutput(timeToWaitWithSchedulingJitter);
     } catch (final IOException | ApiException e) {
       throw new RetryableException(e);
@@ -135,33 +137,33 @@ public class ConfigFetchActivityImpl implements ConfigFetchActivity {
    * Get time to wait from new schedule. This method consumes the `scheduleType` and `scheduleData`
    * fields.
    *
-   * @param connectionRead connection read
+   * @param connectionSummary connection summary
    * @param connectionId connection id
    * @return time to wait
    * @throws IOException exception while interacting with db
    */
-  private Duration getTimeToWaitFromScheduleType(final ConnectionRead connectionRead, final UUID connectionId, final UUID workspaceId)
+  private Duration getTimeToWaitFromScheduleType(final ConnectionSummaryRead connectionSummary, final UUID connectionId, final UUID workspaceId)
       throws IOException, ApiException {
-    if (connectionRead.getScheduleType() == ConnectionScheduleType.MANUAL || connectionRead.getStatus() != ConnectionStatus.ACTIVE) {
+    if (connectionSummary.getScheduleType() == ConnectionScheduleType.MANUAL || connectionSummary.getStatus() != ConnectionStatus.ACTIVE) {
       // Manual syncs wait for their first run
       return Duration.ofDays(100 * 365);
     }
 
     final JobOptionalRead previousJobOptional = jobsApi.getLastReplicationJob(new ConnectionIdRequestBody().connectionId(connectionId));
 
-    if (connectionRead.getScheduleType() == ConnectionScheduleType.BASIC) {
+    if (connectionSummary.getScheduleType() == ConnectionScheduleType.BASIC) {
       if (previousJobOptional.getJob() == null) {
         // Basic schedules don't wait for their first run.
         return Duration.ZERO;
       }
       final long prevRunStart = previousJobOptional.getJob().getStartedAt() != null ? previousJobOptional.getJob().getStartedAt()
           : previousJobOptional.getJob().getCreatedAt();
-      final long nextRunStart = prevRunStart + getIntervalInSecond(connectionRead.getScheduleData().getBasicSchedule());
+      final long nextRunStart = prevRunStart + getIntervalInSecond(connectionSummary.getScheduleData().getBasicSchedule());
       final Duration timeToWait = Duration.ofSeconds(
           Math.max(0, nextRunStart - currentSecondsSupplier.get()));
       return timeToWait;
-    } else { // connectionRead.getScheduleType() == ConnectionScheduleType.CRON
-      final ConnectionScheduleDataCron scheduleCron = connectionRead.getScheduleData().getCron();
+    } else { // connectionSummary.getScheduleType() == ConnectionScheduleType.CRON
+      final ConnectionScheduleDataCron scheduleCron = connectionSummary.getScheduleData().getCron();
       final TimeZone timeZone = DateTimeZone.forID(scheduleCron.getCronTimeZone()).toTimeZone();
       try {
         final CronExpression cronExpression = new CronExpression(scheduleCron.getCronExpression());
@@ -213,21 +215,21 @@ public class ConfigFetchActivityImpl implements ConfigFetchActivity {
   /**
    * Get wait time from legacy schedule. This method consumes the `schedule` field.
    *
-   * @param connectionRead connection read
+   * @param connectionSummary connection summary
    * @param connectionId connection id
    * @return time to wait
    * @throws IOException exception when interacting with the db
    */
-  private Duration getTimeToWaitFromLegacy(final ConnectionRead connectionRead, final UUID connectionId)
+  private Duration getTimeToWaitFromLegacy(final ConnectionSummaryRead connectionSummary, final UUID connectionId)
       throws IOException, ApiException {
-    if (connectionRead.getSchedule() == null || connectionRead.getStatus() != ConnectionStatus.ACTIVE) {
+    if (connectionSummary.getSchedule() == null || connectionSummary.getStatus() != ConnectionStatus.ACTIVE) {
       // Manual syncs wait for their first run
       return Duration.ofDays(100 * 365);
     }
 
     final JobOptionalRead previousJobOptional = jobsApi.getLastReplicationJob(new ConnectionIdRequestBody().connectionId(connectionId));
 
-    if (previousJobOptional.getJob() == null && connectionRead.getSchedule() != null) {
+    if (previousJobOptional.getJob() == null && connectionSummary.getSchedule() != null) {
       // Non-manual syncs don't wait for their first run
       return Duration.ZERO;
     }
@@ -235,7 +237,7 @@ public class ConfigFetchActivityImpl implements ConfigFetchActivity {
     final JobRead previousJob = previousJobOptional.getJob();
     final long prevRunStart = previousJob.getStartedAt() != null ? previousJob.getStartedAt() : previousJob.getCreatedAt();
 
-    final long nextRunStart = prevRunStart + getIntervalInSecond(connectionRead.getSchedule());
+    final long nextRunStart = prevRunStart + getIntervalInSecond(connectionSummary.getSchedule());
 
     return Duration.ofSeconds(
         Math.max(0, nextRunStart - currentSecondsSupplier.get()));
@@ -251,12 +253,7 @@ public class ConfigFetchActivityImpl implements ConfigFetchActivity {
   @Override
   public Optional<UUID> getSourceId(final UUID connectionId) {
     try {
-      final io.airbyte.api.client.model.generated.ConnectionIdRequestBody requestBody =
-          new io.airbyte.api.client.model.generated.ConnectionIdRequestBody().connectionId(connectionId);
-      final ConnectionRead connectionRead = AirbyteApiClient.retryWithJitter(
-          () -> connectionApi.getConnection(requestBody),
-          "Get a connection by connection Id");
-      return Optional.ofNullable(connectionRead.getSourceId());
+      return Optional.ofNullable(getConnectionSummary(connectionId).getSourceId());
     } catch (final Exception e) {
       log.info("Encountered an error fetching the connection's Source ID: ", e);
       return Optional.empty();
@@ -266,12 +263,7 @@ public class ConfigFetchActivityImpl implements ConfigFetchActivity {
   @Override
   public Optional<ConnectionStatus> getStatus(final UUID connectionId) {
     try {
-      final io.airbyte.api.client.model.generated.ConnectionIdRequestBody requestBody =
-          new io.airbyte.api.client.model.generated.ConnectionIdRequestBody().connectionId(connectionId);
-      final ConnectionRead connectionRead = AirbyteApiClient.retryWithJitter(
-          () -> connectionApi.getConnection(requestBody),
-          "Get a connection by connection Id");
-      return Optional.ofNullable(connectionRead.getStatus());
+      return Optional.ofNullable(getConnectionSummary(connectionId).getStatus());
     } catch (final Exception e) {
       log.info("Encountered an error fetching the connection's status: ", e);
       return Optional.empty();
@@ -281,18 +273,29 @@ public class ConfigFetchActivityImpl implements ConfigFetchActivity {
   @Override
   public Optional<Boolean> getBreakingChange(final UUID connectionId) {
     try {
-      final io.airbyte.api.client.model.generated.ConnectionIdRequestBody requestBody =
-          new io.airbyte.api.client.model.generated.ConnectionIdRequestBody().connectionId(connectionId);
-      final ConnectionRead connectionRead = AirbyteApiClient.retryWithJitter(
-          () -> connectionApi.getConnection(requestBody),
-          "Get a connection by connection Id");
-      return Optional.ofNullable(connectionRead.getBreakingChange());
+      return Optional.ofNullable(getConnectionSummary(connectionId).getBreakingChange());
     } catch (final Exception e) {
       log.info("Encountered an error fetching the connection's breaking change status: ", e);
       return Optional.empty();
     }
   }
 
+  /**
+   * Fetch the summary of a connection, without its catalog. The source id, status and breaking change
+   * flag are read one after the other at the start of every attempt, so the summary is cached for a
+   * short while to serve them all from a single call.
+   *
+   * @param connectionId connection id
+   * @return connection summary
+   * @throws Exception if the connection could not be fetched after retries, failures are not cached
+   */
+  @Cacheable("connection-summary")
+  ConnectionSummaryRead getConnectionSummary(final UUID connectionId) throws Exception {
+    return AirbyteApiClient.retryWithJitterThrows(
+        () -> connectionApi.getConnectionSummary(new ConnectionIdRequestBody().connectionId(connectionId)),
+        "Get a connection summary by connection Id");
+  }
+
   private Long getIntervalInSecond(final ConnectionScheduleDataBasicSchedule schedule) {
     return getSecondsInUnit(schedule.getTimeUnit()) * schedule.getUnits();
   }
@@ -12,7 +12,6 @@ import io.airbyte.api.client.generated.ConnectionApi;
 import io.airbyte.api.client.generated.JobsApi;
 import io.airbyte.api.client.generated.WorkspaceApi;
 import io.airbyte.api.client.invoker.generated.ApiException;
-import io.airbyte.api.client.model.generated.ConnectionRead;
 import io.airbyte.api.client.model.generated.ConnectionSchedule;
 import io.airbyte.api.client.model.generated.ConnectionScheduleData;
 import io.airbyte.api.client.model.generated.ConnectionScheduleDataBasicSchedule;
@@ -20,6 +19,7 @@ import io.airbyte.api.client.model.generated.ConnectionScheduleDataBasicSchedule
 import io.airbyte.api.client.model.generated.ConnectionScheduleDataCron;
 import io.airbyte.api.client.model.generated.ConnectionScheduleType;
 import io.airbyte.api.client.model.generated.ConnectionStatus;
+import io.airbyte.api.client.model.generated.ConnectionSummaryRead;
 import io.airbyte.api.client.model.generated.JobOptionalRead;
 import io.airbyte.api.client.model.generated.JobRead;
 import io.airbyte.api.client.model.generated.WorkspaceRead;
@@ -76,17 +76,17 @@ class ConfigFetchActivityTest {
   private final Supplier<Long> currentSecondsSupplier = () -> Instant.now().getEpochSecond();
 
   private static final UUID connectionId = UUID.randomUUID();
-  private static final ConnectionRead connectionReadWithLegacySchedule = new ConnectionRead()
+  private static final ConnectionSummaryRead connectionSummaryWithLegacySchedule = new ConnectionSummaryRead()
       .schedule(new ConnectionSchedule()
           .timeUnit(ConnectionSchedule.TimeUnitEnum.MINUTES)
           .units(5L))
       .status(ConnectionStatus.ACTIVE);
 
-  private static final ConnectionRead connectionReadWithManualScheduleType = new ConnectionRead()
+  private static final ConnectionSummaryRead connectionSummaryWithManualScheduleType = new ConnectionSummaryRead()
       .scheduleType(ConnectionScheduleType.MANUAL)
       .status(ConnectionStatus.ACTIVE);
 
-  private static final ConnectionRead connectionReadWithBasicScheduleType = new ConnectionRead()
+  private static final ConnectionSummaryRead connectionSummaryWithBasicScheduleType = new ConnectionSummaryRead()
       .scheduleType(ConnectionScheduleType.BASIC)
       .status(ConnectionStatus.ACTIVE)
       .scheduleData(new ConnectionScheduleData()
@@ -95,7 +95,7 @@ class ConfigFetchActivityTest {
               .units(5L)));
 
   public static final String UTC = "UTC";
-  private static final ConnectionRead connectionReadWithCronScheduleType = new ConnectionRead()
+  private static final ConnectionSummaryRead connectionSummaryWithCronScheduleType = new ConnectionSummaryRead()
       .scheduleType(ConnectionScheduleType.CRON)
       .status(ConnectionStatus.ACTIVE)
       .scheduleData(new ConnectionScheduleData()
@@ -103,18 +103,18 @@ class ConfigFetchActivityTest {
               .cronExpression("0 0 12 * * ?")
               .cronTimeZone(UTC)));
 
-  private static final ConnectionRead connectionReadWithScheduleDisable = new ConnectionRead()
+  private static final ConnectionSummaryRead connectionSummaryWithScheduleDisable = new ConnectionSummaryRead()
       .schedule(new ConnectionSchedule()
           .timeUnit(ConnectionSchedule.TimeUnitEnum.MINUTES)
           .units(5L))
       .status(ConnectionStatus.INACTIVE);
 
-  private static final ConnectionRead connectionReadWithScheduleDeleted = new ConnectionRead()
+  private static final ConnectionSummaryRead connectionSummaryWithScheduleDeleted = new ConnectionSummaryRead()
       .schedule(new ConnectionSchedule()
           .timeUnit(ConnectionSchedule.TimeUnitEnum.MINUTES)
           .units(5L))
       .status(ConnectionStatus.DEPRECATED);
-  private static final ConnectionRead connectionReadWithoutSchedule = new ConnectionRead();
+  private static final ConnectionSummaryRead connectionSummaryWithoutSchedule = new ConnectionSummaryRead();
 
   @BeforeEach
   void setup() {
@@ -144,8 +144,8 @@ class ConfigFetchActivityTest {
         when(mJobsApi.getLastReplicationJob(any()))
             .thenReturn(new JobOptionalRead());
 
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithLegacySchedule);
+        when(mConnectionApi.getConnectionSummary(any()))
+            .thenReturn(connectionSummaryWithLegacySchedule);
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -158,8 +158,8 @@ class ConfigFetchActivityTest {
       @Test
       @DisplayName("Test that the job will wait for a long time if it is manual in the legacy schedule schema")
       void testManual() throws ApiException {
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithoutSchedule);
+        when(mConnectionApi.getConnectionSummary(any()))
+            .thenReturn(connectionSummaryWithoutSchedule);
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -172,8 +172,8 @@ class ConfigFetchActivityTest {
       @Test
       @DisplayName("Test that the job will wait for a long time if it is disabled")
       void testDisable() throws ApiException {
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithScheduleDisable);
+        when(mConnectionApi.getConnectionSummary(any()))
+            .thenReturn(connectionSummaryWithScheduleDisable);
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -186,8 +186,8 @@ class ConfigFetchActivityTest {
       @Test
       @DisplayName("Test that the connection will wait for a long time if it is deleted")
       void testDeleted() throws ApiException {
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithScheduleDeleted);
+        when(mConnectionApi.getConnectionSummary(any()))
+            .thenReturn(connectionSummaryWithScheduleDeleted);
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -211,8 +211,8 @@ class ConfigFetchActivityTest {
         when(mJobsApi.getLastReplicationJob(any()))
             .thenReturn(new JobOptionalRead().job(mJobRead));
 
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithLegacySchedule);
+        when(mConnectionApi.getConnectionSummary(any()))
+            .thenReturn(connectionSummaryWithLegacySchedule);
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -236,8 +236,8 @@ class ConfigFetchActivityTest {
         when(mJobsApi.getLastReplicationJob(any()))
             .thenReturn(new JobOptionalRead().job(mJobRead));
 
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithLegacySchedule);
+        when(mConnectionApi.getConnectionSummary(any()))
+            .thenReturn(connectionSummaryWithLegacySchedule);
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -250,8 +250,8 @@ class ConfigFetchActivityTest {
       @Test
       @DisplayName("Test that the job will wait a long time if it is MANUAL scheduleType")
       void testManualScheduleType() throws ApiException {
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithManualScheduleType);
+        when(mConnectionApi.getConnectionSummary(any()))
+            .thenReturn(connectionSummaryWithManualScheduleType);
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -267,8 +267,8 @@ class ConfigFetchActivityTest {
         when(mJobsApi.getLastReplicationJob(any()))
             .thenReturn(new JobOptionalRead());
 
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithBasicScheduleType);
+        when(mConnectionApi.getConnectionSummary(any()))
+            .thenReturn(connectionSummaryWithBasicScheduleType);
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -291,8 +291,8 @@ class ConfigFetchActivityTest {
         when(mJobsApi.getLastReplicationJob(any()))
             .thenReturn(new JobOptionalRead().job(mJobRead));
 
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithBasicScheduleType);
+        when(mConnectionApi.getConnectionSummary(any()))
+            .thenReturn(connectionSummaryWithBasicScheduleType);
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -330,8 +330,8 @@ class ConfigFetchActivityTest {
         when(mJobRead.getStartedAt()).thenReturn(null);
         when(mJobRead.getCreatedAt()).thenReturn(threeHoursAgoSeconds);
 
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithCronScheduleType);
+        when(mConnectionApi.getConnectionSummary(any()))
+            .thenReturn(connectionSummaryWithCronScheduleType);
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -365,8 +365,8 @@ class ConfigFetchActivityTest {
         final long twentyFiveHoursAgoSeconds = currentSecondsSupplier.get() - Duration.ofHours(25).toSeconds();
         when(mJobRead.getCreatedAt()).thenReturn(twentyFiveHoursAgoSeconds);
 
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithCronScheduleType);
+        when(mConnectionApi.getConnectionSummary(any()))
+            .thenReturn(connectionSummaryWithCronScheduleType);
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -394,8 +394,8 @@ class ConfigFetchActivityTest {
         when(mJobsApi.getLastReplicationJob(any()))
             .thenReturn(new JobOptionalRead().job(mJobRead));
 
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithCronScheduleType);
+        when(mConnectionApi.getConnectionSummary(any()))
+            .thenReturn(connectionSummaryWithCronScheduleType);
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -427,8 +427,8 @@ class ConfigFetchActivityTest {
         when(mJobsApi.getLastReplicationJob(any()))
             .thenReturn(new JobOptionalRead().job(mJobRead));
 
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithCronScheduleType);
+        when(mConnectionApi.getConnectionSummary(any()))
+            .thenReturn(connectionSummaryWithCronScheduleType);
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(connectionId);
 
@@ -442,6 +442,26 @@ class ConfigFetchActivityTest {
 
   }
 
+  @Nested
+  class TestConnectionSummary {
+
+    @Test
+    @DisplayName("Test that the source id, status and breaking change are read from the connection summary")
+    void testReadFromConnectionSummary() throws ApiException {
+      configFetchActivity = new ConfigFetchActivityImpl(mJobsApi, mWorkspaceApi, SYNC_JOB_MAX_ATTEMPTS, currentSecondsSupplier, mConnectionApi,
+          mFeatureFlagClient, mScheduleJitterHelper);
+      final UUID sourceId = UUID.randomUUID();
+      when(mConnectionApi.getConnectionSummary(any()))
+          .thenReturn(new ConnectionSummaryRead().connectionId(connectionId).sourceId(sourceId).status(ConnectionStatus.ACTIVE).breakingChange(true));
+
+      Assertions.assertThat(configFetchActivity.getSourceId(connectionId)).contains(sourceId);
+      Assertions.assertThat(configFetchActivity.getStatus(connectionId)).contains(ConnectionStatus.ACTIVE);
+      Assertions.assertThat(configFetchActivity.getBreakingChange(connectionId)).contains(true);
+      Mockito.verify(mConnectionApi, Mockito.never()).getConnection(any());
+    }
+
+  }
+
   @Nested
   class TestGetMaxAttempt {
 
@@ -10,6 +10,8 @@ import io.airbyte.workload.api.domain.ClaimResponse
 import io.airbyte.workload.api.domain.KnownExceptionInfo
 import io.airbyte.workload.api.domain.LongRunningWorkloadRequest
 import io.airbyte.workload.api.domain.Workload
+import io.airbyte.workload.api.domain.WorkloadBulkCancelRequest
+import io.airbyte.workload.api.domain.WorkloadBulkCancelResponse
 import io.airbyte.workload.api.domain.WorkloadCancelRequest
 import io.airbyte.workload.api.domain.WorkloadClaimRequest
 import io.airbyte.workload.api.domain.WorkloadCreateRequest
@@ -219,6 +221,40 @@ open class WorkloadApi(
     workloadHandler.setWorkloadStatusToRunning(workloadRunningRequest.workloadId)
   }
 
+  @PUT
+  @Path("/bulk_cancel")
+  @Consumes("application/json")
+  @Produces("application/json")
+  @Operation(summary = "Cancel the execution of several workloads at once", tags = ["workload"])
+  @ApiResponses(
+    value = [
+      ApiResponse(
+        responseCode = "200",
+        description = "Returns the number of cancelled workloads. Workloads that are unknown or in a terminal state are skipped.",
+        content = [Content(schema = Schema(implementation = WorkloadBulkCancelResponse::class))],
+      ),
+    ],
+  )
+  open fun workloadBulkCancel(
+    @RequestBody(
+      content = [Content(schema = Schema(implementation = WorkloadBulkCancelRequest::class))],
+    ) workloadBulkCancelRequest: WorkloadBulkCancelRequest,
+  ): WorkloadBulkCancelResponse {
+    ApmTraceUtils.addTagsToTrace(
+      mutableMapOf(
+        WORKLOAD_CANCEL_REASON_TAG to workloadBulkCancelRequest.reason,
+        WORKLOAD_CANCEL_SOURCE_TAG to workloadBulkCancelRequest.source,
+      ) as Map<String, Any>?,
+    )
+    val cancelledCount =
+      workloadHandler.cancelWorkloads(
+        workloadBulkCancelRequest.workloadIds,
+        workloadBulkCancelRequest.source,
+        workloadBulkCancelRequest.reason,
+      )
+    return WorkloadBulkCancelResponse(cancelledCount)
+  }
+
   @PUT
   @Path("/cancel")
   @Status(HttpStatus.NO_CONTENT)
@@ -414,6 +450,8 @@ open class WorkloadApi(
         workloadListRequest.dataplane,
         workloadListRequest.status,
         workloadListRequest.updatedBefore,
+        workloadListRequest.afterId,
+        workloadListRequest.limit,
       ),
     )
   }
@@ -442,6 +480,8 @@ open class WorkloadApi(
         longRunningWorkloadRequest.dataplane,
         listOf(WorkloadType.CHECK, WorkloadType.DISCOVER, WorkloadType.SPEC),
         longRunningWorkloadRequest.createdBefore,
+        longRunningWorkloadRequest.afterId,
+        longRunningWorkloadRequest.limit,
       ),
     )
   }
@@ -470,6 +510,8 @@ open class WorkloadApi(
         longRunningWorkloadRequest.dataplane,
         listOf(WorkloadType.SYNC),
         longRunningWorkloadRequest.createdBefore,
+        longRunningWorkloadRequest.afterId,
+        longRunningWorkloadRequest.limit,
       ),
     )
   }
@@ -13,6 +13,7 @@ import io.airbyte.featureflag.Geography
 import io.airbyte.featureflag.Multi
 import io.airbyte.featureflag.Priority
 import io.airbyte.featureflag.Priority.Companion.HIGH_PRIORITY
+import io.airbyte.featureflag.UseBatchedLauncherQueue
 import io.airbyte.featureflag.WorkloadApiRouting
 import io.airbyte.metrics.lib.ApmTraceUtils
 import io.airbyte.metrics.lib.MetricAttribute
@@ -52,11 +53,12 @@ open class WorkloadService(
     // TODO: We could pass through created_at, but I'm use using system time for now.
     // This may get just replaced by tracing at some point if we manage to set it up properly.
     val startTimeMs = System.currentTimeMillis()
-    messageProducer.publish(
-      queue,
-      LauncherInputMessage(workloadId, workloadInput, labels, logPath, mutexKey, workloadType, startTimeMs, autoId),
-      "wl-create_$workloadId",
-    )
+    val message = LauncherInputMessage(workloadId, workloadInput, labels, logPath, mutexKey, workloadType, startTimeMs, autoId)
+    if (featureFlagClient.boolVariation(UseBatchedLauncherQueue, Geography(geography))) {
+      messageProducer.enqueue(queue, message)
+    } else {
+      messageProducer.publish(queue, message, "wl-create_$workloadId")
+    }
     metricPublisher.count(
       WorkloadApiMetricMetadata.WORKLOAD_MESSAGE_PUBLISHED.metricName,
       MetricAttribute(WORKLOAD_ID_TAG, workloadId),
@@ -5,4 +5,6 @@ import java.time.OffsetDateTime
 data class LongRunningWorkloadRequest(
   var dataplane: List<String>? = null,
   var createdBefore: OffsetDateTime? = null,
+  var afterId: String? = null,
+  var limit: Int? = null,
 )
@@ -19,6 +19,8 @@ interface WorkloadHandler {
     dataplaneId: List<String>?,
     workloadStatus: List<ApiWorkloadStatus>?,
     updatedBefore: OffsetDateTime?,
+    afterId: String?,
+    limit: Int?,
   ): List<Workload>
 
   fun workloadAlreadyExists(workloadId: String): Boolean
@@ -45,6 +47,16 @@ interface WorkloadHandler {
     reason: String?,
   )
 
+  /**
+   * Cancel the given workloads that are not in a terminal state yet, and return how many were
+   * cancelled.
+   */
+  fun cancelWorkloads(
+    workloadIds: List<String>,
+    source: String?,
+    reason: String?,
+  ): Int
+
   fun failWorkload(
     workloadId: String,
     source: String?,
@@ -63,5 +75,7 @@ interface WorkloadHandler {
     dataplaneId: List<String>?,
     workloadType: List<ApiWorkloadType>?,
     createdBefore: OffsetDateTime?,
+    afterId: String?,
+    limit: Int?,
   ): List<Workload>
 }
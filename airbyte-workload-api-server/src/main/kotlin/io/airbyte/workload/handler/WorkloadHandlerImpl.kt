@@ -15,6 +15,9 @@ import java.util.UUID
 
 private val logger = KotlinLogging.logger {}
 
+private val ACTIVE_STATUSES = listOf(WorkloadStatus.CLAIMED, WorkloadStatus.LAUNCHED, WorkloadStatus.RUNNING)
+private val CANCELLABLE_STATUSES = listOf(WorkloadStatus.PENDING, WorkloadStatus.LAUNCHED, WorkloadStatus.CLAIMED, WorkloadStatus.RUNNING)
+
 /**
  * Interface layer between the API and Persistence layers.
  */
@@ -35,12 +38,16 @@ class WorkloadHandlerImpl(
     dataplaneId: List<String>?,
     workloadStatus: List<ApiWorkloadStatus>?,
     updatedBefore: OffsetDateTime?,
+    afterId: String?,
+    limit: Int?,
   ): List<Workload> {
     val domainWorkloads =
       workloadRepository.search(
         dataplaneId,
         workloadStatus?.map { it.toDomain() },
         updatedBefore,
+        afterId,
+        limit,
       )
 
     return domainWorkloads.map { it.toApi() }
@@ -85,6 +92,10 @@ class WorkloadHandlerImpl(
     workloadId: String,
     dataplaneId: String,
   ): Boolean {
+    if (workloadRepository.claimIfPending(workloadId, dataplaneId) > 0) {
+      return true
+    }
+
     val workload = getDomainWorkload(workloadId)
 
     if (workload.dataplaneId != null && !workload.dataplaneId.equals(dataplaneId)) {
@@ -92,7 +103,6 @@ class WorkloadHandlerImpl(
     }
 
     when (workload.status) {
-      WorkloadStatus.PENDING -> workloadRepository.update(workloadId, dataplaneId, WorkloadStatus.CLAIMED)
       WorkloadStatus.CLAIMED -> {}
       else -> throw InvalidStatusTransitionException(
         "Tried to claim a workload that is not pending. Workload id: $workloadId has status: ${workload.status}",
@@ -107,16 +117,13 @@ class WorkloadHandlerImpl(
     source: String?,
     reason: String?,
   ) {
+    if (workloadRepository.updateStatusIfIn(workloadId, CANCELLABLE_STATUSES, WorkloadStatus.CANCELLED, source, reason) > 0) {
+      return
+    }
+
     val workload = getDomainWorkload(workloadId)
 
     when (workload.status) {
-      WorkloadStatus.PENDING, WorkloadStatus.LAUNCHED, WorkloadStatus.CLAIMED, WorkloadStatus.RUNNING ->
-        workloadRepository.update(
-          workloadId,
-          WorkloadStatus.CANCELLED,
-          source,
-          reason,
-        )
       WorkloadStatus.CANCELLED -> logger.info { "Workload $workloadId is already cancelled. Cancelling an already cancelled workload is a noop" }
       else -> throw InvalidStatusTransitionException(
         "Cannot cancel a workload in either success or failure status. Workload id: $workloadId has status: ${workload.status}",
@@ -124,21 +131,29 @@ class WorkloadHandlerImpl(
     }
   }
 
+  override fun cancelWorkloads(
+    workloadIds: List<String>,
+    source: String?,
+    reason: String?,
+  ): Int {
+    if (workloadIds.isEmpty()) {
+      return 0
+    }
+    return workloadRepository.cancelIfStatusIn(workloadIds, CANCELLABLE_STATUSES, source, reason)
+  }
+
   override fun failWorkload(
     workloadId: String,
     source: String?,
     reason: String?,
   ) {
+    if (workloadRepository.updateStatusIfIn(workloadId, ACTIVE_STATUSES, WorkloadStatus.FAILURE, source, reason) > 0) {
+      return
+    }
+
     val workload = getDomainWorkload(workloadId)
 
     when (workload.status) {
-      WorkloadStatus.CLAIMED, WorkloadStatus.LAUNCHED, WorkloadStatus.RUNNING ->
-        workloadRepository.update(
-          workloadId,
-          WorkloadStatus.FAILURE,
-          source,
-          reason,
-        )
       WorkloadStatus.FAILURE -> logger.info { "Workload $workloadId is already marked as failed. Failing an already failed workload is a noop" }
       else -> throw InvalidStatusTransitionException(
         "Tried to fail a workload that is not active. Workload id: $workloadId has status: ${workload.status}",
@@ -147,14 +162,13 @@ class WorkloadHandlerImpl(
   }
 
   override fun succeedWorkload(workloadId: String) {
+    if (workloadRepository.updateStatusIfIn(workloadId, ACTIVE_STATUSES, WorkloadStatus.SUCCESS) > 0) {
+      return
+    }
+
     val workload = getDomainWorkload(workloadId)
 
     when (workload.status) {
-      WorkloadStatus.CLAIMED, WorkloadStatus.LAUNCHED, WorkloadStatus.RUNNING ->
-        workloadRepository.update(
-          workloadId,
-          WorkloadStatus.SUCCESS,
-        )
       WorkloadStatus.SUCCESS ->
         logger.info { "Workload $workloadId is already marked as succeeded. Succeeding an already succeeded workload is a noop" }
       else -> throw InvalidStatusTransitionException(
@@ -164,14 +178,14 @@ class WorkloadHandlerImpl(
   }
 
   override fun setWorkloadStatusToRunning(workloadId: String) {
+    val statuses = listOf(WorkloadStatus.CLAIMED, WorkloadStatus.LAUNCHED)
+    if (workloadRepository.updateStatusIfIn(workloadId, statuses, WorkloadStatus.RUNNING) > 0) {
+      return
+    }
+
     val workload = getDomainWorkload(workloadId)
 
     when (workload.status) {
-      WorkloadStatus.CLAIMED, WorkloadStatus.LAUNCHED ->
-        workloadRepository.update(
-          workloadId,
-          WorkloadStatus.RUNNING,
-        )
       WorkloadStatus.RUNNING -> logger.info { "Workload $workloadId is already marked as running. Skipping..." }
       WorkloadStatus.CANCELLED, WorkloadStatus.FAILURE, WorkloadStatus.SUCCESS -> throw InvalidStatusTransitionException(
         "Heartbeat a workload in a terminal state",
@@ -179,18 +193,18 @@ class WorkloadHandlerImpl(
       WorkloadStatus.PENDING -> throw InvalidStatusTransitionException(
         "Can't set a workload status to running on a workload that hasn't been claimed",
       )
+      WorkloadStatus.CLAIMED, WorkloadStatus.LAUNCHED -> throw concurrentUpdate(workloadId)
     }
   }
 
   override fun setWorkloadStatusToLaunched(workloadId: String) {
+    if (workloadRepository.updateStatusIfIn(workloadId, listOf(WorkloadStatus.CLAIMED), WorkloadStatus.LAUNCHED) > 0) {
+      return
+    }
+
     val workload = getDomainWorkload(workloadId)
 
     when (workload.status) {
-      WorkloadStatus.CLAIMED ->
-        workloadRepository.update(
-          workloadId,
-          WorkloadStatus.LAUNCHED,
-        )
       WorkloadStatus.LAUNCHED -> logger.info { "Workload $workloadId is already marked as launched. Skipping..." }
       WorkloadStatus.RUNNING -> throw InvalidStatusTransitionException("Workload $workloadId is already marked as running. Skipping...")
       WorkloadStatus.CANCELLED, WorkloadStatus.FAILURE, WorkloadStatus.SUCCESS -> throw InvalidStatusTransitionException(
@@ -199,30 +213,41 @@ class WorkloadHandlerImpl(
       WorkloadStatus.PENDING -> throw InvalidStatusTransitionException(
         "Can't set a workload status to running on a workload that hasn't been claimed",
       )
+      WorkloadStatus.CLAIMED -> throw concurrentUpdate(workloadId)
     }
   }
 
   override fun heartbeat(workloadId: String) {
+    // Heartbeats are by far the most frequent calls, only read the workload to explain why one failed.
+    if (workloadRepository.heartbeatIfStatusIn(workloadId, ACTIVE_STATUSES, OffsetDateTime.now()) > 0) {
+      return
+    }
+
     val workload: DomainWorkload = getDomainWorkload(workloadId)
 
     when (workload.status) {
-      WorkloadStatus.CLAIMED, WorkloadStatus.LAUNCHED, WorkloadStatus.RUNNING ->
-        workloadRepository.update(
-          workloadId,
-          WorkloadStatus.RUNNING,
-          OffsetDateTime.now(),
-        )
       WorkloadStatus.CANCELLED, WorkloadStatus.FAILURE, WorkloadStatus.SUCCESS -> throw InvalidStatusTransitionException(
         "Heartbeat a workload in a terminal state",
       )
       WorkloadStatus.PENDING -> throw InvalidStatusTransitionException("Heartbeat a non claimed workload")
+      WorkloadStatus.CLAIMED, WorkloadStatus.LAUNCHED, WorkloadStatus.RUNNING -> throw concurrentUpdate(workloadId)
     }
   }
 
+  /**
+   * The conditional update didn't match the workload, but the workload now has a status that would
+   * have matched: it was claimed in between the update and the read.
+   */
+  private fun concurrentUpdate(workloadId: String): ConflictException {
+    return ConflictException("Workload $workloadId was updated concurrently, please retry")
+  }
+
   override fun getWorkloadsRunningCreatedBefore(
     dataplaneId: List<String>?,
     workloadType: List<ApiWorkloadType>?,
     createdBefore: OffsetDateTime?,
+    afterId: String?,
+    limit: Int?,
   ): List<Workload> {
     val domainWorkloads =
       workloadRepository.searchByTypeStatusAndCreationDate(
@@ -230,6 +255,8 @@ class WorkloadHandlerImpl(
         listOf(WorkloadStatus.RUNNING),
         workloadType?.map { it.toDomain() },
         createdBefore,
+        afterId,
+        limit,
       )
 
     return domainWorkloads.map { it.toApi() }
@@ -20,18 +20,28 @@ interface WorkloadRepository : PageableRepository<Workload, String> {
     @Id id: String,
   ): Optional<Workload>
 
+  /**
+   * The searches are keyset paginated: they return at most [limit] workloads ordered by id, starting
+   * after [afterId]. The next page starts after the id of the last workload of the current page. A
+   * null [limit] returns all the matching workloads.
+   */
   @Query(
     """
       SELECT * FROM workload
       WHERE ((:dataplaneIds) IS NULL OR dataplane_id IN (:dataplaneIds))
       AND ((:statuses) IS NULL OR status = ANY(CAST(ARRAY[:statuses] AS workload_status[])))
       AND (CAST(:updatedBefore AS timestamptz) IS NULL OR updated_at < CAST(:updatedBefore AS timestamptz))
+      AND (CAST(:afterId AS varchar) IS NULL OR id > CAST(:afterId AS varchar))
+      ORDER BY id
+      LIMIT CAST(:limit AS integer)
       """,
   )
   fun search(
     @Expandable dataplaneIds: List<String>?,
     @Expandable statuses: List<WorkloadStatus>?,
     updatedBefore: OffsetDateTime?,
+    afterId: String?,
+    limit: Int?,
   ): List<Workload>
 
   @Query(
@@ -41,6 +51,9 @@ interface WorkloadRepository : PageableRepository<Workload, String> {
       AND ((:statuses) IS NULL OR status = ANY(CAST(ARRAY[:statuses] AS workload_status[])))
       AND ((:types) IS NULL OR type = ANY(CAST(ARRAY[:types] AS workload_type[])))
       AND (CAST(:createdBefore AS timestamptz) IS NULL OR created_at < CAST(:createdBefore AS timestamptz))
+      AND (CAST(:afterId AS varchar) IS NULL OR id > CAST(:afterId AS varchar))
+      ORDER BY id
+      LIMIT CAST(:limit AS integer)
       """,
   )
   fun searchByTypeStatusAndCreationDate(
@@ -48,8 +61,87 @@ interface WorkloadRepository : PageableRepository<Workload, String> {
     @Expandable statuses: List<WorkloadStatus>?,
     @Expandable types: List<WorkloadType>?,
     createdBefore: OffsetDateTime?,
+    afterId: String?,
+    limit: Int?,
   ): List<Workload>
 
+  /**
+   * Conditional updates: they only update the workload if its current status is one of the expected
+   * statuses, and return the number of updated rows. This checks and changes the status in a single
+   * round trip, and concurrent transitions of the same workload can't overwrite each other.
+   */
+  @Query(
+    """
+      UPDATE workload
+      SET status = CAST(:status AS workload_status), updated_at = now()
+      WHERE id = :id AND status = ANY(CAST(ARRAY[:expectedStatuses] AS workload_status[]))
+      """,
+  )
+  fun updateStatusIfIn(
+    id: String,
+    @Expandable expectedStatuses: List<WorkloadStatus>,
+    status: WorkloadStatus,
+  ): Int
+
+  @Query(
+    """
+      UPDATE workload
+      SET status = CAST(:status AS workload_status), termination_source = :terminationSource, termination_reason = :terminationReason,
+        updated_at = now()
+      WHERE id = :id AND status = ANY(CAST(ARRAY[:expectedStatuses] AS workload_status[]))
+      """,
+  )
+  fun updateStatusIfIn(
+    id: String,
+    @Expandable expectedStatuses: List<WorkloadStatus>,
+    status: WorkloadStatus,
+    terminationSource: String?,
+    terminationReason: String?,
+  ): Int
+
+  @Query(
+    """
+      UPDATE workload
+      SET status = 'running', last_heartbeat_at = :lastHeartbeatAt, updated_at = now()
+      WHERE id = :id AND status = ANY(CAST(ARRAY[:expectedStatuses] AS workload_status[]))
+      """,
+  )
+  fun heartbeatIfStatusIn(
+    id: String,
+    @Expandable expectedStatuses: List<WorkloadStatus>,
+    lastHeartbeatAt: OffsetDateTime,
+  ): Int
+
+  @Query(
+    """
+      UPDATE workload
+      SET status = 'claimed', dataplane_id = :dataplaneId, updated_at = now()
+      WHERE id = :id AND status = 'pending' AND (dataplane_id IS NULL OR dataplane_id = :dataplaneId)
+      """,
+  )
+  fun claimIfPending(
+    id: String,
+    dataplaneId: String,
+  ): Int
+
+  /**
+   * Cancel all the workloads of [ids] that are still in one of the expected statuses in a single
+   * statement, and return how many were cancelled.
+   */
+  @Query(
+    """
+      UPDATE workload
+      SET status = 'cancelled', termination_source = :terminationSource, termination_reason = :terminationReason, updated_at = now()
+      WHERE id IN (:ids) AND status = ANY(CAST(ARRAY[:expectedStatuses] AS workload_status[]))
+      """,
+  )
+  fun cancelIfStatusIn(
+    @Expandable ids: List<String>,
+    @Expandable expectedStatuses: List<WorkloadStatus>,
+    terminationSource: String?,
+    terminationReason: String?,
+  ): Int
+
   fun update(
     @Id id: String,
     status: WorkloadStatus,
@@ -3,6 +3,7 @@ package io.airbyte.workload.api
 import io.airbyte.commons.json.Jsons
 import io.airbyte.commons.temporal.WorkflowClientWrapped
 import io.airbyte.workload.api.domain.KnownExceptionInfo
+import io.airbyte.workload.api.domain.WorkloadBulkCancelRequest
 import io.airbyte.workload.api.domain.WorkloadCancelRequest
 import io.airbyte.workload.api.domain.WorkloadClaimRequest
 import io.airbyte.workload.api.domain.WorkloadCreateRequest
@@ -163,10 +164,16 @@ class WorkloadApiTest(
 
   @Test
   fun `test list success`() {
-    every { workloadHandler.getWorkloads(any(), any(), any()) }.returns(emptyList())
+    every { workloadHandler.getWorkloads(any(), any(), any(), any(), any()) }.returns(emptyList())
     testEndpointStatus(HttpRequest.POST("/api/v1/workload/list", Jsons.serialize(WorkloadListRequest())), HttpStatus.OK)
   }
 
+  @Test
+  fun `test bulk cancel success`() {
+    every { workloadHandler.cancelWorkloads(any(), any(), any()) }.returns(2)
+    testEndpointStatus(HttpRequest.PUT("/api/v1/workload/bulk_cancel", Jsons.serialize(WorkloadBulkCancelRequest())), HttpStatus.OK)
+  }
+
   @Test
   fun `test cancel success`() {
     every { workloadHandler.cancelWorkload(any(), any(), any()) } just Runs
@@ -7,6 +7,7 @@ import io.airbyte.featureflag.FeatureFlagClient
 import io.airbyte.featureflag.Geography
 import io.airbyte.featureflag.Multi
 import io.airbyte.featureflag.Priority
+import io.airbyte.featureflag.UseBatchedLauncherQueue
 import io.airbyte.featureflag.WorkloadApiRouting
 import io.airbyte.workload.metrics.CustomMetricPublisher
 import io.mockk.clearAllMocks
@@ -37,6 +38,8 @@ class WorkloadServiceTest {
   fun init() {
     clearAllMocks()
     every { messageProducer.publish(any(), any(), any()) } returns Unit
+    every { messageProducer.enqueue(any(), any()) } returns Unit
+    every { featureFlagClient.boolVariation(UseBatchedLauncherQueue, Geography(geography)) } returns false
     every { metricPublisher.count(any(), any(), any(), any()) } returns Unit
     every { featureFlagClient.stringVariation(WorkloadApiRouting, Geography(geography)) } returns REGULAR_QUEUE
     every {
@@ -57,6 +60,21 @@ class WorkloadServiceTest {
     verify { messageProducer.publish(eq(expectedQueue), any(), eq("wl-create_$workloadId")) }
   }
 
+  @ParameterizedTest
+  @MethodSource("expectedQueueArgsMatrix")
+  fun `Use the batched queue when enabled`(
+    workloadType: WorkloadType,
+    expectedQueue: String,
+  ) {
+    every { featureFlagClient.boolVariation(UseBatchedLauncherQueue, Geography(geography)) } returns true
+    val workloadService = WorkloadService(messageProducer, metricPublisher, featureFlagClient)
+
+    workloadService.create(workloadId, workloadInput, labels, logPath, geography, mutexKey, workloadType, autoId)
+
+    verify { messageProducer.enqueue(eq(expectedQueue), match { it.workloadId == workloadId }) }
+    verify(exactly = 0) { messageProducer.publish(any(), any(), any()) }
+  }
+
   companion object {
     const val REGULAR_QUEUE = "regularQueue"
     const val HIGH_PRIORITY_QUEUE = "highPriorityQueue"
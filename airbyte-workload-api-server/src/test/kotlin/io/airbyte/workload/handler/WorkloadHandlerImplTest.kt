@@ -4,6 +4,7 @@ import io.airbyte.workload.api.domain.WorkloadLabel
 import io.airbyte.workload.errors.ConflictException
 import io.airbyte.workload.errors.InvalidStatusTransitionException
 import io.airbyte.workload.errors.NotFoundException
+import io.airbyte.workload.handler.WorkloadHandlerImplTest.Fixtures.ACTIVE_STATUSES
 import io.airbyte.workload.handler.WorkloadHandlerImplTest.Fixtures.DATAPLANE_ID
 import io.airbyte.workload.handler.WorkloadHandlerImplTest.Fixtures.WORKLOAD_ID
 import io.airbyte.workload.handler.WorkloadHandlerImplTest.Fixtures.workloadHandler
@@ -12,10 +13,8 @@ import io.airbyte.workload.repository.WorkloadRepository
 import io.airbyte.workload.repository.domain.Workload
 import io.airbyte.workload.repository.domain.WorkloadStatus
 import io.airbyte.workload.repository.domain.WorkloadType
-import io.mockk.Runs
 import io.mockk.clearAllMocks
 import io.mockk.every
-import io.mockk.just
 import io.mockk.mockk
 import io.mockk.verify
 import org.junit.jupiter.api.Assertions.assertEquals
@@ -126,8 +125,9 @@ class WorkloadHandlerImplTest {
         mutexKey = "mutex-this",
         type = WorkloadType.DISCOVER,
       )
-    every { workloadRepository.search(any(), any(), any()) }.returns(listOf(domainWorkload))
-    val workloads = workloadHandler.getWorkloads(listOf("dataplane1"), listOf(ApiWorkloadStatus.CLAIMED, ApiWorkloadStatus.FAILURE), null)
+    every { workloadRepository.search(any(), any(), any(), any(), any()) }.returns(listOf(domainWorkload))
+    val workloads =
+      workloadHandler.getWorkloads(listOf("dataplane1"), listOf(ApiWorkloadStatus.CLAIMED, ApiWorkloadStatus.FAILURE), null, null, null)
     assertEquals(1, workloads.size)
     assertEquals(WORKLOAD_ID, workloads[0].id)
     assertEquals("a payload", workloads[0].inputPayload)
@@ -137,25 +137,18 @@ class WorkloadHandlerImplTest {
     assertEquals(io.airbyte.config.WorkloadType.DISCOVER, workloads[0].type)
   }
 
-  @ParameterizedTest
-  @EnumSource(value = WorkloadStatus::class, names = ["CLAIMED", "LAUNCHED", "RUNNING"])
-  fun `test successfulHeartbeat`(workloadStatus: WorkloadStatus) {
-    every { workloadRepository.findById(WORKLOAD_ID) }.returns(
-      Optional.of(
-        Fixtures.workload(
-          id = WORKLOAD_ID,
-          status = workloadStatus,
-        ),
-      ),
-    )
-    every { workloadRepository.update(eq(WORKLOAD_ID), any(), ofType(OffsetDateTime::class)) }.returns(Unit)
+  @Test
+  fun `test successfulHeartbeat`() {
+    every { workloadRepository.heartbeatIfStatusIn(WORKLOAD_ID, ACTIVE_STATUSES, any()) }.returns(1)
     workloadHandler.heartbeat(WORKLOAD_ID)
-    verify { workloadRepository.update(eq(WORKLOAD_ID), eq(WorkloadStatus.RUNNING), any()) }
+    verify { workloadRepository.heartbeatIfStatusIn(WORKLOAD_ID, ACTIVE_STATUSES, any()) }
+    verify(exactly = 0) { workloadRepository.findById(any()) }
   }
 
   @ParameterizedTest
   @EnumSource(value = WorkloadStatus::class, names = ["CANCELLED", "FAILURE", "SUCCESS", "PENDING"])
   fun `test nonAuthorizedHeartbeat`(workloadStatus: WorkloadStatus) {
+    every { workloadRepository.heartbeatIfStatusIn(WORKLOAD_ID, ACTIVE_STATUSES, any()) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(
       Optional.of(
         Fixtures.workload(
@@ -168,42 +161,51 @@ class WorkloadHandlerImplTest {
   }
 
   @Test
-  fun `test workload not found when claiming workload`() {
+  fun `test heartbeat workload not found`() {
+    every { workloadRepository.heartbeatIfStatusIn(WORKLOAD_ID, ACTIVE_STATUSES, any()) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(Optional.empty())
-    assertThrows<NotFoundException> { workloadHandler.claimWorkload(WORKLOAD_ID, DATAPLANE_ID) }
+    assertThrows<NotFoundException> { workloadHandler.heartbeat(WORKLOAD_ID) }
   }
 
   @Test
-  fun `test claiming workload has already been claimed by another plane`() {
+  fun `test heartbeat of a workload claimed concurrently`() {
+    every { workloadRepository.heartbeatIfStatusIn(WORKLOAD_ID, ACTIVE_STATUSES, any()) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(
       Optional.of(
         Fixtures.workload(
           id = WORKLOAD_ID,
-          dataplaneId = "otherDataplaneId",
           status = WorkloadStatus.CLAIMED,
         ),
       ),
     )
-    assertFalse(workloadHandler.claimWorkload(WORKLOAD_ID, DATAPLANE_ID))
+    assertThrows<ConflictException> { workloadHandler.heartbeat(WORKLOAD_ID) }
+  }
+
+  @Test
+  fun `test workload not found when claiming workload`() {
+    every { workloadRepository.claimIfPending(WORKLOAD_ID, DATAPLANE_ID) }.returns(0)
+    every { workloadRepository.findById(WORKLOAD_ID) }.returns(Optional.empty())
+    assertThrows<NotFoundException> { workloadHandler.claimWorkload(WORKLOAD_ID, DATAPLANE_ID) }
   }
 
   @Test
-  fun `test claiming pending workload has already been claimed by the same plane`() {
-    every { workloadRepository.update(WORKLOAD_ID, DATAPLANE_ID, WorkloadStatus.CLAIMED) }.returns(Unit)
+  fun `test claiming workload has already been claimed by another plane`() {
+    every { workloadRepository.claimIfPending(WORKLOAD_ID, DATAPLANE_ID) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(
       Optional.of(
         Fixtures.workload(
           id = WORKLOAD_ID,
-          dataplaneId = DATAPLANE_ID,
-          status = WorkloadStatus.PENDING,
+          dataplaneId = "otherDataplaneId",
+          status = WorkloadStatus.CLAIMED,
         ),
       ),
     )
-    assertTrue(workloadHandler.claimWorkload(WORKLOAD_ID, DATAPLANE_ID))
+    assertFalse(workloadHandler.claimWorkload(WORKLOAD_ID, DATAPLANE_ID))
   }
 
   @Test
   fun `test claiming claimed workload has already been claimed by the same plane`() {
+    every { workloadRepository.claimIfPending(WORKLOAD_ID, DATAPLANE_ID) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(
       Optional.of(
         Fixtures.workload(
@@ -218,6 +220,7 @@ class WorkloadHandlerImplTest {
 
   @Test
   fun `test claiming running workload has already been claimed by the same plane`() {
+    every { workloadRepository.claimIfPending(WORKLOAD_ID, DATAPLANE_ID) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(
       Optional.of(
         Fixtures.workload(
@@ -233,6 +236,7 @@ class WorkloadHandlerImplTest {
   @ParameterizedTest
   @EnumSource(value = WorkloadStatus::class, names = ["RUNNING", "LAUNCHED", "SUCCESS", "FAILURE", "CANCELLED"])
   fun `test claiming workload that is not pending`(workloadStatus: WorkloadStatus) {
+    every { workloadRepository.claimIfPending(WORKLOAD_ID, DATAPLANE_ID) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(
       Optional.of(
         Fixtures.workload(
@@ -246,24 +250,17 @@ class WorkloadHandlerImplTest {
 
   @Test
   fun `test successful claim`() {
-    every { workloadRepository.findById(WORKLOAD_ID) }.returns(
-      Optional.of(
-        Fixtures.workload(
-          id = WORKLOAD_ID,
-          dataplaneId = null,
-        ),
-      ),
-    )
-
-    every { workloadRepository.update(any(), any(), ofType(WorkloadStatus::class)) } just Runs
+    every { workloadRepository.claimIfPending(WORKLOAD_ID, DATAPLANE_ID) }.returns(1)
 
     assertTrue(workloadHandler.claimWorkload(WORKLOAD_ID, DATAPLANE_ID))
 
-    verify { workloadRepository.update(WORKLOAD_ID, DATAPLANE_ID, WorkloadStatus.CLAIMED) }
+    verify { workloadRepository.claimIfPending(WORKLOAD_ID, DATAPLANE_ID) }
+    verify(exactly = 0) { workloadRepository.findById(any()) }
   }
 
   @Test
   fun `test workload not found when cancelling workload`() {
+    every { workloadRepository.updateStatusIfIn(WORKLOAD_ID, any(), WorkloadStatus.CANCELLED, any(), any()) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(Optional.empty())
     assertThrows<NotFoundException> { workloadHandler.cancelWorkload(WORKLOAD_ID, "test", "test cancel") }
   }
@@ -271,6 +268,7 @@ class WorkloadHandlerImplTest {
   @ParameterizedTest
   @EnumSource(value = WorkloadStatus::class, names = ["SUCCESS", "FAILURE"])
   fun `test cancel workload in terminal state`(workloadStatus: WorkloadStatus) {
+    every { workloadRepository.updateStatusIfIn(WORKLOAD_ID, any(), WorkloadStatus.CANCELLED, any(), any()) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(
       Optional.of(
         Fixtures.workload(
@@ -283,26 +281,20 @@ class WorkloadHandlerImplTest {
     assertThrows<InvalidStatusTransitionException> { workloadHandler.cancelWorkload(WORKLOAD_ID, "test", "invalid cancel") }
   }
 
-  @ParameterizedTest
-  @EnumSource(value = WorkloadStatus::class, names = ["CLAIMED", "LAUNCHED", "RUNNING", "PENDING"])
-  fun `test successful cancel`(workloadStatus: WorkloadStatus) {
-    every { workloadRepository.findById(WORKLOAD_ID) }.returns(
-      Optional.of(
-        Fixtures.workload(
-          id = WORKLOAD_ID,
-          status = workloadStatus,
-        ),
-      ),
-    )
-
-    every { workloadRepository.update(any(), ofType(WorkloadStatus::class), eq("test"), eq("test cancel")) } just Runs
+  @Test
+  fun `test successful cancel`() {
+    val cancellableStatuses = listOf(WorkloadStatus.PENDING, WorkloadStatus.LAUNCHED, WorkloadStatus.CLAIMED, WorkloadStatus.RUNNING)
+    every {
+      workloadRepository.updateStatusIfIn(WORKLOAD_ID, cancellableStatuses, WorkloadStatus.CANCELLED, "test", "test cancel")
+    }.returns(1)
 
     workloadHandler.cancelWorkload(WORKLOAD_ID, "test", "test cancel")
-    verify { workloadRepository.update(eq(WORKLOAD_ID), eq(WorkloadStatus.CANCELLED), eq("test"), eq("test cancel")) }
+    verify { workloadRepository.updateStatusIfIn(WORKLOAD_ID, cancellableStatuses, WorkloadStatus.CANCELLED, "test", "test cancel") }
   }
 
   @Test
   fun `test noop cancel`() {
+    every { workloadRepository.updateStatusIfIn(WORKLOAD_ID, any(), WorkloadStatus.CANCELLED, any(), any()) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(
       Optional.of(
         Fixtures.workload(
@@ -313,11 +305,11 @@ class WorkloadHandlerImplTest {
     )
 
     workloadHandler.cancelWorkload(WORKLOAD_ID, "test", "test cancel again")
-    verify(exactly = 0) { workloadRepository.update(eq(WORKLOAD_ID), eq(WorkloadStatus.CANCELLED), "test", "test cancel again") }
   }
 
   @Test
   fun `test workload not found when failing workload`() {
+    every { workloadRepository.updateStatusIfIn(WORKLOAD_ID, any(), WorkloadStatus.FAILURE, any(), any()) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(Optional.empty())
     assertThrows<NotFoundException> { workloadHandler.failWorkload(WORKLOAD_ID, "test", "fail") }
   }
@@ -325,6 +317,7 @@ class WorkloadHandlerImplTest {
   @ParameterizedTest
   @EnumSource(value = WorkloadStatus::class, names = ["SUCCESS", "PENDING", "CANCELLED"])
   fun `test fail workload in inactive status`(workloadStatus: WorkloadStatus) {
+    every { workloadRepository.updateStatusIfIn(WORKLOAD_ID, any(), WorkloadStatus.FAILURE, any(), any()) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(
       Optional.of(
         Fixtures.workload(
@@ -337,26 +330,19 @@ class WorkloadHandlerImplTest {
     assertThrows<InvalidStatusTransitionException> { workloadHandler.failWorkload(WORKLOAD_ID, "test", "fail") }
   }
 
-  @ParameterizedTest
-  @EnumSource(value = WorkloadStatus::class, names = ["CLAIMED", "LAUNCHED", "RUNNING"])
-  fun `test failing workload succeeded`(workloadStatus: WorkloadStatus) {
-    every { workloadRepository.findById(WORKLOAD_ID) }.returns(
-      Optional.of(
-        Fixtures.workload(
-          id = WORKLOAD_ID,
-          status = workloadStatus,
-        ),
-      ),
-    )
-
-    every { workloadRepository.update(any(), ofType(WorkloadStatus::class), eq("test"), eq("failing a workload")) } just Runs
+  @Test
+  fun `test failing workload succeeded`() {
+    every {
+      workloadRepository.updateStatusIfIn(WORKLOAD_ID, ACTIVE_STATUSES, WorkloadStatus.FAILURE, "test", "failing a workload")
+    }.returns(1)
 
     workloadHandler.failWorkload(WORKLOAD_ID, "test", "failing a workload")
-    verify { workloadRepository.update(eq(WORKLOAD_ID), eq(WorkloadStatus.FAILURE), eq("test"), eq("failing a workload")) }
+    verify { workloadRepository.updateStatusIfIn(WORKLOAD_ID, ACTIVE_STATUSES, WorkloadStatus.FAILURE, "test", "failing a workload") }
   }
 
   @Test
   fun `test noop failure`() {
+    every { workloadRepository.updateStatusIfIn(WORKLOAD_ID, any(), WorkloadStatus.FAILURE, any(), any()) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(
       Optional.of(
         Fixtures.workload(
@@ -367,11 +353,11 @@ class WorkloadHandlerImplTest {
     )
 
     workloadHandler.failWorkload(WORKLOAD_ID, "test", "noop")
-    verify(exactly = 0) { workloadRepository.update(eq(WORKLOAD_ID), eq(WorkloadStatus.FAILURE), eq("test"), eq("noop")) }
   }
 
   @Test
   fun `test workload not found when succeeding workload`() {
+    every { workloadRepository.updateStatusIfIn(WORKLOAD_ID, any(), WorkloadStatus.SUCCESS) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(Optional.empty())
     assertThrows<NotFoundException> { workloadHandler.succeedWorkload(WORKLOAD_ID) }
   }
@@ -379,6 +365,7 @@ class WorkloadHandlerImplTest {
   @ParameterizedTest
   @EnumSource(value = WorkloadStatus::class, names = ["PENDING", "CANCELLED", "FAILURE"])
   fun `test succeed workload in inactive status`(workloadStatus: WorkloadStatus) {
+    every { workloadRepository.updateStatusIfIn(WORKLOAD_ID, any(), WorkloadStatus.SUCCESS) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(
       Optional.of(
         Fixtures.workload(
@@ -391,26 +378,17 @@ class WorkloadHandlerImplTest {
     assertThrows<InvalidStatusTransitionException> { workloadHandler.succeedWorkload(WORKLOAD_ID) }
   }
 
-  @ParameterizedTest
-  @EnumSource(value = WorkloadStatus::class, names = ["CLAIMED", "LAUNCHED", "RUNNING"])
-  fun `test succeeding workload succeeded`(workloadStatus: WorkloadStatus) {
-    every { workloadRepository.findById(WORKLOAD_ID) }.returns(
-      Optional.of(
-        Fixtures.workload(
-          id = WORKLOAD_ID,
-          status = workloadStatus,
-        ),
-      ),
-    )
-
-    every { workloadRepository.update(any(), ofType(WorkloadStatus::class)) } just Runs
+  @Test
+  fun `test succeeding workload succeeded`() {
+    every { workloadRepository.updateStatusIfIn(WORKLOAD_ID, ACTIVE_STATUSES, WorkloadStatus.SUCCESS) }.returns(1)
 
     workloadHandler.succeedWorkload(WORKLOAD_ID)
-    verify { workloadRepository.update(eq(WORKLOAD_ID), eq(WorkloadStatus.SUCCESS)) }
+    verify { workloadRepository.updateStatusIfIn(WORKLOAD_ID, ACTIVE_STATUSES, WorkloadStatus.SUCCESS) }
   }
 
   @Test
   fun `test noop success`() {
+    every { workloadRepository.updateStatusIfIn(WORKLOAD_ID, any(), WorkloadStatus.SUCCESS) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(
       Optional.of(
         Fixtures.workload(
@@ -421,11 +399,11 @@ class WorkloadHandlerImplTest {
     )
 
     workloadHandler.succeedWorkload(WORKLOAD_ID)
-    verify(exactly = 0) { workloadRepository.update(eq(WORKLOAD_ID), eq(WorkloadStatus.SUCCESS)) }
   }
 
   @Test
   fun `test workload not found when setting status to running`() {
+    every { workloadRepository.updateStatusIfIn(WORKLOAD_ID, any(), WorkloadStatus.RUNNING) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(Optional.empty())
     assertThrows<NotFoundException> { workloadHandler.setWorkloadStatusToRunning(WORKLOAD_ID) }
   }
@@ -433,6 +411,7 @@ class WorkloadHandlerImplTest {
   @ParameterizedTest
   @EnumSource(value = WorkloadStatus::class, names = ["SUCCESS", "CANCELLED", "FAILURE"])
   fun `test set workload status to running when workload is in terminal state`(workloadStatus: WorkloadStatus) {
+    every { workloadRepository.updateStatusIfIn(WORKLOAD_ID, any(), WorkloadStatus.RUNNING) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(
       Optional.of(
         Fixtures.workload(
@@ -447,6 +426,7 @@ class WorkloadHandlerImplTest {
 
   @Test
   fun `test set workload status to running on unclaimed workload`() {
+    every { workloadRepository.updateStatusIfIn(WORKLOAD_ID, any(), WorkloadStatus.RUNNING) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(
       Optional.of(
         Fixtures.workload(
@@ -460,26 +440,18 @@ class WorkloadHandlerImplTest {
     assertThrows<InvalidStatusTransitionException> { workloadHandler.setWorkloadStatusToRunning(WORKLOAD_ID) }
   }
 
-  @ParameterizedTest
-  @EnumSource(value = WorkloadStatus::class, names = ["CLAIMED", "LAUNCHED"])
-  fun `test set workload status to running succeeded`(workloadStatus: WorkloadStatus) {
-    every { workloadRepository.findById(WORKLOAD_ID) }.returns(
-      Optional.of(
-        Fixtures.workload(
-          id = WORKLOAD_ID,
-          status = workloadStatus,
-        ),
-      ),
-    )
-
-    every { workloadRepository.update(any(), ofType(WorkloadStatus::class)) } just Runs
+  @Test
+  fun `test set workload status to running succeeded`() {
+    val statuses = listOf(WorkloadStatus.CLAIMED, WorkloadStatus.LAUNCHED)
+    every { workloadRepository.updateStatusIfIn(WORKLOAD_ID, statuses, WorkloadStatus.RUNNING) }.returns(1)
 
     workloadHandler.setWorkloadStatusToRunning(WORKLOAD_ID)
-    verify { workloadRepository.update(eq(WORKLOAD_ID), eq(WorkloadStatus.RUNNING)) }
+    verify { workloadRepository.updateStatusIfIn(WORKLOAD_ID, statuses, WorkloadStatus.RUNNING) }
   }
 
   @Test
   fun `test noop when setting workload status to running`() {
+    every { workloadRepository.updateStatusIfIn(WORKLOAD_ID, any(), WorkloadStatus.RUNNING) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(
       Optional.of(
         Fixtures.workload(
@@ -490,11 +462,11 @@ class WorkloadHandlerImplTest {
     )
 
     workloadHandler.setWorkloadStatusToRunning(WORKLOAD_ID)
-    verify(exactly = 0) { workloadRepository.update(eq(WORKLOAD_ID), eq(WorkloadStatus.RUNNING)) }
   }
 
   @Test
   fun `test workload not found when setting status to launched`() {
+    every { workloadRepository.updateStatusIfIn(WORKLOAD_ID, any(), WorkloadStatus.LAUNCHED) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(Optional.empty())
     assertThrows<NotFoundException> { workloadHandler.setWorkloadStatusToLaunched(WORKLOAD_ID) }
   }
@@ -502,6 +474,7 @@ class WorkloadHandlerImplTest {
   @ParameterizedTest
   @EnumSource(value = WorkloadStatus::class, names = ["PENDING", "RUNNING", "SUCCESS", "CANCELLED", "FAILURE"])
   fun `test set workload status to launched when is not in claimed state`(workloadStatus: WorkloadStatus) {
+    every { workloadRepository.updateStatusIfIn(WORKLOAD_ID, any(), WorkloadStatus.LAUNCHED) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(
       Optional.of(
         Fixtures.workload(
@@ -516,23 +489,15 @@ class WorkloadHandlerImplTest {
 
   @Test
   fun `test set workload status to launched succeeded`() {
-    every { workloadRepository.findById(WORKLOAD_ID) }.returns(
-      Optional.of(
-        Fixtures.workload(
-          id = WORKLOAD_ID,
-          status = WorkloadStatus.CLAIMED,
-        ),
-      ),
-    )
-
-    every { workloadRepository.update(any(), ofType(WorkloadStatus::class)) } just Runs
+    every { workloadRepository.updateStatusIfIn(WORKLOAD_ID, listOf(WorkloadStatus.CLAIMED), WorkloadStatus.LAUNCHED) }.returns(1)
 
     workloadHandler.setWorkloadStatusToLaunched(WORKLOAD_ID)
-    verify { workloadRepository.update(eq(WORKLOAD_ID), eq(WorkloadStatus.LAUNCHED)) }
+    verify { workloadRepository.updateStatusIfIn(WORKLOAD_ID, listOf(WorkloadStatus.CLAIMED), WorkloadStatus.LAUNCHED) }
   }
 
   @Test
   fun `test noop when setting workload status to launched`() {
+    every { workloadRepository.updateStatusIfIn(WORKLOAD_ID, any(), WorkloadStatus.LAUNCHED) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(
       Optional.of(
         Fixtures.workload(
@@ -543,18 +508,17 @@ class WorkloadHandlerImplTest {
     )
 
     workloadHandler.setWorkloadStatusToLaunched(WORKLOAD_ID)
-    verify(exactly = 0) { workloadRepository.update(eq(WORKLOAD_ID), eq(WorkloadStatus.LAUNCHED)) }
   }
 
   @Test
   fun `test get workload running before`() {
-    every { workloadRepository.searchByTypeStatusAndCreationDate(any(), eq(listOf(WorkloadStatus.RUNNING)), any(), any()) }
+    every { workloadRepository.searchByTypeStatusAndCreationDate(any(), eq(listOf(WorkloadStatus.RUNNING)), any(), any(), any(), any()) }
       .returns(listOf())
     val dataplaneIds = listOf("dataplaneId")
     val workloadTypes = listOf(ApiWorkloadType.CHECK)
     val createdAt = OffsetDateTime.now()
 
-    workloadHandler.getWorkloadsRunningCreatedBefore(dataplaneIds, workloadTypes, createdAt)
+    workloadHandler.getWorkloadsRunningCreatedBefore(dataplaneIds, workloadTypes, createdAt, "afterId", 10)
 
     verify {
       workloadRepository.searchByTypeStatusAndCreationDate(
@@ -562,14 +526,39 @@ class WorkloadHandlerImplTest {
         listOf(WorkloadStatus.RUNNING),
         listOf(WorkloadType.CHECK),
         createdAt,
+        "afterId",
+        10,
+      )
+    }
+  }
+
+  @Test
+  fun `test bulk cancel`() {
+    val workloadIds = listOf("workload1", "workload2")
+    every { workloadRepository.cancelIfStatusIn(workloadIds, any(), "source", "reason") } returns 1
+
+    assertEquals(1, workloadHandler.cancelWorkloads(workloadIds, "source", "reason"))
+    verify {
+      workloadRepository.cancelIfStatusIn(
+        workloadIds,
+        match { it.containsAll(listOf(WorkloadStatus.PENDING, WorkloadStatus.CLAIMED, WorkloadStatus.LAUNCHED, WorkloadStatus.RUNNING)) },
+        "source",
+        "reason",
       )
     }
   }
 
+  @Test
+  fun `test bulk cancel without workloads`() {
+    assertEquals(0, workloadHandler.cancelWorkloads(listOf(), "source", "reason"))
+    verify(exactly = 0) { workloadRepository.cancelIfStatusIn(any(), any(), any(), any()) }
+  }
+
   object Fixtures {
     val workloadRepository = mockk<WorkloadRepository>()
     const val WORKLOAD_ID = "test"
     const val DATAPLANE_ID = "dataplaneId"
+    val ACTIVE_STATUSES = listOf(WorkloadStatus.CLAIMED, WorkloadStatus.LAUNCHED, WorkloadStatus.RUNNING)
     val workloadHandler = WorkloadHandlerImpl(workloadRepository)
 
     fun workload(
@@ -0,0 +1,119 @@
+package io.airbyte.workload.performance
+
+import io.airbyte.db.factory.DSLContextFactory
+import io.airbyte.db.instance.test.TestDatabaseProviders
+import io.airbyte.workload.repository.WorkloadRepository
+import io.airbyte.workload.repository.domain.Workload
+import io.airbyte.workload.repository.domain.WorkloadStatus
+import io.airbyte.workload.repository.domain.WorkloadType
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.env.PropertySource
+import io.micronaut.transaction.jdbc.DelegatingDataSource
+import org.jooq.SQLDialect
+import org.testcontainers.containers.PostgreSQLContainer
+import java.time.OffsetDateTime
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import javax.sql.DataSource
+
+private val ACTIVE_STATUSES = listOf(WorkloadStatus.CLAIMED, WorkloadStatus.LAUNCHED, WorkloadStatus.RUNNING)
+
+/**
+ * Simulates thousands of running workloads that all heartbeat at the same time against a local
+ * Postgres, and compares reading the workload before updating it with a single conditional update.
+ *
+ * Run this main class to start benchmarking. The optional arguments are the number of workloads, the
+ * number of heartbeat rounds and the number of concurrent callers.
+ */
+fun main(args: Array<String>) {
+  val workloadCount = args.getOrNull(0)?.toInt() ?: 5000
+  val rounds = args.getOrNull(1)?.toInt() ?: 5
+  val concurrency = args.getOrNull(2)?.toInt() ?: 32
+
+  PostgreSQLContainer("postgres:13-alpine")
+    .withDatabaseName("airbyte")
+    .withUsername("docker")
+    .withPassword("docker")
+    .use { container ->
+      container.start()
+      val context =
+        ApplicationContext.run(
+          PropertySource.of(
+            "test",
+            mapOf(
+              "datasources.default.driverClassName" to "org.postgresql.Driver",
+              "datasources.default.db-type" to "postgres",
+              "datasources.default.dialect" to "POSTGRES",
+              "datasources.default.url" to container.jdbcUrl,
+              "datasources.default.username" to container.username,
+              "datasources.default.password" to container.password,
+              "datasources.default.maximum-pool-size" to concurrency,
+            ),
+          ),
+        )
+      context.use {
+        val dataSource = (context.getBean(DataSource::class.java) as DelegatingDataSource).targetDataSource
+        TestDatabaseProviders(dataSource, DSLContextFactory.create(dataSource, SQLDialect.POSTGRES)).createNewConfigsDatabase()
+        val workloadRepository = context.getBean(WorkloadRepository::class.java)
+
+        val workloadIds = (0 until workloadCount).map { "workload-$it" }
+        workloadRepository.saveAll(workloadIds.map { runningWorkload(it) })
+
+        val readThenUpdate = { workloadId: String ->
+          val workload = workloadRepository.findById(workloadId).orElseThrow()
+          if (workload.status in ACTIVE_STATUSES) {
+            workloadRepository.update(workloadId, WorkloadStatus.RUNNING, OffsetDateTime.now())
+          }
+        }
+        val conditionalUpdate = { workloadId: String ->
+          check(workloadRepository.heartbeatIfStatusIn(workloadId, ACTIVE_STATUSES, OffsetDateTime.now()) == 1)
+        }
+
+        // Warm up the connection pool and the query plans.
+        heartbeatAll(workloadIds, concurrency, readThenUpdate)
+        heartbeatAll(workloadIds, concurrency, conditionalUpdate)
+
+        for ((name, heartbeat) in listOf("read then update" to readThenUpdate, "conditional update" to conditionalUpdate)) {
+          val durationsMs = (0 until rounds).map { heartbeatAll(workloadIds, concurrency, heartbeat) }
+          val heartbeatsPerSecond = workloadCount * rounds * 1000.0 / durationsMs.sum()
+          println(
+            "$name: $workloadCount workloads, $concurrency callers, round durations ${durationsMs}ms, " +
+              "${"%.0f".format(heartbeatsPerSecond)} heartbeats/s",
+          )
+        }
+      }
+    }
+}
+
+/**
+ * Heartbeat every workload once from a pool of concurrent callers, and return how long it took.
+ */
+private fun heartbeatAll(
+  workloadIds: List<String>,
+  concurrency: Int,
+  heartbeat: (String) -> Unit,
+): Long {
+  val executor = Executors.newFixedThreadPool(concurrency)
+  val start = System.nanoTime()
+  try {
+    executor.invokeAll(workloadIds.map { Callable { heartbeat(it) } }).forEach { it.get() }
+  } finally {
+    executor.shutdown()
+    executor.awaitTermination(1, TimeUnit.MINUTES)
+  }
+  return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+}
+
+private fun runningWorkload(id: String): Workload =
+  Workload(
+    id = id,
+    dataplaneId = "dataplane",
+    status = WorkloadStatus.RUNNING,
+    workloadLabels = listOf(),
+    inputPayload = "",
+    logPath = "/",
+    geography = "US",
+    mutexKey = "",
+    type = WorkloadType.SYNC,
+  )
@@ -16,6 +16,7 @@ import org.jooq.SQLDialect
 import org.junit.jupiter.api.AfterAll
 import org.junit.jupiter.api.AfterEach
 import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
 import org.junit.jupiter.api.Assertions.assertNotNull
 import org.junit.jupiter.api.Assertions.assertNull
 import org.junit.jupiter.api.Assertions.assertTrue
@@ -83,7 +84,7 @@ internal class WorkloadRepositoryTest {
       statuses: List<WorkloadStatus>?,
       updatedBefore: OffsetDateTime?,
     ): MutableList<Workload> {
-      val workloads = workloadRepo.search(dataplaneIds, statuses, updatedBefore).toMutableList()
+      val workloads = workloadRepo.search(dataplaneIds, statuses, updatedBefore, null, null).toMutableList()
       workloads.sortWith(Comparator.comparing(Workload::id))
       return workloads
     }
@@ -94,7 +95,8 @@ internal class WorkloadRepositoryTest {
       types: List<WorkloadType>?,
       createdBefore: OffsetDateTime?,
     ): MutableList<Workload> {
-      val workloads = workloadRepo.searchByTypeStatusAndCreationDate(dataplaneIds, statuses, types, createdBefore).toMutableList()
+      val workloads =
+        workloadRepo.searchByTypeStatusAndCreationDate(dataplaneIds, statuses, types, createdBefore, null, null).toMutableList()
       workloads.sortWith(Comparator.comparing(Workload::id))
       return workloads
     }
@@ -219,6 +221,104 @@ internal class WorkloadRepositoryTest {
     assertEquals("dataplaneId2", persistedWorkload.get().dataplaneId)
   }
 
+  @Test
+  fun `test conditional status update`() {
+    workloadRepo.save(Fixtures.workload(id = WORKLOAD_ID, status = WorkloadStatus.CLAIMED))
+
+    assertEquals(0, workloadRepo.updateStatusIfIn(WORKLOAD_ID, listOf(WorkloadStatus.PENDING), WorkloadStatus.RUNNING))
+    assertEquals(WorkloadStatus.CLAIMED, workloadRepo.findById(WORKLOAD_ID).get().status)
+
+    assertEquals(
+      1,
+      workloadRepo.updateStatusIfIn(WORKLOAD_ID, listOf(WorkloadStatus.CLAIMED, WorkloadStatus.LAUNCHED), WorkloadStatus.RUNNING),
+    )
+    assertEquals(WorkloadStatus.RUNNING, workloadRepo.findById(WORKLOAD_ID).get().status)
+
+    assertEquals(
+      1,
+      workloadRepo.updateStatusIfIn(WORKLOAD_ID, listOf(WorkloadStatus.RUNNING), WorkloadStatus.FAILURE, "source", "reason"),
+    )
+    val persistedWorkload = workloadRepo.findById(WORKLOAD_ID).get()
+    assertEquals(WorkloadStatus.FAILURE, persistedWorkload.status)
+    assertEquals("source", persistedWorkload.terminationSource)
+    assertEquals("reason", persistedWorkload.terminationReason)
+
+    assertEquals(0, workloadRepo.updateStatusIfIn("unknown", listOf(WorkloadStatus.RUNNING), WorkloadStatus.SUCCESS))
+  }
+
+  @Test
+  fun `test conditional heartbeat`() {
+    workloadRepo.save(Fixtures.workload(id = WORKLOAD_ID, status = WorkloadStatus.LAUNCHED))
+    val before = workloadRepo.findById(WORKLOAD_ID).get()
+    val now = OffsetDateTime.now()
+
+    assertEquals(1, workloadRepo.heartbeatIfStatusIn(WORKLOAD_ID, listOf(WorkloadStatus.LAUNCHED, WorkloadStatus.RUNNING), now))
+    val persistedWorkload = workloadRepo.findById(WORKLOAD_ID).get()
+    assertEquals(WorkloadStatus.RUNNING, persistedWorkload.status)
+    assertEquals(now.toEpochSecond(), persistedWorkload.lastHeartbeatAt?.toEpochSecond())
+    assertFalse(persistedWorkload.updatedAt!!.isBefore(before.updatedAt))
+
+    workloadRepo.update(WORKLOAD_ID, WorkloadStatus.CANCELLED)
+    assertEquals(0, workloadRepo.heartbeatIfStatusIn(WORKLOAD_ID, listOf(WorkloadStatus.LAUNCHED, WorkloadStatus.RUNNING), now))
+    assertEquals(WorkloadStatus.CANCELLED, workloadRepo.findById(WORKLOAD_ID).get().status)
+  }
+
+  @Test
+  fun `test conditional claim`() {
+    workloadRepo.save(Fixtures.workload(id = WORKLOAD_ID, dataplaneId = null, status = WorkloadStatus.PENDING))
+
+    assertEquals(1, workloadRepo.claimIfPending(WORKLOAD_ID, "dataplaneId1"))
+    val persistedWorkload = workloadRepo.findById(WORKLOAD_ID).get()
+    assertEquals(WorkloadStatus.CLAIMED, persistedWorkload.status)
+    assertEquals("dataplaneId1", persistedWorkload.dataplaneId)
+
+    // Only one dataplane can claim the workload.
+    assertEquals(0, workloadRepo.claimIfPending(WORKLOAD_ID, "dataplaneId2"))
+    assertEquals("dataplaneId1", workloadRepo.findById(WORKLOAD_ID).get().dataplaneId)
+  }
+
+  @Test
+  fun `test bulk cancel`() {
+    workloadRepo.save(Fixtures.workload(id = "workload1", status = WorkloadStatus.RUNNING))
+    workloadRepo.save(Fixtures.workload(id = "workload2", status = WorkloadStatus.PENDING))
+    workloadRepo.save(Fixtures.workload(id = "workload3", status = WorkloadStatus.SUCCESS))
+    workloadRepo.save(Fixtures.workload(id = "workload4", status = WorkloadStatus.RUNNING))
+
+    val cancellableStatuses = listOf(WorkloadStatus.PENDING, WorkloadStatus.CLAIMED, WorkloadStatus.LAUNCHED, WorkloadStatus.RUNNING)
+    assertEquals(
+      2,
+      workloadRepo.cancelIfStatusIn(listOf("workload1", "workload2", "workload3", "unknown"), cancellableStatuses, "source", "reason"),
+    )
+
+    val cancelledWorkload = workloadRepo.findById("workload1").get()
+    assertEquals(WorkloadStatus.CANCELLED, cancelledWorkload.status)
+    assertEquals("source", cancelledWorkload.terminationSource)
+    assertEquals("reason", cancelledWorkload.terminationReason)
+    assertEquals(WorkloadStatus.CANCELLED, workloadRepo.findById("workload2").get().status)
+    assertEquals(WorkloadStatus.SUCCESS, workloadRepo.findById("workload3").get().status)
+    assertEquals(WorkloadStatus.RUNNING, workloadRepo.findById("workload4").get().status)
+  }
+
+  @Test
+  fun `test keyset paginated search`() {
+    (1..5).forEach { workloadRepo.save(Fixtures.workload(id = "workload$it", status = WorkloadStatus.RUNNING)) }
+    workloadRepo.save(Fixtures.workload(id = "workload6", status = WorkloadStatus.SUCCESS))
+    val statuses = listOf(WorkloadStatus.RUNNING)
+
+    val firstPage = workloadRepo.search(null, statuses, null, null, 2)
+    assertEquals(listOf("workload1", "workload2"), firstPage.map { it.id })
+    val secondPage = workloadRepo.search(null, statuses, null, firstPage.last().id, 2)
+    assertEquals(listOf("workload3", "workload4"), secondPage.map { it.id })
+    val lastPage = workloadRepo.search(null, statuses, null, secondPage.last().id, 2)
+    assertEquals(listOf("workload5"), lastPage.map { it.id })
+
+    val createdBefore = OffsetDateTime.now().plusDays(1)
+    val firstPageByCreationDate = workloadRepo.searchByTypeStatusAndCreationDate(null, statuses, null, createdBefore, null, 3)
+    assertEquals(listOf("workload1", "workload2", "workload3"), firstPageByCreationDate.map { it.id })
+    val lastPageByCreationDate = workloadRepo.searchByTypeStatusAndCreationDate(null, statuses, null, createdBefore, "workload3", 3)
+    assertEquals(listOf("workload4", "workload5"), lastPageByCreationDate.map { it.id })
+  }
+
   @Test
   fun `test search`() {
     val workload1 =
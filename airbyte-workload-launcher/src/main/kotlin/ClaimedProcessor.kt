@@ -19,15 +19,13 @@ import io.airbyte.workload.launcher.metrics.MeterFilterFactory.Companion.RESUME_
 import io.airbyte.workload.launcher.metrics.MeterFilterFactory.Companion.WORKLOAD_ID_TAG
 import io.airbyte.workload.launcher.metrics.WorkloadLauncherMetricMetadata
 import io.airbyte.workload.launcher.model.toLauncherInput
+import io.airbyte.workload.launcher.pipeline.LaunchEngine
 import io.airbyte.workload.launcher.pipeline.LaunchPipeline
 import io.airbyte.workload.launcher.pipeline.consumer.LauncherInput
-import io.airbyte.workload.launcher.pipeline.stages.model.LaunchStageIO
 import io.github.oshai.kotlinlogging.KotlinLogging
 import io.micronaut.context.annotation.Value
 import jakarta.inject.Singleton
-import reactor.core.publisher.Mono
-import reactor.core.scheduler.Schedulers
-import reactor.kotlin.core.publisher.toFlux
+import java.util.concurrent.CountDownLatch
 
 private val logger = KotlinLogging.logger {}
 
@@ -35,12 +33,10 @@ private val logger = KotlinLogging.logger {}
 class ClaimedProcessor(
   private val apiClient: WorkloadApi,
   private val pipe: LaunchPipeline,
+  private val launchEngine: LaunchEngine,
   private val metricPublisher: CustomMetricPublisher,
   @Value("\${airbyte.data-plane-id}") private val dataplaneId: String,
-  @Value("\${airbyte.workload-launcher.parallelism}") parallelism: Int,
 ) {
-  private val scheduler = Schedulers.newParallel("process-claimed-scheduler", parallelism)
-
   @Trace(operationName = RESUME_CLAIMED_OPERATION_NAME)
   fun retrieveAndProcess() {
     addTagsToTrace()
@@ -60,23 +56,22 @@ class ClaimedProcessor(
     processMessages(msgs)
   }
 
+  /**
+   * Resume the launch of claimed workloads and wait for all of them to be launched. The launches go
+   * through the [LaunchEngine], so they count towards the in-flight limits of their workload type.
+   */
   @VisibleForTesting
   fun processMessages(msgs: List<LauncherInput>) {
-    msgs.map { runOnClaimedScheduler(it) }
-      .toFlux()
-      .flatMap { w -> w }
-      .collectList()
-      .block()
-  }
-
-  private fun runOnClaimedScheduler(msg: LauncherInput): Mono<LaunchStageIO> {
-    metricPublisher.count(
-      WorkloadLauncherMetricMetadata.WORKLOAD_CLAIM_RESUMED,
-      MetricAttribute(WORKLOAD_ID_TAG, msg.workloadId),
-      MetricAttribute(MeterFilterFactory.WORKLOAD_TYPE_TAG, msg.workloadType.toString()),
-    )
-    return pipe.buildPipeline(msg)
-      .subscribeOn(scheduler)
+    val resumed = CountDownLatch(msgs.size)
+    msgs.forEach { msg ->
+      metricPublisher.count(
+        WorkloadLauncherMetricMetadata.WORKLOAD_CLAIM_RESUMED,
+        MetricAttribute(WORKLOAD_ID_TAG, msg.workloadId),
+        MetricAttribute(MeterFilterFactory.WORKLOAD_TYPE_TAG, msg.workloadType.toString()),
+      )
+      launchEngine.submit(msg.workloadType, pipe.buildPipeline(msg)) { resumed.countDown() }
+    }
+    resumed.await()
   }
 
   private fun addTagsToTrace() {
@@ -11,6 +11,7 @@ import io.airbyte.featureflag.Priority
 import io.airbyte.featureflag.Priority.Companion.HIGH_PRIORITY
 import io.airbyte.featureflag.WorkloadApiRouting
 import io.airbyte.micronaut.temporal.TemporalProxyHelper
+import io.airbyte.workload.launcher.pipeline.consumer.LauncherBatchWorkflowImpl
 import io.airbyte.workload.launcher.pipeline.consumer.LauncherMessageConsumer
 import io.airbyte.workload.launcher.pipeline.consumer.LauncherWorkflowImpl
 import io.micronaut.context.annotation.Factory
@@ -60,7 +61,10 @@ class TemporalBeanFactory {
     val workerFactory = WorkerFactory.newInstance(workflowClient, workerFactoryOptions)
     val worker = workerFactory.newWorker(launcherQueue, WorkerOptions.newBuilder().setMaxConcurrentActivityExecutionSize(paralellism).build())
     worker.registerActivitiesImplementations(workloadStarterActivities)
-    worker.registerWorkflowImplementationTypes(temporalProxyHelper.proxyWorkflowClass(LauncherWorkflowImpl::class.java))
+    worker.registerWorkflowImplementationTypes(
+      temporalProxyHelper.proxyWorkflowClass(LauncherWorkflowImpl::class.java),
+      temporalProxyHelper.proxyWorkflowClass(LauncherBatchWorkflowImpl::class.java),
+    )
     return workerFactory
   }
 
@@ -80,7 +84,10 @@ class TemporalBeanFactory {
     val workerFactory = WorkerFactory.newInstance(workflowClient, workerFactoryOptions)
     val worker = workerFactory.newWorker(launcherQueue, WorkerOptions.newBuilder().setMaxConcurrentActivityExecutionSize(paralellism).build())
     worker.registerActivitiesImplementations(workloadStarterActivities)
-    worker.registerWorkflowImplementationTypes(temporalProxyHelper.proxyWorkflowClass(LauncherWorkflowImpl::class.java))
+    worker.registerWorkflowImplementationTypes(
+      temporalProxyHelper.proxyWorkflowClass(LauncherWorkflowImpl::class.java),
+      temporalProxyHelper.proxyWorkflowClass(LauncherBatchWorkflowImpl::class.java),
+    )
     return workerFactory
   }
 
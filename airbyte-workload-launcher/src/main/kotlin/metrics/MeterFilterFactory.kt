@@ -30,6 +30,7 @@ class MeterFilterFactory(
     const val WORKLOAD_ID_TAG = "workload_id"
     const val WORKLOAD_TYPE_TAG = "workload_type"
     const val MUTEX_KEY_TAG = "mutex_key"
+    const val QUEUE_MODE_TAG = "queue_mode"
 
     const val LAUNCH_PIPELINE_OPERATION_NAME = "launch-pipeline"
     const val LAUNCH_PIPELINE_STAGE_OPERATION_NAME = "launch-pipeline-stage"
@@ -43,5 +44,7 @@ class MeterFilterFactory(
     const val FAILURE_STATUS = "error"
     const val RUNNING_STATUS = "running"
     const val STOPPED_STATUS = "stopped"
+    const val SINGLE_QUEUE_MODE = "single"
+    const val BATCH_QUEUE_MODE = "batch"
   }
 }
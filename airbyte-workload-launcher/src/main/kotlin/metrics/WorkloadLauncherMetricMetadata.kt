@@ -32,6 +32,18 @@ enum class WorkloadLauncherMetricMetadata(
     "workload_launch_duration",
     "tracks the duration of the launch of a workload",
   ),
+  WORKLOAD_LAUNCH_QUEUE_TIME(
+    "workload_launch_queue_time",
+    "tracks the time a workload waits for a launch slot or a launch thread",
+  ),
+  WORKLOAD_STAGE_QUEUE_TIME(
+    "workload_stage_queue_time",
+    "tracks the time from the submission of a workload for launch to the start of each launch stage",
+  ),
+  WORKLOAD_LAUNCHES_IN_FLIGHT(
+    "workload_launches_in_flight",
+    "number of workloads being launched",
+  ),
   WORKLOAD_CLAIM_RESUMED(
     "workload_claim_resumed",
     "increments when a claimed workload is retrieved and processed on startup",
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.launcher.pipeline
+
+import io.airbyte.config.WorkloadType
+import io.airbyte.metrics.lib.MetricAttribute
+import io.airbyte.workload.launcher.metrics.CustomMetricPublisher
+import io.airbyte.workload.launcher.metrics.MeterFilterFactory.Companion.STAGE_NAME_TAG
+import io.airbyte.workload.launcher.metrics.MeterFilterFactory.Companion.WORKLOAD_TYPE_TAG
+import io.airbyte.workload.launcher.metrics.WorkloadLauncherMetricMetadata
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.annotation.Value
+import jakarta.inject.Singleton
+import reactor.core.publisher.Mono
+import reactor.core.scheduler.Scheduler
+import reactor.core.scheduler.Schedulers
+import java.util.concurrent.Semaphore
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.time.TimeSource
+import kotlin.time.toJavaDuration
+
+private val logger = KotlinLogging.logger {}
+
+/**
+ * Runs launch pipelines concurrently on a bounded elastic scheduler.
+ *
+ * The number of launches in flight is bounded per workload type. Submitting a launch blocks the
+ * caller until a slot of its type is free, which pushes back on the queue consumer instead of
+ * buffering launches in memory. A limit of 0 runs the launches of the type on the caller thread.
+ */
+@Singleton
+class LaunchEngine(
+  @Value("\${airbyte.workload-launcher.concurrency.max-in-flight-launches.sync}") maxSyncLaunches: Int,
+  @Value("\${airbyte.workload-launcher.concurrency.max-in-flight-launches.check}") maxCheckLaunches: Int,
+  @Value("\${airbyte.workload-launcher.concurrency.max-in-flight-launches.discover}") maxDiscoverLaunches: Int,
+  @Value("\${airbyte.workload-launcher.concurrency.max-in-flight-launches.spec}") maxSpecLaunches: Int,
+  private val metricPublisher: CustomMetricPublisher,
+) {
+  private val slots: Map<WorkloadType, Semaphore>
+  private val inFlightLaunches: Map<WorkloadType, AtomicInteger>
+  private val scheduler: Scheduler
+
+  init {
+    val maxLaunches =
+      mapOf(
+        WorkloadType.SYNC to maxSyncLaunches,
+        WorkloadType.CHECK to maxCheckLaunches,
+        WorkloadType.DISCOVER to maxDiscoverLaunches,
+        WorkloadType.SPEC to maxSpecLaunches,
+      ).filterValues { it > 0 }
+    logger.info { "Max in-flight launches per workload type: $maxLaunches" }
+
+    slots = maxLaunches.mapValues { Semaphore(it.value, true) }
+    inFlightLaunches = maxLaunches.mapValues { AtomicInteger() }
+    // Launches block on the Kube API, so there is a thread per launch in flight.
+    scheduler = Schedulers.newBoundedElastic(maxOf(1, maxLaunches.values.sum()), Integer.MAX_VALUE, "launch-pipeline")
+
+    inFlightLaunches.forEach { (type, count) ->
+      metricPublisher.gauge(
+        WorkloadLauncherMetricMetadata.WORKLOAD_LAUNCHES_IN_FLIGHT,
+        count,
+        { it.toDouble() },
+        MetricAttribute(WORKLOAD_TYPE_TAG, type.toString()),
+      )
+    }
+  }
+
+  /**
+   * Run a launch pipeline once a slot of its workload type is free.
+   *
+   * @param workloadType the type of the launched workload.
+   * @param pipeline the launch pipeline, it is subscribed to on the scheduler of the engine.
+   * @param onDone called when the pipeline completes.
+   */
+  fun submit(
+    workloadType: WorkloadType,
+    pipeline: Mono<*>,
+    onDone: () -> Unit,
+  ) {
+    val slot = slots[workloadType]
+    if (slot == null) {
+      pipeline
+        .subscribeOn(Schedulers.immediate())
+        .doFinally { onDone() }
+        .subscribe()
+      return
+    }
+
+    val waitForSlotStart = TimeSource.Monotonic.markNow()
+    slot.acquire()
+    recordQueueTime(workloadType, SLOT_QUEUE, waitForSlotStart)
+    val inFlight = inFlightLaunches.getValue(workloadType)
+    inFlight.incrementAndGet()
+
+    val waitForThreadStart = TimeSource.Monotonic.markNow()
+    pipeline
+      // Upstream of subscribeOn, so this runs once a thread of the scheduler picked up the launch.
+      .doOnSubscribe { recordQueueTime(workloadType, SCHEDULER_QUEUE, waitForThreadStart) }
+      .subscribeOn(scheduler)
+      .doFinally {
+        inFlight.decrementAndGet()
+        slot.release()
+        onDone()
+      }
+      .subscribe()
+  }
+
+  private fun recordQueueTime(
+    workloadType: WorkloadType,
+    queue: String,
+    start: TimeSource.Monotonic.ValueTimeMark,
+  ) {
+    metricPublisher.timer(
+      WorkloadLauncherMetricMetadata.WORKLOAD_LAUNCH_QUEUE_TIME,
+      start.elapsedNow().toJavaDuration(),
+      MetricAttribute(WORKLOAD_TYPE_TAG, workloadType.toString()),
+      MetricAttribute(STAGE_NAME_TAG, queue),
+    )
+  }
+
+  companion object {
+    const val SLOT_QUEUE = "wait_for_slot"
+    const val SCHEDULER_QUEUE = "wait_for_thread"
+  }
+}
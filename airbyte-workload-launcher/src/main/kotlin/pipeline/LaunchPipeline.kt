@@ -8,6 +8,7 @@ import io.airbyte.workload.launcher.metrics.CustomMetricPublisher
 import io.airbyte.workload.launcher.metrics.MeterFilterFactory
 import io.airbyte.workload.launcher.metrics.MeterFilterFactory.Companion.DATA_PLANE_ID_TAG
 import io.airbyte.workload.launcher.metrics.MeterFilterFactory.Companion.LAUNCH_PIPELINE_OPERATION_NAME
+import io.airbyte.workload.launcher.metrics.MeterFilterFactory.Companion.STAGE_NAME_TAG
 import io.airbyte.workload.launcher.metrics.MeterFilterFactory.Companion.WORKLOAD_ID_TAG
 import io.airbyte.workload.launcher.metrics.WorkloadLauncherMetricMetadata
 import io.airbyte.workload.launcher.pipeline.consumer.LauncherInput
@@ -15,13 +16,14 @@ import io.airbyte.workload.launcher.pipeline.handlers.FailureHandler
 import io.airbyte.workload.launcher.pipeline.handlers.SuccessHandler
 import io.airbyte.workload.launcher.pipeline.stages.model.LaunchStage
 import io.airbyte.workload.launcher.pipeline.stages.model.LaunchStageIO
+import io.airbyte.workload.launcher.pipeline.stages.model.StageFunction
 import io.github.oshai.kotlinlogging.KotlinLogging
 import io.micronaut.context.annotation.Value
 import jakarta.inject.Named
 import jakarta.inject.Singleton
 import reactor.core.publisher.Mono
-import reactor.core.scheduler.Schedulers
 import reactor.kotlin.core.publisher.toMono
+import java.util.function.Function
 import kotlin.time.TimeSource
 import kotlin.time.toJavaDuration
 
@@ -39,6 +41,7 @@ class LaunchPipeline(
   private val failureHandler: FailureHandler,
   private val metricPublisher: CustomMetricPublisher,
   private val ctxFactory: LogContextFactory,
+  private val launchEngine: LaunchEngine,
 ) {
   @Trace(operationName = LAUNCH_PIPELINE_OPERATION_NAME)
   fun accept(msg: LauncherInput) {
@@ -48,32 +51,53 @@ class LaunchPipeline(
       MetricAttribute(WORKLOAD_ID_TAG, msg.workloadId),
       MetricAttribute(MeterFilterFactory.WORKLOAD_TYPE_TAG, msg.workloadType.toString()),
     )
-    buildPipeline(msg)
-      .subscribeOn(Schedulers.immediate())
-      .subscribe()
-    metricPublisher.timer(
-      WorkloadLauncherMetricMetadata.WORKLOAD_LAUNCH_DURATION,
-      startTime.elapsedNow().toJavaDuration(),
-      MetricAttribute(MeterFilterFactory.WORKLOAD_TYPE_TAG, msg.workloadType.toString()),
-    )
+    // Blocks until the launch engine has room for the workload, the launch itself runs asynchronously.
+    launchEngine.submit(msg.workloadType, buildPipeline(msg)) {
+      metricPublisher.timer(
+        WorkloadLauncherMetricMetadata.WORKLOAD_LAUNCH_DURATION,
+        startTime.elapsedNow().toJavaDuration(),
+        MetricAttribute(MeterFilterFactory.WORKLOAD_TYPE_TAG, msg.workloadType.toString()),
+      )
+    }
   }
 
   fun buildPipeline(msg: LauncherInput): Mono<LaunchStageIO> {
     addTagsToTrace(msg)
     val loggingCtx = ctxFactory.create(msg)
     val input = LaunchStageIO(msg, loggingCtx)
+    val submittedAt = TimeSource.Monotonic.markNow()
 
     return input
       .toMono()
-      .flatMap(claim)
-      .flatMap(check)
-      .flatMap(build)
-      .flatMap(mutex)
-      .flatMap(launch)
+      .flatMap(queued(claim, submittedAt))
+      .flatMap(queued(check, submittedAt))
+      .flatMap(queued(build, submittedAt))
+      .flatMap(queued(mutex, submittedAt))
+      .flatMap(queued(launch, submittedAt))
       .onErrorResume { e -> failureHandler.apply(e, input) }
       .doOnNext(successHandler::accept)
   }
 
+  /**
+   * Records how long after its pipeline was built a workload reaches the stage, i.e. the time spent
+   * waiting for the launch engine and in the previous stages.
+   */
+  private fun queued(
+    stage: LaunchStage,
+    submittedAt: TimeSource.Monotonic.ValueTimeMark,
+  ): StageFunction<LaunchStageIO> =
+    Function { io ->
+      if (!stage.skipStage(io)) {
+        metricPublisher.timer(
+          WorkloadLauncherMetricMetadata.WORKLOAD_STAGE_QUEUE_TIME,
+          submittedAt.elapsedNow().toJavaDuration(),
+          MetricAttribute(MeterFilterFactory.WORKLOAD_TYPE_TAG, io.msg.workloadType.toString()),
+          MetricAttribute(STAGE_NAME_TAG, stage.getStageName().toString()),
+        )
+      }
+      stage.apply(io)
+    }
+
   private fun addTagsToTrace(msg: LauncherInput) {
     val commonTags = hashMapOf<String, Any>()
     commonTags[DATA_PLANE_ID_TAG] = dataplaneId
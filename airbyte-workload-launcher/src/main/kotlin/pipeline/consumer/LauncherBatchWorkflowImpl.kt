@@ -0,0 +1,15 @@
+package io.airbyte.workload.launcher.pipeline.consumer
+
+import io.airbyte.commons.temporal.annotations.TemporalActivityStub
+import io.airbyte.commons.temporal.queue.BatchQueueWorkflow
+import io.airbyte.commons.temporal.queue.BatchQueueWorkflowBase
+import io.airbyte.commons.temporal.queue.QueueActivity
+import io.airbyte.config.messages.LauncherInputMessage
+
+/**
+ * Launcher batching queue workflow implementation, see [LauncherWorkflowImpl].
+ */
+open class LauncherBatchWorkflowImpl : BatchQueueWorkflowBase<LauncherInputMessage>(), BatchQueueWorkflow<LauncherInputMessage> {
+  @TemporalActivityStub(activityOptionsBeanName = "queueActivityOptions")
+  override lateinit var activity: QueueActivity<LauncherInputMessage>
+}
@@ -7,7 +7,11 @@ import io.airbyte.workload.launcher.metrics.CustomMetricPublisher
 import io.airbyte.workload.launcher.metrics.MeterFilterFactory
 import io.airbyte.workload.launcher.metrics.WorkloadLauncherMetricMetadata
 import io.airbyte.workload.launcher.pipeline.LaunchPipeline
+import io.github.oshai.kotlinlogging.KotlinLogging
 import jakarta.inject.Singleton
+import java.time.Duration
+
+private val logger = KotlinLogging.logger {}
 
 @Singleton
 class LauncherMessageConsumer(
@@ -15,13 +19,31 @@ class LauncherMessageConsumer(
   private val metricPublisher: CustomMetricPublisher,
 ) : MessageConsumer<LauncherInputMessage> {
   override fun consume(input: LauncherInputMessage) {
+    consume(input, MeterFilterFactory.SINGLE_QUEUE_MODE)
+  }
+
+  override fun consumeBatch(inputs: List<LauncherInputMessage>) {
+    // The batch is consumed by a single activity that isn't retried, don't let one workload prevent the others from launching.
+    inputs.forEach {
+      try {
+        consume(it, MeterFilterFactory.BATCH_QUEUE_MODE)
+      } catch (e: Exception) {
+        logger.error(e) { "Failed to consume the launch of workload ${it.workloadId}" }
+      }
+    }
+  }
+
+  private fun consume(
+    input: LauncherInputMessage,
+    queueMode: String,
+  ) {
     if (input.startTimeMs != null) {
-      val timeElapsed = System.currentTimeMillis() - input.startTimeMs!!
-      metricPublisher.gauge(
+      // Recorded as a timer to get the distribution of the latencies rather than the last one.
+      metricPublisher.timer(
         WorkloadLauncherMetricMetadata.PRODUCER_TO_CONSUMER_LATENCY_MS,
-        timeElapsed,
-        { it.toDouble() },
+        Duration.ofMillis(System.currentTimeMillis() - input.startTimeMs!!),
         MetricAttribute(MeterFilterFactory.WORKLOAD_TYPE_TAG, input.workloadType.toString()),
+        MetricAttribute(MeterFilterFactory.QUEUE_MODE_TAG, queueMode),
       )
     }
 
@@ -15,6 +15,7 @@ import io.github.oshai.kotlinlogging.KotlinLogging
 import io.github.oshai.kotlinlogging.withLoggingContext
 import jakarta.inject.Named
 import jakarta.inject.Singleton
+import java.time.Duration
 import java.util.Optional
 import java.util.function.Function
 
@@ -35,11 +36,9 @@ class SuccessHandler(
         MetricAttribute(MeterFilterFactory.STATUS_TAG, MeterFilterFactory.SUCCESS_STATUS),
       )
       if (io.msg.startTimeMs != null) {
-        val timeElapsed = System.currentTimeMillis() - io.msg.startTimeMs
-        metricPublisher.gauge(
+        metricPublisher.timer(
           WorkloadLauncherMetricMetadata.PRODUCER_TO_POD_STARTED_LATENCY_MS,
-          timeElapsed,
-          { it.toDouble() },
+          Duration.ofMillis(System.currentTimeMillis() - io.msg.startTimeMs),
           MetricAttribute(MeterFilterFactory.WORKLOAD_TYPE_TAG, io.msg.workloadType.toString()),
         )
       }
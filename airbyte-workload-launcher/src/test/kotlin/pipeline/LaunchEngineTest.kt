@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.launcher.pipeline
+
+import io.airbyte.config.WorkloadType
+import io.airbyte.workload.launcher.metrics.CustomMetricPublisher
+import io.mockk.mockk
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import reactor.core.publisher.Mono
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.concurrent.thread
+
+class LaunchEngineTest {
+  private val metricPublisher: CustomMetricPublisher = mockk(relaxed = true)
+
+  @Test
+  fun `launches run concurrently up to the limit of their workload type`() {
+    val engine = LaunchEngine(2, 1, 1, 1, metricPublisher)
+    val release = CountDownLatch(1)
+    val running = AtomicInteger()
+    val maxRunning = AtomicInteger()
+    val done = CountDownLatch(3)
+    val blockingLaunch =
+      Mono.fromCallable {
+        maxRunning.accumulateAndGet(running.incrementAndGet()) { a, b -> maxOf(a, b) }
+        release.await()
+        running.decrementAndGet()
+      }
+
+    engine.submit(WorkloadType.SYNC, blockingLaunch) { done.countDown() }
+    engine.submit(WorkloadType.SYNC, blockingLaunch) { done.countDown() }
+
+    // The third sync waits for a slot.
+    val submitted = CountDownLatch(1)
+    thread {
+      engine.submit(WorkloadType.SYNC, blockingLaunch) { done.countDown() }
+      submitted.countDown()
+    }
+    assertFalse(submitted.await(200, TimeUnit.MILLISECONDS))
+
+    // Other workload types have their own slots.
+    val checkDone = CountDownLatch(1)
+    engine.submit(WorkloadType.CHECK, Mono.just(1)) { checkDone.countDown() }
+    assertTrue(checkDone.await(5, TimeUnit.SECONDS))
+
+    release.countDown()
+    assertTrue(submitted.await(5, TimeUnit.SECONDS))
+    assertTrue(done.await(5, TimeUnit.SECONDS))
+    assertEquals(2, maxRunning.get())
+  }
+
+  @Test
+  fun `failed launches release their slot`() {
+    val engine = LaunchEngine(1, 1, 1, 1, metricPublisher)
+
+    val done = CountDownLatch(2)
+    engine.submit(WorkloadType.SYNC, Mono.error<Int>(RuntimeException("launch failed"))) { done.countDown() }
+    engine.submit(WorkloadType.SYNC, Mono.just(1)) { done.countDown() }
+
+    assertTrue(done.await(5, TimeUnit.SECONDS))
+  }
+
+  @Test
+  fun `launches without a limit run on the caller thread`() {
+    val engine = LaunchEngine(0, 0, 0, 0, metricPublisher)
+    val caller = Thread.currentThread()
+    var launchThread: Thread? = null
+    var isDone = false
+
+    engine.submit(WorkloadType.SYNC, Mono.fromCallable { launchThread = Thread.currentThread() }) { isDone = true }
+
+    assertEquals(caller, launchThread)
+    assertTrue(isDone)
+  }
+}
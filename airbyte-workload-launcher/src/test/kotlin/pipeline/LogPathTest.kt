@@ -73,9 +73,9 @@ class LogPathTest {
       ClaimedProcessor(
         mockk<WorkloadApi>(),
         pipeline,
+        LaunchEngine(parallelism, parallelism, parallelism, parallelism, metricPublisher),
         metricPublisher,
         "dataplane_id",
-        parallelism,
       )
 
     val msgs = inputMsgs()
@@ -151,6 +151,8 @@ class LogPathTest {
         failureHandler,
         metricPublisher,
         LogContextFactory(Configs.WorkerEnvironment.DOCKER),
+        // Launch on the caller thread so that the logs are written when accept returns.
+        LaunchEngine(0, 0, 0, 0, metricPublisher),
       )
 
     fun readTestLogs(logPath: String): List<String> = Files.readAllLines(Path(logPath)).filter { line -> line.contains(TEST_LOG_PREFIX) }
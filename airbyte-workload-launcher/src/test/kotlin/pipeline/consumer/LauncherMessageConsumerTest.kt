@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.launcher.pipeline.consumer
+
+import io.airbyte.config.WorkloadType
+import io.airbyte.config.messages.LauncherInputMessage
+import io.airbyte.workload.launcher.metrics.CustomMetricPublisher
+import io.airbyte.workload.launcher.pipeline.LaunchPipeline
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Test
+import java.util.UUID
+
+class LauncherMessageConsumerTest {
+  private val launchPipeline: LaunchPipeline = mockk()
+  private val metricPublisher: CustomMetricPublisher = mockk(relaxed = true)
+
+  @Test
+  fun `a workload that fails to be accepted doesn't prevent the rest of the batch from launching`() {
+    val consumer = LauncherMessageConsumer(launchPipeline, metricPublisher)
+    val messages = listOf("workload-1", "workload-2", "workload-3").map { launcherInputMessage(it) }
+    every { launchPipeline.accept(any()) } answers { }
+    every { launchPipeline.accept(match { it.workloadId == "workload-2" }) } throws IllegalStateException("boom")
+
+    consumer.consumeBatch(messages)
+
+    messages.forEach { message ->
+      verify(exactly = 1) { launchPipeline.accept(match { it.workloadId == message.workloadId }) }
+    }
+  }
+
+  private fun launcherInputMessage(workloadId: String) =
+    LauncherInputMessage(
+      workloadId = workloadId,
+      workloadInput = "{}",
+      labels = mapOf(),
+      logPath = "/log/path",
+      mutexKey = null,
+      workloadType = WorkloadType.SYNC,
+      autoId = UUID.randomUUID(),
+    )
+}